@@ -6,6 +6,8 @@ package io.strimzi.certs;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
@@ -119,4 +121,59 @@ public interface CertManager {
      * @throws IOException If an input or output file could not be read/written.
      */
     void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException;
+
+    /**
+     * Generate a new private key and a certificate for it signed by a Certificate Authority. The default implementation
+     * uses temporary files. Implementations which can work in memory should override it.
+     *
+     * @param sbj subject information
+     * @param caKey CA private key bytes
+     * @param caCert CA certificate bytes
+     * @param days certificate duration
+     * @return the private key and the signed certificate, both in PEM format
+     * @throws IOException If the key or the certificate could not be generated.
+     */
+    default CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        Path keyFile = Files.createTempFile("tls", "key");
+        Path csrFile = Files.createTempFile("tls", "csr");
+        Path certFile = Files.createTempFile("tls", "cert");
+
+        try {
+            generateCsr(keyFile.toFile(), csrFile.toFile(), sbj);
+            generateCert(csrFile.toFile(), caKey, caCert, certFile.toFile(), sbj, days);
+
+            return new CertAndKey(Files.readAllBytes(keyFile), Files.readAllBytes(certFile));
+        } finally {
+            Files.deleteIfExists(keyFile);
+            Files.deleteIfExists(csrFile);
+            Files.deleteIfExists(certFile);
+        }
+    }
+
+    /**
+     * Create a PKCS12 keystore with the provided key and certificate. The default implementation uses temporary files.
+     * Implementations which can work in memory should override it.
+     *
+     * @param key private key bytes
+     * @param cert certificate bytes
+     * @param alias key and certificate alias in the keystore
+     * @param keyStorePassword password for protecting the keystore
+     * @return the keystore bytes
+     * @throws IOException If the keystore could not be created.
+     */
+    default byte[] generateKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        Path keyFile = Files.write(Files.createTempFile("tls", "key"), key);
+        Path certFile = Files.write(Files.createTempFile("tls", "cert"), cert);
+        Path keyStoreFile = Files.createTempFile("tls", "p12");
+
+        try {
+            addKeyAndCertToKeyStore(keyFile.toFile(), certFile.toFile(), alias, keyStoreFile.toFile(), keyStorePassword);
+
+            return Files.readAllBytes(keyStoreFile);
+        } finally {
+            Files.deleteIfExists(keyFile);
+            Files.deleteIfExists(certFile);
+            Files.deleteIfExists(keyStoreFile);
+        }
+    }
 }
@@ -0,0 +1,221 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minimal DER encoder (and decoder of the element structure) covering the ASN.1 types needed to build X.509
+ * certificates and PKCS#10 certificate signing requests.
+ */
+final class Der {
+    private static final DateTimeFormatter UTC_TIME = DateTimeFormatter.ofPattern("yyMMddHHmmss'Z'");
+    private static final DateTimeFormatter GENERALIZED_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'");
+
+    private Der() { }
+
+    static byte[] tlv(int tag, byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length + 6);
+        out.write(tag);
+
+        if (content.length < 0x80) {
+            out.write(content.length);
+        } else {
+            byte[] length = BigInteger.valueOf(content.length).toByteArray();
+            int offset = length[0] == 0 ? 1 : 0;
+            out.write(0x80 | (length.length - offset));
+            out.write(length, offset, length.length - offset);
+        }
+
+        out.write(content, 0, content.length);
+        return out.toByteArray();
+    }
+
+    static byte[] sequence(byte[]... elements) {
+        return tlv(0x30, concat(elements));
+    }
+
+    static byte[] set(byte[]... elements) {
+        return tlv(0x31, concat(elements));
+    }
+
+    /**
+     * Context specific constructed element, used for EXPLICIT tagging and for IMPLICIT tagging of constructed types
+     *
+     * @param tagNumber     Number of the tag
+     * @param elements      Encoded elements inside the tagged element
+     *
+     * @return  Encoded element
+     */
+    static byte[] tagged(int tagNumber, byte[]... elements) {
+        return tlv(0xA0 | tagNumber, concat(elements));
+    }
+
+    /**
+     * Context specific primitive element, used for IMPLICIT tagging of primitive types
+     *
+     * @param tagNumber     Number of the tag
+     * @param content       Content of the element
+     *
+     * @return  Encoded element
+     */
+    static byte[] implicit(int tagNumber, byte[] content) {
+        return tlv(0x80 | tagNumber, content);
+    }
+
+    static byte[] bool(boolean value) {
+        return tlv(0x01, new byte[] {value ? (byte) 0xFF : 0});
+    }
+
+    static byte[] integer(BigInteger value) {
+        return tlv(0x02, value.toByteArray());
+    }
+
+    static byte[] integer(long value) {
+        return integer(BigInteger.valueOf(value));
+    }
+
+    static byte[] bitString(byte[] value, int unusedBits) {
+        byte[] content = new byte[value.length + 1];
+        content[0] = (byte) unusedBits;
+        System.arraycopy(value, 0, content, 1, value.length);
+        return tlv(0x03, content);
+    }
+
+    static byte[] octetString(byte[] value) {
+        return tlv(0x04, value);
+    }
+
+    static byte[] nullValue() {
+        return new byte[] {0x05, 0};
+    }
+
+    static byte[] oid(String dotted) {
+        String[] arcs = dotted.split("\\.");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeBase128(out, Long.parseLong(arcs[0]) * 40 + Long.parseLong(arcs[1]));
+
+        for (int i = 2; i < arcs.length; i++) {
+            writeBase128(out, Long.parseLong(arcs[i]));
+        }
+
+        return tlv(0x06, out.toByteArray());
+    }
+
+    static byte[] utf8String(String value) {
+        return tlv(0x0C, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Encodes the time as UTCTime for years before 2050 and as GeneralizedTime otherwise (as required by RFC 5280)
+     *
+     * @param instant   The time
+     *
+     * @return  Encoded element
+     */
+    static byte[] time(Instant instant) {
+        ZonedDateTime utc = instant.atZone(ZoneOffset.UTC);
+
+        if (utc.getYear() < 2050) {
+            return tlv(0x17, UTC_TIME.format(utc).getBytes(StandardCharsets.US_ASCII));
+        } else {
+            return tlv(0x18, GENERALIZED_TIME.format(utc).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * @param element   Encoded element
+     *
+     * @return  Content of the element (without the tag and length)
+     */
+    static byte[] content(byte[] element) {
+        int[] header = header(element, 0);
+        return Arrays.copyOfRange(element, header[0], header[0] + header[1]);
+    }
+
+    /**
+     * @param element   Encoded constructed element (such as SEQUENCE)
+     *
+     * @return  Encoded elements contained in the element
+     */
+    static List<byte[]> children(byte[] element) {
+        byte[] content = content(element);
+        List<byte[]> children = new ArrayList<>();
+        int offset = 0;
+
+        while (offset < content.length) {
+            int[] header = header(content, offset);
+            int end = header[0] + header[1];
+            children.add(Arrays.copyOfRange(content, offset, end));
+            offset = end;
+        }
+
+        return children;
+    }
+
+    /**
+     * Decodes the tag and length of the element starting at the offset
+     *
+     * @return  Array with the offset of the content and the length of the content
+     */
+    private static int[] header(byte[] data, int offset) {
+        if (offset + 2 > data.length) {
+            throw new IllegalArgumentException("Truncated DER element");
+        }
+
+        int length = data[offset + 1] & 0xFF;
+        int contentOffset = offset + 2;
+
+        if (length >= 0x80) {
+            int lengthBytes = length & 0x7F;
+
+            if (lengthBytes == 0 || lengthBytes > 4 || contentOffset + lengthBytes > data.length) {
+                throw new IllegalArgumentException("Unsupported DER length");
+            }
+
+            length = 0;
+            for (int i = 0; i < lengthBytes; i++) {
+                length = (length << 8) | (data[contentOffset++] & 0xFF);
+            }
+        }
+
+        if (length < 0 || contentOffset + length > data.length) {
+            throw new IllegalArgumentException("Truncated DER element");
+        }
+
+        return new int[] {contentOffset, length};
+    }
+
+    private static void writeBase128(ByteArrayOutputStream out, long value) {
+        int groups = 1;
+        while ((value >>> (7 * groups)) != 0) {
+            groups++;
+        }
+
+        for (int i = groups - 1; i >= 0; i--) {
+            int group = (int) ((value >>> (7 * i)) & 0x7F);
+            out.write(i > 0 ? group | 0x80 : group);
+        }
+    }
+
+    private static byte[] concat(byte[]... elements) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        for (byte[] element : elements) {
+            out.write(element, 0, element.length);
+        }
+
+        return out.toByteArray();
+    }
+}
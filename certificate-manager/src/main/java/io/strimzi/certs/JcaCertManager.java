@@ -0,0 +1,535 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A certificate manager which generates the keys, certificates and keystores in memory using only the Java
+ * Cryptography Architecture, without running any external processes and without any temporary files.
+ *
+ * The issued certificates have the same content as the ones issued by {@link OpenSslCertManager}: SHA-512 signatures,
+ * random serial numbers, UTF-8 encoded subject names, 4096 bit RSA keys for CAs and 2048 bit RSA keys for the other
+ * certificates, the subject key identifier, basic constraints and key usage extensions and the subject alternative
+ * names when the subject has some. The keys are stored in the PKCS#8 PEM format.
+ *
+ * The algorithms used to protect the PKCS12 keystores can be configured only for the whole JVM. Since Java 11.0.12, the
+ * JVM uses AES-256 and HMAC-SHA256 by default, which some older clients cannot read. {@link #useLegacyPkcs12Algorithms()}
+ * configures the JVM to use the same algorithms as the {@code openssl pkcs12} command used by the older versions.
+ */
+public class JcaCertManager implements CertManager {
+    private static final Logger LOGGER = LogManager.getLogger(JcaCertManager.class);
+
+    /*test*/ static final int CA_KEY_SIZE = 4096;
+    /*test*/ static final int KEY_SIZE = 2048;
+
+    private static final String RSA_ENCRYPTION = "1.2.840.113549.1.1.1";
+    private static final String RSA_PKCS1_KEY = "RSA PRIVATE KEY";
+    private static final String EC_PUBLIC_KEY = "1.2.840.10045.2.1";
+    private static final String SHA512_WITH_RSA = "1.2.840.113549.1.1.13";
+    private static final String SHA512_WITH_ECDSA = "1.2.840.10045.4.3.4";
+    private static final String COMMON_NAME = "2.5.4.3";
+    private static final String ORGANIZATION_NAME = "2.5.4.10";
+    private static final String SUBJECT_KEY_IDENTIFIER = "2.5.29.14";
+    private static final String KEY_USAGE = "2.5.29.15";
+    private static final String SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String BASIC_CONSTRAINTS = "2.5.29.19";
+    private static final String EXTENSION_REQUEST = "1.2.840.113549.1.9.14";
+
+    // keyCertSign and cRLSign
+    private static final byte[] CA_KEY_USAGE = Der.bitString(new byte[] {0x06}, 1);
+    // digitalSignature and keyEncipherment
+    private static final byte[] KEY_USAGE_VALUE = Der.bitString(new byte[] {(byte) 0xA0}, 5);
+
+    /**
+     * Algorithms used by OpenSSL 1.1 when exporting PKCS12 keystores: 3DES for the keys, 40-bit RC2 for the
+     * certificates and SHA-1 for the integrity check, all with 2048 iterations
+     */
+    /*test*/ static final Map<String, String> LEGACY_PKCS12_PROPERTIES = Map.of(
+            "keystore.pkcs12.keyProtectionAlgorithm", "PBEWithSHA1AndDESede",
+            "keystore.pkcs12.keyPbeIterationCount", "2048",
+            "keystore.pkcs12.certProtectionAlgorithm", "PBEWithSHA1AndRC2_40",
+            "keystore.pkcs12.certPbeIterationCount", "2048",
+            "keystore.pkcs12.macAlgorithm", "HmacPBESHA1",
+            "keystore.pkcs12.macIterationCount", "2048");
+
+    private final Clock clock;
+    private final SecureRandom random = new SecureRandom();
+
+    public JcaCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    public JcaCertManager(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Configures the JVM to protect the PKCS12 keystores with the same algorithms as the keystores generated by the
+     * openssl command line tool. Properties which were already configured as system or security properties are not
+     * changed.
+     */
+    public static void useLegacyPkcs12Algorithms() {
+        for (Map.Entry<String, String> property : LEGACY_PKCS12_PROPERTIES.entrySet()) {
+            if (System.getProperty(property.getKey()) == null && Security.getProperty(property.getKey()) == null) {
+                LOGGER.debug("Setting {} to {}", property.getKey(), property.getValue());
+                System.setProperty(property.getKey(), property.getValue());
+            }
+        }
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateRootCaCert(sbj, keyFile, certFile, now.atZone(OpenSslCertManager.UTC), now.plus(days, ChronoUnit.DAYS).atZone(OpenSslCertManager.UTC), 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile,
+                                           Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(Files.readAllBytes(issuerCaKeyFile.toPath()), Files.readAllBytes(issuerCaCertFile.toPath()),
+                subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generate a CA certificate, using either a new CA key or reusing an existing subject key.
+     *
+     * @param issuerCaKey The issuing CA key (or null for a root CA).
+     * @param issuerCaCert The issuing CA cert (or null for a root CA).
+     * @param subject The required subject.
+     * @param subjectKeyFile The subject key file.
+     *                       If this file is empty then a new CA key will be generated and populated by this call.
+     *                       Otherwise it is assumed to contain the existing CA key in PKCS#8 format.
+     * @param subjectCertFile The subject certificate file, populated by this call.
+     * @param notBefore The required NotBefore date of the issued certificate.
+     * @param notAfter The required NotAfter date of the issued certificate.
+     * @param pathLength The number of CA certificates below this certificate in a certificate chain.
+     * @throws IOException IO problems
+     */
+    private void generateCaCert(byte[] issuerCaKey, byte[] issuerCaCert,
+                                Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        try {
+            boolean newKey = subjectKeyFile.length() == 0;
+            KeyPair keyPair = newKey ? generateKeyPair(CA_KEY_SIZE) : keyPair(privateKey(Files.readAllBytes(subjectKeyFile.toPath())));
+            byte[] spki = keyPair.getPublic().getEncoded();
+
+            byte[] issuerName;
+            PrivateKey issuerKey;
+            if (issuerCaCert == null) {
+                issuerName = name(subject);
+                issuerKey = keyPair.getPrivate();
+            } else {
+                issuerName = certificate(issuerCaCert).getSubjectX500Principal().getEncoded();
+                issuerKey = privateKey(issuerCaKey);
+            }
+
+            byte[] extensions = Der.sequence(
+                    extension(SUBJECT_KEY_IDENTIFIER, false, Der.octetString(keyIdentifier(spki))),
+                    extension(BASIC_CONSTRAINTS, true, Der.sequence(Der.bool(true), Der.integer(pathLength))),
+                    extension(KEY_USAGE, true, CA_KEY_USAGE));
+
+            byte[] cert = sign(issuerName, issuerKey, name(subject), spki, notBefore.toInstant(), notAfter.toInstant(), extensions);
+
+            if (newKey) {
+                Files.write(subjectKeyFile.toPath(), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+            }
+            Files.write(subjectCertFile.toPath(), pem("CERTIFICATE", cert));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate CA certificate for " + subject, e);
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        // the KeyStore class is able to create an empty store if the input stream is null
+        KeyStore trustStore = loadKeyStore(trustStoreFile.length() > 0 ? Files.readAllBytes(trustStoreFile.toPath()) : null, trustStorePassword);
+        trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate(Files.readAllBytes(certFile.toPath()))), null);
+        Files.write(trustStoreFile.toPath(), storeKeyStore(trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        // Preconditions
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = loadKeyStore(Files.readAllBytes(trustStoreFile.toPath()), trustStorePassword);
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        Files.write(trustStoreFile.toPath(), storeKeyStore(trustStore, trustStorePassword));
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        Files.write(keyStoreFile.toPath(),
+                generateKeyStore(Files.readAllBytes(keyFile.toPath()), Files.readAllBytes(certFile.toPath()), alias, keyStorePassword));
+    }
+
+    @Override
+    public byte[] generateKeyStore(byte[] key, byte[] cert, String alias, String keyStorePassword) throws IOException {
+        try {
+            KeyStore keyStore = loadKeyStore(null, keyStorePassword);
+            keyStore.setKeyEntry(alias, privateKey(key), keyStorePassword.toCharArray(), new Certificate[] {certificate(cert)});
+            return storeKeyStore(keyStore, keyStorePassword);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate keystore for " + alias, e);
+        }
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        try {
+            KeyPair keyPair = generateKeyPair(KEY_SIZE);
+            byte[] attributes = subject.hasSubjectAltNames()
+                    ? Der.sequence(Der.oid(EXTENSION_REQUEST), Der.set(Der.sequence(subjectAltNameExtension(subject))))
+                    : new byte[0];
+            byte[] info = Der.sequence(
+                    Der.integer(0),
+                    name(subject),
+                    keyPair.getPublic().getEncoded(),
+                    Der.tagged(0, attributes));
+
+            Files.write(keyFile.toPath(), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+            Files.write(csrFile.toPath(), pem("CERTIFICATE REQUEST", signed(info, keyPair.getPrivate())));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate CSR for " + subject, e);
+        }
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        // Preconditions
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+
+        try {
+            List<byte[]> csr = Der.children(fromPem(Files.readAllBytes(csrFile.toPath()), "CERTIFICATE REQUEST"));
+            byte[] spki = Der.children(csr.get(0)).get(2);
+
+            // Proof of possession of the private key
+            Signature signature = Signature.getInstance(signatureAlgorithm(publicKey(spki).getAlgorithm()));
+            signature.initVerify(publicKey(spki));
+            signature.update(csr.get(0));
+            if (!signature.verify(Arrays.copyOfRange(Der.content(csr.get(2)), 1, Der.content(csr.get(2)).length))) {
+                throw new IllegalArgumentException("The signature of the certificate signing request is not valid");
+            }
+
+            Files.write(crtFile.toPath(), issue(sbj, spki, caKey, caCert, days));
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate certificate for " + sbj, e);
+        }
+    }
+
+    @Override
+    public CertAndKey generateSignedCert(Subject sbj, byte[] caKey, byte[] caCert, int days) throws IOException {
+        Objects.requireNonNull(sbj);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+
+        try {
+            KeyPair keyPair = generateKeyPair(KEY_SIZE);
+            byte[] cert = issue(sbj, keyPair.getPublic().getEncoded(), caKey, caCert, days);
+
+            return new CertAndKey(pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()), cert);
+        } catch (GeneralSecurityException e) {
+            throw new RuntimeException("Failed to generate certificate for " + sbj, e);
+        }
+    }
+
+    /**
+     * Issues an end entity certificate for the public key
+     *
+     * @return  The certificate in PEM format
+     */
+    private byte[] issue(Subject sbj, byte[] spki, byte[] caKey, byte[] caCert, int days) throws IOException, GeneralSecurityException {
+        LOGGER.debug("Issuing certificate for {}", sbj);
+
+        Instant notBefore = clock.instant();
+        Instant notAfter = notBefore.plus(days, ChronoUnit.DAYS);
+
+        List<byte[]> extensions = new ArrayList<>(4);
+        extensions.add(extension(SUBJECT_KEY_IDENTIFIER, false, Der.octetString(keyIdentifier(spki))));
+        extensions.add(extension(BASIC_CONSTRAINTS, true, Der.sequence()));
+        extensions.add(extension(KEY_USAGE, true, KEY_USAGE_VALUE));
+        if (sbj.hasSubjectAltNames()) {
+            extensions.add(subjectAltNameExtension(sbj));
+        }
+
+        byte[] cert = sign(certificate(caCert).getSubjectX500Principal().getEncoded(), privateKey(caKey),
+                name(sbj), spki, notBefore, notAfter, Der.sequence(extensions.toArray(new byte[0][])));
+
+        return pem("CERTIFICATE", cert);
+    }
+
+    /**
+     * Builds and signs the X.509 v3 certificate
+     *
+     * @return  The DER encoded certificate
+     */
+    private byte[] sign(byte[] issuerName, PrivateKey issuerKey, byte[] subjectName, byte[] spki,
+                        Instant notBefore, Instant notAfter, byte[] extensions) throws GeneralSecurityException {
+        // Positive random serial number with the same size as the ones generated by OpenSSL
+        BigInteger serial = new BigInteger(159, random).setBit(0);
+
+        byte[] tbs = Der.sequence(
+                Der.tagged(0, Der.integer(2)),
+                Der.integer(serial),
+                signatureAlgorithmIdentifier(issuerKey),
+                issuerName,
+                Der.sequence(Der.time(notBefore.truncatedTo(ChronoUnit.SECONDS)), Der.time(notAfter.truncatedTo(ChronoUnit.SECONDS))),
+                subjectName,
+                spki,
+                Der.tagged(3, extensions));
+
+        return signed(tbs, issuerKey);
+    }
+
+    /**
+     * Signs the structure and wraps it together with the signature algorithm and the signature (as in certificates and
+     * certificate signing requests)
+     */
+    private byte[] signed(byte[] toBeSigned, PrivateKey key) throws GeneralSecurityException {
+        Signature signature = Signature.getInstance(signatureAlgorithm(key.getAlgorithm()));
+        signature.initSign(key, random);
+        signature.update(toBeSigned);
+
+        return Der.sequence(toBeSigned, signatureAlgorithmIdentifier(key), Der.bitString(signature.sign(), 0));
+    }
+
+    private KeyPair generateKeyPair(int keySize) throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(keySize, random);
+        return generator.generateKeyPair();
+    }
+
+    void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    /**
+     * Encodes the subject name with the organization before the common name and the values as UTF8String, as done by
+     * OpenSSL for the {@code /O=.../CN=...} subjects
+     */
+    private static byte[] name(Subject sbj) {
+        List<byte[]> rdns = new ArrayList<>(2);
+        if (sbj.organizationName() != null) {
+            rdns.add(Der.set(Der.sequence(Der.oid(ORGANIZATION_NAME), Der.utf8String(sbj.organizationName()))));
+        }
+        if (sbj.commonName() != null) {
+            rdns.add(Der.set(Der.sequence(Der.oid(COMMON_NAME), Der.utf8String(sbj.commonName()))));
+        }
+        return Der.sequence(rdns.toArray(new byte[0][]));
+    }
+
+    private static byte[] subjectAltNameExtension(Subject sbj) throws IOException {
+        List<byte[]> names = new ArrayList<>(sbj.dnsNames().size() + sbj.ipAddresses().size());
+        for (String dnsName : sbj.dnsNames()) {
+            names.add(Der.implicit(2, dnsName.getBytes(StandardCharsets.US_ASCII)));
+        }
+        for (String ipAddress : sbj.ipAddresses()) {
+            // The addresses are validated as IP address literals by the Subject builder, so there is no DNS lookup
+            names.add(Der.implicit(7, InetAddress.getByName(ipAddress).getAddress()));
+        }
+        return extension(SUBJECT_ALT_NAME, false, Der.sequence(names.toArray(new byte[0][])));
+    }
+
+    private static byte[] extension(String oid, boolean critical, byte[] value) {
+        if (critical) {
+            return Der.sequence(Der.oid(oid), Der.bool(true), Der.octetString(value));
+        } else {
+            return Der.sequence(Der.oid(oid), Der.octetString(value));
+        }
+    }
+
+    /**
+     * @return  The SHA-1 hash of the subject public key (the {@code subjectKeyIdentifier = hash} method of OpenSSL)
+     */
+    private static byte[] keyIdentifier(byte[] spki) throws NoSuchAlgorithmException {
+        byte[] publicKey = Der.content(Der.children(spki).get(1));
+        return MessageDigest.getInstance("SHA-1").digest(Arrays.copyOfRange(publicKey, 1, publicKey.length));
+    }
+
+    private static String signatureAlgorithm(String keyAlgorithm) {
+        return "EC".equals(keyAlgorithm) ? "SHA512withECDSA" : "SHA512withRSA";
+    }
+
+    private static byte[] signatureAlgorithmIdentifier(PrivateKey key) {
+        return "EC".equals(key.getAlgorithm())
+                ? Der.sequence(Der.oid(SHA512_WITH_ECDSA))
+                : Der.sequence(Der.oid(SHA512_WITH_RSA), Der.nullValue());
+    }
+
+    private static String keyAlgorithm(byte[] algorithmIdentifier) {
+        byte[] oid = Der.children(algorithmIdentifier).get(0);
+        if (Arrays.equals(oid, Der.oid(RSA_ENCRYPTION))) {
+            return "RSA";
+        } else if (Arrays.equals(oid, Der.oid(EC_PUBLIC_KEY))) {
+            return "EC";
+        } else {
+            throw new IllegalArgumentException("Unsupported key algorithm");
+        }
+    }
+
+    private static PublicKey publicKey(byte[] spki) throws GeneralSecurityException {
+        return KeyFactory.getInstance(keyAlgorithm(Der.children(spki).get(0))).generatePublic(new X509EncodedKeySpec(spki));
+    }
+
+    /**
+     * Reads the private key in the PKCS#8 PEM format or in the PKCS#1 PEM format used by OpenSSL for RSA keys
+     */
+    /*test*/ static PrivateKey privateKey(byte[] key) throws GeneralSecurityException {
+        byte[] der = fromPem(key, "PRIVATE KEY", RSA_PKCS1_KEY);
+
+        if (new String(key, StandardCharsets.US_ASCII).contains(RSA_PKCS1_KEY)) {
+            der = Der.sequence(Der.integer(0), Der.sequence(Der.oid(RSA_ENCRYPTION), Der.nullValue()), Der.octetString(der));
+        }
+
+        return KeyFactory.getInstance(keyAlgorithm(Der.children(der).get(1))).generatePrivate(new PKCS8EncodedKeySpec(der));
+    }
+
+    private static KeyPair keyPair(PrivateKey privateKey) throws GeneralSecurityException {
+        if (!(privateKey instanceof RSAPrivateCrtKey)) {
+            throw new IllegalArgumentException("Only existing RSA keys can be reused for CA certificates");
+        }
+
+        RSAPrivateCrtKey rsaKey = (RSAPrivateCrtKey) privateKey;
+        PublicKey publicKey = KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+        return new KeyPair(publicKey, privateKey);
+    }
+
+    private static X509Certificate certificate(byte[] cert) throws CertificateException {
+        return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(cert));
+    }
+
+    private static KeyStore loadKeyStore(byte[] keyStore, String password) throws IOException, KeyStoreException, CertificateException, NoSuchAlgorithmException {
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        store.load(keyStore != null ? new ByteArrayInputStream(keyStore) : null, password.toCharArray());
+        return store;
+    }
+
+    private static byte[] storeKeyStore(KeyStore keyStore, String password) throws IOException, KeyStoreException, CertificateException, NoSuchAlgorithmException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        keyStore.store(out, password.toCharArray());
+        return out.toByteArray();
+    }
+
+    /*test*/ static byte[] pem(String type, byte[] der) {
+        return ("-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[] {'\n'}).encodeToString(der)
+                + "\n-----END " + type + "-----\n").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] fromPem(byte[] pem, String... types) {
+        String text = new String(pem, StandardCharsets.US_ASCII);
+
+        for (String type : types) {
+            String begin = "-----BEGIN " + type + "-----";
+            int start = text.indexOf(begin);
+            int end = text.indexOf("-----END " + type + "-----");
+
+            if (start >= 0 && end > start) {
+                return Base64.getMimeDecoder().decode(text.substring(start + begin.length(), end));
+            }
+        }
+
+        throw new IllegalArgumentException("Expected PEM encoded " + String.join(" or ", types));
+    }
+}
@@ -16,10 +16,8 @@ import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.AbstractVerticle;
-import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
-import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.http.HttpServer;
 
@@ -50,6 +48,7 @@ public class ClusterOperator extends AbstractVerticle {
     private static final int HEALTH_SERVER_PORT = 8080;
 
     private final MetricsProvider metricsProvider;
+    private final PeriodicReconciliationScheduler periodicReconciliationScheduler;
 
     private final KubernetesClient client;
     private final String namespace;
@@ -74,7 +73,8 @@ public class ClusterOperator extends AbstractVerticle {
                            KafkaMirrorMaker2AssemblyOperator kafkaMirrorMaker2AssemblyOperator,
                            KafkaBridgeAssemblyOperator kafkaBridgeAssemblyOperator,
                            KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator,
-                           MetricsProvider metricsProvider) {
+                           MetricsProvider metricsProvider,
+                           PeriodicReconciliationScheduler periodicReconciliationScheduler) {
         LOGGER.info("Creating ClusterOperator for namespace {}", namespace);
         this.namespace = namespace;
         this.config = config;
@@ -87,6 +87,7 @@ public class ClusterOperator extends AbstractVerticle {
         this.kafkaRebalanceAssemblyOperator = kafkaRebalanceAssemblyOperator;
 
         this.metricsProvider = metricsProvider;
+        this.periodicReconciliationScheduler = periodicReconciliationScheduler;
     }
 
     @Override
@@ -97,11 +98,10 @@ public class ClusterOperator extends AbstractVerticle {
         getVertx().createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
 
         List<Future> watchFutures = new ArrayList<>(8);
-        List<AbstractOperator<?, ?, ?, ?>> operators = new ArrayList<>(asList(
-                kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
-                kafkaConnectAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator));
-        for (AbstractOperator<?, ?, ?, ?> operator : operators) {
-            watchFutures.add(operator.createWatch(namespace, operator.recreateWatch(namespace)).compose(w -> {
+        for (AbstractOperator<?, ?, ?, ?> operator : watchedOperators()) {
+            // Reconciliations of all resources after watch errors are subject to the same limits as the periodic ones
+            operator.setReconcileAllScheduler((trigger, ns) -> periodicReconciliationScheduler.triggerReconcileAll(operator, trigger, ns));
+            watchFutures.add(maybeEnableResourceCache(operator).compose(i -> operator.createWatch(namespace, operator.recreateWatch(namespace))).compose(w -> {
                 LOGGER.info("Opened watch for {} operator", operator.kind());
                 watchByKind.put(operator.kind(), w);
                 return Future.succeededFuture();
@@ -123,32 +123,60 @@ public class ClusterOperator extends AbstractVerticle {
                 .onComplete(start);
     }
 
+    /**
+     * @return  The operators whose custom resources are watched through {@link AbstractOperator#createWatch}
+     */
+    private List<AbstractOperator<?, ?, ?, ?>> watchedOperators() {
+        return asList(kafkaAssemblyOperator, kafkaMirrorMakerAssemblyOperator,
+                kafkaConnectAssemblyOperator, kafkaBridgeAssemblyOperator, kafkaMirrorMaker2AssemblyOperator);
+    }
+
+    /**
+     * Enables the local cache of the custom resources when the ResourceCache feature gate is enabled
+     *
+     * @param operator  Operator for which the cache should be enabled
+     *
+     * @return  Future which completes when the cache is synced (or immediately when the cache is disabled)
+     */
+    private Future<Void> maybeEnableResourceCache(AbstractOperator<?, ?, ?, ?> operator) {
+        if (config.featureGates().resourceCacheEnabled()) {
+            return operator.enableResourceCache(namespace).onSuccess(i -> LOGGER.info("Enabled resource cache for {} operator", operator.kind()));
+        } else {
+            return Future.succeededFuture();
+        }
+    }
 
     @Override
     public void stop(Promise<Void> stop) {
         LOGGER.info("Stopping ClusterOperator for namespace {}", namespace);
         vertx.cancelTimer(reconcileTimer);
+        periodicReconciliationScheduler.cancel(namespace);
         for (Watch watch : watchByKind.values()) {
             if (watch != null) {
                 watch.close();
             }
             // TODO remove the watch from the watchByKind
         }
+        if (config.featureGates().resourceCacheEnabled()) {
+            for (AbstractOperator<?, ?, ?, ?> operator : watchedOperators()) {
+                operator.disableResourceCache(namespace);
+            }
+        }
         client.close();
         stop.complete();
     }
 
     /**
-      Periodical reconciliation (in case we lost some event)
+      Periodical reconciliation (in case we lost some event). The reconciliations of the individual resources are spread
+      over the reconciliation interval by the {@link PeriodicReconciliationScheduler}.
      */
     private void reconcileAll(String trigger) {
-        Handler<AsyncResult<Void>> ignore = ignored -> { };
-        kafkaAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMakerAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaConnectAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaMirrorMaker2AssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaBridgeAssemblyOperator.reconcileAll(trigger, namespace, ignore);
-        kafkaRebalanceAssemblyOperator.reconcileAll(trigger, namespace, ignore);
+        periodicReconciliationScheduler.reconcileAll(kafkaAssemblyOperator, trigger, namespace);
+        periodicReconciliationScheduler.reconcileAll(kafkaMirrorMakerAssemblyOperator, trigger, namespace);
+        periodicReconciliationScheduler.reconcileAll(kafkaConnectAssemblyOperator, trigger, namespace);
+        periodicReconciliationScheduler.reconcileAll(kafkaMirrorMaker2AssemblyOperator, trigger, namespace);
+        periodicReconciliationScheduler.reconcileAll(kafkaBridgeAssemblyOperator, trigger, namespace);
+        periodicReconciliationScheduler.reconcileAll(kafkaRebalanceAssemblyOperator, trigger, namespace);
     }
 
     /**
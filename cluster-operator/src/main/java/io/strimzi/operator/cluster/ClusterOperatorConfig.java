@@ -47,6 +47,9 @@ public class ClusterOperatorConfig {
     public static final String STRIMZI_CUSTOM_RESOURCE_SELECTOR = "STRIMZI_CUSTOM_RESOURCE_SELECTOR";
     public static final String STRIMZI_FEATURE_GATES = "STRIMZI_FEATURE_GATES";
     public static final String STRIMZI_OPERATIONS_THREAD_POOL_SIZE = "STRIMZI_OPERATIONS_THREAD_POOL_SIZE";
+    public static final String STRIMZI_MAX_PERIODIC_RECONCILIATIONS = "STRIMZI_MAX_PERIODIC_RECONCILIATIONS";
+    public static final String STRIMZI_MAX_PERIODIC_RECONCILIATIONS_PER_KIND = "STRIMZI_MAX_PERIODIC_RECONCILIATIONS_PER_KIND";
+    public static final String STRIMZI_KAFKA_ROLLING_MAX_BATCH_SIZE = "STRIMZI_KAFKA_ROLLING_MAX_BATCH_SIZE";
 
     // Feature Flags
     public static final String STRIMZI_RBAC_SCOPE = "STRIMZI_RBAC_SCOPE";
@@ -76,6 +79,9 @@ public class ClusterOperatorConfig {
     public static final long DEFAULT_OPERATION_TIMEOUT_MS = 300_000;
     public static final long DEFAULT_CONNECT_BUILD_TIMEOUT_MS = 300_000;
     public static final int DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE = 10;
+    public static final int DEFAULT_MAX_PERIODIC_RECONCILIATIONS = 10;
+    public static final int DEFAULT_MAX_PERIODIC_RECONCILIATIONS_PER_KIND = 5;
+    public static final int DEFAULT_KAFKA_ROLLING_MAX_BATCH_SIZE = 1;
 
     private final Set<String> namespaces;
     private final long reconciliationIntervalMs;
@@ -92,6 +98,9 @@ public class ClusterOperatorConfig {
     private final Labels customResourceSelector;
     private final FeatureGates featureGates;
     private final int operationsThreadPoolSize;
+    private final int maxPeriodicReconciliations;
+    private final int maxPeriodicReconciliationsPerKind;
+    private final int kafkaRollingMaxBatchSize;
 
     /**
      * Constructor
@@ -111,6 +120,9 @@ public class ClusterOperatorConfig {
      * @param customResourceSelector Labels used to filter the custom resources seen by the cluster operator
      * @param featureGates Configuration string with feature gates settings
      * @param operationsThreadPoolSize The size of the thread pool used for various operations
+     * @param maxPeriodicReconciliations Maximal number of periodic reconciliations running at the same time
+     * @param maxPeriodicReconciliationsPerKind Maximal number of periodic reconciliations of a single kind running at the same time
+     * @param kafkaRollingMaxBatchSize Maximal number of Kafka brokers restarted at the same time during a rolling update
      */
     @SuppressWarnings("checkstyle:ParameterNumber")
     public ClusterOperatorConfig(
@@ -128,7 +140,10 @@ public class ClusterOperatorConfig {
             RbacScope rbacScope,
             Labels customResourceSelector,
             String featureGates,
-            int operationsThreadPoolSize) {
+            int operationsThreadPoolSize,
+            int maxPeriodicReconciliations,
+            int maxPeriodicReconciliationsPerKind,
+            int kafkaRollingMaxBatchSize) {
         this.namespaces = unmodifiableSet(new HashSet<>(namespaces));
         this.reconciliationIntervalMs = reconciliationIntervalMs;
         this.operationTimeoutMs = operationTimeoutMs;
@@ -144,6 +159,9 @@ public class ClusterOperatorConfig {
         this.customResourceSelector = customResourceSelector;
         this.featureGates = new FeatureGates(featureGates);
         this.operationsThreadPoolSize = operationsThreadPoolSize;
+        this.maxPeriodicReconciliations = maxPeriodicReconciliations;
+        this.maxPeriodicReconciliationsPerKind = maxPeriodicReconciliationsPerKind;
+        this.kafkaRollingMaxBatchSize = kafkaRollingMaxBatchSize;
     }
 
     /**
@@ -193,6 +211,9 @@ public class ClusterOperatorConfig {
         Labels customResourceSelector = parseLabels(map, STRIMZI_CUSTOM_RESOURCE_SELECTOR);
         String featureGates = map.getOrDefault(STRIMZI_FEATURE_GATES, "");
         int operationsThreadPoolSize = parseInt(map.get(STRIMZI_OPERATIONS_THREAD_POOL_SIZE), DEFAULT_STRIMZI_OPERATIONS_THREAD_POOL_SIZE);
+        int maxPeriodicReconciliations = parseInt(map.get(STRIMZI_MAX_PERIODIC_RECONCILIATIONS), DEFAULT_MAX_PERIODIC_RECONCILIATIONS);
+        int maxPeriodicReconciliationsPerKind = parseInt(map.get(STRIMZI_MAX_PERIODIC_RECONCILIATIONS_PER_KIND), DEFAULT_MAX_PERIODIC_RECONCILIATIONS_PER_KIND);
+        int kafkaRollingMaxBatchSize = parseInt(map.get(STRIMZI_KAFKA_ROLLING_MAX_BATCH_SIZE), DEFAULT_KAFKA_ROLLING_MAX_BATCH_SIZE);
 
         return new ClusterOperatorConfig(
                 namespaces,
@@ -209,7 +230,10 @@ public class ClusterOperatorConfig {
                 rbacScope,
                 customResourceSelector,
                 featureGates,
-                operationsThreadPoolSize);
+                operationsThreadPoolSize,
+                maxPeriodicReconciliations,
+                maxPeriodicReconciliationsPerKind,
+                kafkaRollingMaxBatchSize);
     }
 
     private static Set<String> parseNamespaceList(String namespacesList)   {
@@ -504,6 +528,27 @@ public class ClusterOperatorConfig {
         return operationsThreadPoolSize;
     }
 
+    /**
+     * @return Maximal number of periodic reconciliations running at the same time
+     */
+    public int getMaxPeriodicReconciliations() {
+        return maxPeriodicReconciliations;
+    }
+
+    /**
+     * @return Maximal number of periodic reconciliations of a single kind running at the same time
+     */
+    public int getMaxPeriodicReconciliationsPerKind() {
+        return maxPeriodicReconciliationsPerKind;
+    }
+
+    /**
+     * @return Maximal number of Kafka brokers restarted at the same time during a rolling update
+     */
+    public int getKafkaRollingMaxBatchSize() {
+        return kafkaRollingMaxBatchSize;
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig(" +
@@ -521,6 +566,9 @@ public class ClusterOperatorConfig {
                 ",rbacScope=" + rbacScope +
                 ",customResourceSelector=" + customResourceSelector +
                 ",featureGates=" + featureGates +
+                ",maxPeriodicReconciliations=" + maxPeriodicReconciliations +
+                ",maxPeriodicReconciliationsPerKind=" + maxPeriodicReconciliationsPerKind +
+                ",kafkaRollingMaxBatchSize=" + kafkaRollingMaxBatchSize +
                 ")";
     }
 }
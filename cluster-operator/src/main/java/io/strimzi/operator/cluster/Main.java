@@ -9,7 +9,7 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRole;
 import io.fabric8.kubernetes.client.DefaultKubernetesClient;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.api.kafka.Crds;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.JcaCertManager;
 import io.strimzi.operator.PlatformFeaturesAvailability;
 import io.strimzi.operator.cluster.operator.assembly.KafkaAssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaBridgeAssemblyOperator;
@@ -18,6 +18,7 @@ import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMakerAssemblyOpe
 import io.strimzi.operator.cluster.operator.assembly.KafkaMirrorMaker2AssemblyOperator;
 import io.strimzi.operator.cluster.operator.assembly.KafkaRebalanceAssemblyOperator;
 import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
@@ -36,6 +37,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import io.vertx.core.VertxOptions;
@@ -103,7 +105,8 @@ public class Main {
 
         ResourceOperatorSupplier resourceOperatorSupplier = new ResourceOperatorSupplier(vertx, client, pfa, config.featureGates(), config.getOperationTimeoutMs());
 
-        OpenSslCertManager certManager = new OpenSslCertManager();
+        JcaCertManager.useLegacyPkcs12Algorithms();
+        JcaCertManager certManager = new JcaCertManager();
         PasswordGenerator passwordGenerator = new PasswordGenerator(12,
                 "abcdefghijklmnopqrstuvwxyz" +
                         "ABCDEFGHIJKLMNOPQRSTUVWXYZ",
@@ -127,10 +130,18 @@ public class Main {
         KafkaRebalanceAssemblyOperator kafkaRebalanceAssemblyOperator =
                 new KafkaRebalanceAssemblyOperator(vertx, pfa, resourceOperatorSupplier, config);
 
+        PeriodicReconciliationScheduler periodicReconciliationScheduler = new PeriodicReconciliationScheduler(vertx,
+                resourceOperatorSupplier.metricsProvider,
+                config.getReconciliationIntervalMs(),
+                config.getMaxPeriodicReconciliations(),
+                config.getMaxPeriodicReconciliationsPerKind());
+
         List<Future> futures = new ArrayList<>(config.getNamespaces().size());
         for (String namespace : config.getNamespaces()) {
             Promise<String> prom = Promise.promise();
             futures.add(prom.future());
+
+            Future<Void> resourceCache = maybeEnableResourceCache(vertx, resourceOperatorSupplier, config, namespace);
             ClusterOperator operator = new ClusterOperator(namespace,
                     config,
                     client,
@@ -140,25 +151,58 @@ public class Main {
                     kafkaMirrorMaker2AssemblyOperator,
                     kafkaBridgeAssemblyOperator,
                     kafkaRebalanceAssemblyOperator,
-                    resourceOperatorSupplier.metricsProvider);
-            vertx.deployVerticle(operator,
-                res -> {
-                    if (res.succeeded()) {
-                        if (config.getCustomResourceSelector() != null) {
-                            LOGGER.info("Cluster Operator verticle started in namespace {} with label selector {}", namespace, config.getCustomResourceSelector());
-                        } else {
-                            LOGGER.info("Cluster Operator verticle started in namespace {} without label selector", namespace);
-                        }
+                    resourceOperatorSupplier.metricsProvider,
+                    periodicReconciliationScheduler);
+            resourceCache.compose(i -> {
+                Promise<String> deployment = Promise.promise();
+                vertx.deployVerticle(operator, deployment);
+                return deployment.future();
+            }).onComplete(res -> {
+                if (res.succeeded()) {
+                    if (config.getCustomResourceSelector() != null) {
+                        LOGGER.info("Cluster Operator verticle started in namespace {} with label selector {}", namespace, config.getCustomResourceSelector());
                     } else {
-                        LOGGER.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
-                        System.exit(1);
+                        LOGGER.info("Cluster Operator verticle started in namespace {} without label selector", namespace);
                     }
-                    prom.handle(res);
-                });
+                } else {
+                    LOGGER.error("Cluster Operator verticle in namespace {} failed to start", namespace, res.cause());
+                    System.exit(1);
+                }
+                prom.handle(res);
+            });
         }
         return CompositeFuture.join(futures);
     }
 
+    /**
+     * Enables the local cache of the Pods and StatefulSets when the ResourceCache feature gate is enabled. With the
+     * cache, the waits for the Pods and StatefulSets to become ready or to be deleted complete on the watch events
+     * instead of polling the Kubernetes API server.
+     *
+     * @param vertx                     Vert.x instance
+     * @param resourceOperatorSupplier  Supplier with the resource operators
+     * @param config                    Cluster Operator configuration
+     * @param namespace                 Namespace for which the cache should be enabled
+     *
+     * @return  Future which completes when the caches are synced (or immediately when the cache is disabled)
+     */
+    private static Future<Void> maybeEnableResourceCache(Vertx vertx, ResourceOperatorSupplier resourceOperatorSupplier, ClusterOperatorConfig config, String namespace) {
+        if (config.featureGates().resourceCacheEnabled()) {
+            MetricsProvider metrics = resourceOperatorSupplier.metricsProvider;
+
+            // The caches are synced using the executor before the ClusterOperator verticle starts, so it has to be configured here already
+            vertx.createSharedWorkerExecutor("kubernetes-ops-pool", config.getOperationsThreadPoolSize(), TimeUnit.SECONDS.toNanos(120));
+
+            return CompositeFuture.join(resourceOperatorSupplier.podOperations.enableCache(namespace, metrics),
+                            resourceOperatorSupplier.zkSetOperations.enableCache(namespace, metrics),
+                            resourceOperatorSupplier.kafkaSetOperations.enableCache(namespace, metrics))
+                    .onSuccess(i -> LOGGER.info("Enabled resource cache for Pods and StatefulSets in namespace {}", namespace))
+                    .map((Void) null);
+        } else {
+            return Future.succeededFuture();
+        }
+    }
+
     /*test*/ static Future<Void> maybeCreateClusterRoles(Vertx vertx, ClusterOperatorConfig config, KubernetesClient client)  {
         if (config.isCreateClusterRoles()) {
             List<Future> futures = new ArrayList<>();
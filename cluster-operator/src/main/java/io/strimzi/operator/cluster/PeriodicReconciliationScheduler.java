@@ -0,0 +1,327 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Operator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the periodic reconciliations of all resources. Instead of starting the reconciliations of all resources at
+ * the same time, the reconciliation of each resource is delayed by a stable offset derived from its kind, namespace and
+ * name plus a small random jitter. The offsets are spread over the first half of the reconciliation interval so that
+ * the sweep normally finishes before the next one starts.
+ *
+ * A reconciliation of all resources requested for another reason (such as a watch error) while a sweep of the same kind
+ * and namespace is running is not skipped, but runs once the current sweep completes.
+ *
+ * The number of periodic reconciliations running at the same time is limited per kind and in total. A single scheduler
+ * is shared by the operators for all watched namespaces. All its state is accessed only from a single Vert.x context.
+ */
+public class PeriodicReconciliationScheduler {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(PeriodicReconciliationScheduler.class);
+
+    // The jitter is at most 1/JITTER_FRACTION of the spread window
+    private static final int JITTER_FRACTION = 10;
+
+    private final Vertx vertx;
+    private final Context context;
+    private final MetricsProvider metrics;
+    private final long spreadMs;
+    private final int maxConcurrency;
+    private final int maxConcurrencyPerKind;
+
+    private final Map<String, Sweep> sweeps = new HashMap<>();
+    private final Deque<Task> ready = new ArrayDeque<>();
+    private final Map<String, Integer> inProgressByKind = new HashMap<>();
+    private int inProgress = 0;
+
+    /**
+     * Constructs the scheduler
+     *
+     * @param vertx                     Vert.x instance
+     * @param metrics                   Metrics provider
+     * @param reconciliationIntervalMs  Periodic reconciliation interval
+     * @param maxConcurrency            Maximal number of periodic reconciliations running at the same time
+     * @param maxConcurrencyPerKind     Maximal number of periodic reconciliations of a single kind running at the same time
+     */
+    public PeriodicReconciliationScheduler(Vertx vertx, MetricsProvider metrics, long reconciliationIntervalMs, int maxConcurrency, int maxConcurrencyPerKind) {
+        if (maxConcurrency <= 0 || maxConcurrencyPerKind <= 0) {
+            throw new IllegalArgumentException("Maximal number of periodic reconciliations has to be bigger than 0");
+        }
+
+        this.vertx = vertx;
+        this.context = vertx.getOrCreateContext();
+        this.metrics = metrics;
+        this.spreadMs = reconciliationIntervalMs / 2;
+        this.maxConcurrency = maxConcurrency;
+        this.maxConcurrencyPerKind = maxConcurrencyPerKind;
+    }
+
+    /**
+     * Starts the periodic reconciliation of all resources of given operator in given namespace. When the previous
+     * periodic reconciliation of the same kind and namespace is still running, this one is skipped.
+     *
+     * @param operator  Operator which should reconcile the resources
+     * @param trigger   The cause of the reconciliation (for logging)
+     * @param namespace Namespace or {@code *} for all namespaces
+     */
+    public void reconcileAll(Operator operator, String trigger, String namespace) {
+        context.runOnContext(v -> {
+            if (sweeps.containsKey(sweepKey(operator, namespace))) {
+                LOGGER.warnOp("Previous periodic reconciliation of {} resources in namespace {} is still in progress. Skipping this one.", operator.kind(), namespace);
+                return;
+            }
+
+            startSweep(operator, trigger, namespace);
+        });
+    }
+
+    /**
+     * Starts the reconciliation of all resources of given operator in given namespace outside of the periodic schedule
+     * (for example after a watch error). When a periodic reconciliation of the same kind and namespace is still
+     * running, it might not include the changes which caused this request. The kind and namespace are therefore marked
+     * as dirty and a single follow-up reconciliation is started once the running one completes.
+     *
+     * @param operator  Operator which should reconcile the resources
+     * @param trigger   The cause of the reconciliation (for logging)
+     * @param namespace Namespace or {@code *} for all namespaces
+     */
+    public void triggerReconcileAll(Operator operator, String trigger, String namespace) {
+        context.runOnContext(v -> {
+            Sweep running = sweeps.get(sweepKey(operator, namespace));
+
+            if (running != null) {
+                if (running.followUpTrigger == null) {
+                    LOGGER.infoOp("Periodic reconciliation of {} resources in namespace {} is still in progress. They will be reconciled again ({}) once it completes.", operator.kind(), namespace, trigger);
+                    running.followUpTrigger = trigger;
+                }
+
+                return;
+            }
+
+            startSweep(operator, trigger, namespace);
+        });
+    }
+
+    /**
+     * Starts a new sweep. Has to be called on the scheduler context.
+     */
+    private void startSweep(Operator operator, String trigger, String namespace) {
+        Sweep sweep = new Sweep(operator, trigger, namespace, sweepKey(operator, namespace));
+        sweeps.put(sweep.key, sweep);
+
+        operator.allResourceNames(namespace)
+                .onComplete(res -> context.runOnContext(v -> start(sweep, res)));
+    }
+
+    private static String sweepKey(Operator operator, String namespace) {
+        return operator.kind() + "/" + namespace;
+    }
+
+    /**
+     * Cancels the scheduled periodic reconciliations in given namespace. The reconciliations which are already running
+     * are not interrupted.
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     */
+    public void cancel(String namespace) {
+        context.runOnContext(v -> {
+            Iterator<Sweep> sweepIterator = sweeps.values().iterator();
+
+            while (sweepIterator.hasNext()) {
+                Sweep sweep = sweepIterator.next();
+
+                if (sweep.namespace.equals(namespace)) {
+                    sweep.timers.forEach(vertx::cancelTimer);
+                    sweepIterator.remove();
+                }
+            }
+
+            ready.removeIf(task -> task.sweep.namespace.equals(namespace));
+        });
+    }
+
+    private void start(Sweep sweep, AsyncResult<Set<NamespaceAndName>> names) {
+        if (sweeps.get(sweep.key) != sweep) {
+            // Cancelled in the meantime
+            return;
+        }
+
+        Operator operator = sweep.operator;
+        operator.getPausedResourceCounter().set(0);
+
+        if (names.failed()) {
+            LOGGER.warnOp("Failed to list {} resources in namespace {} for periodic reconciliation", operator.kind(), sweep.namespace, names.cause());
+            sweeps.remove(sweep.key);
+            maybeStartFollowUp(sweep);
+            return;
+        }
+
+        operator.getResourceCounter().set(names.result().size());
+        operator.getPeriodicReconciliationsCounter().increment();
+
+        sweep.remaining = names.result().size();
+        if (sweep.remaining == 0) {
+            complete(sweep);
+            return;
+        }
+
+        for (NamespaceAndName resource : names.result()) {
+            Task task = new Task(sweep, resource);
+            long delay = delayMs(operator.kind(), resource);
+
+            sweep.timers.add(vertx.setTimer(Math.max(1, delay), timerId -> {
+                ready.add(task);
+                drain();
+            }));
+        }
+    }
+
+    /**
+     * Calculates the delay of the periodic reconciliation of given resource. It consists of a stable offset based on
+     * the kind, namespace and name of the resource and of a random jitter. The result is always within the spread
+     * window.
+     *
+     * @param kind      Kind of the resource
+     * @param resource  Namespace and name of the resource
+     *
+     * @return  Delay in milliseconds
+     */
+    /*test*/ long delayMs(String kind, NamespaceAndName resource) {
+        long maxJitter = spreadMs / JITTER_FRACTION;
+        long offsetWindow = spreadMs - maxJitter;
+
+        if (offsetWindow <= 0) {
+            return 0;
+        }
+
+        long offset = Math.floorMod((long) (kind + "/" + resource.getNamespace() + "/" + resource.getName()).hashCode(), offsetWindow);
+        long jitter = maxJitter > 0 ? ThreadLocalRandom.current().nextLong(maxJitter + 1) : 0;
+
+        return offset + jitter;
+    }
+
+    private void drain() {
+        Iterator<Task> iterator = ready.iterator();
+
+        while (inProgress < maxConcurrency && iterator.hasNext()) {
+            Task task = iterator.next();
+            String kind = task.sweep.operator.kind();
+            int inProgressOfKind = inProgressByKind.getOrDefault(kind, 0);
+
+            if (inProgressOfKind < maxConcurrencyPerKind) {
+                iterator.remove();
+                inProgress++;
+                inProgressByKind.put(kind, inProgressOfKind + 1);
+
+                run(task);
+            }
+        }
+    }
+
+    private void run(Task task) {
+        Reconciliation reconciliation = new Reconciliation(task.sweep.trigger, task.sweep.operator.kind(), task.resource.getNamespace(), task.resource.getName());
+
+        try {
+            task.sweep.operator.reconcile(reconciliation)
+                    .onComplete(res -> context.runOnContext(v -> finished(task)));
+        } catch (Throwable t) {
+            LOGGER.errorCr(reconciliation, "Periodic reconciliation failed", t);
+            context.runOnContext(v -> finished(task));
+        }
+    }
+
+    private void finished(Task task) {
+        String kind = task.sweep.operator.kind();
+        inProgress--;
+        inProgressByKind.merge(kind, -1, Integer::sum);
+
+        Sweep sweep = task.sweep;
+        if (--sweep.remaining == 0 && sweeps.get(sweep.key) == sweep) {
+            complete(sweep);
+        }
+
+        drain();
+    }
+
+    private void complete(Sweep sweep) {
+        sweeps.remove(sweep.key);
+
+        long durationNs = System.nanoTime() - sweep.startedAt;
+        sweepTimer(sweep).record(durationNs, TimeUnit.NANOSECONDS);
+        LOGGER.infoOp("Periodic reconciliation of {} resources in namespace {} completed in {}ms", sweep.operator.kind(), sweep.namespace, TimeUnit.NANOSECONDS.toMillis(durationNs));
+
+        maybeStartFollowUp(sweep);
+    }
+
+    private void maybeStartFollowUp(Sweep sweep) {
+        if (sweep.followUpTrigger != null) {
+            LOGGER.infoOp("Starting follow-up reconciliation of {} resources in namespace {}", sweep.operator.kind(), sweep.namespace);
+            startSweep(sweep.operator, sweep.followUpTrigger, sweep.namespace);
+        }
+    }
+
+    private Timer sweepTimer(Sweep sweep) {
+        return metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.periodical.sweep.duration",
+                "The time the periodic reconciliation of all resources of given kind takes to complete",
+                Tags.of(Tag.of("kind", sweep.operator.kind()), Tag.of("namespace", sweep.namespace)));
+    }
+
+    /**
+     * Periodic reconciliation of all resources of a single kind in a single namespace
+     */
+    private static class Sweep {
+        private final Operator operator;
+        private final String trigger;
+        private final String namespace;
+        private final String key;
+        private final long startedAt = System.nanoTime();
+        private final List<Long> timers = new ArrayList<>();
+        private int remaining;
+        // Trigger of the follow-up sweep requested while this one was running (null when none was requested)
+        private String followUpTrigger;
+
+        Sweep(Operator operator, String trigger, String namespace, String key) {
+            this.operator = operator;
+            this.trigger = trigger;
+            this.namespace = namespace;
+            this.key = key;
+        }
+    }
+
+    /**
+     * Periodic reconciliation of a single resource
+     */
+    private static class Task {
+        private final Sweep sweep;
+        private final NamespaceAndName resource;
+
+        Task(Sweep sweep, NamespaceAndName resource) {
+            this.sweep = sweep;
+            this.resource = resource;
+        }
+    }
+}
@@ -56,6 +56,7 @@ public class EntityTopicOperator extends AbstractModel {
     public static final String ENV_VAR_ZOOKEEPER_SESSION_TIMEOUT_MS = "STRIMZI_ZOOKEEPER_SESSION_TIMEOUT_MS";
     public static final String ENV_VAR_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
     public static final String ENV_VAR_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
+    public static final String ENV_VAR_STORE_STATE_DIR = "STRIMZI_STORE_STATE_DIR";
     public static final Probe DEFAULT_HEALTHCHECK_OPTIONS = new ProbeBuilder()
             .withInitialDelaySeconds(EntityTopicOperatorSpec.DEFAULT_HEALTHCHECK_DELAY)
             .withTimeoutSeconds(EntityTopicOperatorSpec.DEFAULT_HEALTHCHECK_TIMEOUT).build();
@@ -64,6 +65,10 @@ public class EntityTopicOperator extends AbstractModel {
     // Because the container shares the pod with other containers, it needs to have unique name
     /*test*/ static final String TOPIC_OPERATOR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME = "strimzi-to-tmp";
 
+    // Volume name of the volume with the topic store state. It is used only when the user opts in to the persistent
+    // topic store by setting the STRIMZI_STORE_STATE_DIR environment variable in the container template.
+    /*test*/ static final String TOPIC_OPERATOR_STORE_STATE_VOLUME_NAME = "strimzi-to-store-state";
+
     // Kafka bootstrap servers and Zookeeper nodes can't be specified in the JSON
     private String kafkaBootstrapServers;
     private String zookeeperConnect;
@@ -290,15 +295,50 @@ public class EntityTopicOperator extends AbstractModel {
     }
 
     public List<Volume> getVolumes() {
-        return asList(createTempDirVolume(TOPIC_OPERATOR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME),
-                VolumeUtils.createConfigMapVolume(logAndMetricsConfigVolumeName, ancillaryConfigMapName));
+        List<Volume> volumeList = new ArrayList<>(asList(createTempDirVolume(TOPIC_OPERATOR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME),
+                VolumeUtils.createConfigMapVolume(logAndMetricsConfigVolumeName, ancillaryConfigMapName)));
+
+        if (getStoreStateDir() != null) {
+            // The store is kept in RocksDB on the node disk, so it does not use the in-memory temporary directory
+            volumeList.add(VolumeUtils.createEmptyDirVolume(TOPIC_OPERATOR_STORE_STATE_VOLUME_NAME, null));
+        }
+
+        return volumeList;
     }
 
     private List<VolumeMount> getVolumeMounts() {
-        return asList(createTempDirVolumeMount(TOPIC_OPERATOR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME),
+        List<VolumeMount> volumeMountList = new ArrayList<>(asList(createTempDirVolumeMount(TOPIC_OPERATOR_TMP_DIRECTORY_DEFAULT_VOLUME_NAME),
                 VolumeUtils.createVolumeMount(logAndMetricsConfigVolumeName, logAndMetricsConfigMountPath),
                 VolumeUtils.createVolumeMount(EntityOperator.TLS_SIDECAR_EO_CERTS_VOLUME_NAME, EntityOperator.TLS_SIDECAR_EO_CERTS_VOLUME_MOUNT),
-                VolumeUtils.createVolumeMount(EntityOperator.TLS_SIDECAR_CA_CERTS_VOLUME_NAME, EntityOperator.TLS_SIDECAR_CA_CERTS_VOLUME_MOUNT));
+                VolumeUtils.createVolumeMount(EntityOperator.TLS_SIDECAR_CA_CERTS_VOLUME_NAME, EntityOperator.TLS_SIDECAR_CA_CERTS_VOLUME_MOUNT)));
+
+        String storeStateDir = getStoreStateDir();
+        if (storeStateDir != null) {
+            volumeMountList.add(VolumeUtils.createVolumeMount(TOPIC_OPERATOR_STORE_STATE_VOLUME_NAME, storeStateDir));
+        }
+
+        return volumeMountList;
+    }
+
+    /**
+     * Gets the directory with the topic store state set by the user in the container template. The temporary
+     * directory is already mounted, so it does not need another volume.
+     *
+     * @return  The directory with the topic store state or null when no volume should be mounted for it
+     */
+    /*test*/ String getStoreStateDir() {
+        if (templateContainerEnvVars != null) {
+            for (ContainerEnvVar envVar : templateContainerEnvVars) {
+                if (ENV_VAR_STORE_STATE_DIR.equals(envVar.getName())
+                        && envVar.getValue() != null
+                        && !envVar.getValue().isEmpty()
+                        && !STRIMZI_TMP_DIRECTORY_DEFAULT_MOUNT_PATH.equals(envVar.getValue())) {
+                    return envVar.getValue();
+                }
+            }
+        }
+
+        return null;
     }
 
     @Override
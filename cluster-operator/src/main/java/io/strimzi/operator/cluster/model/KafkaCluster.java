@@ -119,6 +119,9 @@ public class KafkaCluster extends AbstractModel {
     protected static final String REPLICATION_PORT_NAME = "tcp-replication";
     public static final int CONTROLPLANE_PORT = 9090;
     protected static final String CONTROLPLANE_PORT_NAME = "tcp-ctrlplane"; // port name is up to 15 characters
+    protected static final int KAFKA_AGENT_PORT = 8080;
+    protected static final String KAFKA_AGENT_PORT_NAME = "kafka-agent";
+    protected static final String ENV_VAR_STRIMZI_KAFKA_AGENT_PORT = "STRIMZI_KAFKA_AGENT_PORT";
 
     // Ingress and Route listeners advertise port 443 regardless what port is used in Kafka, so we store them here
     protected static final int ROUTE_PORT = 443;
@@ -1320,9 +1323,10 @@ public class KafkaCluster extends AbstractModel {
     }
 
     private List<ContainerPort> getContainerPortList() {
-        List<ContainerPort> ports = new ArrayList<>(listeners.size() + 3);
+        List<ContainerPort> ports = new ArrayList<>(listeners.size() + 4);
         ports.add(createContainerPort(CONTROLPLANE_PORT_NAME, CONTROLPLANE_PORT, "TCP"));
         ports.add(createContainerPort(REPLICATION_PORT_NAME, REPLICATION_PORT, "TCP"));
+        ports.add(createContainerPort(KAFKA_AGENT_PORT_NAME, KAFKA_AGENT_PORT, "TCP"));
 
         for (GenericKafkaListener listener : listeners) {
             ports.add(createContainerPort(ListenersUtils.backwardsCompatiblePortName(listener), listener.getPort(), "TCP"));
@@ -1569,15 +1573,9 @@ public class KafkaCluster extends AbstractModel {
                 .withEnv(getEnvVars())
                 .withVolumeMounts(getVolumeMounts())
                 .withPorts(getContainerPortList())
-                .withLivenessProbe(ProbeGenerator.defaultBuilder(livenessProbeOptions)
-                        .withNewExec()
-                            .withCommand("/opt/kafka/kafka_liveness.sh")
-                        .endExec().build())
-                .withReadinessProbe(ProbeGenerator.defaultBuilder(readinessProbeOptions)
-                        .withNewExec()
-                            // The kafka-agent will create /var/opt/kafka/kafka-ready in the container
-                            .withCommand("test", "-f", "/var/opt/kafka/kafka-ready")
-                        .endExec().build())
+                // The probes are served by the kafka-agent running in the broker
+                .withLivenessProbe(ProbeGenerator.httpProbe(livenessProbeOptions, "/v1/live", KAFKA_AGENT_PORT_NAME))
+                .withReadinessProbe(ProbeGenerator.httpProbe(readinessProbeOptions, "/v1/ready", KAFKA_AGENT_PORT_NAME))
                 .withResources(getResources())
                 .withImagePullPolicy(determineImagePullPolicy(imagePullPolicy, getImage()))
                 .withCommand("/opt/kafka/kafka_run.sh")
@@ -1622,6 +1620,9 @@ public class KafkaCluster extends AbstractModel {
             }
         }
 
+        // The kafka-agent serves the probes on this port
+        varList.add(buildEnvVar(ENV_VAR_STRIMZI_KAFKA_AGENT_PORT, String.valueOf(KAFKA_AGENT_PORT)));
+
         // Add shared environment variables used for all containers
         varList.addAll(getRequiredEnvVars());
 
@@ -5,15 +5,12 @@
 
 package io.strimzi.operator.cluster.model;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.KafkaClusterSpec;
 import io.strimzi.kafka.config.model.ConfigModel;
-import io.strimzi.kafka.config.model.ConfigModels;
+import io.strimzi.kafka.config.model.ConfigModelRegistry;
 import io.strimzi.kafka.config.model.Scope;
 import io.strimzi.operator.common.Reconciliation;
 
-import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -102,23 +99,13 @@ public class KafkaConfiguration extends AbstractConfiguration {
     }
 
     /**
-     * Gets the config model for the given version of the Kafka broker.
+     * Gets the config model for the given version of the Kafka broker. The model is read only once for each version
+     * and shared by all callers, so it must not be modified.
      * @param kafkaVersion The broker version.
      * @return The config model for that broker version.
      */
     public static Map<String, ConfigModel> readConfigModel(KafkaVersion kafkaVersion) {
-        String name = "/kafka-" + kafkaVersion.version() + "-config-model.json";
-        try {
-            try (InputStream in = KafkaConfiguration.class.getResourceAsStream(name)) {
-                ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
-                if (!kafkaVersion.version().equals(configModels.getVersion())) {
-                    throw new RuntimeException("Incorrect version");
-                }
-                return configModels.getConfigs();
-            }
-        } catch (IOException e) {
-            throw new RuntimeException("Error reading from classpath resource " + name, e);
-        }
+        return ConfigModelRegistry.configModel(kafkaVersion.version());
     }
 
     /**
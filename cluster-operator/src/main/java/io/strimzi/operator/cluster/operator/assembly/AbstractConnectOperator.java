@@ -322,12 +322,12 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         KafkaConnectApi apiClient = connectClientProvider.apply(vertx);
 
         return CompositeFuture.join(
-                apiClient.list(host, port),
+                connectorsSnapshot(reconciliation, host, apiClient),
                 connectorOperator.listAsync(namespace, Optional.of(new LabelSelectorBuilder().addToMatchLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName).build())),
                 apiClient.listConnectorPlugins(reconciliation, host, port),
                 apiClient.updateConnectLoggers(reconciliation, host, port, desiredLogging, defaultLogging)
         ).compose(cf -> {
-            List<String> runningConnectorNames = cf.resultAt(0);
+            ConnectorsSnapshot snapshot = cf.resultAt(0);
             List<KafkaConnector> desiredConnectors = cf.resultAt(1);
             List<ConnectorPlugin> connectorPlugins = cf.resultAt(2);
 
@@ -338,16 +338,16 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                 connectorsResourceCounter.set(desiredConnectors.size());
             }
 
-            Set<String> deleteConnectorNames = new HashSet<>(runningConnectorNames);
+            Set<String> deleteConnectorNames = new HashSet<>(snapshot.names());
             deleteConnectorNames.removeAll(desiredConnectors.stream().map(c -> c.getMetadata().getName()).collect(Collectors.toSet()));
             LOGGER.debugCr(reconciliation, "{} cluster: delete connectors: {}", kind(), deleteConnectorNames);
             Stream<Future<Void>> deletionFutures = deleteConnectorNames.stream().map(connectorName ->
-                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null)
+                    reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connectorName, null, snapshot)
             );
 
             LOGGER.debugCr(reconciliation, "{} cluster: required connectors: {}", kind(), desiredConnectors);
             Stream<Future<Void>> createUpdateFutures = desiredConnectors.stream()
-                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector));
+                    .map(connector -> reconcileConnectorAndHandleResult(reconciliation, host, apiClient, true, connector.getMetadata().getName(), connector, snapshot));
 
             return CompositeFuture.join(Stream.concat(deletionFutures, createUpdateFutures).collect(Collectors.toList())).map((Void) null);
         }).recover(error -> {
@@ -369,12 +369,41 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
         });
     }
 
+    /**
+     * Gets the connectors running in the Kafka Connect cluster together with their configuration and status using a
+     * single request. When the expanded connector list fails (for example because a rebalance is in progress), only
+     * the names of the connectors are listed and their details are requested separately.
+     *
+     * @param reconciliation    The reconciliation
+     * @param host              The REST API host
+     * @param apiClient         The client instance
+     *
+     * @return  Future with the connectors snapshot
+     */
+    private Future<ConnectorsSnapshot> connectorsSnapshot(Reconciliation reconciliation, String host, KafkaConnectApi apiClient) {
+        return apiClient.listWithStatusAndInfo(reconciliation, host, port)
+                .map(ConnectorsSnapshot::withDetails)
+                .recover(error -> {
+                    if (error instanceof ConnectRestException) {
+                        LOGGER.debugCr(reconciliation, "Failed to list the connectors with their status and configuration. Their details will be requested separately.", error);
+                        return apiClient.list(host, port).map(ConnectorsSnapshot::namesOnly);
+                    } else {
+                        return Future.failedFuture(error);
+                    }
+                });
+    }
+
     protected KafkaConnectApi getKafkaConnectApi() {
         return connectClientProvider.apply(vertx);
     }
 
     /*test*/ Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                              boolean useResources, String connectorName, KafkaConnector connector) {
+        return reconcileConnectorAndHandleResult(reconciliation, host, apiClient, useResources, connectorName, connector, null);
+    }
+
+    private Future<Void> reconcileConnectorAndHandleResult(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorsSnapshot snapshot) {
         Promise<Void> reconciliationResult = Promise.promise();
 
         connectorsReconciliationsCounter.increment();
@@ -391,7 +420,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             );
         }
 
-        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector)
+        reconcileConnector(reconciliation, host, apiClient, useResources, connectorName, connector, snapshot)
                 .onComplete(result -> {
                     connectorsReconciliationsTimerSample.stop(connectorsReconciliationsTimer);
 
@@ -408,7 +437,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
     }
 
     private Future<Void> reconcileConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
-                                             boolean useResources, String connectorName, KafkaConnector connector) {
+                                             boolean useResources, String connectorName, KafkaConnector connector, ConnectorsSnapshot snapshot) {
         if (connector == null) {
             if (useResources) {
                 LOGGER.infoCr(reconciliation, "deleting connector: {}", connectorName);
@@ -427,7 +456,7 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
                         new NoSuchResourceException(reconciliation.kind() + " " + reconciliation.name() + " is not configured with annotation " + Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES));
             } else {
                 Promise<Void> promise = Promise.promise();
-                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector)
+                maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connector.getSpec(), connector, snapshot)
                         .onComplete(result -> {
                             if (result.succeeded()) {
                                 maybeUpdateConnectorStatus(reconciliation, connector, result.result(), null)
@@ -457,16 +486,45 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
      */
     protected Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
                                                                                 String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource) {
-        return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName).compose(
+        return maybeCreateOrUpdateConnector(reconciliation, host, apiClient, connectorName, connectorSpec, resource, null);
+    }
+
+    /**
+     * Same as {@link #maybeCreateOrUpdateConnector(Reconciliation, String, KafkaConnectApi, String, KafkaConnectorSpec, CustomResource)},
+     * but uses the configuration and status of the connector from the connectors snapshot when available instead of
+     * requesting them from the Connect REST API.
+     *
+     * @param reconciliation The reconciliation.
+     * @param host The REST API host.
+     * @param apiClient The client instance.
+     * @param connectorName The connector name.
+     * @param connectorSpec The desired connector spec.
+     * @param resource The resource that defines the connector.
+     * @param snapshot The connectors snapshot or null if the connector details should be requested from the REST API.
+     * @return A Future whose result, when successfully completed, is a ConnectorStatusAndConditions object containing the map of the current connector state plus any conditions that have arisen.
+     */
+    private Future<ConnectorStatusAndConditions> maybeCreateOrUpdateConnector(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                                              String connectorName, KafkaConnectorSpec connectorSpec, CustomResource resource,
+                                                                              ConnectorsSnapshot snapshot) {
+        Map<String, Object> snapshotStatus = snapshot != null ? snapshot.status(connectorName) : null;
+
+        return connectorConfig(reconciliation, host, apiClient, connectorName, snapshot).compose(
             config -> {
                 if (!needsReconfiguring(reconciliation, connectorName, connectorSpec, config)) {
                     LOGGER.debugCr(reconciliation, "Connector {} exists and has desired config, {}=={}", connectorName, connectorSpec.getConfig(), config);
-                    return apiClient.status(reconciliation, host, port, connectorName)
+
+                    // When the connector does not need to be paused, resumed or restarted, the status from the snapshot is still current
+                    boolean snapshotStatusIsCurrent = snapshotStatus != null
+                            && !needsPauseOrResume(connectorSpec, snapshotStatus)
+                            && !hasRestartAnnotation(resource, connectorName)
+                            && getRestartTaskAnnotationTaskID(resource, connectorName) < 0;
+
+                    return (snapshotStatus != null ? Future.succeededFuture(snapshotStatus) : apiClient.status(reconciliation, host, port, connectorName))
                         .compose(status -> pauseResume(reconciliation, host, apiClient, connectorName, connectorSpec, status))
                         .compose(ignored -> maybeRestartConnector(reconciliation, host, apiClient, connectorName, resource, new ArrayList<>()))
                         .compose(conditions -> maybeRestartConnectorTask(reconciliation, host, apiClient, connectorName, resource, conditions))
                         .compose(conditions ->
-                            apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName)
+                            (snapshotStatusIsCurrent ? Future.succeededFuture(snapshotStatus) : apiClient.statusWithBackOff(reconciliation, new BackOff(200L, 2, 10), host, port, connectorName))
                                 .compose(createConnectorStatusAndConditions(conditions)))
                         .compose(status -> updateConnectorTopics(reconciliation, host, apiClient, connectorName, status));
                 } else {
@@ -489,6 +547,26 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             });
     }
 
+    /**
+     * Gets the current configuration of the connector from the connectors snapshot if it contains the connector details
+     * or from the Connect REST API otherwise. When the connector does not exist, the returned future fails with a
+     * ConnectRestException with the 404 status code.
+     */
+    private Future<Map<String, String>> connectorConfig(Reconciliation reconciliation, String host, KafkaConnectApi apiClient,
+                                                        String connectorName, ConnectorsSnapshot snapshot) {
+        if (snapshot != null && snapshot.hasDetails()) {
+            Map<String, String> config = snapshot.config(connectorName);
+
+            if (config != null) {
+                return Future.succeededFuture(config);
+            } else if (!snapshot.contains(connectorName)) {
+                return Future.failedFuture(new ConnectRestException("GET", String.format("/connectors/%s/config", connectorName), 404, "Not Found", "Connector " + connectorName + " not found"));
+            }
+        }
+
+        return apiClient.getConnectorConfig(reconciliation, new BackOff(200L, 2, 6), host, port, connectorName);
+    }
+
     private boolean needsReconfiguring(Reconciliation reconciliation, String connectorName,
                                        KafkaConnectorSpec connectorSpec,
                                        Map<String, String> actual) {
@@ -519,6 +597,15 @@ public abstract class AbstractConnectOperator<C extends KubernetesClient, T exte
             .compose(ignored ->  apiClient.status(reconciliation, host, port, connectorName));
     }
 
+    private static boolean needsPauseOrResume(KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
+        Object state = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
+        boolean shouldPause = Boolean.TRUE.equals(connectorSpec.getPause());
+
+        return !(state instanceof String)
+                || ("RUNNING".equals(state) && shouldPause)
+                || ("PAUSED".equals(state) && !shouldPause);
+    }
+
     private Future<Void> pauseResume(Reconciliation reconciliation, String host, KafkaConnectApi apiClient, String connectorName, KafkaConnectorSpec connectorSpec, Map<String, Object> status) {
         Object path = ((Map) status.getOrDefault("connector", emptyMap())).get("state");
         if (!(path instanceof String)) {
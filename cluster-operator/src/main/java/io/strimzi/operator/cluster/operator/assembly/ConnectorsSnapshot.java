@@ -0,0 +1,98 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Connectors running in a Kafka Connect cluster as seen at the beginning of the reconciliation of its connectors. It is
+ * used to avoid getting the configuration and status of each connector with separate requests when nothing changes.
+ *
+ * When the Kafka Connect cluster does not support the expanded connector list, the snapshot contains only the names of
+ * the connectors and the details have to be requested separately for each connector.
+ */
+class ConnectorsSnapshot {
+    private final Map<String, Map<String, Object>> connectors;
+    private final boolean hasDetails;
+
+    private ConnectorsSnapshot(Map<String, Map<String, Object>> connectors, boolean hasDetails) {
+        this.connectors = connectors;
+        this.hasDetails = hasDetails;
+    }
+
+    /**
+     * Creates the snapshot from the expanded connector list
+     *
+     * @param connectors    Map of connector names to their descriptions with the status and info keys
+     *
+     * @return  Connectors snapshot
+     */
+    static ConnectorsSnapshot withDetails(Map<String, Map<String, Object>> connectors) {
+        return new ConnectorsSnapshot(connectors, true);
+    }
+
+    /**
+     * Creates the snapshot which contains only the names of the connectors
+     *
+     * @param names     Names of the connectors
+     *
+     * @return  Connectors snapshot
+     */
+    static ConnectorsSnapshot namesOnly(List<String> names) {
+        return new ConnectorsSnapshot(names.stream().collect(Collectors.toMap(Function.identity(), name -> Map.of())), false);
+    }
+
+    /**
+     * @return  True if the snapshot contains the configuration and status of the connectors. False otherwise.
+     */
+    boolean hasDetails() {
+        return hasDetails;
+    }
+
+    /**
+     * @return  Names of the connectors
+     */
+    Set<String> names() {
+        return connectors.keySet();
+    }
+
+    /**
+     * @param connectorName     Name of the connector
+     *
+     * @return  True if the connector exists. False otherwise.
+     */
+    boolean contains(String connectorName) {
+        return connectors.containsKey(connectorName);
+    }
+
+    /**
+     * @param connectorName     Name of the connector
+     *
+     * @return  Configuration of the connector or null if it is not known
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, String> config(String connectorName) {
+        Object info = connectors.getOrDefault(connectorName, Map.of()).get("info");
+        Object config = info instanceof Map ? ((Map<String, Object>) info).get("config") : null;
+
+        return config instanceof Map ? (Map<String, String>) config : null;
+    }
+
+    /**
+     * @param connectorName     Name of the connector
+     *
+     * @return  Status of the connector or null if it is not known
+     */
+    @SuppressWarnings("unchecked")
+    Map<String, Object> status(String connectorName) {
+        Object status = connectors.getOrDefault(connectorName, Map.of()).get("status");
+
+        return status instanceof Map ? (Map<String, Object>) status : null;
+    }
+}
@@ -15,6 +15,7 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
 import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
 import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.fabric8.kubernetes.api.model.rbac.Role;
@@ -122,6 +123,7 @@ import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
@@ -159,6 +161,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAssemblyOperator.class.getName());
 
     private final long operationTimeoutMs;
+    private final int kafkaRollingMaxBatchSize;
     private final String operatorNamespace;
     private final Labels operatorNamespaceLabels;
     private final FeatureGates featureGates;
@@ -195,6 +198,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         super(vertx, pfa, Kafka.RESOURCE_KIND, certManager, passwordGenerator,
                 supplier.kafkaOperator, supplier, config);
         this.operationTimeoutMs = config.getOperationTimeoutMs();
+        this.kafkaRollingMaxBatchSize = config.getKafkaRollingMaxBatchSize();
         this.operatorNamespace = config.getOperatorNamespace();
         this.operatorNamespaceLabels = config.getOperatorNamespaceLabels();
         this.isNetworkPolicyGeneration = config.isNetworkPolicyGeneration();
@@ -255,116 +259,152 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
         return createOrUpdatePromise.future();
     }
 
+    /**
+     * Reconciles the Kafka cluster. The individual steps are executed as a graph: the steps which do not depend on each
+     * other (such as Services, Network Policies or Service Accounts, or the Entity Operator, Cruise Control, Kafka
+     * Exporter and JMX Trans deployments) run concurrently. The steps running concurrently never modify the same parts
+     * of the reconciliation state: the steps which modify the cluster models run before or after the steps reading them.
+     *
+     * @param reconcileState    Reconciliation state
+     *
+     * @return  Future which completes when the reconciliation is done
+     */
     Future<Void> reconcile(ReconciliationState reconcileState)  {
-        Promise<Void> chainPromise = Promise.promise();
-
-        reconcileState.initialStatus()
-                .compose(state -> state.reconcileCas(this::dateSupplier))
-                .compose(state -> state.clusterOperatorSecret(this::dateSupplier))
-                .compose(state -> state.getKafkaClusterDescription())
-                .compose(state -> state.prepareVersionChange())
+        ReconciliationStepGraph steps = stepGraph(reconcileState.reconciliation);
+        ReconciliationState state = reconcileState;
+
+        steps.step("initialStatus", state::initialStatus)
+                .step("reconcileCas", () -> state.reconcileCas(this::dateSupplier), "initialStatus")
+                .step("clusterOperatorSecret", () -> state.clusterOperatorSecret(this::dateSupplier), "reconcileCas")
+                .step("getKafkaClusterDescription", state::getKafkaClusterDescription, "clusterOperatorSecret")
+                .step("prepareVersionChange", state::prepareVersionChange, "getKafkaClusterDescription")
                 // Roll everything if a new CA is added to the trust store.
-                .compose(state -> state.rollingUpdateForNewCaKey())
-                .compose(state -> state.getZookeeperDescription())
-                .compose(state -> state.zkModelWarnings())
-                .compose(state -> state.zkManualPodCleaning())
-                .compose(state -> state.zkNetPolicy())
-                .compose(state -> state.zkManualRollingUpdate())
-                .compose(state -> state.zkVersionChange())
-                .compose(state -> state.zookeeperServiceAccount())
-                .compose(state -> state.zkPvcs())
-                .compose(state -> state.zkService())
-                .compose(state -> state.zkHeadlessService())
-                .compose(state -> state.zkGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.zkAncillaryCm())
-                .compose(state -> state.zkNodesSecret())
-                .compose(state -> state.zkPodDisruptionBudget())
-                .compose(state -> state.zkStatefulSet())
-                .compose(state -> state.zkScalingDown())
-                .compose(state -> state.zkRollingUpdate())
-                .compose(state -> state.zkPodsReady())
-                .compose(state -> state.zkScalingUp())
-                .compose(state -> state.zkScalingCheck())
-                .compose(state -> state.zkServiceEndpointReadiness())
-                .compose(state -> state.zkHeadlessServiceEndpointReadiness())
-                .compose(state -> state.zkPersistentClaimDeletion())
-
-                .compose(state -> state.checkKafkaSpec())
-                .compose(state -> state.kafkaModelWarnings())
-                .compose(state -> state.kafkaManualPodCleaning())
-                .compose(state -> state.kafkaNetPolicy())
-                .compose(state -> state.kafkaManualRollingUpdate())
-                .compose(state -> state.kafkaPvcs())
-                .compose(state -> state.kafkaInitServiceAccount())
-                .compose(state -> state.kafkaInitClusterRoleBinding())
-                .compose(state -> state.kafkaScaleDown())
-                .compose(state -> state.kafkaServices())
-                .compose(state -> state.kafkaRoutes())
-                .compose(state -> state.kafkaIngresses())
-                .compose(state -> state.kafkaIngressesV1Beta1())
-                .compose(state -> state.kafkaInternalServicesReady())
-                .compose(state -> state.kafkaLoadBalancerServicesReady())
-                .compose(state -> state.kafkaNodePortServicesReady())
-                .compose(state -> state.kafkaRoutesReady())
-                .compose(state -> state.kafkaIngressesReady())
-                .compose(state -> state.kafkaIngressesV1Beta1Ready())
-                .compose(state -> state.kafkaGenerateCertificates(this::dateSupplier))
-                .compose(state -> state.customListenerCertificates())
-                .compose(state -> state.kafkaAncillaryCm())
-                .compose(state -> state.kafkaBrokersSecret())
-                .compose(state -> state.kafkaJmxSecret())
-                .compose(state -> state.kafkaPodDisruptionBudget())
-                .compose(state -> state.kafkaStatefulSet())
-                .compose(state -> state.kafkaRollToAddOrRemoveVolumes())
-                .compose(state -> state.kafkaRollingUpdate())
-                .compose(state -> state.kafkaScaleUp())
-                .compose(state -> state.kafkaPodsReady())
-                .compose(state -> state.kafkaServiceEndpointReady())
-                .compose(state -> state.kafkaHeadlessServiceEndpointReady())
-                .compose(state -> state.kafkaGetClusterId())
-                .compose(state -> state.kafkaPersistentClaimDeletion())
+                .step("rollingUpdateForNewCaKey", state::rollingUpdateForNewCaKey, "prepareVersionChange")
+                .step("getZookeeperDescription", state::getZookeeperDescription, "rollingUpdateForNewCaKey")
+                .step("zkModelWarnings", state::zkModelWarnings, "getZookeeperDescription")
+                .step("zkManualPodCleaning", state::zkManualPodCleaning, "zkModelWarnings")
+                // Resources which do not affect the pods can be reconciled in parallel with the manual rolling update.
+                // The steps which modify the ZooKeeper model (the version change and the certificate generation) run
+                // only after all the steps reading it in parallel completed and before the steps reading it afterwards.
+                .step("zkNetPolicy", state::zkNetPolicy, "zkManualPodCleaning")
+                .step("zookeeperServiceAccount", state::zookeeperServiceAccount, "zkManualPodCleaning")
+                .step("zkService", state::zkService, "zkManualPodCleaning")
+                .step("zkHeadlessService", state::zkHeadlessService, "zkManualPodCleaning")
+                .step("zkPodDisruptionBudget", state::zkPodDisruptionBudget, "zkManualPodCleaning")
+                .step("zkManualRollingUpdate", state::zkManualRollingUpdate, "zkManualPodCleaning")
+                .step("zkVersionChange", state::zkVersionChange, "zkNetPolicy", "zookeeperServiceAccount", "zkService",
+                        "zkHeadlessService", "zkPodDisruptionBudget", "zkManualRollingUpdate")
+                .step("zkGenerateCertificates", () -> state.zkGenerateCertificates(this::dateSupplier), "zkVersionChange")
+                .step("zkPvcs", state::zkPvcs, "zkGenerateCertificates")
+                .step("zkAncillaryCm", state::zkAncillaryCm, "zkGenerateCertificates")
+                .step("zkNodesSecret", state::zkNodesSecret, "zkGenerateCertificates")
+                .step("zkStatefulSet", state::zkStatefulSet, "zkPvcs", "zkAncillaryCm", "zkNodesSecret")
+                .step("zkScalingDown", state::zkScalingDown, "zkStatefulSet")
+                .step("zkRollingUpdate", state::zkRollingUpdate, "zkScalingDown")
+                .step("zkPodsReady", state::zkPodsReady, "zkRollingUpdate")
+                .step("zkScalingUp", state::zkScalingUp, "zkPodsReady")
+                .step("zkScalingCheck", state::zkScalingCheck, "zkScalingUp")
+                .step("zkServiceEndpointReadiness", state::zkServiceEndpointReadiness, "zkScalingCheck")
+                .step("zkHeadlessServiceEndpointReadiness", state::zkHeadlessServiceEndpointReadiness, "zkServiceEndpointReadiness")
+                .step("zkPersistentClaimDeletion", state::zkPersistentClaimDeletion, "zkHeadlessServiceEndpointReadiness")
+
+                .step("checkKafkaSpec", state::checkKafkaSpec, "zkPersistentClaimDeletion")
+                .step("kafkaModelWarnings", state::kafkaModelWarnings, "checkKafkaSpec")
+                .step("kafkaManualPodCleaning", state::kafkaManualPodCleaning, "kafkaModelWarnings")
+                .step("kafkaNetPolicy", state::kafkaNetPolicy, "kafkaManualPodCleaning")
+                .step("kafkaInitServiceAccount", state::kafkaInitServiceAccount, "kafkaManualPodCleaning")
+                .step("kafkaInitClusterRoleBinding", state::kafkaInitClusterRoleBinding, "kafkaManualPodCleaning")
+                .step("kafkaManualRollingUpdate", state::kafkaManualRollingUpdate, "kafkaManualPodCleaning")
+                .step("kafkaPvcs", state::kafkaPvcs, "kafkaManualRollingUpdate")
+                .step("kafkaScaleDown", state::kafkaScaleDown, "kafkaNetPolicy", "kafkaInitServiceAccount",
+                        "kafkaInitClusterRoleBinding", "kafkaPvcs")
+                .step("kafkaServices", state::kafkaServices, "kafkaScaleDown")
+                .step("kafkaRoutes", state::kafkaRoutes, "kafkaScaleDown")
+                .step("kafkaIngresses", state::kafkaIngresses, "kafkaScaleDown")
+                .step("kafkaIngressesV1Beta1", state::kafkaIngressesV1Beta1, "kafkaScaleDown")
+                // The readiness steps collect the addresses into the shared state and run one after another
+                .step("kafkaInternalServicesReady", state::kafkaInternalServicesReady, "kafkaServices", "kafkaRoutes",
+                        "kafkaIngresses", "kafkaIngressesV1Beta1")
+                .step("kafkaLoadBalancerServicesReady", state::kafkaLoadBalancerServicesReady, "kafkaInternalServicesReady")
+                .step("kafkaNodePortServicesReady", state::kafkaNodePortServicesReady, "kafkaLoadBalancerServicesReady")
+                .step("kafkaRoutesReady", state::kafkaRoutesReady, "kafkaNodePortServicesReady")
+                .step("kafkaIngressesReady", state::kafkaIngressesReady, "kafkaRoutesReady")
+                .step("kafkaIngressesV1Beta1Ready", state::kafkaIngressesV1Beta1Ready, "kafkaIngressesReady")
+                .step("kafkaGenerateCertificates", () -> state.kafkaGenerateCertificates(this::dateSupplier), "kafkaIngressesV1Beta1Ready")
+                .step("customListenerCertificates", state::customListenerCertificates, "kafkaGenerateCertificates")
+                // The ancillary ConfigMap step stores the broker configuration in the Kafka model, so it runs before
+                // the other steps reading the model
+                .step("kafkaAncillaryCm", state::kafkaAncillaryCm, "customListenerCertificates")
+                .step("kafkaBrokersSecret", state::kafkaBrokersSecret, "kafkaAncillaryCm")
+                .step("kafkaJmxSecret", state::kafkaJmxSecret, "kafkaAncillaryCm")
+                .step("kafkaPodDisruptionBudget", state::kafkaPodDisruptionBudget, "kafkaAncillaryCm")
+                .step("kafkaStatefulSet", state::kafkaStatefulSet, "kafkaBrokersSecret", "kafkaJmxSecret",
+                        "kafkaPodDisruptionBudget")
+                .step("kafkaRollToAddOrRemoveVolumes", state::kafkaRollToAddOrRemoveVolumes, "kafkaStatefulSet")
+                .step("kafkaRollingUpdate", state::kafkaRollingUpdate, "kafkaRollToAddOrRemoveVolumes")
+                .step("kafkaScaleUp", state::kafkaScaleUp, "kafkaRollingUpdate")
+                .step("kafkaPodsReady", state::kafkaPodsReady, "kafkaScaleUp")
+                .step("kafkaServiceEndpointReady", state::kafkaServiceEndpointReady, "kafkaPodsReady")
+                .step("kafkaHeadlessServiceEndpointReady", state::kafkaHeadlessServiceEndpointReady, "kafkaServiceEndpointReady")
+                .step("kafkaGetClusterId", state::kafkaGetClusterId, "kafkaHeadlessServiceEndpointReady")
+                .step("kafkaPersistentClaimDeletion", state::kafkaPersistentClaimDeletion, "kafkaGetClusterId")
                 // This has to run after all possible rolling updates which might move the pods to different nodes
-                .compose(state -> state.kafkaNodePortExternalListenerStatus())
-                .compose(state -> state.kafkaCustomCertificatesToStatus())
-
-                .compose(state -> state.getEntityOperatorDescription())
-                .compose(state -> state.entityOperatorRole())
-                .compose(state -> state.entityTopicOperatorRole())
-                .compose(state -> state.entityUserOperatorRole())
-                .compose(state -> state.entityOperatorServiceAccount())
-                .compose(state -> state.entityOperatorTopicOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorUserOpRoleBindingForRole())
-                .compose(state -> state.entityOperatorTopicOpAncillaryCm())
-                .compose(state -> state.entityOperatorUserOpAncillaryCm())
-                .compose(state -> state.entityOperatorSecret(this::dateSupplier))
-                .compose(state -> state.entityOperatorDeployment())
-                .compose(state -> state.entityOperatorReady())
-
-                .compose(state -> state.getCruiseControlDescription())
-                .compose(state -> state.cruiseControlNetPolicy())
-                .compose(state -> state.cruiseControlServiceAccount())
-                .compose(state -> state.cruiseControlAncillaryCm())
-                .compose(state -> state.cruiseControlSecret(this::dateSupplier))
-                .compose(state -> state.cruiseControlDeployment())
-                .compose(state -> state.cruiseControlService())
-                .compose(state -> state.cruiseControlReady())
-
-                .compose(state -> state.getKafkaExporterDescription())
-                .compose(state -> state.kafkaExporterServiceAccount())
-                .compose(state -> state.kafkaExporterSecret(this::dateSupplier))
-                .compose(state -> state.kafkaExporterDeployment())
-                .compose(state -> state.kafkaExporterReady())
-
-                .compose(state -> state.getJmxTransDescription())
-                .compose(state -> state.jmxTransServiceAccount())
-                .compose(state -> state.jmxTransConfigMap())
-                .compose(state -> state.jmxTransDeployment())
-                .compose(state -> state.jmxTransDeploymentReady())
-
-                .map((Void) null)
-                .onComplete(chainPromise);
-
-        return chainPromise.future();
+                .step("kafkaNodePortExternalListenerStatus", state::kafkaNodePortExternalListenerStatus, "kafkaPersistentClaimDeletion")
+                .step("kafkaCustomCertificatesToStatus", state::kafkaCustomCertificatesToStatus, "kafkaNodePortExternalListenerStatus")
+
+                // Entity Operator, Cruise Control, Kafka Exporter and JMX Trans do not depend on each other
+                .step("getEntityOperatorDescription", state::getEntityOperatorDescription, "kafkaCustomCertificatesToStatus")
+                .step("entityOperatorRole", state::entityOperatorRole, "getEntityOperatorDescription")
+                .step("entityTopicOperatorRole", state::entityTopicOperatorRole, "getEntityOperatorDescription")
+                .step("entityUserOperatorRole", state::entityUserOperatorRole, "getEntityOperatorDescription")
+                .step("entityOperatorServiceAccount", state::entityOperatorServiceAccount, "getEntityOperatorDescription")
+                .step("entityOperatorTopicOpRoleBindingForRole", state::entityOperatorTopicOpRoleBindingForRole,
+                        "entityOperatorRole", "entityTopicOperatorRole", "entityOperatorServiceAccount")
+                .step("entityOperatorUserOpRoleBindingForRole", state::entityOperatorUserOpRoleBindingForRole,
+                        "entityOperatorRole", "entityUserOperatorRole", "entityOperatorServiceAccount")
+                .step("entityOperatorTopicOpAncillaryCm", state::entityOperatorTopicOpAncillaryCm, "getEntityOperatorDescription")
+                .step("entityOperatorUserOpAncillaryCm", state::entityOperatorUserOpAncillaryCm, "getEntityOperatorDescription")
+                .step("entityOperatorSecret", () -> state.entityOperatorSecret(this::dateSupplier), "getEntityOperatorDescription")
+                .step("entityOperatorDeployment", state::entityOperatorDeployment, "entityOperatorTopicOpRoleBindingForRole",
+                        "entityOperatorUserOpRoleBindingForRole", "entityOperatorTopicOpAncillaryCm",
+                        "entityOperatorUserOpAncillaryCm", "entityOperatorSecret")
+                .step("entityOperatorReady", state::entityOperatorReady, "entityOperatorDeployment")
+
+                .step("getCruiseControlDescription", state::getCruiseControlDescription, "kafkaCustomCertificatesToStatus")
+                .step("cruiseControlNetPolicy", state::cruiseControlNetPolicy, "getCruiseControlDescription")
+                .step("cruiseControlServiceAccount", state::cruiseControlServiceAccount, "getCruiseControlDescription")
+                .step("cruiseControlAncillaryCm", state::cruiseControlAncillaryCm, "getCruiseControlDescription")
+                .step("cruiseControlSecret", () -> state.cruiseControlSecret(this::dateSupplier), "getCruiseControlDescription")
+                .step("cruiseControlDeployment", state::cruiseControlDeployment, "cruiseControlNetPolicy",
+                        "cruiseControlServiceAccount", "cruiseControlAncillaryCm", "cruiseControlSecret")
+                .step("cruiseControlService", state::cruiseControlService, "getCruiseControlDescription")
+                .step("cruiseControlReady", state::cruiseControlReady, "cruiseControlDeployment", "cruiseControlService")
+
+                .step("getKafkaExporterDescription", state::getKafkaExporterDescription, "kafkaCustomCertificatesToStatus")
+                .step("kafkaExporterServiceAccount", state::kafkaExporterServiceAccount, "getKafkaExporterDescription")
+                .step("kafkaExporterSecret", () -> state.kafkaExporterSecret(this::dateSupplier), "getKafkaExporterDescription")
+                .step("kafkaExporterDeployment", state::kafkaExporterDeployment, "kafkaExporterServiceAccount", "kafkaExporterSecret")
+                .step("kafkaExporterReady", state::kafkaExporterReady, "kafkaExporterDeployment")
+
+                .step("getJmxTransDescription", state::getJmxTransDescription, "kafkaCustomCertificatesToStatus")
+                .step("jmxTransServiceAccount", state::jmxTransServiceAccount, "getJmxTransDescription")
+                .step("jmxTransConfigMap", state::jmxTransConfigMap, "getJmxTransDescription")
+                .step("jmxTransDeployment", state::jmxTransDeployment, "jmxTransServiceAccount", "jmxTransConfigMap")
+                .step("jmxTransDeploymentReady", state::jmxTransDeploymentReady, "jmxTransDeployment");
+
+        return steps.execute();
+    }
+
+    /**
+     * Creates the graph used to execute the reconciliation steps. Tests can override it to execute the steps
+     * sequentially.
+     *
+     * @param reconciliation    Reconciliation marker
+     *
+     * @return  New step graph
+     */
+    ReconciliationStepGraph stepGraph(Reconciliation reconciliation) {
+        return new ReconciliationStepGraph(reconciliation, metrics);
     }
 
     ReconciliationState createReconciliationState(Reconciliation reconciliation, Kafka kafkaAssembly) {
@@ -634,6 +674,7 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                                 ModelUtils.getCertificateValidity(clusterCaConfig),
                                 ModelUtils.getRenewalDays(clusterCaConfig),
                                 clusterCaConfig == null || clusterCaConfig.isGenerateCertificateAuthority(), clusterCaConfig != null ? clusterCaConfig.getCertificateExpirationPolicy() : null);
+                        this.clusterCa.setMetrics(metrics);
                         clusterCa.createRenewOrReplace(
                                 reconciliation.namespace(), reconciliation.name(), caLabels.toMap(),
                                 clusterCaCertLabels, clusterCaCertAnnotations,
@@ -737,7 +778,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         .compose(i -> kafkaSetOperations.getAsync(namespace, KafkaCluster.kafkaClusterName(name)))
                         .compose(sts -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
                             () -> new BackOff(250, 2, 10), sts, clusterCa.caCertSecret(), oldCoSecret, adminClientProvider,
-                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true)
+                            kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), true,
+                            kafkaRollingMaxBatchSize, metrics)
                             .rollingRestart(rollPodAndLogReason))
                         .compose(i -> rollDeploymentIfExists(EntityOperator.entityOperatorName(name), reason.toString()))
                         .compose(i -> rollDeploymentIfExists(KafkaExporter.kafkaExporterName(name), reason.toString()))
@@ -1124,7 +1166,8 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
             return adminClientSecrets()
                 .compose(compositeFuture -> new KafkaRoller(reconciliation, vertx, podOperations, 1_000, operationTimeoutMs,
                     () -> new BackOff(250, 2, 10), sts, compositeFuture.resultAt(0), compositeFuture.resultAt(1), adminClientProvider,
-                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration)
+                        kafkaCluster.getBrokersConfiguration(), kafkaLogging, kafkaCluster.getKafkaVersion(), allowReconfiguration,
+                        kafkaRollingMaxBatchSize, metrics)
                     .rollingRestart(podNeedsRestart));
         }
 
@@ -2992,12 +3035,17 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
                         // without the CO creating some other infrastructure.
                         // Therefore we use the old STS and just remove some things such as Status, ResourceVersion, UID
                         // or self link. These will be recreated by Kubernetes after it is created.
-                        sts.getMetadata().setResourceVersion(null);
-                        sts.getMetadata().setSelfLink(null);
-                        sts.getMetadata().setUid(null);
-                        sts.setStatus(null);
+                        // The old STS might be shared with the resource cache, so these are removed from a copy.
+                        StatefulSet recreatedSts = new StatefulSetBuilder(sts)
+                                .editMetadata()
+                                    .withResourceVersion(null)
+                                    .withSelfLink(null)
+                                    .withUid(null)
+                                .endMetadata()
+                                .withStatus(null)
+                                .build();
 
-                        return stsOperator.reconcile(reconciliation, namespace, sts.getMetadata().getName(), sts);
+                        return stsOperator.reconcile(reconciliation, namespace, recreatedSts.getMetadata().getName(), recreatedSts);
                     })
                     .compose(ignored -> podOperations.readiness(reconciliation, namespace, podName, pollingIntervalMs, timeoutMs));
 
@@ -3784,13 +3832,20 @@ public class KafkaAssemblyOperator extends AbstractAssemblyOperator<KubernetesCl
     }
 
     /**
-     * Deletes the ClusterRoleBinding which as a cluster-scoped resource cannot be deleted by the ownerReference
+     * Deletes the ClusterRoleBinding which as a cluster-scoped resource cannot be deleted by the ownerReference and
+     * closes the Admin clients kept by the Admin client provider for the deleted cluster
      *
      * @param reconciliation    The Reconciliation identification
      * @return                  Future indicating the result of the deletion
      */
     @Override
     protected Future<Boolean> delete(Reconciliation reconciliation) {
+        String bootstrapAddress = KafkaResources.bootstrapServiceName(reconciliation.name()) + "." + reconciliation.namespace() + ".svc:";
+        String brokersDomain = "." + KafkaResources.brokersServiceName(reconciliation.name()) + "." + reconciliation.namespace() + ".svc";
+
+        adminClientProvider.evict(bootstrapHostnames -> Arrays.stream(bootstrapHostnames.split(","))
+                .anyMatch(hostname -> hostname.startsWith(bootstrapAddress) || hostname.contains(brokersDomain)));
+
         return withIgnoreRbacError(reconciliation, clusterRoleBindingOperations.reconcile(reconciliation, KafkaResources.initContainerClusterRoleBindingName(reconciliation.name(), reconciliation.namespace()), null), null)
                 .map(Boolean.FALSE); // Return FALSE since other resources are still deleted by garbage collection
     }
@@ -127,6 +127,18 @@ public interface KafkaConnectApi {
      */
     Future<List<String>> list(String host, int port);
 
+    /**
+     * Make a {@code GET} request to {@code /connectors?expand=status&expand=info}.
+     * @param reconciliation The reconciliation
+     * @param host The host to make the request to.
+     * @param port The port to make the request to.
+     * @return A Future which completes with the result of the request. If the request was successful,
+     * this returns the map of connector names to their descriptions. The {@code status} key of each description
+     * contains the same as the response of {@link #status(Reconciliation, String, int, String)} and the {@code info}
+     * key contains the same as the response of {@link #getConnector(Reconciliation, String, int, String)}.
+     */
+    Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port);
+
     /**
      * Make a {@code GET} request to {@code /connector-plugins}.
      * @param reconciliation The reconciliation
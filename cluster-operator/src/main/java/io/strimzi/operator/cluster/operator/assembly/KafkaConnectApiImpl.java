@@ -14,13 +14,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.PooledHttpClient;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -46,13 +48,35 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     };
     public static final TypeReference<Map<String, Map<String, String>>> MAP_OF_MAP_OF_STRINGS = new TypeReference<Map<String, Map<String, String>>>() {
     };
+    public static final TypeReference<Map<String, Map<String, Object>>> MAP_OF_MAP_OF_OBJECTS = new TypeReference<Map<String, Map<String, Object>>>() {
+    };
     public static final TypeReference<Map<String, Map<String, List<String>>>> MAP_OF_MAP_OF_LIST_OF_STRING = new TypeReference<Map<String, Map<String, List<String>>>>() {
     };
     private final ObjectMapper mapper = new ObjectMapper();
     private final Vertx vertx;
+    private final PooledHttpClient client;
 
     public KafkaConnectApiImpl(Vertx vertx) {
+        this(vertx, null);
+    }
+
+    public KafkaConnectApiImpl(Vertx vertx, MetricsProvider metrics) {
         this.vertx = vertx;
+        this.client = new PooledHttpClient(vertx, "KafkaConnect", new HttpClientOptions().setLogActivity(true), metrics);
+    }
+
+    /**
+     * Creates a Kafka Connect API client provider which always returns the same client, so that the connections to
+     * the Kafka Connect REST API are reused across reconciliations.
+     *
+     * @param vertx     Vert.x instance
+     * @param metrics   Metrics provider
+     *
+     * @return  Function which returns the shared client
+     */
+    static Function<Vertx, KafkaConnectApi> sharedClientProvider(Vertx vertx, MetricsProvider metrics) {
+        KafkaConnectApi client = new KafkaConnectApiImpl(vertx, metrics);
+        return ignored -> client;
     }
 
     @Override
@@ -64,7 +88,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         Buffer data = configJson.toBuffer();
         String path = "/connectors/" + connectorName + "/config";
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, configJson);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return client.withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -114,7 +138,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
 
     private <T> Future<T> doGet(Reconciliation reconciliation, String host, int port, String path, Set<Integer> okStatusCodes, TypeReference<T> type) {
         LOGGER.debugCr(reconciliation, "Making GET request to {}", path);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return client.withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -168,7 +192,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Void> delete(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = "/connectors/" + connectorName;
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return client.withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.DELETE, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -286,7 +310,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Void> pauseResume(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return client.withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.PUT, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -311,10 +335,17 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
                 }));
     }
 
+    @Override
+    public Future<Map<String, Map<String, Object>>> listWithStatusAndInfo(Reconciliation reconciliation, String host, int port) {
+        return doGet(reconciliation, host, port, "/connectors?expand=status&expand=info",
+                Collections.singleton(200),
+                MAP_OF_MAP_OF_OBJECTS);
+    }
+
     @Override
     public Future<List<String>> list(String host, int port) {
         String path = "/connectors";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return client.withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
 
                     if (request.succeeded()) {
@@ -351,7 +382,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<ConnectorPlugin>> listConnectorPlugins(Reconciliation reconciliation, String host, int port) {
         String path = "/connector-plugins";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return client.withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -385,7 +416,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
         JsonObject levelJO = new JsonObject();
         levelJO.put("level", level);
         LOGGER.debugCr(reconciliation, "Making PUT request to {} with body {}", path, levelJO);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) -> {
+        return client.withHttpClient((httpClient, result) -> {
             Buffer buffer = levelJO.toBuffer();
             httpClient
                     .request(HttpMethod.PUT, port, host, path, request -> {
@@ -419,7 +450,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<Map<String, String>> listConnectLoggers(Reconciliation reconciliation, String host, int port) {
         String path = "/admin/loggers/";
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return client.withHttpClient((httpClient, result) ->
                 httpClient.request(HttpMethod.GET, port, host, path, request -> {
                     if (request.succeeded()) {
                         request.result().setFollowRedirects(true)
@@ -530,7 +561,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     }
 
     private Future<Void> restartConnectorOrTask(String host, int port, String path) {
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return client.withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -558,7 +589,7 @@ class KafkaConnectApiImpl implements KafkaConnectApi {
     @Override
     public Future<List<String>> getConnectorTopics(Reconciliation reconciliation, String host, int port, String connectorName) {
         String path = String.format("/connectors/%s/topics", connectorName);
-        return HttpClientUtils.withHttpClient(vertx, new HttpClientOptions().setLogActivity(true), (httpClient, result) ->
+        return client.withHttpClient((httpClient, result) ->
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().setFollowRedirects(true)
@@ -74,7 +74,7 @@ public class KafkaConnectAssemblyOperator extends AbstractConnectOperator<Kubern
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
                                         ResourceOperatorSupplier supplier,
                                         ClusterOperatorConfig config) {
-        this(vertx, pfa, supplier, config, connect -> new KafkaConnectApiImpl(vertx));
+        this(vertx, pfa, supplier, config, KafkaConnectApiImpl.sharedClientProvider(vertx, supplier.metricsProvider));
     }
 
     public KafkaConnectAssemblyOperator(Vertx vertx, PlatformFeaturesAvailability pfa,
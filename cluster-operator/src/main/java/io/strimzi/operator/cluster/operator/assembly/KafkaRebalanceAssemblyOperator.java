@@ -148,6 +148,8 @@ public class KafkaRebalanceAssemblyOperator
     private final Optional<LabelSelector> kafkaSelector;
 
     private final ConfigMapOperator configMapOperator;
+    private CruiseControlApi cruiseControlApi;
+
     /**
      * @param vertx The Vertx instance
      * @param pfa Platform features availability properties
@@ -165,12 +167,17 @@ public class KafkaRebalanceAssemblyOperator
     }
 
     /**
-     * Provides an implementation of the Cruise Control API client
+     * Provides an implementation of the Cruise Control API client. The same client is used for all reconciliations so
+     * that the connections to Cruise Control are reused.
      *
      * @return Cruise Control API client instance
      */
-    protected CruiseControlApi cruiseControlClientProvider() {
-        return new CruiseControlApiImpl(vertx);
+    protected synchronized CruiseControlApi cruiseControlClientProvider() {
+        if (cruiseControlApi == null) {
+            cruiseControlApi = new CruiseControlApiImpl(vertx, metrics);
+        }
+
+        return cruiseControlApi;
     }
 
     /**
@@ -0,0 +1,144 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Executes the steps of a reconciliation as a directed acyclic graph. Each step declares the steps it depends on and
+ * is started as soon as all of them completed successfully. Steps which do not depend on each other run concurrently.
+ * When a step fails, the steps depending on it are not executed and the whole graph fails with the cause of the first
+ * failed step (in the order in which the steps were declared). Independent steps which are already running are not
+ * interrupted.
+ *
+ * The steps have to be declared in topological order - a step can depend only on steps declared before it. The graph
+ * can also be executed sequentially, in which case each step additionally waits for the step declared before it and
+ * the steps run one after another in the declaration order.
+ *
+ * The duration of each step is recorded in the strimzi.reconciliations.step.duration timer tagged with the kind of the
+ * reconciled resource and the name of the step.
+ */
+public class ReconciliationStepGraph {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationStepGraph.class);
+
+    private final Reconciliation reconciliation;
+    private final MetricsProvider metrics;
+    private final boolean sequential;
+    private final Map<String, Future<Void>> steps = new LinkedHashMap<>();
+    private Future<Void> lastStep = null;
+
+    /**
+     * Constructs the step graph
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param metrics           Metrics provider used for the step timers
+     */
+    public ReconciliationStepGraph(Reconciliation reconciliation, MetricsProvider metrics) {
+        this(reconciliation, metrics, false);
+    }
+
+    /**
+     * Constructs the step graph
+     *
+     * @param reconciliation    Reconciliation marker
+     * @param metrics           Metrics provider used for the step timers
+     * @param sequential        If true, the steps are executed one after another in the order in which they were declared
+     */
+    public ReconciliationStepGraph(Reconciliation reconciliation, MetricsProvider metrics, boolean sequential) {
+        this.reconciliation = reconciliation;
+        this.metrics = metrics;
+        this.sequential = sequential;
+    }
+
+    /**
+     * Adds a step to the graph. The step is started once all its dependencies complete successfully.
+     *
+     * @param name          Name of the step (used for logging and metrics)
+     * @param step          Supplier which starts the step and returns a Future which completes once the step is done
+     * @param dependsOn     Names of the steps this step depends on
+     *
+     * @return  This step graph
+     */
+    public ReconciliationStepGraph step(String name, Supplier<Future<?>> step, String... dependsOn) {
+        if (steps.containsKey(name)) {
+            throw new IllegalArgumentException("Step " + name + " is already declared");
+        }
+
+        List<Future> dependencies = new ArrayList<>(dependsOn.length);
+        for (String dependency : dependsOn) {
+            Future<Void> dependencyFuture = steps.get(dependency);
+
+            if (dependencyFuture == null) {
+                throw new IllegalArgumentException("Step " + name + " depends on step " + dependency + " which was not declared before it");
+            }
+
+            dependencies.add(dependencyFuture);
+        }
+
+        if (sequential && lastStep != null) {
+            dependencies.add(lastStep);
+        }
+
+        Future<?> ready = dependencies.isEmpty() ? Future.succeededFuture() : CompositeFuture.all(dependencies);
+        lastStep = ready.compose(i -> timed(name, step));
+        steps.put(name, lastStep);
+
+        return this;
+    }
+
+    private Future<Void> timed(String name, Supplier<Future<?>> step) {
+        LOGGER.traceCr(reconciliation, "Starting reconciliation step {}", name);
+        long start = System.nanoTime();
+
+        return step.get()
+                .onComplete(res -> {
+                    long duration = System.nanoTime() - start;
+                    stepTimer(name).record(duration, TimeUnit.NANOSECONDS);
+                    LOGGER.traceCr(reconciliation, "Reconciliation step {} completed in {}ms", name, TimeUnit.NANOSECONDS.toMillis(duration));
+                })
+                .mapEmpty();
+    }
+
+    private Timer stepTimer(String name) {
+        return metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.step.duration",
+                "The time the individual steps of the reconciliation take to complete",
+                Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("step", name)));
+    }
+
+    /**
+     * Waits for all steps to complete.
+     *
+     * @return  Future which completes when all the steps completed or were skipped because of failed dependencies. It
+     *          fails with the cause of the first failed step.
+     */
+    public Future<Void> execute() {
+        return CompositeFuture.join(new ArrayList<>(steps.values()))
+                .<Void>mapEmpty()
+                .recover(error -> {
+                    for (Future<Void> step : steps.values()) {
+                        if (step.failed()) {
+                            return Future.failedFuture(step.cause());
+                        }
+                    }
+
+                    return Future.failedFuture(error);
+                });
+    }
+}
@@ -6,6 +6,7 @@ package io.strimzi.operator.cluster.operator.resource;
 
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import org.apache.kafka.clients.admin.Admin;
@@ -18,10 +19,16 @@ import org.apache.kafka.common.TopicPartitionInfo;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.config.TopicConfig;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -30,28 +37,45 @@ import static java.lang.Integer.parseInt;
 /**
  * Determines whether the given broker can be rolled without affecting
  * producers with acks=all publishing to topics with a {@code min.in.sync.replicas}.
+ *
+ * <p>A single instance is meant to be used for the whole rolling update. The topics are listed and described
+ * (in batches) only once, when the first broker is checked, and kept in an index of the partitions by the brokers
+ * hosting their replicas. Between the checks, only the topics which might have changed are described again: the
+ * topics with a replica on a restarted broker (see {@link #brokerRestarted(int)}) and the topics which prevented
+ * a broker from being rolled. The {@code min.in.sync.replicas} of the topics is cached as well.</p>
  */
 class KafkaAvailability {
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaAvailability.class.getName());
 
+    /**
+     * The maximal number of topics described by a single Admin API request
+     */
+    /*test*/ static final int DESCRIBE_BATCH_SIZE = 1000;
+
     private final Admin ac;
 
     private final Reconciliation reconciliation;
 
-    private final Future<Collection<TopicDescription>> descriptions;
+    private final int batchSize;
+
+    // Partitions of the topics indexed by the brokers hosting their replicas (broker -> topic -> partitions)
+    private final Map<Integer, Map<String, List<PartitionState>>> partitionsByBroker = new HashMap<>();
+    private final Map<String, List<PartitionState>> partitionsByTopic = new HashMap<>();
+    private final Map<String, Integer> minIsrByTopic = new HashMap<>();
+    private final Set<String> staleTopics = new HashSet<>();
+
+    private Future<Void> index;
+    private Future<Void> refresh = Future.succeededFuture();
 
     KafkaAvailability(Reconciliation reconciliation, Admin ac) {
+        this(reconciliation, ac, DESCRIBE_BATCH_SIZE);
+    }
+
+    /*test*/ KafkaAvailability(Reconciliation reconciliation, Admin ac, int batchSize) {
         this.ac = ac;
         this.reconciliation = reconciliation;
-        // 1. Get all topic names
-        Future<Set<String>> topicNames = topicNames();
-        // 2. Get topic descriptions
-        descriptions = topicNames.compose(names -> {
-            LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
-            LOGGER.traceCr(reconciliation, "Topic names {}", names);
-            return describeTopics(names);
-        });
+        this.batchSize = batchSize;
     }
 
     /**
@@ -60,92 +84,392 @@ class KafkaAvailability {
      */
     Future<Boolean> canRoll(int podId) {
         LOGGER.debugCr(reconciliation, "Determining whether broker {} can be rolled", podId);
-        return canRollBroker(descriptions, podId);
-    }
 
-    private Future<Boolean> canRollBroker(Future<Collection<TopicDescription>> descriptions, int podId) {
-        Future<Set<TopicDescription>> topicsOnGivenBroker = descriptions
-                .compose(topicDescriptions -> {
-                    LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
-                    return Future.succeededFuture(groupTopicsByBroker(topicDescriptions, podId));
-                }).recover(error -> {
-                    LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
+        return index()
+                .compose(i -> refreshStaleTopics())
+                .compose(i -> loadMinIsr(podId))
+                .map(i -> canRollBroker(podId))
+                .recover(error -> {
+                    LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
                     return Future.failedFuture(error);
                 });
+    }
 
-        // 4. Get topic configs (for those on $broker)
-        Future<Map<String, Config>> topicConfigsOnGivenBroker = topicsOnGivenBroker
-                .compose(td -> topicConfigs(td.stream().map(t -> t.name()).collect(Collectors.toSet())));
+    /**
+     * Determine whether all the given brokers can be rolled without affecting producers with acks=all publishing to
+     * topics with a {@code min.in.sync.replicas}. The brokers are expected to come from the same batch (see
+     * {@link #batches(List, Map, int)}), so that they do not share any partitions and checking them one by one is
+     * enough.
+     */
+    Future<Boolean> canRoll(Collection<Integer> podIds) {
+        Future<Boolean> result = Future.succeededFuture(true);
 
-        // 5. join
-        return topicConfigsOnGivenBroker.map(topicNameToConfig -> {
-            Collection<TopicDescription> tds = topicsOnGivenBroker.result();
-            boolean canRoll = tds.stream().noneMatch(
-                td -> wouldAffectAvailability(podId, topicNameToConfig, td));
-            if (!canRoll) {
-                LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+        for (int podId : podIds) {
+            result = result.compose(canRoll -> canRoll ? canRoll(podId) : Future.succeededFuture(false));
+        }
+
+        return result;
+    }
+
+    /**
+     * Splits the given brokers into batches which can be restarted at the same time. The brokers in a batch never
+     * host replicas of the same partition, so restarting a batch takes at most one replica of each partition out of
+     * its ISR. Brokers from different racks are never put into the same batch. When the replicas of the partitions
+     * are spread across the racks, the brokers of a single rack do not share any partitions and each rack is split
+     * only by the maximal batch size.
+     *
+     * @param brokers       The brokers in the order in which they should be rolled
+     * @param racks         The racks of the brokers (brokers without a rack are treated as a single rack)
+     * @param maxBatchSize  The maximal number of brokers in a batch
+     *
+     * @return Future which completes with the batches
+     */
+    Future<List<Set<Integer>>> batches(List<Integer> brokers, Map<Integer, String> racks, int maxBatchSize) {
+        return index()
+                .compose(i -> refreshStaleTopics())
+                .map(i -> batchBrokers(brokers, racks, maxBatchSize));
+    }
+
+    private synchronized List<Set<Integer>> batchBrokers(List<Integer> brokers, Map<Integer, String> racks, int maxBatchSize) {
+        List<Set<Integer>> batches = new ArrayList<>();
+        List<String> batchRacks = new ArrayList<>();
+        // The PartitionState instances are shared by all replicas of a partition in the index, so they identify the partitions
+        List<Set<PartitionState>> batchPartitions = new ArrayList<>();
+
+        for (int broker : brokers) {
+            String rack = racks.get(broker);
+            Set<PartitionState> partitions = new HashSet<>();
+            partitionsByBroker.getOrDefault(broker, Collections.emptyMap()).values().forEach(partitions::addAll);
+
+            int batch = 0;
+            while (batch < batches.size()
+                    && (batches.get(batch).size() >= maxBatchSize
+                        || !Objects.equals(rack, batchRacks.get(batch))
+                        || !Collections.disjoint(partitions, batchPartitions.get(batch)))) {
+                batch++;
             }
-            return canRoll;
-        }).recover(error -> {
-            LOGGER.warnCr(reconciliation, "Error determining whether it is safe to restart pod {}", podId, error);
-            return Future.failedFuture(error);
-        });
+
+            if (batch == batches.size()) {
+                batches.add(new LinkedHashSet<>());
+                batchRacks.add(rack);
+                batchPartitions.add(new HashSet<>());
+            }
+
+            batches.get(batch).add(broker);
+            batchPartitions.get(batch).addAll(partitions);
+        }
+
+        LOGGER.debugCr(reconciliation, "Brokers {} can be rolled in batches {}", brokers, batches);
+        return batches;
     }
 
-    private boolean wouldAffectAvailability(int broker, Map<String, Config> nameToConfig, TopicDescription td) {
-        Config config = nameToConfig.get(td.name());
-        ConfigEntry minIsrConfig = config.get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        int minIsr;
-        if (minIsrConfig != null && minIsrConfig.value() != null) {
-            minIsr = parseInt(minIsrConfig.value());
-            LOGGER.debugCr(reconciliation, "{} has {}={}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
-        } else {
-            minIsr = -1;
-            LOGGER.debugCr(reconciliation, "{} lacks {}.", td.name(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
-        }
-
-        for (TopicPartitionInfo pi : td.partitions()) {
-            List<Node> isr = pi.isr();
-            if (minIsr >= 0) {
-                if (pi.replicas().size() <= minIsr) {
-                    LOGGER.debugCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                            pi.replicas().size());
-                } else if (isr.size() < minIsr
-                        && contains(pi.replicas(), broker)) {
-                    logIsrReplicas(td, pi, isr);
-                    LOGGER.infoCr(reconciliation, "{}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
-                                    "so should not be restarted right now (it might be first to catch up).",
-                            td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                    return true;
-                } else if (isr.size() == minIsr
-                        && contains(isr, broker)) {
-                    if (minIsr < pi.replicas().size()) {
-                        logIsrReplicas(td, pi, isr);
-                        LOGGER.infoCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
-                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
-                        return true;
-                    } else {
-                        LOGGER.debugCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
-                                td.name(), pi.partition(), isr.size(), TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
-                                pi.replicas().size());
+    /**
+     * Marks the topics with a replica on the given broker for refresh. It should be called after the broker is
+     * restarted, because the ISRs of their partitions have changed.
+     *
+     * @param podId The id of the restarted broker
+     */
+    synchronized void brokerRestarted(int podId) {
+        staleTopics.addAll(partitionsByBroker.getOrDefault(podId, Collections.emptyMap()).keySet());
+    }
+
+    /**
+     * @return Future which completes when the index of all partitions was built. The index is built only once unless
+     * the previous attempt failed or the index was invalidated.
+     */
+    private synchronized Future<Void> index() {
+        if (index == null || index.failed()) {
+            // 1. Get all topic names
+            index = topicNames()
+                    // 2. Get topic descriptions
+                    .compose(names -> {
+                        LOGGER.debugCr(reconciliation, "Got {} topic names", names.size());
+                        LOGGER.traceCr(reconciliation, "Topic names {}", names);
+                        return describeTopicsInBatches(names);
+                    })
+                    // 3. Index the partitions by brokers
+                    .map(topicDescriptions -> {
+                        LOGGER.debugCr(reconciliation, "Got {} topic descriptions", topicDescriptions.size());
+                        rebuildIndex(topicDescriptions);
+                        return (Void) null;
+                    })
+                    .recover(error -> {
+                        LOGGER.warnCr(reconciliation, "failed to get topic descriptions", error);
+                        return Future.failedFuture(error);
+                    });
+        }
+
+        return index;
+    }
+
+    /**
+     * Describes the topics which were marked as stale again and updates them in the index. When that fails (for
+     * example because some of the topics were deleted in the meantime), the whole index is rebuilt.
+     */
+    private synchronized Future<Void> refreshStaleTopics() {
+        if (staleTopics.isEmpty()) {
+            return refresh.failed() ? Future.succeededFuture() : refresh;
+        }
+
+        Set<String> names = new HashSet<>(staleTopics);
+        staleTopics.clear();
+        LOGGER.debugCr(reconciliation, "Describing {} topics again", names.size());
+
+        refresh = describeTopicsInBatches(names)
+                .map(topicDescriptions -> {
+                    updateIndex(topicDescriptions);
+                    return (Void) null;
+                })
+                .recover(error -> {
+                    LOGGER.debugCr(reconciliation, "Failed to describe {} topics again, all topics will be described", names.size(), error);
+                    return invalidateIndex();
+                });
+
+        return refresh;
+    }
+
+    private synchronized Future<Void> invalidateIndex() {
+        index = null;
+        return index();
+    }
+
+    private synchronized void rebuildIndex(Collection<TopicDescription> topicDescriptions) {
+        partitionsByBroker.clear();
+        partitionsByTopic.clear();
+        staleTopics.clear();
+
+        updateIndex(topicDescriptions);
+
+        // Forget the min.insync.replicas of deleted topics
+        minIsrByTopic.keySet().retainAll(partitionsByTopic.keySet());
+    }
+
+    private synchronized void updateIndex(Collection<TopicDescription> topicDescriptions) {
+        for (TopicDescription td : topicDescriptions) {
+            LOGGER.traceCr(reconciliation, td);
+            removeFromIndex(td.name());
+
+            List<PartitionState> partitions = new ArrayList<>(td.partitions().size());
+            for (TopicPartitionInfo pi : td.partitions()) {
+                PartitionState partition = new PartitionState(pi);
+                partitions.add(partition);
+
+                for (int broker : partition.replicas) {
+                    partitionsByBroker.computeIfAbsent(broker, b -> new HashMap<>())
+                            .computeIfAbsent(td.name(), t -> new ArrayList<>())
+                            .add(partition);
+                }
+            }
+
+            partitionsByTopic.put(td.name(), partitions);
+        }
+    }
+
+    private void removeFromIndex(String topicName) {
+        List<PartitionState> partitions = partitionsByTopic.remove(topicName);
+
+        if (partitions != null) {
+            for (PartitionState partition : partitions) {
+                for (int broker : partition.replicas) {
+                    Map<String, List<PartitionState>> topicsOnBroker = partitionsByBroker.get(broker);
+
+                    if (topicsOnBroker != null) {
+                        topicsOnBroker.remove(topicName);
                     }
                 }
             }
         }
+    }
+
+    /**
+     * Gets the {@code min.insync.replicas} of the topics on the given broker which are not cached yet.
+     */
+    private Future<Void> loadMinIsr(int podId) {
+        Set<String> topicNames;
+        synchronized (this) {
+            topicNames = partitionsByBroker.getOrDefault(podId, Collections.emptyMap()).keySet().stream()
+                    .filter(topicName -> !minIsrByTopic.containsKey(topicName))
+                    .collect(Collectors.toSet());
+        }
+
+        if (topicNames.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        return topicConfigsInBatches(topicNames)
+                .compose(topicNameToConfig -> {
+                    Map<String, Integer> minIsrs = new HashMap<>(topicNameToConfig.size());
+                    Set<String> withoutMinIsr = new HashSet<>();
+
+                    for (Map.Entry<String, Config> entry : topicNameToConfig.entrySet()) {
+                        ConfigEntry minIsrConfig = entry.getValue().get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+
+                        if (minIsrConfig != null && minIsrConfig.value() != null) {
+                            minIsrs.put(entry.getKey(), parseInt(minIsrConfig.value()));
+                        } else {
+                            withoutMinIsr.add(entry.getKey());
+                        }
+                    }
+
+                    if (withoutMinIsr.isEmpty()) {
+                        return Future.succeededFuture(minIsrs);
+                    }
+
+                    // The topics without their own value use the broker default
+                    return brokerMinIsr(podId).map(brokerMinIsr -> {
+                        withoutMinIsr.forEach(topicName -> minIsrs.put(topicName, brokerMinIsr));
+                        return minIsrs;
+                    });
+                })
+                .map(minIsrs -> {
+                    synchronized (this) {
+                        minIsrByTopic.putAll(minIsrs);
+                    }
+
+                    return null;
+                });
+    }
+
+    /**
+     * Gets the broker default {@code min.insync.replicas}. When it cannot be determined, -1 is returned and the
+     * topics are treated as if they have no {@code min.insync.replicas}.
+     */
+    private Future<Integer> brokerMinIsr(int podId) {
+        ConfigResource resource = new ConfigResource(ConfigResource.Type.BROKER, String.valueOf(podId));
+        Promise<Integer> promise = Promise.promise();
+
+        ac.describeConfigs(Collections.singletonList(resource)).all().whenComplete((configs, error) -> {
+            ConfigEntry minIsrConfig = error == null && configs.get(resource) != null ? configs.get(resource).get(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG) : null;
+
+            if (minIsrConfig != null && minIsrConfig.value() != null) {
+                LOGGER.debugCr(reconciliation, "Broker {} has {}={}.", podId, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsrConfig.value());
+                promise.complete(parseInt(minIsrConfig.value()));
+            } else {
+                LOGGER.debugCr(reconciliation, "Broker {} lacks {}.", podId, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, error);
+                promise.complete(-1);
+            }
+        });
+
+        return promise.future();
+    }
+
+    private synchronized boolean canRollBroker(int podId) {
+        Map<String, List<PartitionState>> topicsOnGivenBroker = partitionsByBroker.getOrDefault(podId, Collections.emptyMap());
+        LOGGER.debugCr(reconciliation, "Broker {} has replicas of {} topics", podId, topicsOnGivenBroker.size());
+
+        for (Map.Entry<String, List<PartitionState>> topic : topicsOnGivenBroker.entrySet()) {
+            if (wouldAffectAvailability(podId, topic.getKey(), topic.getValue())) {
+                // The ISR of the topic will be checked again in the next attempt
+                staleTopics.add(topic.getKey());
+
+                LOGGER.debugCr(reconciliation, "Restart pod {} would remove it from ISR, stalling producers with acks=all", podId);
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean wouldAffectAvailability(int broker, String topicName, List<PartitionState> partitions) {
+        int minIsr = minIsrByTopic.getOrDefault(topicName, -1);
+        if (minIsr >= 0) {
+            LOGGER.debugCr(reconciliation, "{} has {}={}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr);
+        } else {
+            LOGGER.debugCr(reconciliation, "{} lacks {}.", topicName, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG);
+            return false;
+        }
+
+        for (PartitionState pi : partitions) {
+            if (pi.replicas.length <= minIsr) {
+                LOGGER.debugCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted, but there are only {} replicas.",
+                        topicName, pi.partition, pi.isr.length, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker,
+                        pi.replicas.length);
+            } else if (pi.isr.length < minIsr
+                    && contains(pi.replicas, broker)) {
+                logIsrReplicas(topicName, pi);
+                LOGGER.infoCr(reconciliation, "{}/{} is already underreplicated (|ISR|={}, {}={}); broker {} has a replica, " +
+                                "so should not be restarted right now (it might be first to catch up).",
+                        topicName, pi.partition, pi.isr.length, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                return true;
+            } else if (pi.isr.length == minIsr
+                    && contains(pi.isr, broker)) {
+                logIsrReplicas(topicName, pi);
+                LOGGER.infoCr(reconciliation, "{}/{} will be underreplicated (|ISR|={} and {}={}) if broker {} is restarted.",
+                        topicName, pi.partition, pi.isr.length, TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, minIsr, broker);
+                return true;
+            }
+        }
         return false;
     }
 
-    private void logIsrReplicas(TopicDescription td, TopicPartitionInfo pi, List<Node> isr) {
-        LOGGER.debugCr(reconciliation, "{}/{} has ISR={}, replicas={}", td.name(), pi.partition(), nodeList(isr), nodeList(pi.replicas()));
+    private void logIsrReplicas(String topicName, PartitionState pi) {
+        LOGGER.debugCr(reconciliation, "{}/{} has ISR={}, replicas={}", topicName, pi.partition, nodeList(pi.isr), nodeList(pi.replicas));
     }
 
-    String nodeList(List<Node> nodes) {
-        return nodes.stream().map(n -> String.valueOf(n.id())).collect(Collectors.joining(",", "[", "]"));
+    String nodeList(int[] nodes) {
+        return Arrays.stream(nodes).mapToObj(String::valueOf).collect(Collectors.joining(",", "[", "]"));
     }
 
-    private boolean contains(List<Node> isr, int broker) {
-        return isr.stream().anyMatch(node -> node.id() == broker);
+    private static boolean contains(int[] brokers, int broker) {
+        for (int b : brokers) {
+            if (b == broker) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Splits the names into batches of at most {@code batchSize} items
+     */
+    private <T> List<Set<T>> batches(Collection<T> items) {
+        List<Set<T>> batches = new ArrayList<>();
+        Set<T> batch = null;
+
+        for (T item : items) {
+            if (batch == null || batch.size() >= batchSize) {
+                batch = new HashSet<>(Math.min(batchSize, items.size()));
+                batches.add(batch);
+            }
+
+            batch.add(item);
+        }
+
+        return batches;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Future<Collection<TopicDescription>> describeTopicsInBatches(Set<String> names) {
+        List<Future> batches = new ArrayList<>();
+        for (Set<String> batch : batches(names)) {
+            batches.add(describeTopics(batch));
+        }
+
+        return CompositeFuture.join(batches)
+                .map(i -> {
+                    List<TopicDescription> descriptions = new ArrayList<>(names.size());
+                    for (Future batch : batches) {
+                        descriptions.addAll((Collection<TopicDescription>) batch.result());
+                    }
+                    return descriptions;
+                });
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Future<Map<String, Config>> topicConfigsInBatches(Set<String> topicNames) {
+        List<Future> batches = new ArrayList<>();
+        for (Set<String> batch : batches(topicNames)) {
+            batches.add(topicConfigs(batch));
+        }
+
+        return CompositeFuture.join(batches)
+                .map(i -> {
+                    Map<String, Config> configs = new HashMap<>(topicNames.size());
+                    for (Future batch : batches) {
+                        configs.putAll((Map<String, Config>) batch.result());
+                    }
+                    return configs;
+                });
     }
 
     private Future<Map<String, Config>> topicConfigs(Collection<String> topicNames) {
@@ -168,21 +492,6 @@ class KafkaAvailability {
         return promise.future();
     }
 
-    private Set<TopicDescription> groupTopicsByBroker(Collection<TopicDescription> tds, int podId) {
-        Set<TopicDescription> topicPartitionInfos = new HashSet<>();
-        for (TopicDescription td : tds) {
-            LOGGER.traceCr(reconciliation, td);
-            for (TopicPartitionInfo pd : td.partitions()) {
-                for (Node broker : pd.replicas()) {
-                    if (podId == broker.id()) {
-                        topicPartitionInfos.add(td);
-                    }
-                }
-            }
-        }
-        return topicPartitionInfos;
-    }
-
     protected Future<Collection<TopicDescription>> describeTopics(Set<String> names) {
         Promise<Collection<TopicDescription>> descPromise = Promise.promise();
         ac.describeTopics(names).all()
@@ -210,4 +519,19 @@ class KafkaAvailability {
                 });
         return namesPromise.future();
     }
+
+    /**
+     * The replicas and the in-sync replicas of a single partition
+     */
+    private static class PartitionState {
+        private final int partition;
+        private final int[] replicas;
+        private final int[] isr;
+
+        PartitionState(TopicPartitionInfo pi) {
+            this.partition = pi.partition();
+            this.replicas = pi.replicas().stream().mapToInt(Node::id).toArray();
+            this.isr = pi.isr().stream().mapToInt(Node::id).toArray();
+        }
+    }
 }
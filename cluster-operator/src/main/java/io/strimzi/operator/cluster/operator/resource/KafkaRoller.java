@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -36,11 +37,16 @@ import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.cluster.model.KafkaCluster;
 import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.Util;
@@ -62,6 +68,7 @@ import org.apache.kafka.common.config.ConfigException;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.SslAuthenticationException;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
 /**
@@ -101,6 +108,12 @@ import static java.util.Collections.singletonList;
  *     <li>even pods which aren't candidates for rolling are checked for readiness which partly avoids
  *     successive reconciliations each restarting a pod which never becomes ready</li>
  * </ul>
+ *
+ * <p>When the maximal batch size is greater than 1, the ready pods which need to be restarted are first restarted in
+ * batches of brokers which do not share any partitions and are in the same rack (see
+ * {@link KafkaAvailability#batches(List, Map, int)}). A batch is restarted at once when none of its brokers would
+ * impact availability. The controller is never part of a batch. The pods which could not be restarted in a batch are
+ * then handled by the algorithm above, one at a time.</p>
  */
 @SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:ParameterNumber"})
 public class KafkaRoller {
@@ -123,7 +136,11 @@ public class KafkaRoller {
     private final KafkaVersion kafkaVersion;
     private final Reconciliation reconciliation;
     private final boolean allowReconfiguration;
+    private final int maxBatchSize;
+    private final Timer batchTimer;
+    private final Set<String> restartedInBatches = new HashSet<>();
     private Admin allClient;
+    private KafkaAvailability kafkaAvailability;
 
     public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
                        long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
@@ -138,6 +155,17 @@ public class KafkaRoller {
                        StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                        AdminClientProvider adminClientProvider,
                        String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration) {
+        this(reconciliation, vertx, podOperations, pollingIntervalMs, operationTimeoutMs, backOffSupplier,
+                sts, clusterCaCertSecret, coKeySecret, adminClientProvider, kafkaConfig, kafkaLogging, kafkaVersion, allowReconfiguration,
+                1, null);
+    }
+
+    public KafkaRoller(Reconciliation reconciliation, Vertx vertx, PodOperator podOperations,
+                       long pollingIntervalMs, long operationTimeoutMs, Supplier<BackOff> backOffSupplier,
+                       StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                       AdminClientProvider adminClientProvider,
+                       String kafkaConfig, String kafkaLogging, KafkaVersion kafkaVersion, boolean allowReconfiguration,
+                       int maxBatchSize, MetricsProvider metrics) {
         this.namespace = sts.getMetadata().getNamespace();
         this.cluster = Labels.cluster(sts);
         this.numPods = sts.getSpec().getReplicas();
@@ -154,6 +182,10 @@ public class KafkaRoller {
         this.kafkaVersion = kafkaVersion;
         this.reconciliation = reconciliation;
         this.allowReconfiguration = allowReconfiguration;
+        this.maxBatchSize = maxBatchSize;
+        this.batchTimer = metrics != null ? metrics.timer(AbstractOperator.METRICS_PREFIX + "kafka.rolling.batch.duration",
+                "The time it took to restart a batch of Kafka brokers and to wait for them to become ready",
+                Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", namespace))) : null;
     }
 
     /**
@@ -205,6 +237,13 @@ public class KafkaRoller {
                 podIds.add(podOperations.isReady(namespace, podName(podId)) ? podIds.size() : 0, podId);
             }
             LOGGER.debugCr(reconciliation, "Initial order for rolling restart {}", podIds);
+
+            try {
+                maybeRollInBatches(podIds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
             List<Future> futures = new ArrayList<>(numPods);
             for (Integer podId: podIds) {
                 futures.add(schedule(podId, 0, TimeUnit.MILLISECONDS));
@@ -224,6 +263,120 @@ public class KafkaRoller {
         return result.future();
     }
 
+    /**
+     * Restarts the ready pods which need to be restarted in batches, before the rest of the rolling update continues
+     * one pod at a time. The controller, the pods which cannot be restarted in a batch right now and the pods which
+     * only need to be reconfigured are left to the one at a time algorithm. Any error stops the batching and leaves
+     * the remaining pods to the one at a time algorithm as well.
+     *
+     * @param podIds The pods in the order in which they should be rolled
+     */
+    private void maybeRollInBatches(List<Integer> podIds) throws InterruptedException {
+        if (maxBatchSize <= 1 || !initAdminClient()) {
+            return;
+        }
+
+        try {
+            List<Integer> candidates = new ArrayList<>(podIds.size());
+            for (int podId : podIds) {
+                Pod pod = podOperations.get(namespace, podName(podId));
+
+                if (pod != null && !isPodStuck(pod) && podOperations.isReady(namespace, podName(podId)) && !podNeedsRestart.apply(pod).isEmpty()) {
+                    candidates.add(podId);
+                }
+            }
+
+            if (candidates.size() > 1) {
+                List<Set<Integer>> batches = await(kafkaAvailability().batches(candidates, brokerRacks(), maxBatchSize), operationTimeoutMs, TimeUnit.MILLISECONDS,
+                    e -> new ForceableProblem("Error while determining the batches of brokers", e));
+
+                for (Set<Integer> batch : batches) {
+                    rollBatch(batch);
+                }
+            }
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            LOGGER.warnCr(reconciliation, "Rolling brokers in batches failed, the remaining pods will be rolled one at a time", e);
+        }
+
+        if (!restartedInBatches.isEmpty()) {
+            // The pods restarted in a batch are only checked for readiness (and reconfigured if needed) from now on
+            Function<Pod, List<String>> podNeedsRestart = this.podNeedsRestart;
+            this.podNeedsRestart = pod -> pod != null && restartedInBatches.contains(pod.getMetadata().getName()) ? emptyList() : podNeedsRestart.apply(pod);
+        }
+    }
+
+    /**
+     * Restarts the given batch of brokers at once, if none of them is the controller and none of them would impact
+     * availability, and waits for the restarted pods to become ready.
+     *
+     * @param batch The brokers which do not share any partitions
+     */
+    private void rollBatch(Set<Integer> batch) throws Exception {
+        Set<Integer> podIds = new TreeSet<>(batch);
+        // The controller could have changed since the batches were determined
+        int controller = controller(podIds.iterator().next(), operationTimeoutMs, TimeUnit.MILLISECONDS, new RestartContext(backoffSupplier));
+        podIds.remove(controller);
+
+        if (podIds.size() < 2) {
+            LOGGER.debugCr(reconciliation, "Pods {} will be rolled one at a time", podIds);
+            return;
+        } else if (!await(kafkaAvailability().canRoll(podIds), 60_000, TimeUnit.MILLISECONDS, e -> new ForceableProblem("An error while trying to determine rollability", e))) {
+            LOGGER.debugCr(reconciliation, "Pods {} cannot be rolled together right now", podIds);
+            return;
+        }
+
+        List<Pod> pods = new ArrayList<>(podIds.size());
+        for (int podId : podIds) {
+            pods.add(podOperations.get(namespace, podName(podId)));
+        }
+
+        List<String> podNames = pods.stream().map(pod -> pod.getMetadata().getName()).collect(Collectors.toList());
+        LOGGER.infoCr(reconciliation, "Rolling pods {} together", podNames);
+        long start = System.nanoTime();
+
+        List<Future> restarts = new ArrayList<>(pods.size());
+        for (int podId : podIds) {
+            brokerRestarted(podId);
+        }
+        for (Pod pod : pods) {
+            restarts.add(restart(pod));
+        }
+        await(CompositeFuture.join(restarts), operationTimeoutMs, TimeUnit.MILLISECONDS, e -> new UnforceableProblem("Error while trying to restart pods " + podNames, e));
+        restartedInBatches.addAll(podNames);
+
+        List<Future> readiness = new ArrayList<>(pods.size());
+        for (Pod pod : pods) {
+            readiness.add(isReady(pod));
+        }
+        await(CompositeFuture.join(readiness), operationTimeoutMs, TimeUnit.MILLISECONDS, e -> new FatalProblem("Error while waiting for restarted pods " + podNames + " to become ready", e));
+
+        long duration = System.nanoTime() - start;
+        LOGGER.infoCr(reconciliation, "Pods {} were rolled together in {}ms", podNames, TimeUnit.NANOSECONDS.toMillis(duration));
+        if (batchTimer != null) {
+            batchTimer.record(duration, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Returns the racks of the brokers. Brokers without a rack are missing in the returned map.
+     */
+    protected Map<Integer, String> brokerRacks() throws ForceableProblem, InterruptedException {
+        Collection<Node> nodes = await(Util.kafkaFutureToVertxFuture(reconciliation, vertx, allClient.describeCluster().nodes()),
+            30, TimeUnit.SECONDS,
+            error -> new ForceableProblem("Error getting the brokers", error));
+
+        Map<Integer, String> racks = new HashMap<>(nodes.size());
+        for (Node node : nodes) {
+            if (node.hasRack()) {
+                racks.put(node.id(), node.rack());
+            }
+        }
+
+        return racks;
+    }
+
     protected static class RestartContext {
         final Promise<Void> promise;
         final BackOff backOff;
@@ -361,6 +514,7 @@ public class KafkaRoller {
                         // Check for rollability before trying a dynamic update so that if the dynamic update fails we can go to a full restart
                         if (restartPlan.forceRestart || !maybeDynamicUpdateBrokerConfig(podId, restartPlan)) {
                             LOGGER.debugCr(reconciliation, "Pod {} can be rolled now", podId);
+                            brokerRestarted(podId);
                             restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
                         } else {
                             awaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
@@ -383,6 +537,7 @@ public class KafkaRoller {
             if (isPodStuck(pod) || restartContext.backOff.done() || e.forceNow) {
                 if (canRoll(podId, 60_000, TimeUnit.MILLISECONDS, true)) {
                     LOGGER.warnCr(reconciliation, "Pod {} will be force-rolled, due to error: {}", podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                    brokerRestarted(podId);
                     restartAndAwaitReadiness(pod, operationTimeoutMs, TimeUnit.MILLISECONDS);
                 } else {
                     LOGGER.warnCr(reconciliation, "Pod {} can't be safely force-rolled; original error: ", podName(podId), e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
@@ -613,7 +768,7 @@ public class KafkaRoller {
     private boolean canRoll(int podId, long timeout, TimeUnit unit, boolean ignoreSslError)
             throws ForceableProblem, InterruptedException {
         try {
-            return await(availability(allClient).canRoll(podId), timeout, unit,
+            return await(kafkaAvailability().canRoll(podId), timeout, unit,
                 t -> new ForceableProblem("An error while trying to determine rollability", t));
         } catch (ForceableProblem e) {
             // If we're not able to connect then roll
@@ -625,6 +780,30 @@ public class KafkaRoller {
         }
     }
 
+    /**
+     * The same KafkaAvailability is used for the whole rolling update, so that the topics do not have to be described
+     * again for every pod. It is created only once the admin client exists.
+     */
+    private KafkaAvailability kafkaAvailability() {
+        if (kafkaAvailability != null) {
+            return kafkaAvailability;
+        } else if (allClient != null) {
+            kafkaAvailability = availability(allClient);
+            return kafkaAvailability;
+        } else {
+            return availability(allClient);
+        }
+    }
+
+    /**
+     * Lets the KafkaAvailability know that the ISRs of the partitions with a replica on the given pod will change.
+     */
+    private void brokerRestarted(int podId) {
+        if (kafkaAvailability != null) {
+            kafkaAvailability.brokerRestarted(podId);
+        }
+    }
+
     /**
      * Synchronously restart the given pod
      * by deleting it and letting it be recreated by K8s, then synchronously wait for it to be ready.
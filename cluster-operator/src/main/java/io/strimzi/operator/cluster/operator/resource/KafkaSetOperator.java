@@ -14,6 +14,8 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.operator.resource.PodOperator;
+import io.strimzi.operator.common.operator.resource.PvcOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
@@ -40,6 +42,21 @@ public class KafkaSetOperator extends StatefulSetOperator {
         this.adminClientProvider = adminClientProvider;
     }
 
+    /**
+     * Constructor
+     *
+     * @param vertx  The Vertx instance
+     * @param client The Kubernetes client
+     * @param operationTimeoutMs The timeout.
+     * @param adminClientProvider A provider for the AdminClient.
+     * @param podOperator The pod operator.
+     */
+    public KafkaSetOperator(Vertx vertx, KubernetesClient client, long operationTimeoutMs,
+                            AdminClientProvider adminClientProvider, PodOperator podOperator) {
+        super(vertx, client, operationTimeoutMs, podOperator, new PvcOperator(vertx, client));
+        this.adminClientProvider = adminClientProvider;
+    }
+
     @Override
     protected boolean shouldIncrementGeneration(Reconciliation reconciliation, StatefulSetDiff diff) {
         return !diff.isEmpty() && needsRollingUpdate(reconciliation, diff);
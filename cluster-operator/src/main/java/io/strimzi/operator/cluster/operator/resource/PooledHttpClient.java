@@ -0,0 +1,105 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Long-lived HTTP client used for the REST API calls to Kafka Connect and Cruise Control. Unlike
+ * {@link HttpClientUtils#withHttpClient(Vertx, HttpClientOptions, BiConsumer)}, the client is not closed after each
+ * operation. Its connections are kept alive and reused by the following requests to the same host and port. The
+ * number of connections to each host and port is limited by the maximal pool size and connections which are idle for
+ * longer than the keep-alive timeout are closed.
+ *
+ * When metrics are enabled, the number of requests and the number of newly opened connections are counted in the
+ * strimzi.http.client.requests and strimzi.http.client.connections counters tagged with the name of the client. The
+ * difference between them shows how many requests reused an existing connection.
+ */
+public class PooledHttpClient {
+    /**
+     * Maximal number of connections to a single host and port
+     */
+    public static final int DEFAULT_MAX_POOL_SIZE = 5;
+
+    /**
+     * Idle connections are closed after this timeout. It should be shorter than the idle timeout of the server (30
+     * seconds for the Kafka Connect REST API) so that the client does not try to reuse a connection closed by the
+     * server.
+     */
+    public static final int DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS = 20;
+
+    private final HttpClient httpClient;
+    private final Counter requestsCounter;
+    private final Counter connectionsCounter;
+
+    /**
+     * Constructs the pooled HTTP client
+     *
+     * @param vertx     Vert.x instance
+     * @param name      Name of the client used to tag the metrics
+     * @param options   Client options. The keep-alive and pool settings are overridden.
+     * @param metrics   Metrics provider or null if the metrics should not be collected
+     */
+    public PooledHttpClient(Vertx vertx, String name, HttpClientOptions options, MetricsProvider metrics) {
+        this.httpClient = vertx.createHttpClient(new HttpClientOptions(options)
+                .setKeepAlive(true)
+                .setKeepAliveTimeout(DEFAULT_KEEP_ALIVE_TIMEOUT_SECONDS)
+                .setMaxPoolSize(DEFAULT_MAX_POOL_SIZE));
+
+        if (metrics != null) {
+            Tags tags = Tags.of(Tag.of("client", name));
+
+            this.requestsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "http.client.requests",
+                    "Number of requests sent by the HTTP client",
+                    tags);
+            this.connectionsCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "http.client.connections",
+                    "Number of connections opened by the HTTP client",
+                    tags);
+
+            this.httpClient.connectionHandler(connection -> connectionsCounter.increment());
+        } else {
+            this.requestsCounter = null;
+            this.connectionsCounter = null;
+        }
+    }
+
+    /**
+     * Perform the given operation, which completes the promise, using the pooled HTTP client. The client is not closed
+     * afterwards.
+     *
+     * @param operation The operation to perform.
+     * @param <T> The type of the result
+     * @return A future which is completed with the result performed by the operation
+     */
+    public <T> Future<T> withHttpClient(BiConsumer<HttpClient, Promise<T>> operation) {
+        if (requestsCounter != null) {
+            requestsCounter.increment();
+        }
+
+        Promise<T> promise = Promise.promise();
+        operation.accept(httpClient, promise);
+        return promise.future();
+    }
+
+    /**
+     * Closes the client and all its connections
+     *
+     * @return  Future which completes when the client is closed
+     */
+    public Future<Void> close() {
+        return httpClient.close();
+    }
+}
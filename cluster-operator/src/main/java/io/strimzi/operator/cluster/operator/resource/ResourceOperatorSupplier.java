@@ -26,6 +26,7 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.PooledAdminClientProvider;
 import io.strimzi.operator.common.operator.resource.BuildConfigOperator;
 import io.strimzi.operator.common.operator.resource.BuildOperator;
 import io.strimzi.operator.common.operator.resource.ClusterRoleBindingOperator;
@@ -85,23 +86,38 @@ public class ResourceOperatorSupplier {
     public AdminClientProvider adminClientProvider;
 
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
+        this(vertx, client, new MicrometerMetricsProvider(), pfa, gates, operationTimeoutMs);
+    }
+
+    private ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
         this(vertx, client,
             new ZookeeperLeaderFinder(vertx, new SecretOperator(vertx, client),
             // Retry up to 3 times (4 attempts), with overall max delay of 35000ms
                 () -> new BackOff(5_000, 2, 4)),
-                    new DefaultAdminClientProvider(),
+                    new PooledAdminClientProvider(new DefaultAdminClientProvider(), metricsProvider),
                     new DefaultZookeeperScalerProvider(),
-                    new MicrometerMetricsProvider(),
+                    metricsProvider,
                     pfa, gates, operationTimeoutMs);
     }
 
     public ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, ZookeeperLeaderFinder zlf,
                                     AdminClientProvider adminClientProvider, ZookeeperScalerProvider zkScalerProvider,
                                     MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs) {
+        this(vertx, client, zlf, adminClientProvider, zkScalerProvider, metricsProvider, pfa, gates, operationTimeoutMs, new PodOperator(vertx, client));
+    }
+
+    /**
+     * The Pod operator is shared by the StatefulSet operators and the rest of the Cluster Operator so that there is
+     * only one Pod cache when the resource cache is enabled.
+     */
+    private ResourceOperatorSupplier(Vertx vertx, KubernetesClient client, ZookeeperLeaderFinder zlf,
+                                    AdminClientProvider adminClientProvider, ZookeeperScalerProvider zkScalerProvider,
+                                    MetricsProvider metricsProvider, PlatformFeaturesAvailability pfa, FeatureGates gates, long operationTimeoutMs,
+                                    PodOperator podOperator) {
         this(new ServiceOperator(vertx, client),
                 pfa.hasRoutes() ? new RouteOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
-                new ZookeeperSetOperator(vertx, client, zlf, operationTimeoutMs),
-                new KafkaSetOperator(vertx, client, operationTimeoutMs, adminClientProvider),
+                new ZookeeperSetOperator(vertx, client, zlf, operationTimeoutMs, podOperator),
+                new KafkaSetOperator(vertx, client, operationTimeoutMs, adminClientProvider, podOperator),
                 new ConfigMapOperator(vertx, client),
                 new SecretOperator(vertx, client),
                 new PvcOperator(vertx, client),
@@ -112,7 +128,7 @@ public class ResourceOperatorSupplier {
                 new ClusterRoleBindingOperator(vertx, client),
                 new NetworkPolicyOperator(vertx, client),
                 new PodDisruptionBudgetOperator(vertx, client),
-                new PodOperator(vertx, client),
+                podOperator,
                 new IngressOperator(vertx, client),
                 new IngressV1Beta1Operator(vertx, client),
                 pfa.hasBuilds() ? new BuildConfigOperator(vertx, client.adapt(OpenShiftClient.class)) : null,
@@ -12,6 +12,8 @@ import io.strimzi.api.kafka.model.KafkaResources;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.operator.resource.PodOperator;
+import io.strimzi.operator.common.operator.resource.PvcOperator;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -42,6 +44,20 @@ public class ZookeeperSetOperator extends StatefulSetOperator {
         this.leaderFinder = leaderFinder;
     }
 
+    /**
+     * Constructor
+     *
+     * @param vertx  The Vertx instance
+     * @param client The Kubernetes client
+     * @param leaderFinder The Zookeeper leader finder.
+     * @param operationTimeoutMs The timeout.
+     * @param podOperator The pod operator.
+     */
+    public ZookeeperSetOperator(Vertx vertx, KubernetesClient client, ZookeeperLeaderFinder leaderFinder, long operationTimeoutMs, PodOperator podOperator) {
+        super(vertx, client, operationTimeoutMs, podOperator, new PvcOperator(vertx, client));
+        this.leaderFinder = leaderFinder;
+    }
+
     @Override
     protected boolean shouldIncrementGeneration(Reconciliation reconciliation, StatefulSetDiff diff) {
         return !diff.isEmpty() && needsRollingUpdate(reconciliation, diff);
@@ -4,7 +4,8 @@
  */
 package io.strimzi.operator.cluster.operator.resource.cruisecontrol;
 
-import io.strimzi.operator.cluster.operator.resource.HttpClientUtils;
+import io.strimzi.operator.cluster.operator.resource.PooledHttpClient;
+import io.strimzi.operator.common.MetricsProvider;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -22,15 +23,23 @@ public class CruiseControlApiImpl implements CruiseControlApi {
     private static final int HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS = -1; // use default internal HTTP client timeout
     private static final String STATUS_KEY = "Status";
 
-    private final Vertx vertx;
+    private final PooledHttpClient client;
     private final long idleTimeout;
 
     public CruiseControlApiImpl(Vertx vertx) {
-        this(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS);
+        this(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, null);
     }
 
     public CruiseControlApiImpl(Vertx vertx, int idleTimeout) {
-        this.vertx = vertx;
+        this(vertx, idleTimeout, null);
+    }
+
+    public CruiseControlApiImpl(Vertx vertx, MetricsProvider metrics) {
+        this(vertx, HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS, metrics);
+    }
+
+    public CruiseControlApiImpl(Vertx vertx, int idleTimeout, MetricsProvider metrics) {
+        this.client = new PooledHttpClient(vertx, "CruiseControl", new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING), metrics);
         this.idleTimeout = idleTimeout;
     }
 
@@ -48,9 +57,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .addParameter(CruiseControlParameters.VERBOSE, String.valueOf(verbose))
                 .build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return client.withHttpClient((httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().send(response -> {
@@ -107,9 +114,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
                 .addRebalanceParameters(rbOptions)
                 .build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return client.withHttpClient((httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     if (idleTimeout != HTTP_DEFAULT_IDLE_TIMEOUT_SECONDS) {
@@ -196,9 +201,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
 
         String path = pathBuilder.build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return client.withHttpClient((httpClient, result) -> {
             httpClient.request(HttpMethod.GET, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().send(response -> {
@@ -288,9 +291,7 @@ public class CruiseControlApiImpl implements CruiseControlApi {
         String path = new PathBuilder(CruiseControlEndpoints.STOP)
                         .addParameter(CruiseControlParameters.JSON, "true").build();
 
-        HttpClientOptions options = new HttpClientOptions().setLogActivity(HTTP_CLIENT_ACTIVITY_LOGGING);
-
-        return HttpClientUtils.withHttpClient(vertx, options, (httpClient, result) -> {
+        return client.withHttpClient((httpClient, result) -> {
             httpClient.request(HttpMethod.POST, port, host, path, request -> {
                 if (request.succeeded()) {
                     request.result().send(response -> {
@@ -82,7 +82,10 @@ public class ClusterOperatorConfigTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
                 "",
-                10);
+                10,
+                10,
+                5,
+                1);
 
         assertThat(config.getNamespaces(), is(singleton("namespace")));
         assertThat(config.getReconciliationIntervalMs(), is(60_000L));
@@ -114,6 +117,29 @@ public class ClusterOperatorConfigTest {
         assertThat(config.getOperationTimeoutMs(), is(ClusterOperatorConfig.DEFAULT_OPERATION_TIMEOUT_MS));
         assertThat(config.getOperatorNamespace(), is(nullValue()));
         assertThat(config.getOperatorNamespaceLabels(), is(nullValue()));
+        assertThat(config.getMaxPeriodicReconciliations(), is(ClusterOperatorConfig.DEFAULT_MAX_PERIODIC_RECONCILIATIONS));
+        assertThat(config.getMaxPeriodicReconciliationsPerKind(), is(ClusterOperatorConfig.DEFAULT_MAX_PERIODIC_RECONCILIATIONS_PER_KIND));
+        assertThat(config.getKafkaRollingMaxBatchSize(), is(ClusterOperatorConfig.DEFAULT_KAFKA_ROLLING_MAX_BATCH_SIZE));
+    }
+
+    @Test
+    public void testMaxPeriodicReconciliations() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_PERIODIC_RECONCILIATIONS, "20");
+        envVars.put(ClusterOperatorConfig.STRIMZI_MAX_PERIODIC_RECONCILIATIONS_PER_KIND, "3");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getMaxPeriodicReconciliations(), is(20));
+        assertThat(config.getMaxPeriodicReconciliationsPerKind(), is(3));
+    }
+
+    @Test
+    public void testKafkaRollingMaxBatchSize() {
+        Map<String, String> envVars = new HashMap<>(ClusterOperatorConfigTest.envVars);
+        envVars.put(ClusterOperatorConfig.STRIMZI_KAFKA_ROLLING_MAX_BATCH_SIZE, "3");
+
+        ClusterOperatorConfig config = ClusterOperatorConfig.fromMap(envVars, KafkaVersionTestUtils.getKafkaVersionLookup());
+        assertThat(config.getKafkaRollingMaxBatchSize(), is(3));
     }
 
     private Map<String, String> envWithImages() {
@@ -0,0 +1,250 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Operator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class PeriodicReconciliationSchedulerTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static MetricsProvider metrics(MeterRegistry registry) {
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.meterRegistry()).thenReturn(registry);
+        when(metrics.timer(any(), any(), any())).thenAnswer(i -> Timer.builder(i.getArgument(0)).tags(i.<Tags>getArgument(2)).register(registry));
+        return metrics;
+    }
+
+    private static Set<NamespaceAndName> resources(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new NamespaceAndName("ns", "resource-" + i))
+                .collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testDelayIsWithinSpreadWindow() {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, metrics(new SimpleMeterRegistry()), 120_000, 10, 5);
+
+        for (NamespaceAndName resource : resources(100)) {
+            long delay = scheduler.delayMs("Kafka", resource);
+
+            assertThat(delay, is(greaterThanOrEqualTo(0L)));
+            assertThat(delay, is(lessThan(60_001L)));
+
+            // The offset is stable and only the jitter (at most 10% of the window) changes between the sweeps
+            assertThat(Math.abs(delay - scheduler.delayMs("Kafka", resource)) <= 6_000L, is(true));
+        }
+    }
+
+    @Test
+    public void testConcurrencyIsBoundedPerKindAndGlobally(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, metrics(registry), 200, 3, 2);
+
+        List<Promise<Void>> inProgress = new CopyOnWriteArrayList<>();
+        TestOperator kafkas = new TestOperator("Kafka", resources(5), inProgress);
+        TestOperator connects = new TestOperator("KafkaConnect", resources(5), inProgress);
+
+        scheduler.reconcileAll(kafkas, "timer", "ns");
+        scheduler.reconcileAll(connects, "timer", "ns");
+
+        vertx.setTimer(300, t1 -> {
+            context.verify(() -> {
+                assertThat(inProgress.size(), is(3));
+                assertThat(kafkas.reconciliations.size() <= 2, is(true));
+                assertThat(connects.reconciliations.size() <= 2, is(true));
+            });
+
+            completeAll(inProgress, 10, () -> {
+                context.verify(() -> {
+                    assertThat(kafkas.reconciliations.size(), is(5));
+                    assertThat(connects.reconciliations.size(), is(5));
+                    assertThat(kafkas.periodicReconciliations.count(), is(1.0));
+                    assertThat(registry.get("strimzi.reconciliations.periodical.sweep.duration").tag("kind", "Kafka").tag("namespace", "ns").timer().count(), is(1L));
+                    assertThat(registry.get("strimzi.reconciliations.periodical.sweep.duration").tag("kind", "KafkaConnect").tag("namespace", "ns").timer().count(), is(1L));
+                });
+                context.completeNow();
+            });
+        });
+    }
+
+    @Test
+    public void testOverlappingSweepIsSkipped(VertxTestContext context) {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, metrics(new SimpleMeterRegistry()), 200, 10, 10);
+
+        List<Promise<Void>> inProgress = new CopyOnWriteArrayList<>();
+        TestOperator kafkas = new TestOperator("Kafka", resources(2), inProgress);
+
+        scheduler.reconcileAll(kafkas, "timer", "ns");
+
+        vertx.setTimer(300, t1 -> {
+            scheduler.reconcileAll(kafkas, "timer", "ns");
+
+            vertx.setTimer(300, t2 -> {
+                context.verify(() -> {
+                    assertThat(kafkas.reconciliations.size(), is(2));
+                    assertThat(kafkas.periodicReconciliations.count(), is(1.0));
+                });
+
+                completeAll(inProgress, 2, () -> {
+                    scheduler.reconcileAll(kafkas, "timer", "ns");
+
+                    vertx.setTimer(300, t3 -> {
+                        context.verify(() -> assertThat(kafkas.reconciliations.size(), is(4)));
+                        context.completeNow();
+                    });
+                });
+            });
+        });
+    }
+
+    @Test
+    public void testTriggerDuringSweepRunsOneFollowUpSweep(VertxTestContext context) {
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler(vertx, metrics(new SimpleMeterRegistry()), 200, 10, 10);
+
+        List<Promise<Void>> inProgress = new CopyOnWriteArrayList<>();
+        TestOperator kafkas = new TestOperator("Kafka", resources(2), inProgress);
+
+        scheduler.reconcileAll(kafkas, "timer", "ns");
+
+        vertx.setTimer(300, t1 -> {
+            // Both watch errors arrive while the first sweep is still running
+            scheduler.triggerReconcileAll(kafkas, "watch error", "ns");
+            scheduler.triggerReconcileAll(kafkas, "watch error", "ns");
+
+            vertx.setTimer(300, t2 -> {
+                context.verify(() -> {
+                    assertThat(kafkas.reconciliations.size(), is(2));
+                    assertThat(kafkas.periodicReconciliations.count(), is(1.0));
+                });
+
+                completeAll(inProgress, 2, () -> vertx.setTimer(300, t3 -> {
+                    context.verify(() -> {
+                        // A single follow-up sweep was started once the first one completed
+                        assertThat(kafkas.reconciliations.size(), is(4));
+                        assertThat(kafkas.periodicReconciliations.count(), is(2.0));
+                        assertThat(kafkas.reconciliations.get(2).toString(), containsString("(watch error)"));
+                        assertThat(kafkas.reconciliations.get(3).toString(), containsString("(watch error)"));
+                    });
+
+                    completeAll(inProgress, 2, () -> vertx.setTimer(300, t4 -> {
+                        context.verify(() -> assertThat(kafkas.reconciliations.size(), is(4)));
+                        context.completeNow();
+                    }));
+                }));
+            });
+        });
+    }
+
+    /**
+     * Completes the started reconciliations one by one until the expected number of them was completed
+     */
+    private static void completeAll(List<Promise<Void>> inProgress, int expected, Runnable done) {
+        AtomicInteger completed = new AtomicInteger(0);
+
+        vertx.setPeriodic(50, timerId -> {
+            inProgress.forEach(promise -> {
+                if (promise.tryComplete()) {
+                    completed.incrementAndGet();
+                }
+            });
+
+            if (completed.get() >= expected) {
+                vertx.cancelTimer(timerId);
+                vertx.setTimer(50, t -> done.run());
+            }
+        });
+    }
+
+    static class TestOperator implements Operator {
+        private final String kind;
+        private final Set<NamespaceAndName> resources;
+        private final List<Promise<Void>> inProgress;
+        final List<Reconciliation> reconciliations = new CopyOnWriteArrayList<>();
+        final Counter periodicReconciliations = Counter.builder("periodic").register(new SimpleMeterRegistry());
+
+        TestOperator(String kind, Set<NamespaceAndName> resources, List<Promise<Void>> inProgress) {
+            this.kind = kind;
+            this.resources = resources;
+            this.inProgress = inProgress;
+        }
+
+        @Override
+        public String kind() {
+            return kind;
+        }
+
+        @Override
+        public Future<Void> reconcile(Reconciliation reconciliation) {
+            reconciliations.add(reconciliation);
+            Promise<Void> promise = Promise.promise();
+            inProgress.add(promise);
+            return promise.future();
+        }
+
+        @Override
+        public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
+            return Future.succeededFuture(resources);
+        }
+
+        @Override
+        public Counter getPeriodicReconciliationsCounter() {
+            return periodicReconciliations;
+        }
+
+        @Override
+        public AtomicInteger getResourceCounter() {
+            return new AtomicInteger(0);
+        }
+
+        @Override
+        public AtomicInteger getPausedResourceCounter() {
+            return new AtomicInteger(0);
+        }
+    }
+}
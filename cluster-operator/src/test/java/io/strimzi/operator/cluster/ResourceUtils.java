@@ -757,7 +757,10 @@ public class ResourceUtils {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 null,
                 "",
-                10);
+                10,
+                10,
+                5,
+                1);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfigRolesOnly(KafkaVersion.Lookup versions, long operationTimeoutMs) {
@@ -776,7 +779,10 @@ public class ResourceUtils {
                 ClusterOperatorConfig.RbacScope.NAMESPACE,
                 null,
                 "",
-                10);
+                10,
+                10,
+                5,
+                1);
     }
 
     public static ClusterOperatorConfig dummyClusterOperatorConfig(KafkaVersion.Lookup versions) {
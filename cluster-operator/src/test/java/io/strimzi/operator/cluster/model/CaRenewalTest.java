@@ -6,24 +6,36 @@ package io.strimzi.operator.cluster.model;
 
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 import io.vertx.junit5.VertxExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
 
-import java.io.File;
 import java.io.IOException;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ParallelSuite
 @ExtendWith(VertxExtension.class)
@@ -31,8 +43,6 @@ public class CaRenewalTest {
     @ParallelTest
     public void renewalOfStatefulSetCertificatesWithNullSecret() throws IOException {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return false;
@@ -44,9 +54,8 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
+                String index = subject.commonName();
 
                 return new CertAndKey(
                         ("new-key" + index).getBytes(),
@@ -59,7 +68,7 @@ public class CaRenewalTest {
         };
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().build();
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = true;
 
@@ -88,8 +97,6 @@ public class CaRenewalTest {
     @ParallelTest
     public void renewalOfStatefulSetCertificatesWithCaRenewal() throws IOException {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return true;
@@ -101,9 +108,8 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
+                String index = subject.commonName();
 
                 return new CertAndKey(
                         ("new-key" + index).getBytes(),
@@ -134,7 +140,7 @@ public class CaRenewalTest {
                 .build();
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().build();
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = true;
 
@@ -164,8 +170,6 @@ public class CaRenewalTest {
     @ParallelTest
     public void renewalOfStatefulSetCertificatesDelayedRenewalInWindow() throws IOException {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return false;
@@ -187,9 +191,8 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
+                String index = subject.commonName();
 
                 return new CertAndKey(
                         ("new-key" + index).getBytes(),
@@ -220,7 +223,7 @@ public class CaRenewalTest {
                 .build();
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().build();
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = true;
 
@@ -250,8 +253,6 @@ public class CaRenewalTest {
     @ParallelTest
     public void renewalOfStatefulSetCertificatesDelayedRenewalOutsideWindow() throws IOException {
         Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
-            private AtomicInteger invocationCount = new AtomicInteger(0);
-
             @Override
             public boolean certRenewed() {
                 return false;
@@ -273,9 +274,8 @@ public class CaRenewalTest {
             }
 
             @Override
-            protected CertAndKey generateSignedCert(Subject subject,
-                                                    File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
-                int index = invocationCount.getAndIncrement();
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
+                String index = subject.commonName();
 
                 return new CertAndKey(
                         ("new-key" + index).getBytes(),
@@ -306,7 +306,7 @@ public class CaRenewalTest {
                 .build();
 
         int replicas = 3;
-        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().build();
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
         Function<Integer, String> podNameFn = i -> "pod" + i;
         boolean isMaintenanceTimeWindowsSatisfied = false;
 
@@ -332,4 +332,78 @@ public class CaRenewalTest {
         assertThat(new String(newCerts.get("pod2").keyStore()), is("old-keystore"));
         assertThat(newCerts.get("pod2").storePassword(), is("old-password"));
     }
-}
\ No newline at end of file
+
+    @ParallelTest
+    public void generationOfStatefulSetCertificatesInParallelKeepsPodOrder() throws IOException {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
+                threads.add(Thread.currentThread().getName());
+
+                return new CertAndKey(("new-key" + subject.commonName()).getBytes(), ("new-cert" + subject.commonName()).getBytes());
+            }
+        };
+
+        int replicas = 20;
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        Map<String, CertAndKey> newCerts = mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION, replicas,
+                subjectFn,
+                null,
+                podNameFn,
+                true);
+
+        List<String> expectedPods = IntStream.range(0, replicas).mapToObj(i -> "pod" + i).collect(Collectors.toList());
+        assertThat(new ArrayList<>(newCerts.keySet()), is(expectedPods));
+        for (int i = 0; i < replicas; i++) {
+            assertThat(new String(newCerts.get("pod" + i).cert()), is("new-cert" + i));
+        }
+
+        // The certificates are generated in the certificate generation pool and not in the calling thread
+        assertThat(threads.stream().allMatch(thread -> thread.startsWith("cert-generation-")), is(true));
+    }
+
+    @ParallelTest
+    public void testCertificateGenerationTimeIsRecorded() throws IOException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.timer(any(), any(), any())).thenAnswer(i -> Timer.builder(i.getArgument(0)).tags(i.<Tags>getArgument(2)).register(registry));
+
+        Ca mockedCa = new Ca(Reconciliation.DUMMY_RECONCILIATION, null, null, null, null, null, null, null, 2, 1, true, null) {
+            @Override
+            public boolean certRenewed() {
+                return false;
+            }
+
+            @Override
+            protected CertAndKey generateSignedCert(Subject subject) throws IOException {
+                return new CertAndKey(("new-key" + subject.commonName()).getBytes(), ("new-cert" + subject.commonName()).getBytes());
+            }
+
+            @Override
+            public String toString() {
+                return "mocked-ca";
+            }
+        };
+        mockedCa.setMetrics(metrics);
+
+        Function<Integer, Subject> subjectFn = i -> new Subject.Builder().withCommonName(String.valueOf(i)).build();
+        Function<Integer, String> podNameFn = i -> "pod" + i;
+
+        mockedCa.maybeCopyOrGenerateCerts(Reconciliation.DUMMY_RECONCILIATION, 3,
+                subjectFn,
+                null,
+                podNameFn,
+                true);
+
+        assertThat(registry.get("strimzi.certificates.generation.duration").tag("ca", "mocked-ca").timer().count(), is(1L));
+    }
+}
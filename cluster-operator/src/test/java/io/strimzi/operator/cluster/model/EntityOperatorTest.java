@@ -16,6 +16,7 @@ import io.fabric8.kubernetes.api.model.Toleration;
 import io.fabric8.kubernetes.api.model.TolerationBuilder;
 import io.fabric8.kubernetes.api.model.TopologySpreadConstraint;
 import io.fabric8.kubernetes.api.model.TopologySpreadConstraintBuilder;
+import io.fabric8.kubernetes.api.model.Volume;
 import io.fabric8.kubernetes.api.model.VolumeMount;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.rbac.PolicyRule;
@@ -580,6 +581,47 @@ public class EntityOperatorTest {
 
     }
 
+    @ParallelTest
+    public void testTopicOperatorStoreStateDir() {
+        ContainerEnvVar storeStateDir = new ContainerEnvVar();
+        storeStateDir.setName(EntityTopicOperator.ENV_VAR_STORE_STATE_DIR);
+        storeStateDir.setValue("/var/lib/topic-store");
+
+        ContainerTemplate topicOperatorContainer = new ContainerTemplate();
+        topicOperatorContainer.setEnv(singletonList(storeStateDir));
+
+        Kafka resource =
+                new KafkaBuilder(ResourceUtils.createKafka(namespace, cluster, replicas, image, healthDelay, healthTimeout))
+                        .editSpec()
+                        .withNewEntityOperator()
+                        .withTopicOperator(entityTopicOperatorSpec)
+                        .withUserOperator(entityUserOperatorSpec)
+                        .withNewTemplate()
+                        .withTopicOperatorContainer(topicOperatorContainer)
+                        .endTemplate()
+                        .endEntityOperator()
+                        .endSpec()
+                        .build();
+
+        EntityOperator entityOperator = EntityOperator.fromCrd(new Reconciliation("test", resource.getKind(), resource.getMetadata().getNamespace(), resource.getMetadata().getName()), resource, VERSIONS);
+        Deployment dep = entityOperator.generateDeployment(true, Collections.EMPTY_MAP, null, null);
+
+        // The opted-in state directory is mounted from a disk backed emptyDir volume
+        Container topicOperatorContainerSpec = dep.getSpec().getTemplate().getSpec().getContainers().get(0);
+        assertThat(topicOperatorContainerSpec.getEnv(), hasItem(new EnvVar(EntityTopicOperator.ENV_VAR_STORE_STATE_DIR, "/var/lib/topic-store", null)));
+        assertThat(volumeMounts(topicOperatorContainerSpec.getVolumeMounts()).get(EntityTopicOperator.TOPIC_OPERATOR_STORE_STATE_VOLUME_NAME), is("/var/lib/topic-store"));
+
+        Volume volume = dep.getSpec().getTemplate().getSpec().getVolumes().stream()
+                .filter(v -> EntityTopicOperator.TOPIC_OPERATOR_STORE_STATE_VOLUME_NAME.equals(v.getName()))
+                .findFirst().orElseThrow();
+        assertThat(volume.getEmptyDir(), is(notNullValue()));
+        assertThat(volume.getEmptyDir().getMedium(), is(nullValue()));
+
+        // Without the opt-in, no volume is added
+        assertThat(this.entityOperator.getTopicOperator().getVolumes().stream()
+                .anyMatch(v -> EntityTopicOperator.TOPIC_OPERATOR_STORE_STATE_VOLUME_NAME.equals(v.getName())), is(false));
+    }
+
     @ParallelTest
     public void testTopicOperatorContainerEnvVarsConflict() {
         ContainerEnvVar envVar1 = new ContainerEnvVar();
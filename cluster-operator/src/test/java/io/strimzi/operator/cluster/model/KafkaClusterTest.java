@@ -468,12 +468,17 @@ public class KafkaClusterTest {
         assertThat(containers.get(0).getLivenessProbe().getFailureThreshold(), is(Integer.valueOf(10)));
         assertThat(containers.get(0).getLivenessProbe().getSuccessThreshold(), is(Integer.valueOf(4)));
         assertThat(containers.get(0).getLivenessProbe().getPeriodSeconds(), is(Integer.valueOf(33)));
+        assertThat(containers.get(0).getLivenessProbe().getHttpGet().getPath(), is("/v1/live"));
+        assertThat(containers.get(0).getLivenessProbe().getHttpGet().getPort().getStrVal(), is(KafkaCluster.KAFKA_AGENT_PORT_NAME));
         assertThat(containers.get(0).getReadinessProbe().getTimeoutSeconds(), is(Integer.valueOf(healthTimeout)));
         assertThat(containers.get(0).getReadinessProbe().getInitialDelaySeconds(), is(Integer.valueOf(healthDelay)));
         assertThat(containers.get(0).getReadinessProbe().getFailureThreshold(), is(Integer.valueOf(10)));
         assertThat(containers.get(0).getReadinessProbe().getSuccessThreshold(), is(Integer.valueOf(4)));
         assertThat(containers.get(0).getReadinessProbe().getPeriodSeconds(), is(Integer.valueOf(33)));
+        assertThat(containers.get(0).getReadinessProbe().getHttpGet().getPath(), is("/v1/ready"));
+        assertThat(containers.get(0).getReadinessProbe().getHttpGet().getPort().getStrVal(), is(KafkaCluster.KAFKA_AGENT_PORT_NAME));
         assertThat(AbstractModel.containerEnvVars(containers.get(0)).get(KafkaCluster.ENV_VAR_STRIMZI_KAFKA_GC_LOG_ENABLED), is(Boolean.toString(AbstractModel.DEFAULT_JVM_GC_LOGGING_ENABLED)));
+        assertThat(AbstractModel.containerEnvVars(containers.get(0)).get(KafkaCluster.ENV_VAR_STRIMZI_KAFKA_AGENT_PORT), is(String.valueOf(KafkaCluster.KAFKA_AGENT_PORT)));
         assertThat(containers.get(0).getVolumeMounts().get(1).getName(), is(AbstractModel.STRIMZI_TMP_DIRECTORY_DEFAULT_VOLUME_NAME));
         assertThat(containers.get(0).getVolumeMounts().get(1).getMountPath(), is(AbstractModel.STRIMZI_TMP_DIRECTORY_DEFAULT_MOUNT_PATH));
         assertThat(containers.get(0).getVolumeMounts().get(3).getName(), is(KafkaCluster.BROKER_CERTS_VOLUME));
@@ -488,6 +493,9 @@ public class KafkaClusterTest {
         assertThat(containers.get(0).getPorts().get(1).getName(), is(KafkaCluster.REPLICATION_PORT_NAME));
         assertThat(containers.get(0).getPorts().get(1).getContainerPort(), is(KafkaCluster.REPLICATION_PORT));
         assertThat(containers.get(0).getPorts().get(1).getProtocol(), is("TCP"));
+        assertThat(containers.get(0).getPorts().get(2).getName(), is(KafkaCluster.KAFKA_AGENT_PORT_NAME));
+        assertThat(containers.get(0).getPorts().get(2).getContainerPort(), is(KafkaCluster.KAFKA_AGENT_PORT));
+        assertThat(containers.get(0).getPorts().get(2).getProtocol(), is("TCP"));
 
         if (cm.getSpec().getKafka().getRack() != null) {
 
@@ -4,15 +4,20 @@
  */
 package io.strimzi.operator.cluster.model;
 
+import io.strimzi.kafka.config.model.ConfigModel;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.test.annotations.ParallelSuite;
 import io.strimzi.test.annotations.ParallelTest;
 
+import java.util.Map;
+
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ParallelSuite
 public class KafkaConfigurationTests {
@@ -24,6 +29,14 @@ public class KafkaConfigurationTests {
         assertThat(kafkaConfiguration.validate(kafkaVersion), is(singletonList(errorMsg)));
     }
 
+    @ParallelTest
+    public void configModelIsReadOnce() {
+        Map<String, ConfigModel> configModel = KafkaConfiguration.readConfigModel(kafkaVersion);
+
+        assertThat(KafkaConfiguration.readConfigModel(kafkaVersion), is(sameInstance(configModel)));
+        assertThrows(UnsupportedOperationException.class, () -> configModel.remove("log.cleanup.policy"));
+    }
+
     @ParallelTest
     public void unknownConfigIsNotAnError() {
         assertNoError("foo", true);
@@ -74,8 +74,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -127,6 +129,40 @@ public class ConnectorMockTest {
         return connectorState != null ? Future.succeededFuture(statusNode) : Future.failedFuture("No such connector " + connectorName);
     }
 
+    private Future<Map<String, Map<String, Object>>> kafkaConnectApiListWithStatusAndInfoMock(String host) {
+        String matchingKeyPrefix = host + "##";
+        Map<String, Map<String, Object>> connectors = new HashMap<>();
+
+        for (Map.Entry<String, ConnectorState> connector : runningConnectors.entrySet()) {
+            if (connector.getKey().startsWith(matchingKeyPrefix)) {
+                String connectorName = connector.getKey().substring(matchingKeyPrefix.length());
+
+                Map<String, Object> info = new HashMap<>();
+                info.put("name", connectorName);
+                info.put("config", connectorConfig(connectorName, connector.getValue()));
+
+                Map<String, Object> description = new HashMap<>();
+                description.put("status", kafkaConnectApiStatusMock(host, connectorName).result());
+                description.put("info", info);
+
+                connectors.put(connectorName, description);
+            }
+        }
+
+        return Future.succeededFuture(connectors);
+    }
+
+    private static Map<String, String> connectorConfig(String connectorName, ConnectorState connectorState) {
+        Map<String, String> map = new HashMap<>();
+        map.put("name", connectorName);
+        for (Map.Entry<String, Object> entry : connectorState.config) {
+            if (entry.getValue() != null) {
+                map.put(entry.getKey(), entry.getValue().toString());
+            }
+        }
+        return map;
+    }
+
     @SuppressWarnings({"checkstyle:MethodLength"})
     @BeforeEach
     public void setup(VertxTestContext testContext) {
@@ -192,19 +228,13 @@ public class ConnectorMockTest {
             return Future.succeededFuture(Collections.singletonList(connectorPlugin));
         });
         when(api.updateConnectLoggers(any(), anyString(), anyInt(), anyString(), any(OrderedProperties.class))).thenReturn(Future.succeededFuture());
+        when(api.listWithStatusAndInfo(any(), any(), anyInt())).thenAnswer(i -> kafkaConnectApiListWithStatusAndInfoMock(i.getArgument(1)));
         when(api.getConnectorConfig(any(), any(), any(), anyInt(), any())).thenAnswer(invocation -> {
             String host = invocation.getArgument(2);
             String connectorName = invocation.getArgument(4);
             ConnectorState connectorState = runningConnectors.get(key(host, connectorName));
             if (connectorState != null) {
-                Map<String, String> map = new HashMap<>();
-                map.put("name", connectorName);
-                for (Map.Entry<String, Object> entry : connectorState.config) {
-                    if (entry.getValue() != null) {
-                        map.put(entry.getKey(), entry.getValue().toString());
-                    }
-                }
-                return Future.succeededFuture(map);
+                return Future.succeededFuture(connectorConfig(connectorName, connectorState));
             } else {
                 return Future.failedFuture(new ConnectRestException("GET", String.format("/connectors/%s/config", connectorName), 404, "Not Found", ""));
             }
@@ -558,7 +588,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(any(),
@@ -580,7 +610,7 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(connector);
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(1)).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -620,7 +650,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
             "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -641,10 +671,10 @@ public class ConnectorMockTest {
         Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).create(connect);
         waitForConnectReady(connectName);
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
-        // triggered three times (Connect creation, Connector Status update, Connect Status update)
-        verify(api, times(3)).createOrUpdatePutRequest(any(),
+        // triggered twice (Connect creation, Connector Status update), the Connect Status update does not trigger another reconciliation
+        verify(api, times(2)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
                 eq(connectorName), any());
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
@@ -682,7 +712,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -704,7 +734,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered twice (Connect creation, Connector Status update)
         verify(api, times(1)).createOrUpdatePutRequest(any(),
@@ -745,7 +775,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName, "NoSuchResourceException",
                 "KafkaConnect resource 'cluster' identified by label '" + Labels.STRIMZI_CLUSTER_LABEL + "' does not exist in namespace ns.");
 
-        verify(api, never()).list(
+        verify(api, never()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -768,7 +798,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         // triggered at least two times (Connect creation, Connector Status update)
         verify(api, atLeast(2)).createOrUpdatePutRequest(any(),
@@ -911,7 +941,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // triggered at least once (Connect creation)
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -931,7 +961,7 @@ public class ConnectorMockTest {
         waitForConnectorNotReady(connectorName,
                 "ConnectRestException", "GET /foo returned 500 (Internal server error): Bad stuff happened");
 
-        verify(api, times(2)).list(
+        verify(api, times(1)).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(2)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -960,7 +990,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -982,7 +1012,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(1)).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1047,7 +1077,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1068,7 +1098,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(1)).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1124,7 +1154,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1145,7 +1175,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(1)).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1199,7 +1229,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1220,7 +1250,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(1)).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1275,7 +1305,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, never()).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1296,7 +1326,7 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
 
-        verify(api, times(2)).list(
+        verify(api, times(1)).listWithStatusAndInfo(any(),
             eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1350,7 +1380,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(any(),
@@ -1372,7 +1402,7 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(connector);
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(1)).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1380,6 +1410,7 @@ public class ConnectorMockTest {
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
         when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithStatusAndInfo(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1416,7 +1447,7 @@ public class ConnectorMockTest {
         waitForConnectReady(connectName);
 
         // could be triggered twice (creation followed by status update) but waitForConnectReady could be satisfied with single
-        verify(api, atLeastOnce()).list(
+        verify(api, atLeastOnce()).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
 
         verify(api, never()).createOrUpdatePutRequest(any(),
@@ -1438,7 +1469,7 @@ public class ConnectorMockTest {
         Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(connector);
         waitForConnectorReady(connectorName);
 
-        verify(api, times(2)).list(
+        verify(api, times(1)).listWithStatusAndInfo(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT));
         verify(api, times(1)).createOrUpdatePutRequest(any(),
                 eq(KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE)), eq(KafkaConnectCluster.REST_API_PORT),
@@ -1446,6 +1477,7 @@ public class ConnectorMockTest {
         assertThat(runningConnectors.keySet(), is(Collections.singleton(key("cluster-connect-api.ns.svc", connectorName))));
 
         when(api.list(any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
+        when(api.listWithStatusAndInfo(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.listConnectorPlugins(any(), any(), anyInt())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.createOrUpdatePutRequest(any(), any(), anyInt(), anyString(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
         when(api.getConnectorConfig(any(), any(), any(), anyInt(), any())).thenReturn(Future.failedFuture(new ConnectTimeoutException("connection timed out")));
@@ -1550,4 +1582,86 @@ public class ConnectorMockTest {
         waitForConnectorReady(connectorName);
         waitForConnectorState(connectorName, "RUNNING");
     }
+
+    /**
+     * Creates a KafkaConnect cluster with a connector and waits until both are ready
+     */
+    private void createConnectAndConnector(String connectName, String connectorName) {
+        Crds.kafkaConnectOperation(client).inNamespace(NAMESPACE).create(new KafkaConnectBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(connectName)
+                    .addToAnnotations(Annotations.STRIMZI_IO_USE_CONNECTOR_RESOURCES, "true")
+                .endMetadata()
+                .withNewSpec()
+                    .withReplicas(1)
+                .endSpec()
+                .build());
+        waitForConnectReady(connectName);
+
+        Crds.kafkaConnectorOperation(client).inNamespace(NAMESPACE).create(new KafkaConnectorBuilder()
+                .withNewMetadata()
+                    .withName(connectorName)
+                    .withNamespace(NAMESPACE)
+                    .addToLabels(Labels.STRIMZI_CLUSTER_LABEL, connectName)
+                .endMetadata()
+                .withNewSpec()
+                    .withTasksMax(1)
+                    .withClassName("Dummy")
+                .endSpec()
+                .build());
+        waitForConnectorReady(connectorName);
+        waitForConnectorState(connectorName, "RUNNING");
+    }
+
+    /** Unchanged connectors are reconciled only from the bulk connector list */
+    @Test
+    public void testUnchangedConnectorUsesConnectorsSnapshot() throws Exception {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+
+        createConnectAndConnector(connectName, connectorName);
+
+        Reconciliation reconciliation = new Reconciliation("test", KafkaConnect.RESOURCE_KIND, NAMESPACE, connectName);
+        kafkaConnectOperator.reconcile(reconciliation).toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+
+        verify(api, times(1)).listWithStatusAndInfo(same(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, never()).getConnectorConfig(same(reconciliation), any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+        verify(api, never()).status(same(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+        verify(api, never()).statusWithBackOff(same(reconciliation), any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+        verify(api, never()).createOrUpdatePutRequest(same(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName), any());
+        // The topics cannot be included in the connector list
+        verify(api, times(1)).getConnectorTopics(same(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+
+        waitForConnectorReady(connectorName);
+        waitForConnectorState(connectorName, "RUNNING");
+    }
+
+    /** When the bulk connector list fails, the connector names are listed and the connector details requested separately */
+    @Test
+    public void testConnectorsSnapshotFallsBackToConnectorList() throws Exception {
+        String connectName = "cluster";
+        String connectorName = "connector";
+        String host = KafkaConnectResources.qualifiedServiceName(connectName, NAMESPACE);
+
+        createConnectAndConnector(connectName, connectorName);
+
+        when(api.listWithStatusAndInfo(any(), any(), anyInt()))
+                .thenReturn(Future.failedFuture(new ConnectRestException("GET", "/connectors", 409, "Conflict", "Cannot complete request because of a conflicting operation (e.g. worker rebalance)")));
+        clearInvocations(api);
+
+        Reconciliation reconciliation = new Reconciliation("test", KafkaConnect.RESOURCE_KIND, NAMESPACE, connectName);
+        kafkaConnectOperator.reconcile(reconciliation).toCompletionStage().toCompletableFuture().get(30, TimeUnit.SECONDS);
+
+        verify(api, times(1)).listWithStatusAndInfo(same(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, atLeastOnce()).list(eq(host), eq(KafkaConnectCluster.REST_API_PORT));
+        verify(api, times(1)).getConnectorConfig(same(reconciliation), any(), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+        verify(api, times(1)).status(same(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName));
+        verify(api, never()).createOrUpdatePutRequest(same(reconciliation), eq(host), eq(KafkaConnectCluster.REST_API_PORT), eq(connectorName), any());
+        assertThat(runningConnectors.keySet(), is(Collections.singleton(key(host, connectorName))));
+
+        waitForConnectorReady(connectorName);
+        waitForConnectorState(connectorName, "RUNNING");
+    }
 }
@@ -448,7 +448,10 @@ public class KafkaAssemblyOperatorNonParametrizedTest {
                 ClusterOperatorConfig.RbacScope.CLUSTER,
                 Labels.fromMap(Map.of("selectorLabel", "value")),
                 "",
-                10);
+                10,
+                10,
+                5,
+                1);
 
         KafkaAssemblyOperator op = new KafkaAssemblyOperator(vertx, new PlatformFeaturesAvailability(false, KubernetesVersion.V1_19), certManager, passwordGenerator,
                 supplier, config);
@@ -0,0 +1,239 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.OwnerReference;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.KafkaList;
+import io.strimzi.api.kafka.model.Kafka;
+import io.strimzi.api.kafka.model.KafkaBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.GenericKafkaListenerBuilder;
+import io.strimzi.api.kafka.model.listener.arraylistener.KafkaListenerType;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.KafkaStatus;
+import io.strimzi.operator.KubernetesVersion;
+import io.strimzi.operator.PlatformFeaturesAvailability;
+import io.strimzi.operator.cluster.FeatureGates;
+import io.strimzi.operator.cluster.KafkaVersionTestUtils;
+import io.strimzi.operator.cluster.ResourceUtils;
+import io.strimzi.operator.cluster.model.KafkaVersion;
+import io.strimzi.operator.cluster.operator.resource.ResourceOperatorSupplier;
+import io.strimzi.operator.common.PasswordGenerator;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.MockCertManager;
+import io.strimzi.test.mockkube.MockKube;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static java.util.Collections.singletonMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Checks that executing the Kafka reconciliation steps as a graph produces the same resources and status as executing
+ * them one after another in the order in which they are declared.
+ */
+@ExtendWith(VertxExtension.class)
+public class KafkaAssemblyOperatorStepGraphTest {
+    private static final String NAMESPACE = "my-namespace";
+    private static final String CLUSTER_NAME = "my-cluster";
+    private static final KafkaVersion.Lookup VERSIONS = KafkaVersionTestUtils.getKafkaVersionLookup();
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+        ResourceUtils.cleanUpTemporaryTLSFiles();
+    }
+
+    private static Kafka kafka(int kafkaReplicas) {
+        return new KafkaBuilder()
+                .withNewMetadata()
+                    .withName(CLUSTER_NAME)
+                    .withNamespace(NAMESPACE)
+                    .withLabels(singletonMap("foo", "bar"))
+                .endMetadata()
+                .withNewSpec()
+                    .withNewKafka()
+                        .withReplicas(kafkaReplicas)
+                        .withListeners(new GenericKafkaListenerBuilder()
+                                    .withName("plain")
+                                    .withPort(9092)
+                                    .withType(KafkaListenerType.INTERNAL)
+                                    .withTls(false)
+                                    .build(),
+                                new GenericKafkaListenerBuilder()
+                                    .withName("tls")
+                                    .withPort(9093)
+                                    .withType(KafkaListenerType.INTERNAL)
+                                    .withTls(true)
+                                    .build())
+                        .withNewPersistentClaimStorage()
+                            .withSize("123")
+                            .withStorageClass("foo")
+                            .withDeleteClaim(true)
+                        .endPersistentClaimStorage()
+                    .endKafka()
+                    .withNewZookeeper()
+                        .withReplicas(3)
+                        .withNewPersistentClaimStorage()
+                            .withSize("123")
+                            .withStorageClass("foo")
+                            .withDeleteClaim(true)
+                        .endPersistentClaimStorage()
+                    .endZookeeper()
+                    .withNewEntityOperator()
+                        .withNewTopicOperator()
+                        .endTopicOperator()
+                        .withNewUserOperator()
+                        .endUserOperator()
+                    .endEntityOperator()
+                    .withNewKafkaExporter()
+                    .endKafkaExporter()
+                    .withNewCruiseControl()
+                    .endCruiseControl()
+                .endSpec()
+                .build();
+    }
+
+    private static KubernetesClient mockKube() {
+        return new MockKube()
+                .withCustomResourceDefinition(Crds.kafka(), Kafka.class, KafkaList.class)
+                    .withInitialInstances(Collections.singleton(kafka(3)))
+                .end()
+                .build();
+    }
+
+    private static KafkaAssemblyOperator operator(KubernetesClient client, boolean sequential) {
+        PlatformFeaturesAvailability pfa = new PlatformFeaturesAvailability(true, KubernetesVersion.V1_16);
+        ResourceOperatorSupplier supplier = new ResourceOperatorSupplier(vertx, client,
+                ResourceUtils.zookeeperLeaderFinder(vertx, client),
+                ResourceUtils.adminClientProvider(), ResourceUtils.zookeeperScalerProvider(),
+                ResourceUtils.metricsProvider(), pfa, FeatureGates.NONE, 2_000);
+
+        return new KafkaAssemblyOperator(vertx, pfa, new MockCertManager(), new PasswordGenerator(10, "a", "a"), supplier,
+                ResourceUtils.dummyClusterOperatorConfig(VERSIONS)) {
+            @Override
+            ReconciliationStepGraph stepGraph(Reconciliation reconciliation) {
+                return new ReconciliationStepGraph(reconciliation, supplier.metricsProvider, sequential);
+            }
+        };
+    }
+
+    /**
+     * Creates the cluster, scales the Kafka brokers up and reconciles it again
+     */
+    private static Future<Void> createAndScaleUp(KafkaAssemblyOperator operator, KubernetesClient client) {
+        return operator.reconcile(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME))
+                .compose(i -> {
+                    Kafka kafka = Crds.kafkaOperation(client).inNamespace(NAMESPACE).withName(CLUSTER_NAME).get();
+                    kafka.getSpec().getKafka().setReplicas(4);
+                    Crds.kafkaOperation(client).inNamespace(NAMESPACE).withName(CLUSTER_NAME).patch(kafka);
+
+                    return operator.reconcile(new Reconciliation("test-trigger", Kafka.RESOURCE_KIND, NAMESPACE, CLUSTER_NAME));
+                });
+    }
+
+    /**
+     * Returns the resources indexed by their name without the fields set by the (mock) API server
+     */
+    private static <T extends HasMetadata> Map<String, T> normalized(List<T> resources) {
+        return resources.stream()
+                .peek(resource -> {
+                    resource.getMetadata().setUid(null);
+                    resource.getMetadata().setResourceVersion(null);
+                    resource.getMetadata().setCreationTimestamp(null);
+                    resource.getMetadata().setGeneration(null);
+
+                    if (resource.getMetadata().getOwnerReferences() != null) {
+                        for (OwnerReference ownerReference : resource.getMetadata().getOwnerReferences()) {
+                            ownerReference.setUid(null);
+                        }
+                    }
+                })
+                .collect(Collectors.toMap(resource -> resource.getMetadata().getName(), Function.identity(), (a, b) -> a, TreeMap::new));
+    }
+
+    /**
+     * Secrets contain keystores which differ in every reconciliation, so only their keys are compared
+     */
+    private static Map<String, Object> secretKeys(List<Secret> secrets) {
+        return normalized(secrets).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> new TreeMap<>(e.getValue().getData()).keySet(), (a, b) -> a, TreeMap::new));
+    }
+
+    /**
+     * The names of the Deployment pods end with a random suffix, so only the names of their Deployments are compared
+     */
+    private static List<String> podNames(KubernetesClient client) {
+        return client.pods().inNamespace(NAMESPACE).list().getItems().stream()
+                .map(pod -> pod.getMetadata().getName().replaceAll("-[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$", ""))
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static KafkaStatus status(KubernetesClient client) {
+        KafkaStatus status = Crds.kafkaOperation(client).inNamespace(NAMESPACE).withName(CLUSTER_NAME).get().getStatus();
+
+        for (Condition condition : status.getConditions()) {
+            condition.setLastTransitionTime(null);
+        }
+
+        return status;
+    }
+
+    @Test
+    public void testStepGraphProducesTheSameResultAsSequentialSteps(VertxTestContext context) {
+        KubernetesClient sequentialClient = mockKube();
+        KubernetesClient graphClient = mockKube();
+
+        Checkpoint async = context.checkpoint();
+        createAndScaleUp(operator(sequentialClient, true), sequentialClient)
+            .compose(i -> createAndScaleUp(operator(graphClient, false), graphClient))
+            .onComplete(context.succeeding(i -> context.verify(() -> {
+                assertThat(normalized(graphClient.apps().statefulSets().inNamespace(NAMESPACE).list().getItems()),
+                        is(normalized(sequentialClient.apps().statefulSets().inNamespace(NAMESPACE).list().getItems())));
+                assertThat(normalized(graphClient.apps().deployments().inNamespace(NAMESPACE).list().getItems()),
+                        is(normalized(sequentialClient.apps().deployments().inNamespace(NAMESPACE).list().getItems())));
+                assertThat(podNames(graphClient), is(podNames(sequentialClient)));
+                assertThat(normalized(graphClient.configMaps().inNamespace(NAMESPACE).list().getItems()),
+                        is(normalized(sequentialClient.configMaps().inNamespace(NAMESPACE).list().getItems())));
+                assertThat(normalized(graphClient.services().inNamespace(NAMESPACE).list().getItems()),
+                        is(normalized(sequentialClient.services().inNamespace(NAMESPACE).list().getItems())));
+                assertThat(normalized(graphClient.serviceAccounts().inNamespace(NAMESPACE).list().getItems()),
+                        is(normalized(sequentialClient.serviceAccounts().inNamespace(NAMESPACE).list().getItems())));
+                assertThat(normalized(graphClient.persistentVolumeClaims().inNamespace(NAMESPACE).list().getItems()),
+                        is(normalized(sequentialClient.persistentVolumeClaims().inNamespace(NAMESPACE).list().getItems())));
+                assertThat(secretKeys(graphClient.secrets().inNamespace(NAMESPACE).list().getItems()),
+                        is(secretKeys(sequentialClient.secrets().inNamespace(NAMESPACE).list().getItems())));
+                assertThat(status(graphClient), is(status(sequentialClient)));
+
+                async.flag();
+            })));
+    }
+}
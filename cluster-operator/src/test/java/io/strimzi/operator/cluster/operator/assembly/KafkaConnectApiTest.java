@@ -10,6 +10,7 @@ import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 
 import io.strimzi.api.kafka.model.connect.ConnectorPlugin;
@@ -239,7 +240,13 @@ public class KafkaConnectApiTest {
             .compose(createResponse -> client.list("localhost", PORT))
             .onComplete(context.succeeding(connectorNames -> context.verify(() ->
                     assertThat(connectorNames, is(singletonList("test"))))))
-            .compose(connectorNames -> client.delete(Reconciliation.DUMMY_RECONCILIATION, "localhost", PORT, "test"))
+            .compose(connectorNames -> client.listWithStatusAndInfo(Reconciliation.DUMMY_RECONCILIATION, "localhost", PORT))
+            .onComplete(context.succeeding(connectors -> context.verify(() -> {
+                assertThat(connectors.keySet(), is(Set.of("test")));
+                assertThat(((Map) connectors.get("test").get("status")).get("name"), is("test"));
+                assertThat(((Map) ((Map) connectors.get("test").get("info")).get("config")).get("topic"), is("my-topic"));
+            })))
+            .compose(connectors -> client.delete(Reconciliation.DUMMY_RECONCILIATION, "localhost", PORT, "test"))
             .onComplete(context.succeeding())
             .compose(deletedConnector -> client.list("localhost", PORT))
             .onComplete(context.succeeding(connectorNames -> assertThat(connectorNames, is(empty()))))
@@ -0,0 +1,143 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.assembly;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReconciliationStepGraphTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "ns", "my-cluster");
+
+    private static MetricsProvider metrics(MeterRegistry registry) {
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.meterRegistry()).thenReturn(registry);
+        when(metrics.timer(any(), any(), any())).thenAnswer(i -> Timer.builder(i.getArgument(0)).tags(i.<Tags>getArgument(2)).register(registry));
+        return metrics;
+    }
+
+    @Test
+    public void testIndependentStepsRunConcurrently() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        List<String> started = new CopyOnWriteArrayList<>();
+        Promise<Void> first = Promise.promise();
+        Promise<Void> second = Promise.promise();
+
+        ReconciliationStepGraph steps = new ReconciliationStepGraph(RECONCILIATION, metrics(registry))
+                .step("first", () -> {
+                    started.add("first");
+                    return first.future();
+                })
+                .step("second", () -> {
+                    started.add("second");
+                    return second.future();
+                })
+                .step("third", () -> {
+                    started.add("third");
+                    return Future.succeededFuture();
+                }, "first", "second");
+
+        Future<Void> result = steps.execute();
+
+        // Both independent steps are running, the dependent one waits for them
+        assertThat(started, is(List.of("first", "second")));
+
+        first.complete();
+        assertThat(started, is(List.of("first", "second")));
+
+        second.complete();
+        assertThat(started, is(List.of("first", "second", "third")));
+        assertThat(result.succeeded(), is(true));
+
+        assertThat(registry.get("strimzi.reconciliations.step.duration").tag("kind", "Kafka").tag("step", "third").timer().count(), is(1L));
+    }
+
+    @Test
+    public void testSequentialStepsRunInDeclarationOrder() {
+        List<String> started = new CopyOnWriteArrayList<>();
+        Promise<Void> first = Promise.promise();
+
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, metrics(new SimpleMeterRegistry()), true)
+                .step("first", () -> {
+                    started.add("first");
+                    return first.future();
+                })
+                .step("second", () -> {
+                    started.add("second");
+                    return Future.succeededFuture();
+                })
+                .step("third", () -> {
+                    started.add("third");
+                    return Future.succeededFuture();
+                }, "first")
+                .execute();
+
+        // The independent second step waits for the first one as well
+        assertThat(started, is(List.of("first")));
+
+        first.complete();
+        assertThat(started, is(List.of("first", "second", "third")));
+        assertThat(result.succeeded(), is(true));
+    }
+
+    @Test
+    public void testFailedStepSkipsDependentSteps() {
+        List<String> started = new CopyOnWriteArrayList<>();
+
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, metrics(new SimpleMeterRegistry()))
+                .step("first", () -> {
+                    started.add("first");
+                    return Future.failedFuture(new RuntimeException("first failed"));
+                })
+                .step("independent", () -> {
+                    started.add("independent");
+                    return Future.failedFuture(new RuntimeException("independent failed"));
+                })
+                .step("dependent", () -> {
+                    started.add("dependent");
+                    return Future.succeededFuture();
+                }, "first")
+                .execute();
+
+        assertThat(started, is(List.of("first", "independent")));
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("first failed"));
+    }
+
+    @Test
+    public void testExceptionInStepFailsTheGraph() {
+        Future<Void> result = new ReconciliationStepGraph(RECONCILIATION, metrics(new SimpleMeterRegistry()))
+                .step("first", () -> {
+                    throw new RuntimeException("thrown");
+                })
+                .execute();
+
+        assertThat(result.failed(), is(true));
+        assertThat(result.cause().getMessage(), is("thrown"));
+    }
+
+    @Test
+    public void testUnknownDependencyIsRejected() {
+        ReconciliationStepGraph steps = new ReconciliationStepGraph(RECONCILIATION, metrics(new SimpleMeterRegistry()));
+
+        assertThrows(IllegalArgumentException.class, () -> steps.step("first", Future::succeededFuture, "second"));
+    }
+}
@@ -34,15 +34,20 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static java.util.Collections.singleton;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -53,6 +58,7 @@ public class KafkaAvailabilityTest {
         private Throwable listTopicsResult;
         private Map<String, Throwable> describeTopicsResult = new HashMap<>(1);
         private Map<ConfigResource, Throwable> describeConfigsResult = new HashMap<>(1);
+        private Map<String, String> brokerConfigs = new HashMap<>();
 
         class TSB {
             class PSB {
@@ -165,6 +171,11 @@ public class KafkaAvailabilityTest {
             return ltr;
         }
 
+        KSB addToBrokerConfig(String config, String value) {
+            brokerConfigs.put(config, value);
+            return this;
+        }
+
         KSB listTopicsResult(Throwable t) {
             listTopicsResult = t;
             return this;
@@ -200,7 +211,7 @@ public class KafkaAvailabilityTest {
                 if (throwable != null) {
                     when(dtr.all()).thenReturn(failedFuture(throwable));
                 } else {
-                    Map<String, TopicDescription> tds = topics.entrySet().stream().collect(Collectors.toMap(
+                    Map<String, TopicDescription> tds = topics.entrySet().stream().filter(e -> topicNames.contains(e.getKey())).collect(Collectors.toMap(
                         e -> e.getKey(),
                         e -> {
                             TSB tsb = e.getValue();
@@ -245,7 +256,8 @@ public class KafkaAvailabilityTest {
                     Map<ConfigResource, Config> result = new HashMap<>();
                     for (ConfigResource cr : argument) {
                         List<ConfigEntry> entries = new ArrayList<>();
-                        for (Map.Entry<String, String> e : topics.get(cr.name()).configs.entrySet()) {
+                        Map<String, String> configs = cr.type() == ConfigResource.Type.BROKER ? brokerConfigs : topics.get(cr.name()).configs;
+                        for (Map.Entry<String, String> e : configs.entrySet()) {
                             ConfigEntry ce = new ConfigEntry(e.getKey(), e.getValue());
                             entries.add(ce);
                         }
@@ -640,4 +652,210 @@ public class KafkaAvailabilityTest {
             }
         }
     }
+
+    @Test
+    public void testOnlyTopicsOnRestartedBrokerAreDescribedAgain(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(1)
+                        .isr(0, 1, 2)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(2, 3)
+                        .leader(2)
+                        .isr(2, 3)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(4);
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac);
+
+        kafkaAvailability.canRoll(0)
+            .compose(canRoll -> {
+                context.verify(() -> {
+                    assertTrue(canRoll, "broker 0 should be rollable, all replicas are in sync");
+                    verify(ac, times(1)).describeTopics(any());
+                    verify(ac, times(1)).describeConfigs(any());
+                });
+
+                // Broker 0 was restarted and did not catch up yet
+                ksb.addNewTopic("A", false).addNewPartition(0).isr(1, 2);
+                kafkaAvailability.brokerRestarted(0);
+
+                return kafkaAvailability.canRoll(1);
+            })
+            .compose(canRoll -> {
+                context.verify(() -> {
+                    assertFalse(canRoll, "broker 1 should not be rollable, being minisr = 2 and it's only replicated on two brokers");
+                    // Only the topic on the restarted broker was described again, its min.insync.replicas was cached
+                    verify(ac, times(1)).describeTopics(singleton("A"));
+                    verify(ac, times(2)).describeTopics(any());
+                    verify(ac, times(1)).describeConfigs(any());
+                });
+
+                return kafkaAvailability.canRoll(3);
+            })
+            .onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                assertTrue(canRoll, "broker 3 should be rollable, being minisr = 1 and having two brokers in its isr");
+                // Only the configuration of topic B was not cached yet
+                verify(ac, times(2)).describeConfigs(any());
+                context.completeNow();
+            })));
+    }
+
+    @Test
+    public void testTopicsAreDescribedInBatches(VertxTestContext context) {
+        KSB ksb = new KSB();
+        for (int i = 0; i < 5; i++) {
+            ksb.addNewTopic("topic-" + i, false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic();
+        }
+        ksb.addBroker(2);
+
+        Admin ac = ksb.ac();
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ac, 2);
+
+        kafkaAvailability.canRoll(0).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "broker 0 should be rollable, being minisr = 1 and having two brokers in its isr");
+            verify(ac, times(3)).describeTopics(any());
+            verify(ac, times(3)).describeConfigs(any());
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testBrokerDefaultMinIsr(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 2)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(3)
+                .addToBrokerConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2");
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(ksb.brokers.size());
+        for (Integer brokerId : ksb.brokers.keySet()) {
+            kafkaAvailability.canRoll(brokerId).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+                if (brokerId >= 2) {
+                    assertTrue(canRoll, "broker " + brokerId + " should be rollable, not being in the isr");
+                } else {
+                    assertFalse(canRoll, "broker " + brokerId + " should not be rollable, being minisr = 2 (broker default) and it's only replicated on two brokers");
+                }
+                a.flag();
+            })));
+        }
+    }
+
+    @Test
+    public void testBatchesDoNotSharePartitions(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                    .addNewPartition(1)
+                        .replicaOn(2, 3)
+                        .leader(2)
+                        .isr(2, 3)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(1, 2)
+                        .leader(1)
+                        .isr(1, 2)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(5);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        kafkaAvailability.batches(List.of(0, 1, 2, 3, 4), Map.of(), 3).onComplete(context.succeeding(batches -> context.verify(() -> {
+            assertThat(batches, is(List.of(Set.of(0, 2, 4), Set.of(1, 3))));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testBatchesFollowRacksAndMaxBatchSize(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "1")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(6);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+        Map<Integer, String> racks = Map.of(0, "zone-a", 1, "zone-b", 2, "zone-a", 3, "zone-b", 4, "zone-a", 5, "zone-a");
+
+        kafkaAvailability.batches(List.of(0, 1, 2, 3, 4, 5), racks, 2).onComplete(context.succeeding(batches -> context.verify(() -> {
+            assertThat(batches, is(List.of(Set.of(0, 2), Set.of(1, 3), Set.of(4, 5))));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testCanRollBatch(VertxTestContext context) {
+        KSB ksb = new KSB()
+                .addNewTopic("A", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(0, 1, 5)
+                        .leader(0)
+                        .isr(0, 1)
+                    .endPartition()
+                .endTopic()
+                .addNewTopic("B", false)
+                    .addToConfig(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                    .addNewPartition(0)
+                        .replicaOn(2, 3, 4)
+                        .leader(2)
+                        .isr(2, 3, 4)
+                    .endPartition()
+                .endTopic()
+
+                .addBroker(5);
+
+        KafkaAvailability kafkaAvailability = new KafkaAvailability(new Reconciliation("dummy", "kind", "namespace", "A"), ksb.ac());
+
+        Checkpoint a = context.checkpoint(2);
+        kafkaAvailability.canRoll(List.of(2, 4)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertTrue(canRoll, "brokers 2 and 4 should be rollable, being minisr = 2 and having three brokers in the isr");
+            a.flag();
+        })));
+        kafkaAvailability.canRoll(List.of(1, 2)).onComplete(context.succeeding(canRoll -> context.verify(() -> {
+            assertFalse(canRoll, "broker 1 should not be rollable, being minisr = 2 and having two brokers in the isr out of three replicas");
+            a.flag();
+        })));
+    }
 }
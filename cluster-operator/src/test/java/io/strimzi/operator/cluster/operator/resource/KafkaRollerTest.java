@@ -9,6 +9,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
@@ -22,8 +23,14 @@ import io.fabric8.kubernetes.api.model.PodBuilder;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
 import io.fabric8.kubernetes.api.model.apps.StatefulSetBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.operator.cluster.KafkaVersionTestUtils;
 import io.strimzi.operator.common.BackOff;
+import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.operator.resource.PodOperator;
@@ -118,6 +125,59 @@ public class KafkaRollerTest {
                 asList(0, 1, 3, 4, 2));
     }
 
+    @Test
+    public void testRollInBatches(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        TestingKafkaRoller kafkaRoller = rollerInBatches(sts, podOps, 2, Map.of(), registry, 2);
+        // Batches [0, 1], [2, 3] and [4]: the controller 2 is removed from its batch, so only [0, 1] is rolled together
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 1, 3, 4, 2),
+            () -> assertThat(registry.get("strimzi.kafka.rolling.batch.duration").timer().count(), is(1L)));
+    }
+
+    @Test
+    public void testRollInBatchesByRack(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        TestingKafkaRoller kafkaRoller = rollerInBatches(sts, podOps, 3,
+                Map.of(0, "zone-a", 1, "zone-b", 2, "zone-a", 3, "zone-b", 4, "zone-a"), registry, 4);
+        // Batches [0, 2, 4] and [1, 3]: the controller 4 is removed from its batch and rolled last
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 2, 1, 3, 4),
+            () -> assertThat(registry.get("strimzi.kafka.rolling.batch.duration").timer().count(), is(2L)));
+    }
+
+    @Test
+    public void testRollInBatchesOnlyPodsWhichNeedRestart(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        TestingKafkaRoller kafkaRoller = rollerInBatches(sts, podOps, 5, Map.of(), new SimpleMeterRegistry(), -1);
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(1, 3, 4),
+                asList(1, 3, 4));
+    }
+
+    @Test
+    public void testRollInBatchesFallsBackToOneAtATimeWhenBatchCannotRoll(VertxTestContext testContext) {
+        PodOperator podOps = mockPodOps(podId -> succeededFuture());
+        StatefulSet sts = buildStatefulSet();
+        // Broker 1 cannot be rolled in the batch, but can be rolled later one at a time
+        AtomicInteger broker1Checks = new AtomicInteger(0);
+        TestingKafkaRoller kafkaRoller = new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(brokerId != 1 || broker1Checks.incrementAndGet() > 1),
+            5, Map.of(), null,
+            -1);
+        doSuccessfulRollingRestart(testContext, kafkaRoller,
+                asList(0, 1, 2, 3, 4),
+                asList(0, 1, 2, 3, 4));
+    }
+
     @Test
     public void tesRollWithtAControllerChange(VertxTestContext testContext) {
         PodOperator podOps = mockPodOps(podId -> succeededFuture());
@@ -440,6 +500,19 @@ public class KafkaRollerTest {
             asList(0, 1, 4));
     }
 
+    private TestingKafkaRoller rollerInBatches(StatefulSet sts, PodOperator podOps, int maxBatchSize, Map<Integer, String> racks,
+                                               MeterRegistry registry, int... controllers) {
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.meterRegistry()).thenReturn(registry);
+        when(metrics.timer(any(), any(), any())).thenAnswer(i -> Timer.builder(i.getArgument(0)).tags(i.<Tags>getArgument(2)).register(registry));
+
+        return new TestingKafkaRoller(sts, null, null, podOps,
+                noException(), null, noException(), noException(), noException(),
+            brokerId -> succeededFuture(true),
+            maxBatchSize, racks, metrics,
+            controllers);
+    }
+
     private TestingKafkaRoller rollerWithControllers(StatefulSet sts, PodOperator podOps, int... controllers) {
         return new TestingKafkaRoller(sts, null, null, podOps,
                 noException(), null, noException(), noException(), noException(),
@@ -461,6 +534,13 @@ public class KafkaRollerTest {
     private void doSuccessfulRollingRestart(VertxTestContext testContext, TestingKafkaRoller kafkaRoller,
                                     Collection<Integer> podsToRestart,
                                     List<Integer> expected) {
+        doSuccessfulRollingRestart(testContext, kafkaRoller, podsToRestart, expected, () -> { });
+    }
+
+    private void doSuccessfulRollingRestart(VertxTestContext testContext, TestingKafkaRoller kafkaRoller,
+                                    Collection<Integer> podsToRestart,
+                                    List<Integer> expected,
+                                    VertxTestContext.ExecutionBlock additionalChecks) {
         Checkpoint async = testContext.checkpoint();
         kafkaRoller.rollingRestart(pod -> {
             if (podsToRestart.contains(podName2Number(pod.getMetadata().getName()))) {
@@ -471,6 +551,7 @@ public class KafkaRollerTest {
         })
             .onComplete(testContext.succeeding(v -> {
                 testContext.verify(() -> assertThat(restarted(), is(expected)));
+                testContext.verify(additionalChecks);
                 assertNoUnclosedAdminClient(testContext, kafkaRoller);
                 async.flag();
             }));
@@ -573,6 +654,7 @@ public class KafkaRollerTest {
         private final Function<Integer, ForceableProblem> alterConfigsException;
         private final Function<Integer, ForceableProblem> getConfigsException;
         private final int[] controllers;
+        private final Map<Integer, String> racks;
 
         private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
                                    PodOperator podOps,
@@ -583,9 +665,26 @@ public class KafkaRollerTest {
                                    Function<Integer, ForceableProblem> getConfigsException,
                                    Function<Integer, Future<Boolean>> canRollFn,
                                   int... controllers) {
+            this(sts, clusterCaCertSecret, coKeySecret, podOps, acOpenException, acCloseException, controllerException,
+                    alterConfigsException, getConfigsException, canRollFn, 1, Map.of(), null, controllers);
+        }
+
+        @SuppressWarnings("checkstyle:ParameterNumber")
+        private TestingKafkaRoller(StatefulSet sts, Secret clusterCaCertSecret, Secret coKeySecret,
+                                   PodOperator podOps,
+                                   Function<List<Integer>, RuntimeException> acOpenException,
+                                   Throwable acCloseException,
+                                   Function<Integer, Throwable> controllerException,
+                                   Function<Integer, ForceableProblem> alterConfigsException,
+                                   Function<Integer, ForceableProblem> getConfigsException,
+                                   Function<Integer, Future<Boolean>> canRollFn,
+                                   int maxBatchSize, Map<Integer, String> racks, MetricsProvider metrics,
+                                  int... controllers) {
             super(new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), KafkaRollerTest.vertx, podOps, 500, 1000,
                 () -> new BackOff(10L, 2, 4),
-                sts, clusterCaCertSecret, coKeySecret, "", "", KafkaVersionTestUtils.getLatestVersion(), true);
+                sts, clusterCaCertSecret, coKeySecret, new DefaultAdminClientProvider(), "", "", KafkaVersionTestUtils.getLatestVersion(), true,
+                maxBatchSize, metrics);
+            this.racks = racks;
             this.controllers = controllers;
             this.controllerCall = 0;
             Objects.requireNonNull(acOpenException);
@@ -621,7 +720,7 @@ public class KafkaRollerTest {
 
         @Override
         protected KafkaAvailability availability(Admin ac) {
-            return new KafkaAvailability(null, null) {
+            return new KafkaAvailability(new Reconciliation("test", "Kafka", stsNamespace(), clusterName()), null) {
                 @Override
                 protected Future<Set<String>> topicNames() {
                     return succeededFuture(Collections.emptySet());
@@ -677,6 +776,11 @@ public class KafkaRollerTest {
             }
         }
 
+        @Override
+        protected Map<Integer, String> brokerRacks() {
+            return racks;
+        }
+
         @Override
         protected Future<Void> restart(Pod pod) {
             restarted.add(pod.getMetadata().getName());
@@ -0,0 +1,111 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.cluster.operator.resource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServer;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class PooledHttpClientTest {
+    private static Vertx vertx;
+    private static HttpServer server;
+
+    @BeforeAll
+    public static void before(VertxTestContext context) {
+        vertx = Vertx.vertx();
+        vertx.createHttpServer()
+                .requestHandler(request -> request.response().end("pong"))
+                .listen(0)
+                .onComplete(context.succeeding(s -> {
+                    server = s;
+                    context.completeNow();
+                }));
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static MetricsProvider metrics(MeterRegistry registry) {
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.meterRegistry()).thenReturn(registry);
+        when(metrics.counter(any(), any(), any())).thenAnswer(i -> Counter.builder(i.getArgument(0)).tags(i.<Tags>getArgument(2)).register(registry));
+        return metrics;
+    }
+
+    private static Future<String> ping(PooledHttpClient client) {
+        return client.withHttpClient((httpClient, result) ->
+            httpClient.request(HttpMethod.GET, server.actualPort(), "localhost", "/ping")
+                    .compose(request -> request.send())
+                    .compose(response -> response.body())
+                    .onComplete(body -> {
+                        if (body.succeeded()) {
+                            result.complete(body.result().toString());
+                        } else {
+                            result.fail(body.cause());
+                        }
+                    }));
+    }
+
+    private static Future<Void> delay() {
+        Promise<Void> promise = Promise.promise();
+        vertx.setTimer(50, timerId -> promise.complete());
+        return promise.future();
+    }
+
+    @Test
+    public void testConnectionIsReused(VertxTestContext context) {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        PooledHttpClient client = new PooledHttpClient(vertx, "test", new HttpClientOptions(), metrics(registry));
+
+        // The connection is returned to the pool only after the response was handled, so the next request is delayed
+        ping(client)
+                .compose(i -> delay())
+                .compose(i -> ping(client))
+                .compose(i -> delay())
+                .compose(i -> ping(client))
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(body, is("pong"));
+                    assertThat(registry.get("strimzi.http.client.requests").tag("client", "test").counter().count(), is(3.0));
+                    assertThat(registry.get("strimzi.http.client.connections").tag("client", "test").counter().count(), is(1.0));
+
+                    client.close().onComplete(context.succeedingThenComplete());
+                })));
+    }
+
+    @Test
+    public void testClientWithoutMetrics(VertxTestContext context) {
+        PooledHttpClient client = new PooledHttpClient(vertx, "test", new HttpClientOptions(), null);
+
+        ping(client)
+                .onComplete(context.succeeding(body -> context.verify(() -> {
+                    assertThat(body, is("pong"));
+
+                    client.close().onComplete(context.succeedingThenComplete());
+                })));
+    }
+}
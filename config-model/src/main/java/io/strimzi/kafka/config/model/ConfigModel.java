@@ -10,6 +10,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
@@ -17,9 +19,13 @@ import static java.util.Collections.singletonList;
 
 /**
  * A model of a particular configuration parameter.
+ * The regular expression and the sets of allowed values and items are compiled when they are set, so that validating
+ * the values does not compile or search them again.
  */
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ConfigModel {
+    private static final Pattern LIST_SEPARATOR = Pattern.compile(" *, *");
+
     private Scope scope;
     private Type type;
     private Number minimum;
@@ -29,6 +35,10 @@ public class ConfigModel {
     private List<String> values;
     private String pattern;
 
+    private Set<String> itemSet;
+    private Set<String> valueSet;
+    private Pattern compiledPattern;
+
     /**
      * @return The scope of the parameter.
      */
@@ -79,6 +89,7 @@ public class ConfigModel {
 
     public void setItems(List<String> items) {
         this.items = items;
+        this.itemSet = items != null ? new HashSet<>(items) : null;
     }
 
     /**
@@ -90,6 +101,7 @@ public class ConfigModel {
 
     public void setValues(List<String> values) {
         this.values = values;
+        this.valueSet = values != null ? new HashSet<>(values) : null;
     }
 
     /**
@@ -101,6 +113,7 @@ public class ConfigModel {
 
     public void setPattern(String pattern) {
         this.pattern = pattern;
+        this.compiledPattern = pattern != null ? Pattern.compile(pattern) : null;
     }
 
     public List<String> validate(String configName, String value) {
@@ -130,13 +143,13 @@ public class ConfigModel {
 
     private List<String> validateString(String configName, String value) {
         List<String> errors = emptyList();
-        if (getValues() != null
-                && !getValues().contains(value)) {
+        if (valueSet != null
+                && !valueSet.contains(value)) {
             errors = new ArrayList<>(1);
             errors.add(configName + " has value '" + value + "' which is not one of the allowed values: " + getValues());
         }
-        if (getPattern() != null
-                && !value.matches(getPattern())) {
+        if (compiledPattern != null
+                && !compiledPattern.matcher(value).matches()) {
             if (errors.isEmpty()) {
                 errors = new ArrayList<>(1);
             }
@@ -146,17 +159,17 @@ public class ConfigModel {
     }
 
     private List<String> validateBoolean(String configName, String value) {
-        if (!value.matches("true|false")) {
+        if (!"true".equals(value) && !"false".equals(value)) {
             return singletonList(configName + " has value '" + value + "' which is not a boolean");
         }
         return emptyList();
     }
 
     private List<String> validateList(String configName, String value) {
-        List<String> l = asList(value.trim().split(" *, *", -1));
-        if (getItems() != null) {
+        List<String> l = asList(LIST_SEPARATOR.split(value.trim(), -1));
+        if (itemSet != null) {
             HashSet<String> items = new HashSet<>(l);
-            items.removeAll(getItems());
+            items.removeAll(itemSet);
             if (!items.isEmpty()) {
                 return singletonList(configName + " contains values " + items + " which are not in the allowed items " + getItems());
             }
@@ -0,0 +1,54 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the broker configuration models for the different Kafka versions. The model of each version is read
+ * from the {@code kafka-<version>-config-model.json} classpath resource when it is first requested and it is shared
+ * by all the following requests. The returned models must not be modified.
+ */
+public class ConfigModelRegistry {
+    private static final Map<String, Map<String, ConfigModel>> MODELS = new ConcurrentHashMap<>();
+
+    private ConfigModelRegistry() { }
+
+    /**
+     * Gets the config model for the given version of the Kafka broker.
+     *
+     * @param version   The broker version.
+     *
+     * @return  Unmodifiable map from configuration parameter name to its model.
+     */
+    public static Map<String, ConfigModel> configModel(String version) {
+        return MODELS.computeIfAbsent(version, ConfigModelRegistry::readConfigModel);
+    }
+
+    private static Map<String, ConfigModel> readConfigModel(String version) {
+        String name = "/kafka-" + version + "-config-model.json";
+        try {
+            try (InputStream in = ConfigModelRegistry.class.getResourceAsStream(name)) {
+                if (in == null) {
+                    throw new RuntimeException("Classpath resource " + name + " does not exist");
+                }
+
+                ConfigModels configModels = new ObjectMapper().readValue(in, ConfigModels.class);
+                if (!version.equals(configModels.getVersion())) {
+                    throw new RuntimeException("Incorrect version");
+                }
+                return Collections.unmodifiableMap(configModels.getConfigs());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error reading from classpath resource " + name, e);
+        }
+    }
+}
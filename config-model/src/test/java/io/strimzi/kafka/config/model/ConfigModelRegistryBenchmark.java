@@ -0,0 +1,87 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.config.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares getting the broker configuration model from the {@link ConfigModelRegistry} with parsing it from the JSON
+ * resource, as was done for every validation before the registry was added, and measures the validation of a typical
+ * broker configuration against the cached model.
+ *
+ * The benchmarks are not run as part of the build. Run them with:
+ *
+ * <pre>
+ *     mvn test-compile exec:exec -pl config-model -Dexec.classpathScope=test -Dexec.executable=java \
+ *         -Dexec.args="-cp %classpath org.openjdk.jmh.Main ConfigModelRegistryBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigModelRegistryBenchmark {
+    private static final String VERSION = "2.3.0";
+
+    private byte[] json;
+    private Map<String, String> config;
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream in = ConfigModelRegistryBenchmark.class.getResourceAsStream("/kafka-" + VERSION + "-config-model.json")) {
+            json = in.readAllBytes();
+        }
+
+        config = new LinkedHashMap<>();
+        config.put("num.partitions", "3");
+        config.put("default.replication.factor", "3");
+        config.put("min.insync.replicas", "2");
+        config.put("auto.create.topics.enable", "false");
+        config.put("log.cleanup.policy", "compact,delete");
+        config.put("log.message.format.version", "2.3");
+        config.put("log.retention.ms", "604800000");
+        config.put("log.cleaner.min.cleanable.ratio", "0.5");
+        config.put("compression.type", "producer");
+        config.put("offsets.topic.replication.factor", "3");
+    }
+
+    @Benchmark
+    public Map<String, ConfigModel> parseConfigModel() throws IOException {
+        return new ObjectMapper().readValue(json, ConfigModels.class).getConfigs();
+    }
+
+    @Benchmark
+    public Map<String, ConfigModel> cachedConfigModel() {
+        return ConfigModelRegistry.configModel(VERSION);
+    }
+
+    @Benchmark
+    public void validateConfig(Blackhole blackhole) {
+        Map<String, ConfigModel> models = ConfigModelRegistry.configModel(VERSION);
+
+        for (Map.Entry<String, String> entry : config.entrySet()) {
+            blackhole.consume(models.get(entry.getKey()).validate(entry.getKey(), entry.getValue()));
+        }
+    }
+}
@@ -1,6 +1,9 @@
 #!/usr/bin/env bash
 set -e
 
+# Used only by the exec liveness probe of the pods created by the previous Strimzi version while they are rolled during
+# the upgrade. The current probes are served by the kafka-agent. To be removed in the next release.
+
 if [ -f /var/opt/kafka/kafka-ready ] ; then
   rm -f /var/opt/kafka/zk-connected 2&> /dev/null
   # Test listening on replication port 9091
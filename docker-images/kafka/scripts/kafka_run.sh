@@ -14,7 +14,12 @@ if [ -z "$KAFKA_LOG4J_OPTS" ]; then
 fi
 
 rm -f /var/opt/kafka/kafka-ready /var/opt/kafka/zk-connected 2> /dev/null
-KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=/var/opt/kafka/kafka-ready:/var/opt/kafka/zk-connected"
+KAFKA_AGENT_ARGS="/var/opt/kafka/kafka-ready:/var/opt/kafka/zk-connected"
+# The port of the HTTP server serving the probes is set by the Cluster Operator
+if [ -n "$STRIMZI_KAFKA_AGENT_PORT" ]; then
+  KAFKA_AGENT_ARGS="${KAFKA_AGENT_ARGS}:${STRIMZI_KAFKA_AGENT_PORT}"
+fi
+KAFKA_OPTS="$KAFKA_OPTS -javaagent:$(ls "$KAFKA_HOME"/libs/kafka-agent*.jar)=${KAFKA_AGENT_ARGS}"
 export KAFKA_OPTS
 
 . ./set_kafka_jmx_options.sh "${KAFKA_JMX_ENABLED}" "${KAFKA_JMX_USERNAME}" "${KAFKA_JMX_PASSWORD}"
@@ -45,6 +45,15 @@ function find_ca {
     done
 }
 
+# Prepare all stores in a single JVM. The keytool and openssl commands below are used only when it fails
+# (for example when a custom listener certificate uses a private key format which it does not support).
+# The Kafka libraries provide the logging used by the tool. It logs using the broker logging configuration.
+# shellcheck disable=SC2086
+if java -XX:TieredStopAtLevel=1 -XX:+UseSerialGC $KAFKA_LOG4J_OPTS -cp "$KAFKA_HOME/libs/*" io.strimzi.kafka.agent.KafkaTlsPrepareCertificates; then
+  exit 0
+fi
+echo "Preparing the stores with keytool and openssl"
+
 echo "Preparing truststore for replication listener"
 # Add each certificate to the trust store
 STORE=/tmp/kafka/cluster.truststore.p12
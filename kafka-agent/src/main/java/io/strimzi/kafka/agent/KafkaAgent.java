@@ -16,29 +16,100 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A very simple Java agent which polls the value of the {@code kafka.server:type=KafkaServer,name=BrokerState}
  * Yammer Metric and once it reaches the value 3 (meaning "running as broker", see {@code kafka.server.BrokerState}),
  * creates a given file.
- * The presence of this file is tested via a Kube "exec" readiness probe to determine when the broker is ready.
+ * When a port is configured, the agent also starts the {@link KafkaAgentServer} which exposes the broker state, the
+ * ZooKeeper session state and the log recovery progress over HTTP for the liveness and readiness probes.
  */
 public class KafkaAgent {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgent.class);
 
+    /**
+     * Port of the replication listener which has to be bound for the broker to be live
+     */
+    private static final int REPLICATION_PORT = 9091;
+
+    /**
+     * Names of the {@code kafka.log:type=LogManager} gauges with the log recovery progress. They are provided only by
+     * the Kafka versions which report the recovery progress.
+     */
+    private static final Set<String> RECOVERY_METRICS = Set.of("remainingLogsToRecover", "remainingSegmentsToRecover");
+
     private final File sessionConnectedFile;
     private File brokerReadyFile;
     private MetricName brokerStateName;
-    private Gauge brokerState;
+    private volatile Gauge brokerState;
     private MetricName sessionStateName;
-    private Gauge sessionState;
+    private volatile Gauge sessionState;
+    private volatile boolean wasRunning = false;
+    private boolean pollerStarted = false;
+    private final Map<MetricName, Gauge> recoveryGauges = new ConcurrentHashMap<>();
 
     public KafkaAgent(File brokerReadyFile, File sessionConnectedFile) {
         this.brokerReadyFile = brokerReadyFile;
         this.sessionConnectedFile = sessionConnectedFile;
     }
 
+    /**
+     * @return  Value of the BrokerState metric or -1 if it is not known yet
+     */
+    int brokerState() {
+        Gauge gauge = brokerState;
+        Object value = gauge != null ? gauge.value() : null;
+
+        if (value instanceof Number) {
+            int state = ((Number) value).intValue();
+
+            if (state == KafkaAgentServer.BROKER_RUNNING_STATE) {
+                wasRunning = true;
+            }
+
+            return state;
+        }
+
+        return -1;
+    }
+
+    /**
+     * @return  True if the broker reached the running state since it started
+     */
+    boolean wasRunning() {
+        return wasRunning || brokerState() == KafkaAgentServer.BROKER_RUNNING_STATE;
+    }
+
+    /**
+     * @return  Value of the ZooKeeper SessionState metric or UNKNOWN if it is not known yet
+     */
+    String sessionState() {
+        Gauge gauge = sessionState;
+        return gauge != null ? String.valueOf(gauge.value()) : "UNKNOWN";
+    }
+
+    /**
+     * @return  Log recovery progress summed over all log directories or an empty map if the broker does not report it
+     */
+    Map<String, Long> recoveryProgress() {
+        Map<String, Long> progress = new TreeMap<>();
+
+        for (Map.Entry<MetricName, Gauge> entry : recoveryGauges.entrySet()) {
+            Object value = entry.getValue().value();
+
+            if (value instanceof Number) {
+                progress.merge(entry.getKey().getName(), ((Number) value).longValue(), Long::sum);
+            }
+        }
+
+        return progress;
+    }
+
     private void run() {
         LOGGER.info("Starting metrics registry");
 
@@ -47,6 +118,7 @@ public class KafkaAgent {
         metricsRegistry.addListener(new MetricsRegistryListener() {
             @Override
             public void onMetricRemoved(MetricName metricName) {
+                recoveryGauges.remove(metricName);
             }
 
             @Override
@@ -65,10 +137,18 @@ public class KafkaAgent {
                         sessionStateName = metricName;
                         sessionState = (Gauge) metric;
                     }
+                } else if ("kafka.log".equals(metricName.getGroup())
+                        && "LogManager".equals(metricName.getType())
+                        && RECOVERY_METRICS.contains(metricName.getName())
+                        && metric instanceof Gauge) {
+                    LOGGER.debug("Metric {} added ", metricName);
+                    recoveryGauges.put(metricName, (Gauge) metric);
                 }
-                if (brokerState != null
+                // The listener stays registered to follow the recovery metrics which are added for each restart of the log manager
+                if (!pollerStarted
+                        && brokerState != null
                         && sessionState != null) {
-                    metricsRegistry.removeListener(this);
+                    pollerStarted = true;
                     LOGGER.info("Starting poller");
                     Thread pollerThread = new Thread(poller(),
                             "KafkaAgentPoller");
@@ -156,16 +236,16 @@ public class KafkaAgent {
 
     /**
      * Agent entry point
-     * @param agentArgs The agent arguments
+     * @param agentArgs The agent arguments in the format {@code brokerReadyFile:sessionConnectedFile[:httpPort]}
      */
     public static void premain(String agentArgs) {
-        int index = agentArgs.indexOf(':');
-        if (index == -1) {
+        String[] args = agentArgs.split(":");
+        if (args.length < 2 || args.length > 3) {
             LOGGER.error("Unable to parse arguments {}", agentArgs);
             System.exit(1);
         } else {
-            File brokerReadyFile = new File(agentArgs.substring(0, index));
-            File sessionConnectedFile = new File(agentArgs.substring(index + 1));
+            File brokerReadyFile = new File(args[0]);
+            File sessionConnectedFile = new File(args[1]);
             if (brokerReadyFile.exists() && !brokerReadyFile.delete()) {
                 LOGGER.error("Broker readiness file already exists and could not be deleted: {}", brokerReadyFile);
                 System.exit(1);
@@ -174,7 +254,17 @@ public class KafkaAgent {
                 System.exit(1);
             } else {
                 LOGGER.info("Starting KafkaAgent with brokerReadyFile={} and sessionConnectedFile={}", brokerReadyFile, sessionConnectedFile);
-                new KafkaAgent(brokerReadyFile, sessionConnectedFile).run();
+                KafkaAgent agent = new KafkaAgent(brokerReadyFile, sessionConnectedFile);
+                agent.run();
+
+                if (args.length == 3) {
+                    try {
+                        new KafkaAgentServer(agent, Integer.parseInt(args[2]), REPLICATION_PORT).start();
+                    } catch (IOException | RuntimeException e) {
+                        LOGGER.error("Unable to start the HTTP server on port {}", args[2], e);
+                        System.exit(1);
+                    }
+                }
             }
         }
     }
@@ -0,0 +1,237 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Small HTTP server exposing the state of the broker collected by the {@link KafkaAgent}. It is used by the liveness
+ * and readiness probes of the Kafka container and it serves these endpoints:
+ *
+ * <ul>
+ *     <li>{@code /v1/ready} returns 200 when the broker is running and 503 otherwise</li>
+ *     <li>{@code /v1/live} returns 200 when the broker is running and the replication listener is bound or when the
+ *     broker is still starting and connected to ZooKeeper, and 503 otherwise</li>
+ *     <li>{@code /v1/broker-state} returns a JSON document with the broker state, the ZooKeeper session state, the
+ *     state of the replication listener and the log recovery progress (when the broker provides it)</li>
+ * </ul>
+ *
+ * The server uses a single thread, so concurrent probes do not create more threads in the broker.
+ */
+class KafkaAgentServer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaAgentServer.class);
+
+    /**
+     * Value of the BrokerState metric of a running broker
+     */
+    static final int BROKER_RUNNING_STATE = 3;
+
+    private static final byte[] OK = "OK\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NOT_READY = "Not ready\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NOT_LIVE = "Not live\n".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Files with the TCP sockets of the container. The listener is bound when they contain a socket on its port in the
+     * LISTEN state (0A). This is what {@code netstat -lnt} does.
+     */
+    private static final List<Path> TCP_SOCKET_TABLES = List.of(Paths.get("/proc/net/tcp"), Paths.get("/proc/net/tcp6"));
+    private static final String TCP_LISTEN_STATE = "0A";
+
+    private final KafkaAgent agent;
+    private final int port;
+    private final String replicationPortHex;
+    private final List<Path> tcpSocketTables;
+    private HttpServer server;
+
+    /**
+     * Constructs the server
+     *
+     * @param agent             Agent providing the state of the broker
+     * @param port              Port on which the server listens
+     * @param replicationPort   Port of the replication listener
+     */
+    KafkaAgentServer(KafkaAgent agent, int port, int replicationPort) {
+        this(agent, port, replicationPort, TCP_SOCKET_TABLES);
+    }
+
+    /**
+     * Constructs the server
+     *
+     * @param agent             Agent providing the state of the broker
+     * @param port              Port on which the server listens
+     * @param replicationPort   Port of the replication listener
+     * @param tcpSocketTables   Files with the TCP sockets in the format of {@code /proc/net/tcp}
+     */
+    KafkaAgentServer(KafkaAgent agent, int port, int replicationPort, List<Path> tcpSocketTables) {
+        this.agent = agent;
+        this.port = port;
+        this.replicationPortHex = String.format(Locale.ROOT, ":%04X", replicationPort);
+        this.tcpSocketTables = tcpSocketTables;
+    }
+
+    void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/v1/ready", exchange -> {
+            if (isRunning()) {
+                respond(exchange, 200, "text/plain", OK);
+            } else {
+                respond(exchange, 503, "text/plain", NOT_READY);
+            }
+        });
+        server.createContext("/v1/live", exchange -> {
+            if (isLive()) {
+                respond(exchange, 200, "text/plain", OK);
+            } else {
+                respond(exchange, 503, "text/plain", NOT_LIVE);
+            }
+        });
+        server.createContext("/v1/broker-state", exchange ->
+                respond(exchange, 200, "application/json", brokerStateJson().getBytes(StandardCharsets.UTF_8)));
+        server.setExecutor(null);
+        server.start();
+
+        LOGGER.info("Started HTTP server on port {}", port());
+    }
+
+    void stop() {
+        server.stop(0);
+    }
+
+    /**
+     * @return  Port on which the server listens (the actual port when it was started with port 0)
+     */
+    int port() {
+        return server != null ? server.getAddress().getPort() : port;
+    }
+
+    boolean isRunning() {
+        return agent.brokerState() == BROKER_RUNNING_STATE;
+    }
+
+    /**
+     * The broker is live when it reached the running state and its replication listener is bound. Until then, it is
+     * live when it is connected to ZooKeeper (the log recovery during the startup can take a long time).
+     *
+     * @return  True if the broker is live. False otherwise.
+     */
+    boolean isLive() {
+        if (agent.wasRunning()) {
+            return isReplicationListenerBound();
+        } else {
+            return "CONNECTED".equals(agent.sessionState());
+        }
+    }
+
+    boolean isReplicationListenerBound() {
+        for (Path table : tcpSocketTables) {
+            try (BufferedReader reader = Files.newBufferedReader(table, StandardCharsets.US_ASCII)) {
+                if (containsListeningSocket(reader)) {
+                    return true;
+                }
+            } catch (NoSuchFileException e) {
+                // IPv6 might be disabled
+            } catch (IOException e) {
+                LOGGER.warn("Failed to read {}", table, e);
+            }
+        }
+
+        return false;
+    }
+
+    boolean containsListeningSocket(BufferedReader reader) throws IOException {
+        // Skip the header
+        String line = reader.readLine();
+
+        while ((line = reader.readLine()) != null) {
+            // Columns: sl local_address rem_address st ...
+            String[] columns = line.trim().split("\\s+", 5);
+
+            if (columns.length > 3
+                    && columns[1].endsWith(replicationPortHex)
+                    && TCP_LISTEN_STATE.equals(columns[3])) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    String brokerStateJson() {
+        int brokerState = agent.brokerState();
+        StringBuilder json = new StringBuilder(256)
+                .append("{\"brokerState\":").append(brokerState)
+                .append(",\"brokerStateName\":\"").append(brokerStateName(brokerState)).append('"')
+                .append(",\"zkSessionState\":\"").append(agent.sessionState()).append('"')
+                .append(",\"replicationListenerBound\":").append(isReplicationListenerBound());
+
+        Map<String, Long> recovery = agent.recoveryProgress();
+        if (!recovery.isEmpty()) {
+            json.append(",\"recovery\":{");
+            String separator = "";
+
+            for (Map.Entry<String, Long> entry : recovery.entrySet()) {
+                json.append(separator).append('"').append(entry.getKey()).append("\":").append(entry.getValue());
+                separator = ",";
+            }
+
+            json.append('}');
+        }
+
+        return json.append("}\n").toString();
+    }
+
+    /**
+     * @param brokerState   Value of the BrokerState metric
+     *
+     * @return  Name of the broker state (see {@code org.apache.kafka.metadata.BrokerState})
+     */
+    static String brokerStateName(int brokerState) {
+        switch (brokerState) {
+            case 0:
+                return "NOT_RUNNING";
+            case 1:
+                return "STARTING";
+            case 2:
+                return "RECOVERING_FROM_UNCLEAN_SHUTDOWN";
+            case 3:
+                return "RUNNING";
+            case 6:
+                return "PENDING_CONTROLLED_SHUTDOWN";
+            case 7:
+                return "SHUTTING_DOWN";
+            default:
+                return "UNKNOWN";
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        try {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(status, body.length);
+
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+}
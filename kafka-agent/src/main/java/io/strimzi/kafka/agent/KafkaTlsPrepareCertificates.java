@@ -0,0 +1,349 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Prepares the PKCS12 keystores and truststores used by the Kafka broker in a single JVM. It creates the same stores
+ * as the keytool and openssl commands in {@code kafka_tls_prepare_certificates.sh}, which runs it first and falls back
+ * to these commands only when this tool fails (for example when a custom listener certificate uses a private key
+ * format which is not supported here).
+ *
+ * The password of the stores is read from the {@code CERTS_STORE_PASSWORD} environment variable and the name of the
+ * broker certificate from the {@code HOSTNAME} environment variable.
+ */
+public class KafkaTlsPrepareCertificates {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KafkaTlsPrepareCertificates.class);
+
+    private static final Pattern LISTENER_CERTS_DIR = Pattern.compile("^(custom|oauth)-(.+)-(.+)-certs$");
+    private static final Pattern PEM_KEY = Pattern.compile("-----BEGIN ([A-Z ]*)PRIVATE KEY-----([^-]+)-----END \\1PRIVATE KEY-----");
+
+    /**
+     * DER encoded AlgorithmIdentifier of the rsaEncryption algorithm (OID 1.2.840.113549.1.1.1 with NULL parameters)
+     */
+    private static final byte[] RSA_ALGORITHM_IDENTIFIER = {0x30, 0x0d, 0x06, 0x09, 0x2a, (byte) 0x86, 0x48, (byte) 0x86,
+        (byte) 0xf7, 0x0d, 0x01, 0x01, 0x01, 0x05, 0x00};
+
+    private final Path certsDir;
+    private final Path storesDir;
+    private final String hostname;
+    private final char[] password;
+    private final CertificateFactory certificateFactory;
+
+    /**
+     * Constructs the tool
+     *
+     * @param certsDir      Directory where the certificates are mounted (/opt/kafka in the Kafka container)
+     * @param storesDir     Directory where the stores are created (/tmp/kafka in the Kafka container)
+     * @param hostname      Hostname of the broker which is used as the name of its certificate
+     * @param password      Password of the stores
+     *
+     * @throws GeneralSecurityException when the X.509 certificate factory is not available
+     */
+    public KafkaTlsPrepareCertificates(Path certsDir, Path storesDir, String hostname, char[] password) throws GeneralSecurityException {
+        this.certsDir = certsDir;
+        this.storesDir = storesDir;
+        this.hostname = hostname;
+        this.password = password;
+        this.certificateFactory = CertificateFactory.getInstance("X.509");
+    }
+
+    /**
+     * Prepares all stores
+     *
+     * @throws IOException when reading the certificates or writing the stores fails
+     * @throws GeneralSecurityException when the certificates or keys cannot be parsed or do not match
+     */
+    public void prepare() throws IOException, GeneralSecurityException {
+        LOGGER.info("Preparing truststore for replication listener");
+        List<X509Certificate> clusterCas = new ArrayList<>();
+        KeyStore clusterTruststore = emptyStore();
+
+        for (Path crt : list(certsDir.resolve("cluster-ca-certs"), "*.crt")) {
+            List<X509Certificate> certs = addTrustedCertificates(clusterTruststore, crt, alias(crt));
+            clusterCas.addAll(certs);
+        }
+
+        store(clusterTruststore, storesDir.resolve("cluster.truststore.p12"));
+
+        LOGGER.info("Preparing keystore for replication and clienttls listener");
+        Path brokerCerts = certsDir.resolve("broker-certs");
+        List<X509Certificate> brokerChain = readCertificates(brokerCerts.resolve(hostname + ".crt"));
+        X509Certificate ca = findCa(clusterCas, brokerChain.get(0));
+
+        if (ca == null) {
+            throw new GeneralSecurityException("No CA found for the broker certificate " + brokerCerts.resolve(hostname + ".crt"));
+        }
+
+        List<Certificate> chain = new ArrayList<>(brokerChain);
+        if (!chain.contains(ca)) {
+            chain.add(ca);
+        }
+
+        KeyStore clusterKeystore = emptyStore();
+        clusterKeystore.setKeyEntry(hostname, readPrivateKey(brokerCerts.resolve(hostname + ".key")), password, chain.toArray(new Certificate[0]));
+        store(clusterKeystore, storesDir.resolve("cluster.keystore.p12"));
+
+        for (Path certDir : list(certsDir.resolve("certificates"), "*")) {
+            Matcher matcher = LISTENER_CERTS_DIR.matcher(certDir.getFileName().toString());
+
+            if (Files.isDirectory(certDir) && matcher.matches()) {
+                String listener = matcher.group(1) + "-" + matcher.group(2) + "-" + matcher.group(3);
+                LOGGER.info("Preparing store for {} listener", listener);
+
+                if ("custom".equals(matcher.group(1))) {
+                    KeyStore keystore = emptyStore();
+                    keystore.setKeyEntry("custom-key", readPrivateKey(certDir.resolve("tls.key")), password,
+                            readCertificates(certDir.resolve("tls.crt")).toArray(new Certificate[0]));
+                    store(keystore, storesDir.resolve(listener + ".keystore.p12"));
+                } else {
+                    store(trustedCertificatesStore(certDir, "oauth-"), storesDir.resolve(listener + ".truststore.p12"));
+                }
+            }
+        }
+
+        LOGGER.info("Preparing truststore for client authentication");
+        KeyStore clientsTruststore = emptyStore();
+
+        for (Path crt : list(certsDir.resolve("client-ca-certs"), "*.crt")) {
+            addTrustedCertificates(clientsTruststore, crt, alias(crt));
+        }
+
+        store(clientsTruststore, storesDir.resolve("clients.truststore.p12"));
+
+        Path authzKeycloakStore = storesDir.resolve("authz-keycloak.truststore.p12");
+        Files.deleteIfExists(authzKeycloakStore);
+
+        Path authzKeycloakDir = certsDir.resolve("certificates").resolve("authz-keycloak-certs");
+        if (Files.isDirectory(authzKeycloakDir)) {
+            LOGGER.info("Preparing truststore for Authorization with Keycloak");
+            store(trustedCertificatesStore(authzKeycloakDir, "authz-keycloak-"), authzKeycloakStore);
+        }
+    }
+
+    /**
+     * Creates a truststore with the certificates from the subdirectories of the directory (the same files as the
+     * {@code $DIR/**}{@code /*} glob in the shell script without globstar). The aliases are numbered in the order of the
+     * files.
+     */
+    private KeyStore trustedCertificatesStore(Path dir, String aliasPrefix) throws IOException, GeneralSecurityException {
+        KeyStore truststore = emptyStore();
+        int index = 0;
+
+        for (Path subDir : list(dir, "*")) {
+            if (Files.isDirectory(subDir)) {
+                for (Path crt : list(subDir, "*")) {
+                    addTrustedCertificates(truststore, crt, aliasPrefix + index++);
+                }
+            }
+        }
+
+        return truststore;
+    }
+
+    /**
+     * Finds the CA which signed the certificate. There might be more CAs during the CA renewal.
+     */
+    static X509Certificate findCa(List<X509Certificate> cas, X509Certificate cert) {
+        for (X509Certificate ca : cas) {
+            if (ca.getSubjectX500Principal().equals(cert.getIssuerX500Principal())) {
+                try {
+                    cert.verify(ca.getPublicKey());
+                    return ca;
+                } catch (GeneralSecurityException e) {
+                    // Not signed by this CA
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private List<X509Certificate> addTrustedCertificates(KeyStore truststore, Path crt, String alias) throws IOException, GeneralSecurityException {
+        LOGGER.info("Adding {} with alias {}", crt, alias);
+        List<X509Certificate> certs = readCertificates(crt);
+
+        for (int i = 0; i < certs.size(); i++) {
+            truststore.setCertificateEntry(i == 0 ? alias : alias + "-" + i, certs.get(i));
+        }
+
+        return certs;
+    }
+
+    private List<X509Certificate> readCertificates(Path crt) throws IOException, GeneralSecurityException {
+        Collection<? extends Certificate> certs;
+
+        try (InputStream in = Files.newInputStream(crt)) {
+            certs = certificateFactory.generateCertificates(in);
+        }
+
+        if (certs.isEmpty()) {
+            throw new GeneralSecurityException("No certificate found in " + crt);
+        }
+
+        return certs.stream().map(X509Certificate.class::cast).collect(Collectors.toList());
+    }
+
+    /**
+     * Reads a PEM encoded private key. Supports the PKCS#8 keys and the RSA keys in the PKCS#1 format.
+     */
+    static PrivateKey readPrivateKey(Path key) throws IOException, GeneralSecurityException {
+        Matcher matcher = PEM_KEY.matcher(new String(Files.readAllBytes(key), StandardCharsets.US_ASCII));
+
+        if (!matcher.find()) {
+            throw new GeneralSecurityException("No private key found in " + key);
+        }
+
+        byte[] der = Base64.getMimeDecoder().decode(matcher.group(2));
+
+        switch (matcher.group(1)) {
+            case "":
+                return privateKey(new PKCS8EncodedKeySpec(der), key);
+            case "RSA ":
+                return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(rsaPkcs8(der)));
+            default:
+                throw new GeneralSecurityException("Unsupported private key format " + matcher.group(1) + "in " + key);
+        }
+    }
+
+    private static PrivateKey privateKey(PKCS8EncodedKeySpec spec, Path key) throws GeneralSecurityException {
+        for (String algorithm : List.of("RSA", "EC", "DSA")) {
+            try {
+                return KeyFactory.getInstance(algorithm).generatePrivate(spec);
+            } catch (InvalidKeySpecException e) {
+                // Try the next algorithm
+            }
+        }
+
+        throw new GeneralSecurityException("Unsupported private key algorithm in " + key);
+    }
+
+    /**
+     * Wraps the PKCS#1 RSA private key in the PKCS#8 PrivateKeyInfo structure
+     */
+    private static byte[] rsaPkcs8(byte[] pkcs1) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream(pkcs1.length + 32);
+        // version 0
+        content.write(0x02);
+        content.write(0x01);
+        content.write(0x00);
+        content.writeBytes(RSA_ALGORITHM_IDENTIFIER);
+        content.write(0x04);
+        writeDerLength(content, pkcs1.length);
+        content.writeBytes(pkcs1);
+
+        ByteArrayOutputStream sequence = new ByteArrayOutputStream(content.size() + 4);
+        sequence.write(0x30);
+        writeDerLength(sequence, content.size());
+        sequence.writeBytes(content.toByteArray());
+
+        return sequence.toByteArray();
+    }
+
+    private static void writeDerLength(ByteArrayOutputStream out, int length) {
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            int bytes = (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 7) / 8;
+            out.write(0x80 | bytes);
+
+            for (int i = bytes - 1; i >= 0; i--) {
+                out.write(length >>> (8 * i));
+            }
+        }
+    }
+
+    private static KeyStore emptyStore() throws IOException, GeneralSecurityException {
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        store.load(null, null);
+        return store;
+    }
+
+    private void store(KeyStore store, Path path) throws IOException, GeneralSecurityException {
+        Files.deleteIfExists(path);
+
+        try (OutputStream out = Files.newOutputStream(path)) {
+            store.store(out, password);
+        }
+
+        LOGGER.info("Created {}", path);
+    }
+
+    private static String alias(Path crt) {
+        String name = crt.getFileName().toString();
+        return name.substring(0, name.length() - ".crt".length());
+    }
+
+    /**
+     * Lists the files matching the glob in the same order as the shell. The hidden files (such as the ..data
+     * directories of the Secret volumes) are skipped.
+     */
+    static List<Path> list(Path dir, String glob) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+
+        List<Path> paths = new ArrayList<>();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            files.filter(path -> !path.getFileName().toString().startsWith("."))
+                    .filter(path -> dir.getFileSystem().getPathMatcher("glob:" + glob).matches(path.getFileName()))
+                    .sorted()
+                    .forEach(paths::add);
+        }
+
+        return paths;
+    }
+
+    /**
+     * Prepares the stores of the Kafka broker
+     *
+     * @param args  Not used
+     */
+    public static void main(String[] args) {
+        String password = System.getenv("CERTS_STORE_PASSWORD");
+        String hostname = System.getenv("HOSTNAME");
+
+        if (password == null || hostname == null) {
+            LOGGER.error("The CERTS_STORE_PASSWORD and HOSTNAME environment variables are required");
+            System.exit(1);
+        }
+
+        try {
+            new KafkaTlsPrepareCertificates(Paths.get("/opt/kafka"), Paths.get("/tmp/kafka"), hostname, password.toCharArray()).prepare();
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            LOGGER.error("Failed to prepare the keystores and truststores", e);
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class KafkaAgentServerTest {
+    private static final int REPLICATION_PORT = 9091;
+
+    private static final String TCP_HEADER = "  sl  local_address rem_address   st tx_queue rx_queue tr tm->when retrnsmt   uid  timeout inode\n";
+    // 9091 = 0x2383, 8080 = 0x1F90
+    private static final String TCP_LISTEN_REPLICATION = "   0: 00000000:2383 00000000:0000 0A 00000000:00000000 00:00000000 00000000  1001        0 26510 1 0000000000000000 100 0 0 10 0\n";
+    private static final String TCP_LISTEN_AGENT = "   1: 00000000:1F90 00000000:0000 0A 00000000:00000000 00:00000000 00000000  1001        0 26511 1 0000000000000000 100 0 0 10 0\n";
+    private static final String TCP_ESTABLISHED_TO_REPLICATION = "   2: 0A000005:A3C4 0A000006:2383 01 00000000:00000000 00:00000000 00000000  1001        0 26512 1 0000000000000000 20 4 30 10 -1\n";
+    private static final String TCP_LISTEN_OTHER_PORT = "   3: 00000000:2384 00000000:0000 0A 00000000:00000000 00:00000000 00000000  1001        0 26513 1 0000000000000000 100 0 0 10 0\n";
+    private static final String TCP6_LISTEN_REPLICATION = "   0: 00000000000000000000000000000000:2383 00000000000000000000000000000000:0000 0A 00000000:00000000 00:00000000 00000000  1001        0 26514 1 0000000000000000 100 0 0 10 0\n";
+
+    @TempDir
+    public File tempDir;
+
+    /**
+     * Agent with a state set by the tests instead of the broker metrics
+     */
+    private static class MockKafkaAgent extends KafkaAgent {
+        private volatile int brokerState = -1;
+        private volatile boolean wasRunning = false;
+        private volatile String sessionState = "UNKNOWN";
+        private volatile Map<String, Long> recoveryProgress = Map.of();
+
+        MockKafkaAgent() {
+            super(null, null);
+        }
+
+        @Override
+        int brokerState() {
+            return brokerState;
+        }
+
+        @Override
+        boolean wasRunning() {
+            return wasRunning;
+        }
+
+        @Override
+        String sessionState() {
+            return sessionState;
+        }
+
+        @Override
+        Map<String, Long> recoveryProgress() {
+            return recoveryProgress;
+        }
+
+        void running() {
+            brokerState = KafkaAgentServer.BROKER_RUNNING_STATE;
+            wasRunning = true;
+        }
+    }
+
+    private Path tcpTable(String name, String... lines) throws IOException {
+        Path table = tempDir.toPath().resolve(name);
+        Files.writeString(table, TCP_HEADER + String.join("", lines), StandardCharsets.US_ASCII);
+        return table;
+    }
+
+    private KafkaAgentServer server(KafkaAgent agent, Path... tcpSocketTables) {
+        return new KafkaAgentServer(agent, 0, REPLICATION_PORT, List.of(tcpSocketTables));
+    }
+
+    @Test
+    public void testReplicationListenerBound() throws IOException {
+        Path tcp = tcpTable("tcp", TCP_LISTEN_AGENT, TCP_LISTEN_REPLICATION);
+
+        assertThat(server(new MockKafkaAgent(), tcp).isReplicationListenerBound(), is(true));
+    }
+
+    @Test
+    public void testReplicationListenerBoundOnIpv6() throws IOException {
+        Path tcp = tcpTable("tcp", TCP_LISTEN_AGENT);
+        Path tcp6 = tcpTable("tcp6", TCP6_LISTEN_REPLICATION);
+
+        assertThat(server(new MockKafkaAgent(), tcp, tcp6).isReplicationListenerBound(), is(true));
+    }
+
+    @Test
+    public void testReplicationListenerNotBound() throws IOException {
+        // Connection to the replication port of another broker and a listener on a port with the same prefix
+        Path tcp = tcpTable("tcp", TCP_LISTEN_AGENT, TCP_ESTABLISHED_TO_REPLICATION, TCP_LISTEN_OTHER_PORT);
+        Path tcp6 = tcpTable("tcp6");
+
+        assertThat(server(new MockKafkaAgent(), tcp, tcp6).isReplicationListenerBound(), is(false));
+    }
+
+    @Test
+    public void testMissingSocketTableIsIgnored() throws IOException {
+        Path tcp = tcpTable("tcp", TCP_LISTEN_REPLICATION);
+        Path tcp6 = tempDir.toPath().resolve("tcp6");
+
+        assertThat(server(new MockKafkaAgent(), tcp6, tcp).isReplicationListenerBound(), is(true));
+        assertThat(server(new MockKafkaAgent(), tcp6).isReplicationListenerBound(), is(false));
+    }
+
+    @Test
+    public void testReadiness() throws IOException {
+        MockKafkaAgent agent = new MockKafkaAgent();
+        KafkaAgentServer server = server(agent, tcpTable("tcp", TCP_LISTEN_REPLICATION));
+
+        assertThat(server.isRunning(), is(false));
+
+        // RECOVERING_FROM_UNCLEAN_SHUTDOWN
+        agent.brokerState = 2;
+        assertThat(server.isRunning(), is(false));
+
+        agent.running();
+        assertThat(server.isRunning(), is(true));
+    }
+
+    @Test
+    public void testLivenessBeforeTheBrokerWasRunning() throws IOException {
+        MockKafkaAgent agent = new MockKafkaAgent();
+        // The replication listener is not checked before the broker was running
+        KafkaAgentServer server = server(agent, tcpTable("tcp"));
+
+        assertThat(server.isLive(), is(false));
+
+        agent.sessionState = "CONNECTED";
+        assertThat(server.isLive(), is(true));
+
+        agent.sessionState = "DISCONNECTED";
+        assertThat(server.isLive(), is(false));
+    }
+
+    @Test
+    public void testLivenessAfterTheBrokerWasRunning() throws IOException {
+        MockKafkaAgent agent = new MockKafkaAgent();
+        agent.running();
+        // The ZooKeeper session is not checked after the broker was running
+        agent.sessionState = "DISCONNECTED";
+
+        assertThat(server(agent, tcpTable("tcp", TCP_LISTEN_REPLICATION)).isLive(), is(true));
+        assertThat(server(agent, tcpTable("tcp", TCP_LISTEN_AGENT)).isLive(), is(false));
+    }
+
+    @Test
+    public void testBrokerStateJson() throws IOException {
+        MockKafkaAgent agent = new MockKafkaAgent();
+        agent.running();
+        agent.sessionState = "CONNECTED";
+
+        assertThat(server(agent, tcpTable("tcp", TCP_LISTEN_REPLICATION)).brokerStateJson(),
+                is("{\"brokerState\":3,\"brokerStateName\":\"RUNNING\",\"zkSessionState\":\"CONNECTED\",\"replicationListenerBound\":true}\n"));
+    }
+
+    @Test
+    public void testBrokerStateJsonWithRecoveryProgress() throws IOException {
+        MockKafkaAgent agent = new MockKafkaAgent();
+        agent.brokerState = 2;
+        agent.sessionState = "CONNECTED";
+        Map<String, Long> recoveryProgress = new TreeMap<>();
+        recoveryProgress.put("remainingLogsToRecover", 12L);
+        recoveryProgress.put("remainingSegmentsToRecover", 345L);
+        agent.recoveryProgress = recoveryProgress;
+
+        assertThat(server(agent, tcpTable("tcp")).brokerStateJson(),
+                is("{\"brokerState\":2,\"brokerStateName\":\"RECOVERING_FROM_UNCLEAN_SHUTDOWN\",\"zkSessionState\":\"CONNECTED\",\"replicationListenerBound\":false," +
+                        "\"recovery\":{\"remainingLogsToRecover\":12,\"remainingSegmentsToRecover\":345}}\n"));
+    }
+
+    @Test
+    public void testBrokerStateNames() {
+        assertThat(KafkaAgentServer.brokerStateName(-1), is("UNKNOWN"));
+        assertThat(KafkaAgentServer.brokerStateName(0), is("NOT_RUNNING"));
+        assertThat(KafkaAgentServer.brokerStateName(1), is("STARTING"));
+        assertThat(KafkaAgentServer.brokerStateName(3), is("RUNNING"));
+        assertThat(KafkaAgentServer.brokerStateName(7), is("SHUTTING_DOWN"));
+    }
+
+    @Test
+    public void testHttpEndpoints() throws IOException {
+        MockKafkaAgent agent = new MockKafkaAgent();
+        agent.sessionState = "CONNECTED";
+        KafkaAgentServer server = server(agent, tcpTable("tcp", TCP_LISTEN_REPLICATION));
+        server.start();
+
+        try {
+            assertThat(get(server, "/v1/ready").getResponseCode(), is(503));
+            assertThat(get(server, "/v1/live").getResponseCode(), is(200));
+
+            agent.running();
+            assertThat(get(server, "/v1/ready").getResponseCode(), is(200));
+            assertThat(get(server, "/v1/live").getResponseCode(), is(200));
+
+            HttpURLConnection brokerState = get(server, "/v1/broker-state");
+            assertThat(brokerState.getResponseCode(), is(200));
+            assertThat(brokerState.getContentType(), is("application/json"));
+            try (InputStream in = brokerState.getInputStream()) {
+                assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is(server.brokerStateJson()));
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static HttpURLConnection get(KafkaAgentServer server, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.port() + path).openConnection();
+        connection.setRequestMethod("GET");
+        return connection;
+    }
+}
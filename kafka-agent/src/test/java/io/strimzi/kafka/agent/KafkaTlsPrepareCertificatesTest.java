@@ -0,0 +1,191 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.kafka.agent;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KafkaTlsPrepareCertificatesTest {
+    private static final String HOSTNAME = "my-cluster-kafka-0";
+    private static final char[] PASSWORD = "123456".toCharArray();
+
+    @TempDir
+    public File tempDir;
+
+    private Path resource(String name) throws IOException {
+        return copy(name, tempDir.toPath().resolve("resources").resolve(name));
+    }
+
+    private Path copy(String resource, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+
+        try (InputStream in = KafkaTlsPrepareCertificatesTest.class.getResourceAsStream(resource)) {
+            Files.copy(in, target);
+        }
+
+        return target;
+    }
+
+    private X509Certificate certificate(String resource) throws IOException, GeneralSecurityException {
+        try (InputStream in = KafkaTlsPrepareCertificatesTest.class.getResourceAsStream(resource)) {
+            return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(in);
+        }
+    }
+
+    private static KeyStore load(Path path) throws IOException, GeneralSecurityException {
+        KeyStore store = KeyStore.getInstance("PKCS12");
+
+        try (InputStream in = Files.newInputStream(path)) {
+            store.load(in, PASSWORD);
+        }
+
+        return store;
+    }
+
+    private static Set<String> aliases(KeyStore store) throws GeneralSecurityException {
+        return Set.copyOf(Collections.list(store.aliases()));
+    }
+
+    @Test
+    public void testFindCaVerifiesTheSignature() throws IOException, GeneralSecurityException {
+        // Both CAs have the same subject (as during the CA key replacement) but only the new one signed the broker certificate
+        X509Certificate oldCa = certificate("cluster-ca-old.crt");
+        X509Certificate newCa = certificate("cluster-ca.crt");
+        X509Certificate broker = certificate("broker.crt");
+
+        assertThat(oldCa.getSubjectX500Principal(), is(newCa.getSubjectX500Principal()));
+        assertThat(KafkaTlsPrepareCertificates.findCa(List.of(oldCa, newCa), broker), is(newCa));
+        assertThat(KafkaTlsPrepareCertificates.findCa(List.of(newCa, oldCa), broker), is(newCa));
+        assertThat(KafkaTlsPrepareCertificates.findCa(List.of(oldCa), broker), is(nullValue()));
+        assertThat(KafkaTlsPrepareCertificates.findCa(List.of(certificate("clients-ca.crt")), broker), is(nullValue()));
+    }
+
+    @Test
+    public void testReadPkcs1RsaKey() throws IOException, GeneralSecurityException {
+        PrivateKey pkcs1 = KafkaTlsPrepareCertificates.readPrivateKey(resource("broker.key"));
+        PrivateKey pkcs8 = KafkaTlsPrepareCertificates.readPrivateKey(resource("broker-pkcs8.key"));
+
+        assertThat(pkcs1.getAlgorithm(), is("RSA"));
+        assertThat(pkcs1.getEncoded(), is(pkcs8.getEncoded()));
+    }
+
+    @Test
+    public void testReadPkcs8Keys() throws IOException, GeneralSecurityException {
+        assertThat(KafkaTlsPrepareCertificates.readPrivateKey(resource("custom.key")).getAlgorithm(), is("RSA"));
+        assertThat(KafkaTlsPrepareCertificates.readPrivateKey(resource("ec-pkcs8.key")).getAlgorithm(), is("EC"));
+    }
+
+    @Test
+    public void testUnsupportedKeyFormatFails() throws IOException {
+        // The script falls back to openssl for the EC keys in the SEC1 format
+        Path sec1 = resource("ec-sec1.key");
+        assertThrows(GeneralSecurityException.class, () -> KafkaTlsPrepareCertificates.readPrivateKey(sec1));
+
+        Path certificate = resource("custom.crt");
+        assertThrows(GeneralSecurityException.class, () -> KafkaTlsPrepareCertificates.readPrivateKey(certificate));
+    }
+
+    @Test
+    public void testListUsesTheShellGlobOrder() throws IOException {
+        Path dir = tempDir.toPath().resolve("certs");
+        Files.createDirectories(dir.resolve("..data"));
+        for (String name : List.of("ca.crt", "ca-2021.crt", "ca.password", "b.crt", ".hidden.crt")) {
+            Files.createFile(dir.resolve(name));
+        }
+
+        assertThat(names(KafkaTlsPrepareCertificates.list(dir, "*.crt")), is(List.of("b.crt", "ca-2021.crt", "ca.crt")));
+        assertThat(names(KafkaTlsPrepareCertificates.list(dir, "*")), is(List.of("b.crt", "ca-2021.crt", "ca.crt", "ca.password")));
+        assertThat(KafkaTlsPrepareCertificates.list(dir.resolve("missing"), "*"), is(List.of()));
+    }
+
+    private static List<String> names(List<Path> paths) {
+        return paths.stream().map(path -> path.getFileName().toString()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testPrepare() throws IOException, GeneralSecurityException {
+        Path certs = tempDir.toPath().resolve("opt-kafka");
+        Path stores = tempDir.toPath().resolve("tmp-kafka");
+        Files.createDirectories(stores);
+
+        copy("cluster-ca-old.crt", certs.resolve("cluster-ca-certs").resolve("ca-2021.crt"));
+        copy("cluster-ca.crt", certs.resolve("cluster-ca-certs").resolve("ca.crt"));
+        copy("clients-ca.crt", certs.resolve("client-ca-certs").resolve("ca.crt"));
+        copy("broker.crt", certs.resolve("broker-certs").resolve(HOSTNAME + ".crt"));
+        copy("broker.key", certs.resolve("broker-certs").resolve(HOSTNAME + ".key"));
+        copy("custom.crt", certs.resolve("certificates").resolve("custom-external-9094-certs").resolve("tls.crt"));
+        copy("custom.key", certs.resolve("certificates").resolve("custom-external-9094-certs").resolve("tls.key"));
+        copy("clients-ca.crt", certs.resolve("certificates").resolve("oauth-plain-9092-certs").resolve("b-secret").resolve("ca.crt"));
+        copy("cluster-ca.crt", certs.resolve("certificates").resolve("oauth-plain-9092-certs").resolve("a-secret").resolve("ca.crt"));
+        copy("custom.crt", certs.resolve("certificates").resolve("authz-keycloak-certs").resolve("keycloak-secret").resolve("ca.crt"));
+
+        new KafkaTlsPrepareCertificates(certs, stores, HOSTNAME, PASSWORD).prepare();
+
+        // The aliases of the CAs are the names of their files
+        KeyStore clusterTruststore = load(stores.resolve("cluster.truststore.p12"));
+        assertThat(aliases(clusterTruststore), is(Set.of("ca-2021", "ca")));
+        assertThat(clusterTruststore.getCertificate("ca"), is(certificate("cluster-ca.crt")));
+        assertThat(clusterTruststore.getCertificate("ca-2021"), is(certificate("cluster-ca-old.crt")));
+
+        // The chain ends with the CA which signed the broker certificate
+        KeyStore clusterKeystore = load(stores.resolve("cluster.keystore.p12"));
+        assertThat(aliases(clusterKeystore), is(Set.of(HOSTNAME)));
+        assertThat(clusterKeystore.getKey(HOSTNAME, PASSWORD).getEncoded(),
+                is(KafkaTlsPrepareCertificates.readPrivateKey(resource("broker-pkcs8.key")).getEncoded()));
+        assertThat(List.of(clusterKeystore.getCertificateChain(HOSTNAME)), is(List.<Certificate>of(certificate("broker.crt"), certificate("cluster-ca.crt"))));
+
+        KeyStore customKeystore = load(stores.resolve("custom-external-9094.keystore.p12"));
+        assertThat(aliases(customKeystore), is(Set.of("custom-key")));
+        assertThat(customKeystore.getCertificate("custom-key"), is(certificate("custom.crt")));
+
+        // The OAuth certificates are numbered in the order of the Secret directories
+        KeyStore oauthTruststore = load(stores.resolve("oauth-plain-9092.truststore.p12"));
+        assertThat(aliases(oauthTruststore), is(Set.of("oauth-0", "oauth-1")));
+        assertThat(oauthTruststore.getCertificate("oauth-0"), is(certificate("cluster-ca.crt")));
+        assertThat(oauthTruststore.getCertificate("oauth-1"), is(certificate("clients-ca.crt")));
+
+        KeyStore clientsTruststore = load(stores.resolve("clients.truststore.p12"));
+        assertThat(aliases(clientsTruststore), is(Set.of("ca")));
+        assertThat(clientsTruststore.getCertificate("ca"), is(certificate("clients-ca.crt")));
+
+        KeyStore keycloakTruststore = load(stores.resolve("authz-keycloak.truststore.p12"));
+        assertThat(aliases(keycloakTruststore), is(Set.of("authz-keycloak-0")));
+    }
+
+    @Test
+    public void testPrepareFailsWithoutTheSigningCa() throws IOException, GeneralSecurityException {
+        Path certs = tempDir.toPath().resolve("opt-kafka");
+        Path stores = tempDir.toPath().resolve("tmp-kafka");
+        Files.createDirectories(stores);
+
+        copy("cluster-ca-old.crt", certs.resolve("cluster-ca-certs").resolve("ca.crt"));
+        copy("broker.crt", certs.resolve("broker-certs").resolve(HOSTNAME + ".crt"));
+        copy("broker.key", certs.resolve("broker-certs").resolve(HOSTNAME + ".key"));
+
+        KafkaTlsPrepareCertificates tool = new KafkaTlsPrepareCertificates(certs, stores, HOSTNAME, PASSWORD);
+        assertThrows(GeneralSecurityException.class, tool::prepare);
+    }
+}
@@ -7,12 +7,17 @@ package io.strimzi.operator.cluster.model;
 import io.fabric8.kubernetes.api.model.OwnerReference;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.model.CertificateExpirationPolicy;
 import io.strimzi.certs.CertAndKey;
 import io.strimzi.certs.CertManager;
 import io.strimzi.certs.SecretCertProvider;
 import io.strimzi.certs.Subject;
+import io.strimzi.operator.common.AbstractOperator;
 import io.strimzi.operator.common.Annotations;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.PasswordGenerator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
@@ -41,8 +46,16 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -96,8 +109,16 @@ public abstract class Ca {
     public static final String ANNO_STRIMZI_IO_CLIENTS_CA_CERT_GENERATION = Annotations.STRIMZI_DOMAIN + "clients-ca-cert-generation";
     public static final int INIT_GENERATION = 0;
 
+    /**
+     * Bounded pool in which the certificates of the individual pods are generated in parallel. Generating the keys and
+     * signing the certificates is CPU bound, so the pool has one thread per available processor. The threads are
+     * stopped when they are idle.
+     */
+    private static final ExecutorService CERT_GENERATION_POOL = certGenerationPool(Runtime.getRuntime().availableProcessors());
+
     private final PasswordGenerator passwordGenerator;
     protected final Reconciliation reconciliation;
+    private Timer certGenerationTimer;
 
     /**
      * Set the {@code strimzi.io/force-renew} annotation on the given {@code caCert} if the given {@code caKey} has
@@ -210,6 +231,30 @@ public abstract class Ca {
         this.renewalType = RenewalType.NOOP;
     }
 
+    /**
+     * Sets the metrics provider used to record the time it takes to generate the certificates signed by this CA.
+     * Without it (or when it is null), the time is only logged.
+     *
+     * @param metrics   Metrics provider
+     */
+    public void setMetrics(MetricsProvider metrics) {
+        this.certGenerationTimer = metrics != null ? metrics.timer(AbstractOperator.METRICS_PREFIX + "certificates.generation.duration",
+                "The time it took to generate the certificates signed by the CA in a reconciliation",
+                Tags.of(Tag.of("kind", reconciliation.kind()), Tag.of("namespace", reconciliation.namespace()), Tag.of("ca", toString()))) : null;
+    }
+
+    private static ExecutorService certGenerationPool(int size) {
+        AtomicInteger threadCounter = new AtomicInteger(0);
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "cert-generation-" + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+
+        return pool;
+    }
+
     private static void delete(Reconciliation reconciliation, File file) {
         if (!file.delete()) {
             LOGGER.warnCr(reconciliation, "{} cannot be deleted", file.getName());
@@ -252,48 +297,18 @@ public abstract class Ca {
     }
 
     public CertAndKey addKeyAndCertToKeyStore(String alias, byte[] key, byte[] cert) throws IOException {
-
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
-        Files.write(keyFile.toPath(), key);
-        Files.write(certFile.toPath(), cert);
-
         String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, alias, keyStoreFile, keyStorePassword);
-
-        CertAndKey result = new CertAndKey(
-                Files.readAllBytes(keyFile.toPath()),
-                Files.readAllBytes(certFile.toPath()),
-                null,
-                Files.readAllBytes(keyStoreFile.toPath()),
-                keyStorePassword);
+        byte[] keyStore = certManager.generateKeyStore(key, cert, alias, keyStorePassword);
 
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-
-        return result;
+        return new CertAndKey(key, cert, null, keyStore, keyStorePassword);
     }
 
-    /*test*/ CertAndKey generateSignedCert(Subject subject,
-                                           File csrFile, File keyFile, File certFile, File keyStoreFile) throws IOException {
+    /*test*/ CertAndKey generateSignedCert(Subject subject) throws IOException {
         LOGGER.debugCr(reconciliation, "Generating certificate {} with SAN {}, signed by CA {}", subject, subject.subjectAltNames(), this);
 
-        certManager.generateCsr(keyFile, csrFile, subject);
-        certManager.generateCert(csrFile, currentCaKey(), currentCaCertBytes(),
-                certFile, subject, validityDays);
+        CertAndKey certAndKey = certManager.generateSignedCert(subject, currentCaKey(), currentCaCertBytes(), validityDays);
 
-        String keyStorePassword = passwordGenerator.generate();
-        certManager.addKeyAndCertToKeyStore(keyFile, certFile, subject.commonName(), keyStoreFile, keyStorePassword);
-
-        return new CertAndKey(
-                Files.readAllBytes(keyFile.toPath()),
-                Files.readAllBytes(certFile.toPath()),
-                null,
-                Files.readAllBytes(keyStoreFile.toPath()),
-                keyStorePassword);
+        return addKeyAndCertToKeyStore(subject.commonName(), certAndKey.key(), certAndKey.cert());
     }
 
     /**
@@ -316,11 +331,6 @@ public abstract class Ca {
      * @throws IOException If the cert could not be generated.
      */
     public CertAndKey generateSignedCert(String commonName, String organization) throws IOException {
-        File csrFile = File.createTempFile("tls", "csr");
-        File keyFile = File.createTempFile("tls", "key");
-        File certFile = File.createTempFile("tls", "cert");
-        File keyStoreFile = File.createTempFile("tls", "p12");
-
         Subject.Builder subject = new Subject.Builder();
 
         if (organization != null) {
@@ -329,14 +339,7 @@ public abstract class Ca {
 
         subject.withCommonName(commonName);
 
-        CertAndKey result = generateSignedCert(subject.build(),
-                csrFile, keyFile, certFile, keyStoreFile);
-
-        delete(reconciliation, csrFile);
-        delete(reconciliation, keyFile);
-        delete(reconciliation, certFile);
-        delete(reconciliation, keyStoreFile);
-        return result;
+        return generateSignedCert(subject.build());
     }
 
     /**
@@ -357,13 +360,10 @@ public abstract class Ca {
             replicasInSecret = (int) secret.getData().keySet().stream().filter(k -> k.contains(".crt")).count();
         }
 
-        File brokerCsrFile = File.createTempFile("tls", "broker-csr");
-        File brokerKeyFile = File.createTempFile("tls", "broker-key");
-        File brokerCertFile = File.createTempFile("tls", "broker-cert");
-        File brokerKeyStoreFile = File.createTempFile("tls", "broker-p12");
-
         int replicasInNewSecret = Math.min(replicasInSecret, replicas);
-        Map<String, CertAndKey> certs = new HashMap<>(replicasInNewSecret);
+        // the certificates are kept in the order of the pods, the ones which need to be generated are added later
+        Map<String, CertAndKey> certs = new LinkedHashMap<>(replicas);
+        Map<String, Subject> certsToGenerate = new LinkedHashMap<>(replicas);
         // copying the minimum number of certificates already existing in the secret
         // scale up -> it will copy all certificates
         // scale down -> it will copy just the requested number of replicas
@@ -405,8 +405,8 @@ public abstract class Ca {
             if (!reasons.isEmpty())  {
                 LOGGER.debugCr(reconciliation, "Certificate for pod {} need to be regenerated because: {}", podName, String.join(", ", reasons));
 
-                CertAndKey newCertAndKey = generateSignedCert(subject, brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-                certs.put(podName, newCertAndKey);
+                certs.put(podName, null);
+                certsToGenerate.put(podName, subject);
             }   else {
                 certs.put(podName, certAndKey);
             }
@@ -419,14 +419,65 @@ public abstract class Ca {
             String podName = podNameFn.apply(i);
 
             LOGGER.debugCr(reconciliation, "Certificate for {} to generate", podName);
-            CertAndKey k = generateSignedCert(subjectFn.apply(i),
-                    brokerCsrFile, brokerKeyFile, brokerCertFile, brokerKeyStoreFile);
-            certs.put(podName, k);
-        }
-        delete(reconciliation, brokerCsrFile);
-        delete(reconciliation, brokerKeyFile);
-        delete(reconciliation, brokerCertFile);
-        delete(reconciliation, brokerKeyStoreFile);
+            certs.put(podName, null);
+            certsToGenerate.put(podName, subjectFn.apply(i));
+        }
+
+        certs.putAll(generateSignedCerts(reconciliation, certsToGenerate));
+
+        return certs;
+    }
+
+    /**
+     * Generates the certificates signed by this CA in parallel in the certificate generation pool and waits for all
+     * of them to be generated.
+     *
+     * @param reconciliation    The reconciliation
+     * @param subjects          Map with the subjects of the certificates which should be generated
+     *
+     * @return  Map with the generated certificates under the same keys as their subjects
+     * @throws IOException If any of the certificates could not be generated.
+     */
+    private Map<String, CertAndKey> generateSignedCerts(Reconciliation reconciliation, Map<String, Subject> subjects) throws IOException {
+        if (subjects.isEmpty()) {
+            return emptyMap();
+        }
+
+        long startTime = System.nanoTime();
+        Map<String, Future<CertAndKey>> futures = new LinkedHashMap<>(subjects.size());
+
+        for (Map.Entry<String, Subject> subject : subjects.entrySet()) {
+            futures.put(subject.getKey(), CERT_GENERATION_POOL.submit(() -> generateSignedCert(subject.getValue())));
+        }
+
+        Map<String, CertAndKey> certs = new LinkedHashMap<>(subjects.size());
+
+        try {
+            for (Map.Entry<String, Future<CertAndKey>> future : futures.entrySet()) {
+                certs.put(future.getKey(), future.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating certificates", e);
+        } catch (ExecutionException e) {
+            futures.values().forEach(future -> future.cancel(true));
+
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        long duration = System.nanoTime() - startTime;
+        LOGGER.infoCr(reconciliation, "Generated {} certificates signed by CA {} in {}ms", certs.size(), this,
+                TimeUnit.NANOSECONDS.toMillis(duration));
+        if (certGenerationTimer != null) {
+            certGenerationTimer.record(duration, TimeUnit.NANOSECONDS);
+        }
 
         return certs;
     }
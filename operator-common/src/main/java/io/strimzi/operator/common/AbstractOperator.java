@@ -9,11 +9,11 @@ import io.fabric8.kubernetes.api.model.rbac.ClusterRoleBinding;
 import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.fabric8.kubernetes.client.utils.Serialization;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.Meter;
 import io.strimzi.api.kafka.model.Spec;
 import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.ConditionBuilder;
@@ -36,13 +36,12 @@ import io.vertx.core.shareddata.Lock;
 
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -75,6 +74,7 @@ public abstract class AbstractOperator<
 
     private static final long PROGRESS_WARNING = 60_000L;
     protected static final int LOCK_TIMEOUT_MS = 10000;
+    protected static final int DEFAULT_MAX_CONCURRENT_WATCH_RECONCILIATIONS = 10;
     public static final String METRICS_PREFIX = "strimzi.";
 
     protected final Vertx vertx;
@@ -84,6 +84,9 @@ public abstract class AbstractOperator<
     private final Optional<LabelSelector> selector;
 
     protected final MetricsProvider metrics;
+    private final Tags metricTags;
+    private ReconciliationQueue reconciliationQueue;
+    private volatile BiConsumer<String, String> reconcileAllScheduler = (trigger, namespace) -> reconcileAll(trigger, namespace, ignored -> { });
     private final Counter periodicReconciliationsCounter;
     private final Counter reconciliationsCounter;
     private final Counter failedReconciliationsCounter;
@@ -92,7 +95,7 @@ public abstract class AbstractOperator<
     private final AtomicInteger pausedResourceCounter;
     private final AtomicInteger resourceCounter;
     private final Timer reconciliationsTimer;
-    private final Map<String, AtomicInteger> resourcesStateCounter;
+    private final ResourceStateMetrics resourceStateMetrics;
 
     public AbstractOperator(Vertx vertx, String kind, O resourceOperator, MetricsProvider metrics, Labels selectorLabels) {
         this.vertx = vertx;
@@ -103,7 +106,7 @@ public abstract class AbstractOperator<
 
         // Setup metrics
         String selectorValue = selectorLabels != null ? selectorLabels.toSelectorString() : "";
-        Tags metricTags = Tags.of(Tag.of("kind", kind()), Tag.of("selector", selectorValue));
+        metricTags = Tags.of(Tag.of("kind", kind()), Tag.of("selector", selectorValue));
 
         periodicReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.periodical",
                 "Number of periodical reconciliations done by the operator",
@@ -137,7 +140,7 @@ public abstract class AbstractOperator<
                 "The time the reconciliation takes to complete",
                 metricTags);
 
-        resourcesStateCounter = new ConcurrentHashMap<>();
+        resourceStateMetrics = new ResourceStateMetrics(metrics);
     }
 
     @Override
@@ -341,9 +344,11 @@ public abstract class AbstractOperator<
                         StatusDiff sDiff = new StatusDiff(currentStatus, desiredStatus);
 
                         if (!sDiff.isEmpty()) {
-                            res.setStatus(desiredStatus);
+                            // The resource might be shared with the resource cache, so the status is set on a copy
+                            T resourceWithNewStatus = Serialization.clone(res);
+                            resourceWithNewStatus.setStatus(desiredStatus);
 
-                            return resourceOperator.updateStatusAsync(reconciliation, res)
+                            return resourceOperator.updateStatusAsync(reconciliation, resourceWithNewStatus)
                                     .compose(notUsed -> {
                                         LOGGER.debugCr(reconciliation, "Completed status update");
                                         return Future.succeededFuture();
@@ -464,7 +469,9 @@ public abstract class AbstractOperator<
     }
 
     /**
-     * Create Kubernetes watch.
+     * Create Kubernetes watch. When the resource cache is enabled for the namespace, the events are received from the
+     * cache once it was updated with them instead of from a separate watch. Otherwise, the reconciliations triggered
+     * by the events might read an older version of the resource from the cache.
      *
      * @param namespace Namespace where to watch for users.
      * @param onClose Callback called when the watch is closed.
@@ -472,7 +479,68 @@ public abstract class AbstractOperator<
      * @return A future which completes when the watcher has been created.
      */
     public Future<Watch> createWatch(String namespace, Consumer<WatcherException> onClose) {
-        return async(vertx, () -> resourceOperator.watch(namespace, selector(), new OperatorWatcher<>(this, namespace, onClose)));
+        ReconciliationQueue queue = reconciliationQueue();
+        OperatorWatcher<T> watcher = new OperatorWatcher<>(this, queue, (trigger, ns) -> reconcileAllScheduler.accept(trigger, ns), namespace, onClose);
+
+        if (resourceOperator.isCacheEnabled(namespace)) {
+            return async(vertx, () -> resourceOperator.watchCache(namespace, selector(), watcher));
+        } else {
+            return async(vertx, () -> resourceOperator.watch(namespace, selector(), watcher));
+        }
+    }
+
+    /**
+     * Sets how the reconciliation of all resources is started when the watch reports an error or an unknown event.
+     * By default, all resources are reconciled at once using {@link #reconcileAll(String, String, io.vertx.core.Handler)}.
+     *
+     * @param reconcileAllScheduler Consumer of the trigger and of the namespace which starts the reconciliation of all
+     *                              resources (for example through the scheduler of the periodic reconciliations)
+     */
+    public void setReconcileAllScheduler(BiConsumer<String, String> reconcileAllScheduler) {
+        this.reconcileAllScheduler = reconcileAllScheduler;
+    }
+
+    /**
+     * Gets the queue used for the reconciliations triggered by the watches. The queue is shared by the watches in
+     * all namespaces.
+     *
+     * @return  The reconciliation queue
+     */
+    private synchronized ReconciliationQueue reconciliationQueue() {
+        if (reconciliationQueue == null) {
+            reconciliationQueue = new ReconciliationQueue(vertx, this, metrics, metricTags, maxConcurrentWatchReconciliations());
+        }
+
+        return reconciliationQueue;
+    }
+
+    /**
+     * @return  The maximal number of reconciliations triggered by the watch which can run at the same time
+     */
+    protected int maxConcurrentWatchReconciliations() {
+        return DEFAULT_MAX_CONCURRENT_WATCH_RECONCILIATIONS;
+    }
+
+    /**
+     * Enables the local cache of the custom resources consumed by this operator. With the cache enabled, the
+     * reconciliations and periodic reconciliations read the custom resources from the cache instead of the Kubernetes
+     * API server.
+     *
+     * @param namespace Namespace where the cache should be enabled (or {@code *} for all namespaces).
+     *
+     * @return A future which completes when the cache has been synced.
+     */
+    public Future<Void> enableResourceCache(String namespace) {
+        return resourceOperator.enableCache(namespace, metrics);
+    }
+
+    /**
+     * Disables the local cache of the custom resources consumed by this operator and closes its watch.
+     *
+     * @param namespace Namespace where the cache should be disabled (or {@code *} for all namespaces).
+     */
+    public void disableResourceCache(String namespace) {
+        resourceOperator.disableCache(namespace);
     }
 
     public Consumer<WatcherException> recreateWatch(String namespace) {
@@ -538,37 +606,12 @@ public abstract class AbstractOperator<
      * @param ready if reconcile was successful and the resource is ready
      */
     private void updateResourceState(Reconciliation reconciliation, boolean ready, Throwable cause) {
-        String key = reconciliation.namespace() + ":" + reconciliation.kind() + "/" + reconciliation.name();
-
-        Tags metricTags = Tags.of(
-                    Tag.of("kind", reconciliation.kind()),
-                    Tag.of("name", reconciliation.name()),
-                    Tag.of("resource-namespace", reconciliation.namespace()),
-                    Tag.of("reason", cause == null ? "none" : cause.getMessage() == null ? "unknown error" : cause.getMessage()));
-
         T cr = resourceOperator.get(reconciliation.namespace(), reconciliation.name());
 
-        Optional<Meter> metric = metrics.meterRegistry().getMeters()
-                .stream()
-                .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "resource.state") &&
-                        meter.getId().getTags().contains(Tag.of("kind", reconciliation.kind())) &&
-                        meter.getId().getTags().contains(Tag.of("name", reconciliation.name())) &&
-                        meter.getId().getTags().contains(Tag.of("resource-namespace", reconciliation.namespace()))
-                ).findFirst();
-
-        if (metric.isPresent()) {
-            // remove metric so it can be re-added with new tags
-            metrics.meterRegistry().remove(metric.get().getId());
-            resourcesStateCounter.remove(key);
-            LOGGER.debugCr(reconciliation, "Removed metric " + METRICS_PREFIX + "resource.state{}", key);
-        }
-
         if (cr != null) {
-            resourcesStateCounter.computeIfAbsent(key, tags ->
-                    metrics.gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags)
-            );
-            resourcesStateCounter.get(key).set(ready ? 1 : 0);
-            LOGGER.debugCr(reconciliation, "Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, ready ? 1 : 0);
+            resourceStateMetrics.update(reconciliation, reconciliation.kind(), reconciliation.namespace(), reconciliation.name(), ready, cause);
+        } else {
+            resourceStateMetrics.remove(reconciliation, reconciliation.kind(), reconciliation.namespace(), reconciliation.name());
         }
     }
 
@@ -7,6 +7,8 @@ package io.strimzi.operator.common;
 import io.fabric8.kubernetes.api.model.Secret;
 import org.apache.kafka.clients.admin.Admin;
 
+import java.util.function.Predicate;
+
 /**
  * Interface to be implemented for returning an instance of Kafka Admin interface
  */
@@ -22,4 +24,14 @@ public interface AdminClientProvider {
      * @return Instance of Kafka Admin interface
      */
     Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName);
+
+    /**
+     * Closes the Admin clients kept by the provider for the bootstrap addresses matching the predicate. Providers which
+     * do not keep the clients after they are returned do nothing.
+     *
+     * @param bootstrapHostnames Predicate matching the bootstrap addresses of the clients which should be closed
+     */
+    default void evict(Predicate<String> bootstrapHostnames) {
+        // Nothing to evict by default
+    }
 }
@@ -5,25 +5,57 @@
 package io.strimzi.operator.common;
 
 import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.client.CustomResource;
 import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.WatcherException;
+import io.strimzi.api.kafka.model.status.Status;
+import io.strimzi.operator.common.model.NamespaceAndName;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
  * The fabric8 Watcher used to trigger reconciliation of an {@link Operator}.
+ * The reconciliations are not triggered directly but through the {@link ReconciliationQueue} of the operator. The
+ * reconciliations of all resources triggered by watch errors are passed to the {@code reconcileAll} consumer, so that
+ * they can be scheduled in the same way as the periodic reconciliations.
+ *
+ * MODIFIED events which do not change the spec (i.e. the generation is already observed in the status) and which do
+ * not change the labels or annotations are ignored. These are typically caused by the status updates done by the
+ * operator itself.
+ *
  * @param <T> The resource type
  */
 class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
     private final String namespace;
     private final Consumer<WatcherException> onClose;
-    private Operator operator;
+    private final Operator operator;
+    private final ReconciliationQueue queue;
+    private final BiConsumer<String, String> reconcileAll;
+    private final Map<NamespaceAndName, List<Map<String, String>>> observedMetadata = new ConcurrentHashMap<>();
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(OperatorWatcher.class);
 
-    OperatorWatcher(Operator operator, String namespace, Consumer<WatcherException> onClose) {
+    /**
+     * Constructor
+     *
+     * @param operator      The operator
+     * @param queue         Queue used for the reconciliations triggered by the events
+     * @param reconcileAll  Consumer of the trigger and namespace used to start the reconciliation of all resources
+     * @param namespace     The watched namespace
+     * @param onClose       Callback called when the watch is closed
+     */
+    OperatorWatcher(Operator operator, ReconciliationQueue queue, BiConsumer<String, String> reconcileAll, String namespace, Consumer<WatcherException> onClose) {
         this.namespace = namespace;
         this.onClose = onClose;
         this.operator = operator;
+        this.queue = queue;
+        this.reconcileAll = reconcileAll;
     }
 
     @Override
@@ -35,17 +67,58 @@ class OperatorWatcher<T extends HasMetadata> implements Watcher<T> {
             case DELETED:
             case MODIFIED:
                 Reconciliation reconciliation = new Reconciliation("watch", operator.kind(), namespace, name);
+
+                if (!hasChanged(action, resource)) {
+                    LOGGER.debugCr(reconciliation, "{} {} in namespace {} was {}, but its generation was already reconciled and it will be ignored", operator.kind(), name, namespace, action);
+                    break;
+                }
+
                 LOGGER.infoCr(reconciliation, "{} {} in namespace {} was {}", operator.kind(), name, namespace, action);
-                operator.reconcile(reconciliation);
+                queue.enqueue("watch", namespace, name);
                 break;
             case ERROR:
                 LOGGER.errorCr(new Reconciliation("watch", operator.kind(), namespace, name), "Failed {} {} in namespace{} ", operator.kind(), name, namespace);
-                operator.reconcileAll("watch error", namespace, ignored -> { });
+                reconcileAll.accept("watch error", namespace);
                 break;
             default:
                 LOGGER.errorCr(new Reconciliation("watch", operator.kind(), namespace, name), "Unknown action: {} in namespace {}", name, namespace);
-                operator.reconcileAll("watch unknown", namespace, ignored -> { });
+                reconcileAll.accept("watch unknown", namespace);
+        }
+    }
+
+    /**
+     * Checks whether the event might require reconciliation. Only MODIFIED events for resources with status are
+     * filtered. They require reconciliation when their generation was not observed yet or when their labels or
+     * annotations changed since the last event (changes to metadata do not change the generation).
+     *
+     * @param action    Watch action
+     * @param resource  Resource from the event
+     *
+     * @return  False if the event can be safely ignored. True otherwise.
+     */
+    /*test*/ boolean hasChanged(Action action, T resource) {
+        ObjectMeta metadata = resource.getMetadata();
+        NamespaceAndName key = new NamespaceAndName(metadata.getNamespace(), metadata.getName());
+
+        if (action == Action.DELETED) {
+            observedMetadata.remove(key);
+            return true;
         }
+
+        List<Map<String, String>> currentMetadata = Arrays.asList(metadata.getLabels(), metadata.getAnnotations());
+        List<Map<String, String>> previousMetadata = observedMetadata.put(key, currentMetadata);
+
+        if (action == Action.MODIFIED
+                && resource instanceof CustomResource
+                && Objects.equals(previousMetadata, currentMetadata)) {
+            Object status = ((CustomResource<?, ?>) resource).getStatus();
+
+            return !(status instanceof Status)
+                    || metadata.getGeneration() == null
+                    || metadata.getGeneration() != ((Status) status).getObservedGeneration();
+        }
+
+        return true;
     }
 
     @Override
@@ -0,0 +1,332 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.cluster.model.Ca;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Admin client provider which caches the Admin clients created by another provider and reuses them across
+ * reconciliations. The clients are cached per bootstrap address. Each cached client remembers the fingerprint of the
+ * cluster CA certificate and of the client certificate used to create it. When a client for the same bootstrap address
+ * is requested with different certificates (for example after the certificates were renewed), the cached client is
+ * evicted and a new one is created. Clients which are not used for longer than the idle timeout are closed as well.
+ *
+ * The returned Admin instances are leases of the cached client. Closing them only returns the lease and the cached
+ * client is closed only after it was evicted and all its leases were returned.
+ *
+ * When metrics are enabled, the number of cached clients is exposed in the strimzi.admin.client.open gauge and the
+ * number of created and reused clients in the strimzi.admin.client.created and strimzi.admin.client.reused counters.
+ */
+public class PooledAdminClientProvider implements AdminClientProvider {
+    private static final Logger LOGGER = LogManager.getLogger(PooledAdminClientProvider.class);
+
+    /**
+     * Cached clients which were not used for this time are closed
+     */
+    public static final long DEFAULT_IDLE_TIMEOUT_MS = 10 * 60 * 1000L;
+
+    /**
+     * Timeout for closing the evicted clients. There should be no pending operations when they are closed.
+     */
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final AdminClientProvider delegate;
+    private final long idleTimeoutMs;
+    private final LongSupplier clock;
+    private final Map<String, PooledClient> clients = new HashMap<>();
+
+    private final AtomicInteger openGauge;
+    private final Counter createdCounter;
+    private final Counter reusedCounter;
+
+    /**
+     * Constructs the pooled provider
+     *
+     * @param delegate  Provider used to create the Admin clients
+     * @param metrics   Metrics provider or null if the metrics should not be collected
+     */
+    public PooledAdminClientProvider(AdminClientProvider delegate, MetricsProvider metrics) {
+        this(delegate, metrics, DEFAULT_IDLE_TIMEOUT_MS, System::currentTimeMillis);
+    }
+
+    /*test*/ PooledAdminClientProvider(AdminClientProvider delegate, MetricsProvider metrics, long idleTimeoutMs, LongSupplier clock) {
+        this.delegate = delegate;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.clock = clock;
+
+        if (metrics != null) {
+            this.openGauge = metrics.gauge(AbstractOperator.METRICS_PREFIX + "admin.client.open",
+                    "Number of cached Kafka Admin clients",
+                    Tags.empty());
+            this.createdCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "admin.client.created",
+                    "Number of Kafka Admin clients created",
+                    Tags.empty());
+            this.reusedCounter = metrics.counter(AbstractOperator.METRICS_PREFIX + "admin.client.reused",
+                    "Number of requests for a Kafka Admin client served by a cached client",
+                    Tags.empty());
+        } else {
+            this.openGauge = null;
+            this.createdCounter = null;
+            this.reusedCounter = null;
+        }
+    }
+
+    @Override
+    public Admin createAdminClient(String bootstrapHostnames, Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        String fingerprint = fingerprint(clusterCaCertSecret, keyCertSecret, keyCertName);
+        List<PooledClient> evicted = new ArrayList<>();
+        Admin lease;
+
+        synchronized (this) {
+            evictIdle(evicted);
+
+            PooledClient client = clients.get(bootstrapHostnames);
+
+            if (client != null && !client.fingerprint.equals(fingerprint)) {
+                LOGGER.debug("Certificates used by the Admin client for {} changed", bootstrapHostnames);
+                evict(bootstrapHostnames, evicted);
+                client = null;
+            }
+
+            if (client == null) {
+                // Creating the client only resolves the bootstrap addresses and does not wait for any connection to Kafka
+                client = new PooledClient(bootstrapHostnames, fingerprint,
+                        delegate.createAdminClient(bootstrapHostnames, clusterCaCertSecret, keyCertSecret, keyCertName));
+                clients.put(bootstrapHostnames, client);
+                increment(createdCounter);
+                LOGGER.debug("Created Admin client for {}", bootstrapHostnames);
+            } else {
+                increment(reusedCounter);
+            }
+
+            lease = client.lease();
+            updateOpenGauge();
+        }
+
+        closeAll(evicted);
+        return lease;
+    }
+
+    /**
+     * Evicts the cached clients for the bootstrap addresses matching the predicate. They are closed once all their
+     * leases are returned.
+     *
+     * @param bootstrapHostnames    Predicate matching the bootstrap addresses of the clients which should be evicted
+     */
+    @Override
+    public void evict(Predicate<String> bootstrapHostnames) {
+        List<PooledClient> evicted = new ArrayList<>();
+
+        synchronized (this) {
+            for (String bootstrap : new ArrayList<>(clients.keySet())) {
+                if (bootstrapHostnames.test(bootstrap)) {
+                    evict(bootstrap, evicted);
+                }
+            }
+
+            updateOpenGauge();
+        }
+
+        closeAll(evicted);
+    }
+
+    /**
+     * @return  Number of cached clients
+     */
+    /*test*/ synchronized int size() {
+        return clients.size();
+    }
+
+    /**
+     * Removes the client from the cache. Has to be called with the lock held.
+     */
+    private void evict(String bootstrapHostnames, List<PooledClient> evicted) {
+        PooledClient client = clients.remove(bootstrapHostnames);
+
+        if (client != null) {
+            LOGGER.debug("Evicting Admin client for {}", bootstrapHostnames);
+            client.evicted = true;
+
+            if (client.leases == 0) {
+                evicted.add(client);
+            }
+        }
+    }
+
+    /**
+     * Evicts the clients which are not leased and which were not used for longer than the idle timeout. Has to be
+     * called with the lock held.
+     */
+    private void evictIdle(List<PooledClient> evicted) {
+        long now = clock.getAsLong();
+        Iterator<PooledClient> it = clients.values().iterator();
+
+        while (it.hasNext()) {
+            PooledClient client = it.next();
+
+            if (client.leases == 0 && now - client.lastUsed > idleTimeoutMs) {
+                LOGGER.debug("Evicting idle Admin client for {}", client.bootstrapHostnames);
+                client.evicted = true;
+                evicted.add(client);
+                it.remove();
+            }
+        }
+    }
+
+    private void release(PooledClient client) {
+        boolean close;
+
+        synchronized (this) {
+            client.leases--;
+            client.lastUsed = clock.getAsLong();
+            close = client.evicted && client.leases == 0;
+        }
+
+        if (close) {
+            closeAll(List.of(client));
+        }
+    }
+
+    private void closeAll(List<PooledClient> evicted) {
+        for (PooledClient client : evicted) {
+            try {
+                client.admin.close(CLOSE_TIMEOUT);
+            } catch (RuntimeException e) {
+                LOGGER.debug("Failed to close Admin client for {}", client.bootstrapHostnames, e);
+            }
+        }
+    }
+
+    private void updateOpenGauge() {
+        if (openGauge != null) {
+            openGauge.set(clients.size());
+        }
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    /**
+     * Computes the fingerprint of the certificates and keys used by the Admin client
+     *
+     * @param clusterCaCertSecret   Secret with the cluster CA certificate
+     * @param keyCertSecret         Secret with the client certificate and key
+     * @param keyCertName           Name of the client certificate and key in the Secret
+     *
+     * @return  Fingerprint of the certificates and keys
+     */
+    /*test*/ static String fingerprint(Secret clusterCaCertSecret, Secret keyCertSecret, String keyCertName) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+            update(digest, clusterCaCertSecret, Ca.CA_CRT);
+
+            if (keyCertName != null) {
+                for (String suffix : List.of(".crt", ".key", ".p12", ".password")) {
+                    update(digest, keyCertSecret, keyCertName + suffix);
+                }
+            }
+
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to compute the fingerprint of the certificates", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, Secret secret, String key) {
+        String value = secret != null && secret.getData() != null ? secret.getData().get(key) : null;
+
+        // The separator makes sure that missing and empty values differ
+        digest.update(value != null ? value.getBytes(StandardCharsets.US_ASCII) : new byte[0]);
+        digest.update((byte) (value != null ? 1 : 0));
+    }
+
+    /**
+     * Cached Admin client. The fields other than the immutable ones are guarded by the lock of the provider.
+     */
+    private class PooledClient {
+        private final String bootstrapHostnames;
+        private final String fingerprint;
+        private final Admin admin;
+
+        private int leases = 0;
+        private long lastUsed;
+        private boolean evicted = false;
+
+        PooledClient(String bootstrapHostnames, String fingerprint, Admin admin) {
+            this.bootstrapHostnames = bootstrapHostnames;
+            this.fingerprint = fingerprint;
+            this.admin = admin;
+            this.lastUsed = clock.getAsLong();
+        }
+
+        /**
+         * Returns a proxy of the client whose close methods return the lease instead of closing the client. Has to be
+         * called with the lock held.
+         */
+        Admin lease() {
+            leases++;
+            lastUsed = clock.getAsLong();
+
+            AtomicBoolean released = new AtomicBoolean(false);
+
+            return (Admin) Proxy.newProxyInstance(Admin.class.getClassLoader(), new Class<?>[] {Admin.class}, (proxy, method, args) -> {
+                if ("close".equals(method.getName())) {
+                    if (released.compareAndSet(false, true)) {
+                        release(this);
+                    }
+
+                    return null;
+                } else if (method.getDeclaringClass() == Object.class) {
+                    return invokeObjectMethod(proxy, method, args);
+                }
+
+                try {
+                    return method.invoke(admin, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        private Object invokeObjectMethod(Object proxy, Method method, Object[] args) {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return "PooledAdmin(" + bootstrapHostnames + ")";
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Work queue for the reconciliations triggered by watch events of a single {@link Operator} (kind).
+ *
+ * <ul>
+ * <li>Pending reconciliations are coalesced per resource (namespace and name). When a resource is already queued,
+ *     another event for it does not trigger another reconciliation.
+ * <li>At most one reconciliation per resource is in progress at any time. Events received while the resource is
+ *     being reconciled trigger exactly one more reconciliation once the current one completes.
+ * <li>At most {@code maxConcurrency} reconciliations are in progress at any time.
+ * <li>Failed reconciliations are retried with an exponential back-off per resource. Events received while a retry is
+ *     scheduled do not bypass the back-off. Once the retries are exhausted, the resource is left for the periodic
+ *     reconciliation.
+ * </ul>
+ *
+ * All the state of the queue is accessed only from a single Vert.x context, so no further synchronization is needed.
+ */
+public class ReconciliationQueue {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationQueue.class);
+
+    private static final long RETRY_SCALE_MS = 1_000L;
+    private static final int RETRY_MAX_ATTEMPTS = 6;
+
+    private final Vertx vertx;
+    private final Context context;
+    private final Operator operator;
+    private final int maxConcurrency;
+
+    // Pending resources with the trigger and the time when they were queued
+    private final LinkedHashMap<NamespaceAndName, Pending> pending = new LinkedHashMap<>();
+    private final Set<NamespaceAndName> inProgress = new HashSet<>();
+    private final Map<NamespaceAndName, String> requeueAfterCompletion = new HashMap<>();
+    private final Map<NamespaceAndName, BackOff> backOffs = new HashMap<>();
+    private final Set<NamespaceAndName> retryScheduled = new HashSet<>();
+
+    private final AtomicInteger depth;
+    private final Timer latency;
+
+    /**
+     * Constructs the reconciliation queue
+     *
+     * @param vertx             Vert.x instance
+     * @param operator          Operator which should be used to reconcile the queued resources
+     * @param metrics           Metrics provider
+     * @param metricTags        Tags which should be used for the queue metrics
+     * @param maxConcurrency    Maximal number of reconciliations which can be in progress at the same time
+     */
+    public ReconciliationQueue(Vertx vertx, Operator operator, MetricsProvider metrics, Tags metricTags, int maxConcurrency) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Maximal concurrency has to be bigger than 0");
+        }
+
+        this.vertx = vertx;
+        this.context = vertx.getOrCreateContext();
+        this.operator = operator;
+        this.maxConcurrency = maxConcurrency;
+
+        this.depth = metrics.gauge(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.depth",
+                "Number of resources waiting in the queue for reconciliation",
+                metricTags);
+        this.latency = metrics.timer(AbstractOperator.METRICS_PREFIX + "reconciliations.queue.latency",
+                "The time the resources wait in the queue before their reconciliation is started",
+                metricTags);
+    }
+
+    /**
+     * Queues the resource for reconciliation. This method can be called from any thread.
+     *
+     * @param trigger   The cause of the reconciliation (for logging)
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     */
+    public void enqueue(String trigger, String namespace, String name) {
+        NamespaceAndName key = new NamespaceAndName(namespace, name);
+        context.runOnContext(v -> add(trigger, key));
+    }
+
+    private void add(String trigger, NamespaceAndName key) {
+        if (inProgress.contains(key)) {
+            LOGGER.debugCr(reconciliation(trigger, key), "{} {} is being reconciled and will be reconciled again afterwards", operator.kind(), key);
+            requeueAfterCompletion.putIfAbsent(key, trigger);
+        } else if (retryScheduled.contains(key)) {
+            LOGGER.debugCr(reconciliation(trigger, key), "{} {} is waiting for retry and will not be queued", operator.kind(), key);
+        } else if (pending.putIfAbsent(key, new Pending(trigger, System.nanoTime())) == null) {
+            depth.set(pending.size());
+            drain();
+        } else {
+            LOGGER.debugCr(reconciliation(trigger, key), "{} {} is already queued", operator.kind(), key);
+        }
+    }
+
+    private void drain() {
+        Iterator<Map.Entry<NamespaceAndName, Pending>> iterator = pending.entrySet().iterator();
+
+        while (inProgress.size() < maxConcurrency && iterator.hasNext()) {
+            Map.Entry<NamespaceAndName, Pending> next = iterator.next();
+            iterator.remove();
+
+            NamespaceAndName key = next.getKey();
+            Pending queued = next.getValue();
+            latency.record(System.nanoTime() - queued.queuedAt, TimeUnit.NANOSECONDS);
+            inProgress.add(key);
+
+            Reconciliation reconciliation = reconciliation(queued.trigger, key);
+            try {
+                operator.reconcile(reconciliation)
+                        .onComplete(res -> context.runOnContext(v -> complete(reconciliation, key, res)));
+            } catch (Throwable t) {
+                context.runOnContext(v -> complete(reconciliation, key, Future.failedFuture(t)));
+            }
+        }
+
+        depth.set(pending.size());
+    }
+
+    private void complete(Reconciliation reconciliation, NamespaceAndName key, AsyncResult<Void> result) {
+        inProgress.remove(key);
+        String requeueTrigger = requeueAfterCompletion.remove(key);
+
+        if (result.succeeded()) {
+            backOffs.remove(key);
+        } else {
+            BackOff backOff = backOffs.computeIfAbsent(key, k -> newBackOff());
+
+            if (backOff.done()) {
+                LOGGER.warnCr(reconciliation, "Reconciliation of {} {} failed and all {} retries were used. It will be retried by the periodic reconciliation.", operator.kind(), key, RETRY_MAX_ATTEMPTS);
+                backOffs.remove(key);
+            } else {
+                long delay = backOff.delayMs();
+                LOGGER.infoCr(reconciliation, "Reconciliation of {} {} failed and will be retried in {}ms", operator.kind(), key, delay);
+
+                retryScheduled.add(key);
+                vertx.setTimer(delay, timerId -> {
+                    retryScheduled.remove(key);
+                    add("watch-retry", key);
+                });
+
+                // The retry replaces any reconciliation requested in the meantime
+                requeueTrigger = null;
+            }
+        }
+
+        if (requeueTrigger != null) {
+            add(requeueTrigger, key);
+        } else {
+            drain();
+        }
+    }
+
+    private static BackOff newBackOff() {
+        BackOff backOff = new BackOff(RETRY_SCALE_MS, 2, RETRY_MAX_ATTEMPTS + 1);
+        // The first delay of the BackOff is always 0, but a failed reconciliation should never be retried immediately
+        backOff.delayMs();
+        return backOff;
+    }
+
+    private Reconciliation reconciliation(String trigger, NamespaceAndName key) {
+        return new Reconciliation(trigger, operator.kind(), key.getNamespace(), key.getName());
+    }
+
+    /**
+     * Represents a queued resource
+     */
+    private static class Pending {
+        private final String trigger;
+        private final long queuedAt;
+
+        Pending(String trigger, long queuedAt) {
+            this.trigger = trigger;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps the strimzi.resource.state gauges of the reconciled custom resources. The gauges are kept in a map keyed by
+ * the kind, namespace and name of the resource, so updating or removing the state of a resource does not need to
+ * search through all the meters in the registry.
+ *
+ * The reason of the last failure is one of the tags of the gauge. As long as the reason does not change, the value of
+ * the existing gauge is just updated. When the reason changes, the old gauge is removed and a new one is registered.
+ */
+public class ResourceStateMetrics {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceStateMetrics.class);
+
+    /*test*/ static final String METRIC_NAME = AbstractOperator.METRICS_PREFIX + "resource.state";
+    private static final String METRIC_DESCRIPTION = "Current state of the resource: 1 ready, 0 fail";
+
+    private final MetricsProvider metrics;
+    private final Map<String, ResourceState> states = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs the resource state metrics
+     *
+     * @param metrics   Metrics provider used to register the gauges
+     */
+    public ResourceStateMetrics(MetricsProvider metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the state of the resource. The gauge is registered when it does not exist yet.
+     *
+     * @param reconciliation    Reconciliation marker (used for logging)
+     * @param kind              Kind of the resource
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param ready             Whether the last reconciliation was successful and the resource is ready
+     * @param cause             Cause of the failure or null if the reconciliation was successful
+     */
+    public void update(Reconciliation reconciliation, String kind, String namespace, String name, boolean ready, Throwable cause) {
+        String reason = cause == null ? "none" : cause.getMessage() == null ? "unknown error" : cause.getMessage();
+
+        ResourceState state = states.compute(key(kind, namespace, name), (key, current) -> {
+            if (current != null && current.reason.equals(reason)) {
+                return current;
+            }
+
+            if (current != null) {
+                // The reason is a tag, so the gauge has to be re-registered when it changes
+                metrics.meterRegistry().remove(current.id);
+            }
+
+            Tags tags = Tags.of(
+                    Tag.of("kind", kind),
+                    Tag.of("name", name),
+                    Tag.of("resource-namespace", namespace),
+                    Tag.of("reason", reason));
+
+            return new ResourceState(new Meter.Id(METRIC_NAME, tags, null, METRIC_DESCRIPTION, Meter.Type.GAUGE),
+                    reason,
+                    metrics.gauge(METRIC_NAME, METRIC_DESCRIPTION, tags));
+        });
+
+        state.value.set(ready ? 1 : 0);
+        LOGGER.debugCr(reconciliation, "Updated metric " + METRIC_NAME + "{} = {}", state.id.getTags(), ready ? 1 : 0);
+    }
+
+    /**
+     * Removes the state of the resource. This should be called when the resource is deleted.
+     *
+     * @param reconciliation    Reconciliation marker (used for logging)
+     * @param kind              Kind of the resource
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     */
+    public void remove(Reconciliation reconciliation, String kind, String namespace, String name) {
+        String key = key(kind, namespace, name);
+
+        states.computeIfPresent(key, (k, current) -> {
+            metrics.meterRegistry().remove(current.id);
+            LOGGER.debugCr(reconciliation, "Removed metric " + METRIC_NAME + "{}", key);
+            return null;
+        });
+    }
+
+    private static String key(String kind, String namespace, String name) {
+        return namespace + ":" + kind + "/" + name;
+    }
+
+    /**
+     * The gauge of a single resource
+     */
+    private static class ResourceState {
+        private final Meter.Id id;
+        private final String reason;
+        private final AtomicInteger value;
+
+        ResourceState(Meter.Id id, String reason, AtomicInteger value) {
+            this.id = id;
+            this.reason = reason;
+            this.value = value;
+        }
+    }
+}
@@ -8,12 +8,18 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -87,35 +93,44 @@ public class ResourceVisitor {
     }
 
     private static void visit(Reconciliation reconciliation, List<String> path, Object resource, Visitor visitor) throws ReflectiveOperationException {
-        Class<?> cls = resource.getClass();
         visitor.visitObject(reconciliation, path, resource);
+        for (Accessor<?> accessor : ACCESSORS.get(resource.getClass())) {
+            Object propertyValue = accessor.get(resource);
+            accessor.visit(reconciliation, path, resource, propertyValue, visitor);
+            visitProperty(reconciliation, path, accessor, propertyValue, visitor);
+        }
+    }
+
+    /**
+     * Finds the public fields and the getter methods of the class. They are found only once for each class and cached
+     * in {@link #ACCESSORS}.
+     *
+     * @param cls   The class
+     *
+     * @return  Accessors of the properties of the class
+     */
+    private static List<Accessor<?>> accessors(Class<?> cls) {
+        List<Accessor<?>> accessors = new ArrayList<>();
         for (Field field : cls.getFields()) {
-            Object propertyValue = field.get(resource);
-            visitor.visitFieldProperty(reconciliation, path, resource, field, FIELD_PROPERTY, propertyValue);
-            visitProperty(reconciliation, path, field, FIELD_PROPERTY, propertyValue, visitor);
+            accessors.add(new FieldAccessor(field));
         }
         for (Method method : cls.getMethods()) {
             String name = method.getName();
             if (!"getClass".equals(name)) {
-                Property<Method> property = null;
                 if (name.length() > 3
                         && name.startsWith("get")
                         && !method.getReturnType().equals(Void.class)
                         && method.getParameterCount() == 0) {
-                    property = GET_METHOD_PROPERTY;
+                    accessors.add(new MethodAccessor(method, GET_METHOD_PROPERTY));
                 } else if (name.length() > 2
                         && name.startsWith("is")
                         && method.getReturnType().equals(boolean.class)
                         && method.getParameterCount() == 0) {
-                    property = IS_METHOD_PROPERTY;
-                }
-                if (property != null) {
-                    Object propertyValue = method.invoke(resource);
-                    visitor.visitMethodProperty(reconciliation, path, resource, method, property, propertyValue);
-                    visitProperty(reconciliation, path, method, property, propertyValue, visitor);
+                    accessors.add(new MethodAccessor(method, IS_METHOD_PROPERTY));
                 }
             }
         }
+        return Collections.unmodifiableList(accessors);
     }
 
     private static boolean isScalar(Class<?> returnType) {
@@ -132,12 +147,11 @@ public class ResourceVisitor {
                 || isFloat;
     }
 
-    static <M extends AnnotatedElement & Member> void visitProperty(Reconciliation reconciliation, List<String> path, M member,
-                                                                    Property<M> property, Object propertyValue,
-                                                                    Visitor visitor)
+    static void visitProperty(Reconciliation reconciliation, List<String> path, Accessor<?> accessor, Object propertyValue,
+                              Visitor visitor)
             throws ReflectiveOperationException {
-        String propertyName = property.propertyName(member);
-        Class<?> returnType = property.type(member);
+        String propertyName = accessor.propertyName;
+        Class<?> returnType = accessor.type;
         if (propertyValue != null) {
             if (returnType.isArray()) {
                 path.add(propertyName);
@@ -207,4 +221,116 @@ public class ResourceVisitor {
         }
     };
 
+    /**
+     * Cached accessors of the properties of each visited class
+     */
+    private static final ClassValue<List<Accessor<?>>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected List<Accessor<?>> computeValue(Class<?> cls) {
+            return accessors(cls);
+        }
+    };
+
+    /**
+     * Property of a visited class with its name, type and a method handle reading its value. It is passed to the
+     * visitor as the {@link Property} so that the visitor gets the cached name instead of deriving it again.
+     *
+     * @param <M> The type of member ({@code Field} or {@code Method}).
+     */
+    abstract static class Accessor<M extends AnnotatedElement & Member> implements Property<M> {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        final M member;
+        final String propertyName;
+        final Class<?> type;
+        private final Property<M> property;
+        private final MethodHandle getter;
+
+        Accessor(M member, Property<M> property) {
+            this.member = member;
+            this.property = property;
+            this.propertyName = property.propertyName(member);
+            this.type = property.type(member);
+            this.getter = getter(member);
+        }
+
+        /**
+         * @return  Method handle reading the property or null if the property cannot be read by a method handle (for
+         *          example because the member is declared in a non-public class) and has to be read using reflection
+         */
+        private static MethodHandle getter(Member member) {
+            try {
+                MethodHandle handle = member instanceof Field
+                        ? MethodHandles.publicLookup().unreflectGetter((Field) member)
+                        : MethodHandles.publicLookup().unreflect((Method) member);
+                if (Modifier.isStatic(member.getModifiers())) {
+                    // Static members ignore the owner, as Field.get() and Method.invoke() do
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                return handle.asType(GETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                return null;
+            }
+        }
+
+        Object get(Object owner) throws ReflectiveOperationException {
+            if (getter == null) {
+                return getReflectively(owner);
+            }
+
+            try {
+                return (Object) getter.invokeExact(owner);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        abstract Object getReflectively(Object owner) throws ReflectiveOperationException;
+
+        abstract void visit(Reconciliation reconciliation, List<String> path, Object owner, Object propertyValue, Visitor visitor);
+
+        @Override
+        public String propertyName(M i) {
+            return i == member ? propertyName : property.propertyName(i);
+        }
+
+        @Override
+        public Class<?> type(M i) {
+            return i == member ? type : property.type(i);
+        }
+    }
+
+    private static class FieldAccessor extends Accessor<Field> {
+        FieldAccessor(Field field) {
+            super(field, FIELD_PROPERTY);
+        }
+
+        @Override
+        Object getReflectively(Object owner) throws ReflectiveOperationException {
+            return member.get(owner);
+        }
+
+        @Override
+        void visit(Reconciliation reconciliation, List<String> path, Object owner, Object propertyValue, Visitor visitor) {
+            visitor.visitFieldProperty(reconciliation, path, owner, member, this, propertyValue);
+        }
+    }
+
+    private static class MethodAccessor extends Accessor<Method> {
+        MethodAccessor(Method method, Property<Method> property) {
+            super(method, property);
+        }
+
+        @Override
+        Object getReflectively(Object owner) throws ReflectiveOperationException {
+            return member.invoke(owner);
+        }
+
+        @Override
+        void visit(Reconciliation reconciliation, List<String> path, Object owner, Object propertyValue, Visitor visitor) {
+            visitor.visitMethodProperty(reconciliation, path, owner, member, this, propertyValue);
+        }
+    }
 }
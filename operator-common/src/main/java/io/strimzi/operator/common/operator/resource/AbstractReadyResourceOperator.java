@@ -8,6 +8,7 @@ import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.fabric8.kubernetes.client.internal.readiness.Readiness;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
@@ -50,6 +51,11 @@ public abstract class AbstractReadyResourceOperator<C extends KubernetesClient,
      * @return Whether the resource in in the Ready state.
      */
     public boolean isReady(String namespace, String name) {
+        if (isCacheSynced(namespace)) {
+            T resource = get(namespace, name);
+            return resource != null && Readiness.getInstance().isReady(resource);
+        }
+
         R resourceOp = operation().inNamespace(namespace).withName(name);
         T resource = resourceOp.get();
         if (resource != null)   {
@@ -8,13 +8,17 @@ import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
 import io.fabric8.kubernetes.api.model.LabelSelector;
+import io.fabric8.kubernetes.api.model.ListOptionsBuilder;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
 import io.fabric8.kubernetes.client.dsl.FilterWatchListMultiDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -24,10 +28,14 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
 
@@ -50,10 +58,16 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
                     "|/status)$");
 
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractResourceOperator.class);
+    private static final long CACHE_RESYNC_DELAY_MS = 5_000L;
+
     protected final Vertx vertx;
     protected final C client;
     protected final String resourceKind;
     protected final ResourceSupport resourceSupport;
+    private volatile ResourceCache<T> cache;
+    // Guarded by this
+    private final Map<String, Watch> cacheWatches = new HashMap<>();
+    private final Set<String> cacheResyncs = new HashSet<>();
 
     /**
      * Constructor.
@@ -70,6 +84,214 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
     protected abstract MixedOperation<T, L, R> operation();
 
+    /**
+     * Enables the local resource cache for the given namespace. The namespace is listed once and kept up to date by a
+     * single watch. Once the returned future completes, {@link #get(String, String)}, {@link #getAsync(String, String)},
+     * {@link #listAsync(String, Labels)} and {@link #reconcile(Reconciliation, String, String, HasMetadata)} are served
+     * from the cache for this namespace. When the watch is closed with an error, the namespace is re-listed and
+     * re-watched and the requests fall back to the Kubernetes API server in the meantime. The cache stays enabled
+     * until {@link #disableCache(String)} is called. The resources served from the cache are the cached instances, so
+     * the callers must not modify them.
+     *
+     * @param namespace The namespace or {@code *} for all namespaces
+     * @param metrics   Metrics provider used for the cache hit and miss metrics
+     *
+     * @return A future which completes when the cache for the namespace is synced.
+     */
+    public synchronized Future<Void> enableCache(String namespace, MetricsProvider metrics) {
+        if (cache == null) {
+            cache = new ResourceCache<>(resourceKind, metrics);
+        }
+
+        cacheWatches.putIfAbsent(namespace, null);
+        return syncCache(namespace);
+    }
+
+    /**
+     * Disables the local resource cache for the given namespace. The watch of the namespace is closed and the requests
+     * go to the Kubernetes API server again.
+     *
+     * @param namespace The namespace or {@code *} for all namespaces
+     */
+    public synchronized void disableCache(String namespace) {
+        if (cacheWatches.containsKey(namespace)) {
+            Watch watch = cacheWatches.remove(namespace);
+
+            if (watch != null) {
+                watch.close();
+            }
+
+            cache.invalidate(namespace);
+            LOGGER.debugOp("{} cache for namespace {} disabled", resourceKind, namespace);
+        }
+    }
+
+    /**
+     * Checks whether the cache was enabled for the given namespace
+     *
+     * @param namespace The namespace or {@code *} for all namespaces
+     *
+     * @return  True if the cache is enabled for the namespace. False otherwise.
+     */
+    public synchronized boolean isCacheEnabled(String namespace) {
+        return cacheWatches.containsKey(namespace);
+    }
+
+    /**
+     * Watches the resources through the local resource cache. The watcher receives the events only after the cache
+     * was updated with them, so that the reads triggered by the events are served the same or a newer version of the
+     * resource. Like a new Kubernetes watch, the watcher receives an ADDED event for all existing resources first.
+     * When the cache watch fails, the watcher is not closed. It receives the events for all resources again once the
+     * namespace is re-synced instead.
+     *
+     * @param namespace The namespace or {@code *} for all namespaces. The cache has to be enabled for it.
+     * @param selector  The label selector of the watched resources
+     * @param watcher   The watcher
+     *
+     * @return  The watch which unregisters the watcher from the cache when it is closed
+     */
+    public Watch watchCache(String namespace, Optional<LabelSelector> selector, Watcher<T> watcher) {
+        if (!isCacheEnabled(namespace)) {
+            throw new IllegalStateException("The " + resourceKind + " cache is not enabled for namespace " + namespace);
+        }
+
+        ResourceCache<T> cache = this.cache;
+        Watcher<T> handler = new Watcher<>() {
+            @Override
+            public void eventReceived(Action action, T resource) {
+                if (Util.matchesSelector(selector, resource)) {
+                    watcher.eventReceived(action, resource);
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+                watcher.onClose(cause);
+            }
+        };
+
+        cache.addEventHandler(namespace, handler);
+        return () -> cache.removeEventHandler(namespace, handler);
+    }
+
+    private Future<Void> syncCache(String namespace) {
+        ResourceCache<T> cache = this.cache;
+
+        return resourceSupport.executeBlocking(blockingFuture -> {
+            try {
+                FilterWatchListDeletable<T, L> operation;
+                if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
+                    operation = operation().inAnyNamespace();
+                } else {
+                    operation = operation().inNamespace(namespace);
+                }
+
+                // The watch starts from the resource version of the list to make sure no event is lost in between
+                L list = operation.list();
+                String resourceVersion = list.getMetadata() != null ? list.getMetadata().getResourceVersion() : null;
+                cache.sync(namespace, list.getItems());
+                Watch watch = operation.watch(new ListOptionsBuilder().withResourceVersion(resourceVersion).build(), cache.watcher(namespace, e -> onCacheWatchClosed(namespace, e)));
+
+                Watch previous;
+                synchronized (this) {
+                    if (!cacheWatches.containsKey(namespace)) {
+                        // The cache was disabled in the meantime
+                        watch.close();
+                        cache.invalidate(namespace);
+                        blockingFuture.complete();
+                        return;
+                    }
+
+                    previous = cacheWatches.put(namespace, watch);
+                }
+
+                if (previous != null) {
+                    // The previous watch failed or received an unexpected event
+                    previous.close();
+                }
+
+                LOGGER.debugOp("{} cache for namespace {} is watching from resource version {}", resourceKind, namespace, resourceVersion);
+                blockingFuture.complete();
+            } catch (Throwable t) {
+                cache.invalidate(namespace);
+                blockingFuture.fail(t);
+            }
+        });
+    }
+
+    private void onCacheWatchClosed(String namespace, WatcherException e) {
+        if (e != null) {
+            synchronized (this) {
+                if (!cacheWatches.containsKey(namespace)) {
+                    LOGGER.debugOp("{} cache watch in namespace {} closed after the cache was disabled", resourceKind, namespace);
+                    return;
+                } else if (!cacheResyncs.add(namespace)) {
+                    LOGGER.debugOp("{} cache watch in namespace {} closed, but the re-sync is already scheduled", resourceKind, namespace);
+                    return;
+                }
+            }
+
+            LOGGER.warnOp("{} cache watch in namespace {} closed with exception. The cache will be re-synced.", resourceKind, namespace, e);
+            vertx.setTimer(CACHE_RESYNC_DELAY_MS, timerId -> {
+                synchronized (this) {
+                    cacheResyncs.remove(namespace);
+
+                    if (!cacheWatches.containsKey(namespace)) {
+                        return;
+                    }
+                }
+
+                syncCache(namespace).onComplete(res -> {
+                    if (res.failed()) {
+                        onCacheWatchClosed(namespace, new WatcherException("Failed to re-sync the cache", res.cause()));
+                    }
+                });
+            });
+        } else {
+            LOGGER.infoOp("{} cache watch in namespace {} closed", resourceKind, namespace);
+        }
+    }
+
+    /**
+     * Returns the cache if it is synced for the given namespace. It also updates the hit and miss metrics.
+     *
+     * @param namespace The namespace or {@code *} for all namespaces
+     *
+     * @return  The synced cache or null if the request should go to the Kubernetes API server
+     */
+    private ResourceCache<T> syncedCache(String namespace) {
+        ResourceCache<T> cache = this.cache;
+        return cache != null && cache.use(namespace) ? cache : null;
+    }
+
+    /**
+     * Checks whether the cache is enabled and synced for the given namespace so that reads of the resources in it do
+     * not go to the Kubernetes API server.
+     *
+     * @param namespace The namespace or {@code *} for all namespaces
+     *
+     * @return  True if the resources in the namespace are served from the cache. False otherwise.
+     */
+    protected boolean isCacheSynced(String namespace) {
+        ResourceCache<T> cache = this.cache;
+        return cache != null && cache.isSynced(namespace);
+    }
+
+    /**
+     * Updates the cache (if enabled) with the resource returned by the Kubernetes API server after it was modified by
+     * this operator. This makes sure that the next read from the cache does not return the old version before the watch
+     * event arrives.
+     *
+     * @param resource  The modified resource
+     */
+    protected void updateCache(T resource) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            cache.update(resource);
+        }
+    }
+
     /**
      * Asynchronously create or update the given {@code resource} depending on whether it already exists,
      * returning a future for the outcome.
@@ -104,7 +326,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         Promise<ReconcileResult<T>> promise = Promise.promise();
         vertx.createSharedWorkerExecutor("kubernetes-ops-pool").executeBlocking(
             future -> {
-                T current = operation().inNamespace(namespace).withName(name).get();
+                T current = get(namespace, name);
                 if (desired != null) {
                     if (current == null) {
                         LOGGER.debugCr(reconciliation, "{} {}/{} does not exist, creating it", resourceKind, namespace, name);
@@ -187,7 +409,25 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
         Future<Void> deleteFuture = resourceSupport.deleteAsync(resourceOp.withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).withGracePeriod(-1L));
 
-        return CompositeFuture.join(watchForDeleteFuture, deleteFuture).map(ReconcileResult.deleted());
+        return CompositeFuture.join(watchForDeleteFuture, deleteFuture)
+                .map(i -> {
+                    removeFromCache(namespace, name);
+                    return ReconcileResult.deleted();
+                });
+    }
+
+    /**
+     * Removes the resource from the cache (if enabled) after it was deleted by this operator.
+     *
+     * @param namespace Namespace of the deleted resource
+     * @param name      Name of the deleted resource
+     */
+    protected void removeFromCache(String namespace, String name) {
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            cache.remove(namespace, name);
+        }
     }
 
     protected long deleteTimeoutMs() {
@@ -241,6 +481,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (needsPatching(reconciliation, name, current, desired))  {
             try {
                 T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(desired);
+                updateCache(result);
                 LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
                 return Future.succeededFuture(wasChanged(current, result) ? ReconcileResult.patched(result) : ReconcileResult.noop(result));
             } catch (Exception e) {
@@ -271,6 +512,7 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     protected Future<ReconcileResult<T>> internalCreate(Reconciliation reconciliation, String namespace, String name, T desired) {
         try {
             ReconcileResult<T> result = ReconcileResult.created(operation().inNamespace(namespace).withName(name).create(desired));
+            updateCache(result.resource());
             LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been created", resourceKind, name, namespace);
             return Future.succeededFuture(result);
         } catch (Exception e) {
@@ -281,6 +523,8 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
     /**
      * Synchronously gets the resource with the given {@code name} in the given {@code namespace}.
+     * The resource is served from the local cache when it is enabled and synced. It is then shared with the cache and
+     * has to be copied before it is modified.
      * @param namespace The namespace.
      * @param name The name.
      * @return The resource, or null if it doesn't exist.
@@ -289,11 +533,19 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+
+        ResourceCache<T> cache = syncedCache(namespace);
+        if (cache != null) {
+            return cache.get(namespace, name);
+        }
+
         return operation().inNamespace(namespace).withName(name).get();
     }
 
     /**
      * Asynchronously gets the resource with the given {@code name} in the given {@code namespace}.
+     * The resource is served from the local cache when it is enabled and synced. It is then shared with the cache and
+     * has to be copied before it is modified.
      * @param namespace The namespace.
      * @param name The name.
      * @return A Future for the result.
@@ -302,6 +554,12 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         if (name == null || name.isEmpty()) {
             throw new IllegalArgumentException(namespace + "/" + resourceKind + " with an empty name cannot be configured. Please provide a name.");
         }
+
+        ResourceCache<T> cache = syncedCache(namespace);
+        if (cache != null) {
+            return Future.succeededFuture(cache.get(namespace, name));
+        }
+
         return resourceSupport.getAsync(operation().inNamespace(namespace).withName(name));
     }
 
@@ -353,12 +611,20 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
     /**
      * Asynchronously lists the resource with the given {@code selector} in the given {@code namespace}.
+     * The resources are served from the local cache when it is enabled and synced. They are then shared with the cache
+     * and have to be copied before they are modified.
      *
      * @param namespace The namespace.
      * @param selector The selector.
      * @return A Future with a list of matching resources.
      */
     public Future<List<T>> listAsync(String namespace, Labels selector) {
+        ResourceCache<T> cache = syncedCache(namespace);
+        if (cache != null) {
+            Map<String, String> matchLabels = selector != null ? selector.toMap() : Collections.emptyMap();
+            return Future.succeededFuture(cache.list(namespace, resource -> matchesLabels(resource, matchLabels)));
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -374,6 +640,16 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
     }
 
     public Future<List<T>> listAsync(String namespace, Optional<LabelSelector> selector) {
+        // Only selectors based on labels can be evaluated against the cache
+        if (selector.isEmpty() || selector.get().getMatchExpressions() == null || selector.get().getMatchExpressions().isEmpty()) {
+            ResourceCache<T> cache = syncedCache(namespace);
+            if (cache != null) {
+                Map<String, String> matchLabels = selector.isPresent() && selector.get().getMatchLabels() != null
+                        ? selector.get().getMatchLabels() : Collections.emptyMap();
+                return Future.succeededFuture(cache.list(namespace, resource -> matchesLabels(resource, matchLabels)));
+            }
+        }
+
         FilterWatchListDeletable<T, L> x;
 
         if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace))  {
@@ -388,6 +664,16 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
         return resourceSupport.listAsync(x);
     }
 
+    private static boolean matchesLabels(HasMetadata resource, Map<String, String> matchLabels) {
+        if (matchLabels.isEmpty()) {
+            return true;
+        } else if (resource.getMetadata().getLabels() == null) {
+            return false;
+        } else {
+            return resource.getMetadata().getLabels().entrySet().containsAll(matchLabels.entrySet());
+        }
+    }
+
     /**
      * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
      * is ready.
@@ -407,7 +693,9 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
 
     /**
      * Returns a future that completes when the resource identified by the given {@code namespace} and {@code name}
-     * is ready.
+     * is ready. When the resource cache is enabled, the predicate is evaluated when the resource changes instead of
+     * every poll interval. It should read the resource using {@link #get(String, String)} so that it is served from the
+     * cache as well.
      *
      * @param reconciliation The reconciliation
      * @param namespace The namespace.
@@ -420,8 +708,17 @@ public abstract class AbstractResourceOperator<C extends KubernetesClient,
      * is ready.
      */
     public Future<Void> waitFor(Reconciliation reconciliation, String namespace, String name, String logState, long pollIntervalMs, final long timeoutMs, BiPredicate<String, String> predicate) {
+        String logContext = String.format("%s resource %s in namespace %s", resourceKind, name, namespace);
+        ResourceCache<T> cache = this.cache;
+
+        if (cache != null) {
+            // The predicate is evaluated again when the watch of the cache delivers a change of the resource
+            return new ResourceCacheWaiter<>(vertx, cache, reconciliation, namespace, name, logContext, logState,
+                    pollIntervalMs, timeoutMs, () -> predicate.test(namespace, name)).start();
+        }
+
         return Util.waitFor(reconciliation, vertx,
-            String.format("%s resource %s in namespace %s", resourceKind, name, namespace),
+            logContext,
             logState,
             pollIntervalMs,
             timeoutMs,
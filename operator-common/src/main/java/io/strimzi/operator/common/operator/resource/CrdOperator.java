@@ -75,7 +75,11 @@ public class CrdOperator<C extends KubernetesClient,
 
         Future<Void> deleteFuture = resourceSupport.deleteAsync(resourceOp.withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).withGracePeriod(-1L));
 
-        return CompositeFuture.join(watchForDeleteFuture, deleteFuture).map(ReconcileResult.deleted());
+        return CompositeFuture.join(watchForDeleteFuture, deleteFuture)
+                .map(i -> {
+                    removeFromCache(namespace, name);
+                    return ReconcileResult.deleted();
+                });
     }
 
     public Future<T> patchAsync(Reconciliation reconciliation, T resource) {
@@ -90,6 +94,7 @@ public class CrdOperator<C extends KubernetesClient,
             String name = resource.getMetadata().getName();
             try {
                 T result = operation().inNamespace(namespace).withName(name).withPropagationPolicy(cascading ? DeletionPropagation.FOREGROUND : DeletionPropagation.ORPHAN).patch(resource);
+                updateCache(result);
                 LOGGER.debugCr(reconciliation, "{} {} in namespace {} has been patched", resourceKind, name, namespace);
                 future.complete(result);
             } catch (Exception e) {
@@ -110,6 +115,7 @@ public class CrdOperator<C extends KubernetesClient,
 
             try {
                 T result = operation().inNamespace(namespace).withName(name).updateStatus(resource);
+                updateCache(result);
                 LOGGER.infoCr(reconciliation, "Status of {} {} in namespace {} has been updated", resourceKind, name, namespace);
                 future.complete(result);
             } catch (Exception e) {
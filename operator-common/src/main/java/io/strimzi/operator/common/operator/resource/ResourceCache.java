@@ -0,0 +1,460 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.strimzi.operator.common.AbstractOperator;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Namespace indexed local cache of Kubernetes resources of a single kind. The cache is filled by a LIST request and
+ * kept up to date by a single watch per namespace (or a single watch in all namespaces). The resource operators use it
+ * to serve GET and LIST requests without going to the Kubernetes API server.
+ *
+ * A namespace is considered synced once it was listed and while its watch is open. When the watch is closed with an
+ * error, the namespace becomes stale and the callers fall back to the Kubernetes API server until it is re-synced.
+ *
+ * To avoid copying every resource on every read, the cache hands out the instances it holds. The returned resources
+ * and the resources passed to the event handlers are shared and must be treated as read-only. Callers which need to
+ * modify them have to copy them first.
+ *
+ * When a resource is removed, the cache keeps its resource version as a tombstone until the resource is created again
+ * or the namespace is re-synced. Updates with the same or an older resource version (for example the result of a
+ * modification which arrives only after the DELETED event) do not bring the removed resource back.
+ *
+ * Event handlers registered with {@link #addEventHandler(String, Watcher)} receive the watch events only after the
+ * cache was updated with them. Reads triggered by an event therefore never see an older version of the resource than
+ * the one from the event.
+ *
+ * @param <T>   Type of the cached resource
+ */
+public class ResourceCache<T extends HasMetadata> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceCache.class);
+
+    private final String kind;
+    private final Map<String, Map<String, T>> resourcesByNamespace = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> tombstonesByNamespace = new ConcurrentHashMap<>();
+    private final Set<String> syncedNamespaces = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Runnable>> listeners = new ConcurrentHashMap<>();
+    private final Map<String, Set<Watcher<T>>> eventHandlers = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * Constructs the cache
+     *
+     * @param kind      Kind of the cached resources (used for logging and metrics)
+     * @param metrics   Metrics provider used to register the cache metrics
+     */
+    public ResourceCache(String kind, MetricsProvider metrics) {
+        this.kind = kind;
+
+        Tags metricTags = Tags.of(Tag.of("kind", kind));
+
+        this.hits = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.hits",
+                "Number of GET and LIST requests served from the local resource cache",
+                metricTags);
+        this.misses = metrics.counter(AbstractOperator.METRICS_PREFIX + "resource.cache.misses",
+                "Number of GET and LIST requests which had to be sent to the Kubernetes API server because the local resource cache was not synced",
+                metricTags);
+    }
+
+    /**
+     * Checks whether the given namespace is synced and can be served from the cache.
+     *
+     * @param namespace     Namespace or {@code *} for all namespaces
+     *
+     * @return  True if the cache can be used to serve requests for this namespace. False otherwise.
+     */
+    public boolean isSynced(String namespace) {
+        return syncedNamespaces.contains(AbstractWatchableResourceOperator.ANY_NAMESPACE)
+                || syncedNamespaces.contains(namespace);
+    }
+
+    /**
+     * Checks whether the given namespace is synced and updates the hit and miss metrics accordingly.
+     *
+     * @param namespace     Namespace or {@code *} for all namespaces
+     *
+     * @return  True if the request can be served from the cache. False if it should go to the Kubernetes API server.
+     */
+    /*test*/ boolean use(String namespace) {
+        if (isSynced(namespace)) {
+            hits.increment();
+            return true;
+        } else {
+            misses.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Gets the cached resource. The returned instance is shared and must not be modified.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     *
+     * @return  The resource or null if it does not exist
+     */
+    public T get(String namespace, String name) {
+        Map<String, T> resources = resourcesByNamespace.get(namespace);
+
+        if (resources != null) {
+            return resources.get(name);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Lists the cached resources matching the filter. The returned instances are shared and must not be modified.
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     * @param filter    Filter applied to the resources (e.g. label selector)
+     *
+     * @return  List with the matching resources
+     */
+    public List<T> list(String namespace, Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+
+        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            for (Map<String, T> resources : resourcesByNamespace.values()) {
+                addMatching(result, resources.values(), filter);
+            }
+        } else {
+            Map<String, T> resources = resourcesByNamespace.get(namespace);
+
+            if (resources != null) {
+                addMatching(result, resources.values(), filter);
+            }
+        }
+
+        return result;
+    }
+
+    private void addMatching(List<T> result, Collection<T> resources, Predicate<T> filter) {
+        for (T resource : resources) {
+            if (filter.test(resource)) {
+                result.add(resource);
+            }
+        }
+    }
+
+    /**
+     * Replaces the content of the cache for given namespace with the result of a LIST request and marks the namespace
+     * as synced.
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     * @param resources Resources returned by the LIST request
+     */
+    public void sync(String namespace, List<T> resources) {
+        // The resources deleted while the namespace was not watched get a DELETED event
+        Map<String, T> deleted = new HashMap<>();
+        if (hasEventHandlers(namespace)) {
+            for (T resource : list(namespace, r -> true)) {
+                deleted.put(key(resource.getMetadata().getNamespace(), resource.getMetadata().getName()), resource);
+            }
+        }
+
+        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            resourcesByNamespace.clear();
+            tombstonesByNamespace.clear();
+        } else {
+            resourcesByNamespace.remove(namespace);
+            tombstonesByNamespace.remove(namespace);
+        }
+
+        for (T resource : resources) {
+            resourcesByNamespace.computeIfAbsent(resource.getMetadata().getNamespace(), ns -> new ConcurrentHashMap<>())
+                    .put(resource.getMetadata().getName(), resource);
+            deleted.remove(key(resource.getMetadata().getNamespace(), resource.getMetadata().getName()));
+        }
+
+        syncedNamespaces.add(namespace);
+        LOGGER.debugOp("{} cache for namespace {} synced with {} resources", kind, namespace, resources.size());
+        notifyNamespaceListeners(namespace);
+
+        // Events might have been missed while the namespace was not watched, so the handlers get all resources again
+        for (T resource : deleted.values()) {
+            dispatch(Watcher.Action.DELETED, resource);
+        }
+        for (T resource : resources) {
+            dispatch(Watcher.Action.ADDED, resource);
+        }
+    }
+
+    /**
+     * Marks the namespace as stale. Requests for it will go to the Kubernetes API server until it is synced again.
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     */
+    public void invalidate(String namespace) {
+        syncedNamespaces.remove(namespace);
+        LOGGER.debugOp("{} cache for namespace {} invalidated", kind, namespace);
+        notifyNamespaceListeners(namespace);
+    }
+
+    /**
+     * Stores a new version of the resource. This is used both by the watch and by the resource operators after they
+     * modify the resource (to avoid serving the old version before the watch event arrives). Older versions do not
+     * replace newer ones and do not bring back a resource which was already removed.
+     *
+     * @param resource  The resource
+     */
+    public void update(T resource) {
+        if (resource == null || resource.getMetadata() == null) {
+            return;
+        }
+
+        String namespace = resource.getMetadata().getNamespace();
+        String name = resource.getMetadata().getName();
+
+        // The tombstone is checked and cleared inside compute, so that it cannot race with remove() of the same resource
+        resourcesByNamespace.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>())
+                .compute(name, (n, current) -> {
+                    if (current != null) {
+                        return isNewer(resource, current.getMetadata().getResourceVersion()) ? resource : current;
+                    }
+
+                    Map<String, String> tombstones = tombstonesByNamespace.get(namespace);
+                    String removedVersion = tombstones != null ? tombstones.get(name) : null;
+
+                    if (removedVersion != null) {
+                        if (!isRecreated(resource, removedVersion)) {
+                            LOGGER.debugOp("Ignoring {} {}/{} with resource version {} which was already removed", kind, namespace, name, resource.getMetadata().getResourceVersion());
+                            return null;
+                        }
+
+                        tombstones.remove(name);
+                    }
+
+                    return resource;
+                });
+        notifyListeners(namespace, name);
+    }
+
+    /**
+     * Removes the resource deleted in Kubernetes from the cache. Its resource version is remembered, so that older
+     * versions passed to {@link #update(HasMetadata)} later are ignored.
+     *
+     * @param resource  The deleted resource
+     */
+    public void remove(T resource) {
+        remove(resource.getMetadata().getNamespace(), resource.getMetadata().getName(), resource.getMetadata().getResourceVersion());
+    }
+
+    /**
+     * Removes the resource from the cache. The resource version of the removed resource is remembered, so that the
+     * same or older versions passed to {@link #update(HasMetadata)} later are ignored.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     */
+    public void remove(String namespace, String name) {
+        remove(namespace, name, null);
+    }
+
+    private void remove(String namespace, String name, String deletedVersion) {
+        resourcesByNamespace.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>())
+                .compute(name, (n, current) -> {
+                    String removedVersion = deletedVersion;
+
+                    if (current != null && (removedVersion == null || isNewer(current, removedVersion))) {
+                        removedVersion = current.getMetadata().getResourceVersion();
+                    }
+
+                    if (removedVersion != null) {
+                        tombstonesByNamespace.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>())
+                                .merge(name, removedVersion, (previous, removed) -> isNewer(removed, previous) ? removed : previous);
+                    }
+
+                    return null;
+                });
+
+        notifyListeners(namespace, name);
+    }
+
+    /**
+     * Registers a listener which is called whenever the resource is updated or removed and whenever its namespace is
+     * invalidated or synced. The listener is called on the thread which changed the cache (usually the watch thread),
+     * so it must not block.
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     * @param listener  The listener
+     */
+    public void addListener(String namespace, String name, Runnable listener) {
+        listeners.computeIfAbsent(key(namespace, name), k -> ConcurrentHashMap.newKeySet()).add(listener);
+    }
+
+    /**
+     * Removes a listener registered by {@link #addListener(String, String, Runnable)}
+     *
+     * @param namespace Namespace of the resource
+     * @param name      Name of the resource
+     * @param listener  The listener
+     */
+    public void removeListener(String namespace, String name, Runnable listener) {
+        listeners.computeIfPresent(key(namespace, name), (k, resourceListeners) -> {
+            resourceListeners.remove(listener);
+            return resourceListeners.isEmpty() ? null : resourceListeners;
+        });
+    }
+
+    /**
+     * Registers a handler which receives the watch events of the resources in the given namespace once the cache was
+     * updated with them. The handler gets an ADDED event for every resource already in the cache when it is
+     * registered, and ADDED and DELETED events for all resources whenever the namespace is re-synced after its watch
+     * failed. This corresponds to the events of a new watch. The handler is called on the thread which changed the
+     * cache (usually the watch thread), so it must not block.
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     * @param handler   The handler
+     */
+    public void addEventHandler(String namespace, Watcher<T> handler) {
+        eventHandlers.computeIfAbsent(namespace, ns -> ConcurrentHashMap.newKeySet()).add(handler);
+
+        for (T resource : list(namespace, r -> true)) {
+            handler.eventReceived(Watcher.Action.ADDED, resource);
+        }
+    }
+
+    /**
+     * Removes a handler registered by {@link #addEventHandler(String, Watcher)}
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     * @param handler   The handler
+     */
+    public void removeEventHandler(String namespace, Watcher<T> handler) {
+        eventHandlers.computeIfPresent(namespace, (ns, handlers) -> {
+            handlers.remove(handler);
+            return handlers.isEmpty() ? null : handlers;
+        });
+    }
+
+    private boolean hasEventHandlers(String namespace) {
+        if (AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace)) {
+            return !eventHandlers.isEmpty();
+        } else {
+            return eventHandlers.containsKey(namespace) || eventHandlers.containsKey(AbstractWatchableResourceOperator.ANY_NAMESPACE);
+        }
+    }
+
+    private void dispatch(Watcher.Action action, T resource) {
+        dispatch(eventHandlers.get(resource.getMetadata().getNamespace()), action, resource);
+        dispatch(eventHandlers.get(AbstractWatchableResourceOperator.ANY_NAMESPACE), action, resource);
+    }
+
+    private void dispatch(Set<Watcher<T>> handlers, Watcher.Action action, T resource) {
+        if (handlers != null) {
+            for (Watcher<T> handler : handlers) {
+                handler.eventReceived(action, resource);
+            }
+        }
+    }
+
+    private void notifyListeners(String namespace, String name) {
+        Set<Runnable> resourceListeners = listeners.get(key(namespace, name));
+
+        if (resourceListeners != null) {
+            resourceListeners.forEach(Runnable::run);
+        }
+    }
+
+    private void notifyNamespaceListeners(String namespace) {
+        boolean anyNamespace = AbstractWatchableResourceOperator.ANY_NAMESPACE.equals(namespace);
+        String prefix = key(namespace, "");
+
+        listeners.forEach((key, resourceListeners) -> {
+            if (anyNamespace || key.startsWith(prefix)) {
+                resourceListeners.forEach(Runnable::run);
+            }
+        });
+    }
+
+    private static String key(String namespace, String name) {
+        return namespace + "/" + name;
+    }
+
+    /**
+     * Resource versions should be treated as opaque, but in practice they are increasing numbers. When they cannot be
+     * compared, the updated resource always wins.
+     */
+    private static boolean isNewer(HasMetadata updated, String currentVersion) {
+        return isNewer(updated.getMetadata().getResourceVersion(), currentVersion);
+    }
+
+    /**
+     * A removed resource is recreated only by a version which is strictly newer than the removed one.
+     */
+    private static boolean isRecreated(HasMetadata resource, String removedVersion) {
+        String version = resource.getMetadata().getResourceVersion();
+        return version != null && !version.equals(removedVersion) && isNewer(version, removedVersion);
+    }
+
+    private static boolean isNewer(String updatedVersion, String currentVersion) {
+        try {
+            return Long.parseLong(updatedVersion) >= Long.parseLong(currentVersion);
+        } catch (NumberFormatException | NullPointerException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Creates a watcher which keeps the given namespace of the cache up to date and passes the events to the
+     * registered event handlers.
+     *
+     * @param namespace Namespace or {@code *} for all namespaces
+     * @param onClose   Callback called when the watch is closed with an error or when it receives an unexpected event.
+     *                  In both cases the namespace is invalidated and has to be re-synced.
+     *
+     * @return  The watcher
+     */
+    public Watcher<T> watcher(String namespace, Consumer<WatcherException> onClose) {
+        return new Watcher<>() {
+            @Override
+            public void eventReceived(Action action, T resource) {
+                switch (action) {
+                    case ADDED:
+                    case MODIFIED:
+                        update(resource);
+                        dispatch(action, resource);
+                        break;
+                    case DELETED:
+                        remove(resource);
+                        dispatch(action, resource);
+                        break;
+                    default:
+                        LOGGER.warnOp("{} cache for namespace {} received unexpected event {} and will be re-synced", kind, namespace, action);
+                        invalidate(namespace);
+                        onClose.accept(new WatcherException("Unexpected watch event " + action));
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException e) {
+                invalidate(namespace);
+                onClose.accept(e);
+            }
+        };
+    }
+}
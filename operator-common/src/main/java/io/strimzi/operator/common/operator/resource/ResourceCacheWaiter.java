@@ -0,0 +1,200 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Waits for a resource served from the {@link ResourceCache} to reach some state. Instead of evaluating the condition
+ * every poll interval, the condition is evaluated again only when the cache notifies about a change of the resource,
+ * so the wait completes as soon as the watch event arrives. While the namespace is not synced (for example because the
+ * watch was closed and the cache is being re-synced), the condition is evaluated every poll interval as in
+ * {@link io.strimzi.operator.common.Util#waitFor(Reconciliation, Vertx, String, String, long, long, BooleanSupplier)}.
+ *
+ * @param <T>   Type of the resource
+ */
+class ResourceCacheWaiter<T extends HasMetadata> implements Runnable {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ResourceCacheWaiter.class);
+
+    private final Vertx vertx;
+    private final Context context;
+    private final ResourceCache<T> cache;
+    private final Reconciliation reconciliation;
+    private final String namespace;
+    private final String name;
+    private final String logContext;
+    private final String logState;
+    private final long pollIntervalMs;
+    private final long timeoutMs;
+    private final long deadline;
+    private final BooleanSupplier completed;
+    private final Promise<Void> promise = Promise.promise();
+
+    // Guarded by this
+    private boolean changed = true;
+    private boolean checking = false;
+    private long timerId = -1;
+
+    /**
+     * Constructor
+     *
+     * @param vertx             The vertx instance
+     * @param cache             Cache with the resource
+     * @param reconciliation    The reconciliation
+     * @param namespace         Namespace of the resource
+     * @param name              Name of the resource
+     * @param logContext        A string used for context in logging
+     * @param logState          The state we are waiting for use in log messages
+     * @param pollIntervalMs    The poll interval used while the cache is not synced
+     * @param timeoutMs         The timeout, in milliseconds
+     * @param completed         Determines when the wait is complete by returning true
+     */
+    ResourceCacheWaiter(Vertx vertx, ResourceCache<T> cache, Reconciliation reconciliation, String namespace, String name,
+                        String logContext, String logState, long pollIntervalMs, long timeoutMs, BooleanSupplier completed) {
+        this.vertx = vertx;
+        this.context = vertx.getOrCreateContext();
+        this.cache = cache;
+        this.reconciliation = reconciliation;
+        this.namespace = namespace;
+        this.name = name;
+        this.logContext = logContext;
+        this.logState = logState;
+        this.pollIntervalMs = pollIntervalMs;
+        this.timeoutMs = timeoutMs;
+        long now = System.currentTimeMillis();
+        // Long.MAX_VALUE is used by some callers to wait without a timeout
+        this.deadline = timeoutMs > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeoutMs;
+        this.completed = completed;
+    }
+
+    /**
+     * Starts waiting
+     *
+     * @return  A future that completes when the given {@code completed} indicates readiness.
+     */
+    Future<Void> start() {
+        LOGGER.debugCr(reconciliation, "Waiting for {} to get {} using the resource cache", logContext, logState);
+        cache.addListener(namespace, name, this);
+        context.runOnContext(ignored -> check());
+        return promise.future();
+    }
+
+    /**
+     * Called by the cache when the resource changed or the namespace was invalidated or re-synced. It is called on the
+     * thread which changed the cache, so it only schedules the check.
+     */
+    @Override
+    public void run() {
+        synchronized (this) {
+            changed = true;
+
+            if (checking) {
+                // The running check will notice the change when it completes
+                return;
+            }
+        }
+
+        context.runOnContext(ignored -> check());
+    }
+
+    private void check() {
+        synchronized (this) {
+            if (checking || promise.future().isComplete()) {
+                return;
+            }
+
+            if (!changed && cache.isSynced(namespace)) {
+                // Nothing changed since the last check
+                scheduleTimer();
+                return;
+            }
+
+            changed = false;
+            checking = true;
+        }
+
+        vertx.createSharedWorkerExecutor("kubernetes-ops-pool").<Boolean>executeBlocking(
+            future -> {
+                try {
+                    future.complete(completed.getAsBoolean());
+                } catch (Throwable e) {
+                    LOGGER.warnCr(reconciliation, "Caught exception while waiting for {} to get {}", logContext, logState, e);
+                    future.fail(e);
+                }
+            },
+            true,
+            res -> {
+                if (res.succeeded() && res.result()) {
+                    LOGGER.debugCr(reconciliation, "{} is {}", logContext, logState);
+                    finish(null);
+                    return;
+                }
+
+                LOGGER.traceCr(reconciliation, "{} is not {}", logContext, logState);
+                boolean again;
+
+                synchronized (this) {
+                    checking = false;
+                    again = changed;
+                }
+
+                if (again) {
+                    check();
+                } else {
+                    synchronized (this) {
+                        scheduleTimer();
+                    }
+                }
+            });
+    }
+
+    /**
+     * Schedules the timer which checks the timeout and polls while the cache is not synced. Has to be called with the
+     * lock held.
+     */
+    private void scheduleTimer() {
+        if (timerId == -1) {
+            long timeLeft = deadline - System.currentTimeMillis();
+            timerId = vertx.setTimer(Math.max(1, Math.min(pollIntervalMs, timeLeft)), ignored -> {
+                synchronized (this) {
+                    timerId = -1;
+                }
+
+                if (System.currentTimeMillis() >= deadline) {
+                    String exceptionMessage = String.format("Exceeded timeout of %dms while waiting for %s to be %s", timeoutMs, logContext, logState);
+                    LOGGER.errorCr(reconciliation, exceptionMessage);
+                    finish(new TimeoutException(exceptionMessage));
+                } else {
+                    check();
+                }
+            });
+        }
+    }
+
+    private void finish(Throwable error) {
+        cache.removeListener(namespace, name, this);
+
+        synchronized (this) {
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+        }
+
+        if (error == null) {
+            promise.tryComplete();
+        } else {
+            promise.tryFail(error);
+        }
+    }
+}
@@ -493,6 +493,56 @@ public class OperatorMetricsTest {
     protected abstract static class MyResource extends CustomResource {
     }
 
+    @Group("strimzi")
+    @Version("v1")
+    protected static class PausedResource extends MyResource {
+        @Override
+        public ObjectMeta getMetadata() {
+            ObjectMeta md = new ObjectMeta();
+            md.setAnnotations(singletonMap("strimzi.io/pause-reconciliation", "true"));
+            return md;
+        }
+
+        @Override
+        public void setMetadata(ObjectMeta objectMeta) {
+
+        }
+
+        @Override
+        public String getKind() {
+            return "TestResource";
+        }
+
+        @Override
+        public String getApiVersion() {
+            return "v1";
+        }
+
+        @Override
+        public void setApiVersion(String s) {
+
+        }
+
+        @Override
+        public Spec getSpec() {
+            return new Spec() { };
+        }
+
+        @Override
+        public void setSpec(Object spec) {
+        }
+
+        @Override
+        public Status getStatus() {
+            return null;
+        }
+
+        @Override
+        public void setStatus(Object status) {
+
+        }
+    }
+
     protected AbstractWatchableStatusedResourceOperator resourceOperatorWithExistingResource(Labels selectorLabels)    {
         return new AbstractWatchableStatusedResourceOperator(vertx, null, "TestResource") {
             @Override
@@ -585,110 +635,12 @@ public class OperatorMetricsTest {
 
             @Override
             public CustomResource get(String namespace, String name) {
-                @Group("strimzi")
-                @Version("v1")
-                class Foo extends MyResource {
-                    @Override
-                    public ObjectMeta getMetadata() {
-                        ObjectMeta md = new ObjectMeta();
-                        md.setAnnotations(singletonMap("strimzi.io/pause-reconciliation", "true"));
-                        return md;
-                    }
-
-                    @Override
-                    public void setMetadata(ObjectMeta objectMeta) {
-
-                    }
-
-                    @Override
-                    public String getKind() {
-                        return "TestResource";
-                    }
-
-                    @Override
-                    public String getApiVersion() {
-                        return "v1";
-                    }
-
-                    @Override
-                    public void setApiVersion(String s) {
-
-                    }
-
-                    @Override
-                    public Spec getSpec() {
-                        return new Spec() { };
-                    }
-
-                    @Override
-                    public void setSpec(Object spec) {
-                    }
-
-                    @Override
-                    public Status getStatus() {
-                        return null;
-                    }
-
-                    @Override
-                    public void setStatus(Object status) {
-
-                    }
-                }
-                return new Foo();
+                return new PausedResource();
             }
 
             @Override
             public Future getAsync(String namespace, String name) {
-                @Group("strimzi")
-                @Version("v1")
-                class Foo extends MyResource {
-                    @Override
-                    public ObjectMeta getMetadata() {
-                        ObjectMeta md = new ObjectMeta();
-                        md.setAnnotations(singletonMap("strimzi.io/pause-reconciliation", "true"));
-                        return md;
-                    }
-
-                    @Override
-                    public void setMetadata(ObjectMeta objectMeta) {
-
-                    }
-
-                    @Override
-                    public String getKind() {
-                        return "TestResource";
-                    }
-
-                    @Override
-                    public String getApiVersion() {
-                        return "v1";
-                    }
-
-                    @Override
-                    public void setApiVersion(String s) {
-
-                    }
-
-                    @Override
-                    public Spec getSpec() {
-                        return new Spec() { };
-                    }
-
-                    @Override
-                    public void setSpec(Object spec) {
-                    }
-
-                    @Override
-                    public Status getStatus() {
-                        return null;
-                    }
-
-                    @Override
-                    public void setStatus(Object status) {
-
-                    }
-                }
-                return Future.succeededFuture(new Foo());
+                return Future.succeededFuture(new PausedResource());
             }
         };
     }
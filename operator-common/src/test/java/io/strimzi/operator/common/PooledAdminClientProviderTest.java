@@ -0,0 +1,197 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PooledAdminClientProviderTest {
+    private static final String BOOTSTRAP = "my-cluster-kafka-bootstrap.my-namespace.svc:9091";
+    private static final Secret CA_SECRET = secret("ca.crt", "ca-cert");
+    private static final Secret CO_SECRET = secret("cluster-operator.crt", "co-cert", "cluster-operator.key", "co-key");
+
+    private static Secret secret(String... data) {
+        SecretBuilder builder = new SecretBuilder().withNewMetadata().withName("my-secret").endMetadata();
+
+        for (int i = 0; i < data.length; i += 2) {
+            builder.addToData(data[i], Base64.getEncoder().encodeToString(data[i + 1].getBytes(StandardCharsets.US_ASCII)));
+        }
+
+        return builder.build();
+    }
+
+    private static AdminClientProvider delegate() {
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(any(), any(), any(), any())).thenAnswer(i -> mock(Admin.class));
+        return delegate;
+    }
+
+    @Test
+    public void testClientIsReusedAfterClose() {
+        AdminClientProvider delegate = delegate();
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(delegate, null);
+
+        Admin first = provider.createAdminClient(BOOTSTRAP, CA_SECRET, CO_SECRET, "cluster-operator");
+        first.close();
+        Admin second = provider.createAdminClient(BOOTSTRAP, CA_SECRET, CO_SECRET, "cluster-operator");
+        second.close(Duration.ofSeconds(30));
+
+        verify(delegate, times(1)).createAdminClient(any(), any(), any(), any());
+        assertThat(provider.size(), is(1));
+    }
+
+    @Test
+    public void testCallsAreDelegatedToCachedClient() {
+        Admin admin = mock(Admin.class);
+        DescribeClusterResult result = mock(DescribeClusterResult.class);
+        when(admin.describeCluster()).thenReturn(result);
+
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(any(), any(), any(), any())).thenReturn(admin);
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(delegate, null);
+
+        try (Admin lease = provider.createAdminClient(BOOTSTRAP, CA_SECRET, CO_SECRET, "cluster-operator")) {
+            assertThat(lease.describeCluster(), is(sameInstance(result)));
+            assertThat(lease, is(not(sameInstance(admin))));
+        }
+
+        verify(admin, never()).close(any());
+    }
+
+    @Test
+    public void testClientsAreCachedPerBootstrapAddress() {
+        AdminClientProvider delegate = delegate();
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(delegate, null);
+
+        provider.createAdminClient(BOOTSTRAP, CA_SECRET, CO_SECRET, "cluster-operator").close();
+        provider.createAdminClient("my-cluster-kafka-0.my-cluster-kafka-brokers.my-namespace.svc:9091", CA_SECRET, CO_SECRET, "cluster-operator").close();
+
+        verify(delegate, times(2)).createAdminClient(any(), any(), any(), any());
+        assertThat(provider.size(), is(2));
+    }
+
+    @Test
+    public void testClientIsReplacedWhenCertificatesChange() {
+        Admin oldAdmin = mock(Admin.class);
+        Admin newAdmin = mock(Admin.class);
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(any(), eq(CA_SECRET), any(), any())).thenReturn(oldAdmin);
+        when(delegate.createAdminClient(any(), eq(secret("ca.crt", "renewed-ca-cert")), any(), any())).thenReturn(newAdmin);
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(delegate, null);
+
+        Admin oldLease = provider.createAdminClient(BOOTSTRAP, CA_SECRET, CO_SECRET, "cluster-operator");
+        Admin newLease = provider.createAdminClient(BOOTSTRAP, secret("ca.crt", "renewed-ca-cert"), CO_SECRET, "cluster-operator");
+
+        // The old client is still leased and cannot be closed yet
+        verify(oldAdmin, never()).close(any());
+
+        oldLease.close();
+        verify(oldAdmin, times(1)).close(any());
+
+        // Closing the lease again does not affect the other leases
+        oldLease.close();
+        newLease.close();
+        verify(newAdmin, never()).close(any());
+        assertThat(provider.size(), is(1));
+    }
+
+    @Test
+    public void testFingerprintCoversClientCertificate() {
+        String fingerprint = PooledAdminClientProvider.fingerprint(CA_SECRET, CO_SECRET, "cluster-operator");
+
+        assertThat(PooledAdminClientProvider.fingerprint(CA_SECRET, CO_SECRET, "cluster-operator"), is(fingerprint));
+        assertThat(PooledAdminClientProvider.fingerprint(CA_SECRET, secret("cluster-operator.crt", "co-cert", "cluster-operator.key", "renewed-key"), "cluster-operator"), is(not(fingerprint)));
+        assertThat(PooledAdminClientProvider.fingerprint(CA_SECRET, null, null), is(not(fingerprint)));
+        assertThat(PooledAdminClientProvider.fingerprint(null, null, null), is(not(PooledAdminClientProvider.fingerprint(CA_SECRET, null, null))));
+    }
+
+    @Test
+    public void testIdleClientsAreClosed() {
+        Admin admin = mock(Admin.class);
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(eq(BOOTSTRAP), any(), any(), any())).thenReturn(admin);
+        when(delegate.createAdminClient(eq("other:9091"), any(), any(), any())).thenAnswer(i -> mock(Admin.class));
+        AtomicLong clock = new AtomicLong(0);
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(delegate, null, 1_000, clock::get);
+
+        provider.createAdminClient(BOOTSTRAP, CA_SECRET, CO_SECRET, "cluster-operator").close();
+
+        clock.set(500);
+        provider.createAdminClient("other:9091", CA_SECRET, CO_SECRET, "cluster-operator").close();
+        verify(admin, never()).close(any());
+
+        clock.set(1_500);
+        provider.createAdminClient("other:9091", CA_SECRET, CO_SECRET, "cluster-operator").close();
+        verify(admin, times(1)).close(any());
+        assertThat(provider.size(), is(1));
+    }
+
+    @Test
+    public void testEvictClosesMatchingClients() {
+        Admin admin = mock(Admin.class);
+        Admin otherAdmin = mock(Admin.class);
+        AdminClientProvider delegate = mock(AdminClientProvider.class);
+        when(delegate.createAdminClient(eq(BOOTSTRAP), any(), any(), any())).thenReturn(admin);
+        when(delegate.createAdminClient(eq("other:9091"), any(), any(), any())).thenReturn(otherAdmin);
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(delegate, null);
+
+        provider.createAdminClient(BOOTSTRAP, CA_SECRET, CO_SECRET, "cluster-operator").close();
+        provider.createAdminClient("other:9091", CA_SECRET, CO_SECRET, "cluster-operator").close();
+
+        provider.evict(bootstrap -> bootstrap.startsWith("my-cluster-kafka-bootstrap.my-namespace.svc:"));
+
+        verify(admin, times(1)).close(any());
+        verify(otherAdmin, never()).close(any());
+        assertThat(provider.size(), is(1));
+    }
+
+    @Test
+    public void testMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        AtomicInteger open = new AtomicInteger();
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.counter(any(), any(), any())).thenAnswer(i -> Counter.builder(i.getArgument(0)).tags(i.<Tags>getArgument(2)).register(registry));
+        when(metrics.gauge(any(), any(), any())).thenReturn(open);
+
+        PooledAdminClientProvider provider = new PooledAdminClientProvider(delegate(), metrics);
+
+        provider.createAdminClient(BOOTSTRAP, CA_SECRET, CO_SECRET, "cluster-operator").close();
+        provider.createAdminClient(BOOTSTRAP, CA_SECRET, CO_SECRET, "cluster-operator").close();
+        provider.createAdminClient(BOOTSTRAP, CA_SECRET, CO_SECRET, "cluster-operator").close();
+        provider.createAdminClient("other:9091", CA_SECRET, CO_SECRET, "cluster-operator").close();
+
+        assertThat(registry.get("strimzi.admin.client.created").counter().count(), is(2.0));
+        assertThat(registry.get("strimzi.admin.client.reused").counter().count(), is(2.0));
+        assertThat(open.get(), is(2));
+
+        provider.evict(bootstrap -> true);
+        assertThat(open.get(), is(0));
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.client.Watcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ReconciliationQueueTest {
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static MetricsProvider metrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.meterRegistry()).thenReturn(registry);
+        when(metrics.gauge(any(), any(), any())).thenReturn(new AtomicInteger(0));
+        when(metrics.timer(any(), any(), any())).thenAnswer(i -> Timer.builder(i.getArgument(0)).register(registry));
+        return metrics;
+    }
+
+    @Test
+    public void testEventsAreCoalesced(VertxTestContext context) {
+        List<Promise<Void>> inProgress = new CopyOnWriteArrayList<>();
+        TestOperator operator = new TestOperator(r -> {
+            Promise<Void> promise = Promise.promise();
+            inProgress.add(promise);
+            return promise.future();
+        });
+
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, operator, metrics(), Tags.empty(), 10);
+
+        // The first event starts the reconciliation, the other three should be coalesced into one more reconciliation
+        queue.enqueue("watch", "ns", "my-resource");
+        vertx.setTimer(100, t1 -> {
+            queue.enqueue("watch", "ns", "my-resource");
+            queue.enqueue("watch", "ns", "my-resource");
+            queue.enqueue("watch", "ns", "my-resource");
+
+            vertx.setTimer(100, t2 -> {
+                context.verify(() -> assertThat(operator.reconciliations.size(), is(1)));
+                inProgress.get(0).complete();
+
+                vertx.setTimer(100, t3 -> {
+                    context.verify(() -> assertThat(operator.reconciliations.size(), is(2)));
+                    inProgress.get(1).complete();
+
+                    vertx.setTimer(100, t4 -> {
+                        context.verify(() -> assertThat(operator.reconciliations.size(), is(2)));
+                        context.completeNow();
+                    });
+                });
+            });
+        });
+    }
+
+    @Test
+    public void testConcurrencyIsBounded(VertxTestContext context) {
+        List<Promise<Void>> inProgress = new CopyOnWriteArrayList<>();
+        TestOperator operator = new TestOperator(r -> {
+            Promise<Void> promise = Promise.promise();
+            inProgress.add(promise);
+            return promise.future();
+        });
+
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, operator, metrics(), Tags.empty(), 2);
+
+        for (int i = 0; i < 5; i++) {
+            queue.enqueue("watch", "ns", "my-resource-" + i);
+        }
+
+        vertx.setTimer(100, t1 -> {
+            context.verify(() -> assertThat(operator.reconciliations.size(), is(2)));
+            inProgress.get(0).complete();
+            inProgress.get(1).complete();
+
+            vertx.setTimer(100, t2 -> {
+                context.verify(() -> assertThat(operator.reconciliations.size(), is(4)));
+                inProgress.forEach(Promise::tryComplete);
+
+                vertx.setTimer(100, t3 -> {
+                    context.verify(() -> assertThat(operator.reconciliations.size(), is(5)));
+                    context.completeNow();
+                });
+            });
+        });
+    }
+
+    @Test
+    public void testFailedReconciliationIsRetried(VertxTestContext context) {
+        AtomicInteger attempts = new AtomicInteger(0);
+        Checkpoint retried = context.checkpoint();
+        TestOperator operator = new TestOperator(r -> {
+            if (attempts.getAndIncrement() == 0) {
+                return Future.failedFuture(new RuntimeException("Failed"));
+            } else {
+                context.verify(() -> assertThat(r.toString().contains("watch-retry"), is(true)));
+                retried.flag();
+                return Future.succeededFuture();
+            }
+        });
+
+        ReconciliationQueue queue = new ReconciliationQueue(vertx, operator, metrics(), Tags.empty(), 10);
+        queue.enqueue("watch", "ns", "my-resource");
+    }
+
+    @Test
+    public void testModifiedEventsWithObservedGenerationAreIgnored() {
+        TestOperator operator = new TestOperator(r -> Future.succeededFuture());
+        OperatorWatcher<KafkaTopic> watcher = new OperatorWatcher<>(operator, null, (trigger, ns) -> { }, "ns", e -> { });
+
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName("my-topic")
+                    .withGeneration(2L)
+                    .withLabels(Map.of("strimzi.io/cluster", "my-cluster"))
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                .endStatus()
+                .build();
+
+        assertThat(watcher.hasChanged(Watcher.Action.ADDED, topic), is(true));
+        assertThat(watcher.hasChanged(Watcher.Action.MODIFIED, topic), is(true));
+
+        // Status update with the observed generation
+        topic.getStatus().setObservedGeneration(2L);
+        assertThat(watcher.hasChanged(Watcher.Action.MODIFIED, topic), is(false));
+
+        // Annotation change does not change generation
+        topic.getMetadata().setAnnotations(Map.of("strimzi.io/pause-reconciliation", "true"));
+        assertThat(watcher.hasChanged(Watcher.Action.MODIFIED, topic), is(true));
+        assertThat(watcher.hasChanged(Watcher.Action.MODIFIED, topic), is(false));
+
+        assertThat(watcher.hasChanged(Watcher.Action.DELETED, topic), is(true));
+    }
+
+    @Test
+    public void testWatchErrorsUseReconcileAllScheduler() {
+        TestOperator operator = new TestOperator(r -> Future.succeededFuture());
+        List<String> scheduled = new CopyOnWriteArrayList<>();
+        OperatorWatcher<KafkaTopic> watcher = new OperatorWatcher<>(operator, null, (trigger, ns) -> scheduled.add(trigger + "/" + ns), "ns", e -> { });
+
+        KafkaTopic topic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName("my-topic")
+                .endMetadata()
+                .build();
+
+        watcher.eventReceived(Watcher.Action.ERROR, topic);
+
+        assertThat(scheduled, is(List.of("watch error/ns")));
+        assertThat(operator.reconciliations.size(), is(0));
+    }
+
+    static class TestOperator implements Operator {
+        private final Function<Reconciliation, Future<Void>> reconcile;
+        final List<Reconciliation> reconciliations = new CopyOnWriteArrayList<>();
+
+        TestOperator(Function<Reconciliation, Future<Void>> reconcile) {
+            this.reconcile = reconcile;
+        }
+
+        @Override
+        public String kind() {
+            return "Test";
+        }
+
+        @Override
+        public Future<Void> reconcile(Reconciliation reconciliation) {
+            reconciliations.add(reconciliation);
+            return reconcile.apply(reconciliation);
+        }
+
+        @Override
+        public Future<Set<NamespaceAndName>> allResourceNames(String namespace) {
+            return Future.succeededFuture(Set.of());
+        }
+
+        @Override
+        public Counter getPeriodicReconciliationsCounter() {
+            return null;
+        }
+
+        @Override
+        public AtomicInteger getResourceCounter() {
+            return null;
+        }
+
+        @Override
+        public AtomicInteger getPausedResourceCounter() {
+            return null;
+        }
+    }
+}
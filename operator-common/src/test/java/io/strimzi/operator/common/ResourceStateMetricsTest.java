@@ -0,0 +1,101 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ResourceStateMetricsTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "Kafka", "ns", "my-cluster");
+
+    private static MetricsProvider metrics(MeterRegistry registry) {
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.meterRegistry()).thenReturn(registry);
+        when(metrics.gauge(any(), any(), any())).thenAnswer(i -> {
+            AtomicInteger gauge = new AtomicInteger(0);
+            Gauge.builder(i.getArgument(0), () -> gauge).tags(i.<Tags>getArgument(2)).register(registry);
+            return gauge;
+        });
+        return metrics;
+    }
+
+    private static Gauge gauge(MeterRegistry registry, String name, String reason) {
+        return registry.find(ResourceStateMetrics.METRIC_NAME)
+                .tag("kind", "Kafka")
+                .tag("name", name)
+                .tag("resource-namespace", "ns")
+                .tag("reason", reason)
+                .gauge();
+    }
+
+    @Test
+    public void testGaugeIsUpdatedInPlace() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MetricsProvider metrics = metrics(registry);
+        ResourceStateMetrics states = new ResourceStateMetrics(metrics);
+
+        states.update(RECONCILIATION, "Kafka", "ns", "my-cluster", false, new RuntimeException("failed"));
+        assertThat(gauge(registry, "my-cluster", "failed").value(), is(0.0));
+
+        states.update(RECONCILIATION, "Kafka", "ns", "my-cluster", false, new RuntimeException("failed"));
+        assertThat(gauge(registry, "my-cluster", "failed").value(), is(0.0));
+
+        // The same reason keeps the same gauge
+        verify(metrics, times(1)).gauge(any(), any(), any());
+        assertThat(registry.getMeters().size(), is(1));
+    }
+
+    @Test
+    public void testGaugeIsReplacedWhenReasonChanges() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceStateMetrics states = new ResourceStateMetrics(metrics(registry));
+
+        states.update(RECONCILIATION, "Kafka", "ns", "my-cluster", false, new RuntimeException("failed"));
+        states.update(RECONCILIATION, "Kafka", "ns", "my-cluster", false, new RuntimeException());
+        assertThat(gauge(registry, "my-cluster", "failed"), is(nullValue()));
+        assertThat(gauge(registry, "my-cluster", "unknown error").value(), is(0.0));
+
+        states.update(RECONCILIATION, "Kafka", "ns", "my-cluster", true, null);
+        assertThat(gauge(registry, "my-cluster", "unknown error"), is(nullValue()));
+        assertThat(gauge(registry, "my-cluster", "none").value(), is(1.0));
+        assertThat(registry.getMeters().size(), is(1));
+    }
+
+    @Test
+    public void testGaugeIsRemoved() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceStateMetrics states = new ResourceStateMetrics(metrics(registry));
+
+        states.update(RECONCILIATION, "Kafka", "ns", "my-cluster", true, null);
+        states.update(RECONCILIATION, "Kafka", "ns", "my-cluster2", true, null);
+
+        states.remove(RECONCILIATION, "Kafka", "ns", "my-cluster");
+        assertThat(gauge(registry, "my-cluster", "none"), is(nullValue()));
+        assertThat(gauge(registry, "my-cluster2", "none").value(), is(1.0));
+
+        // Removing unknown resources is ignored
+        states.remove(RECONCILIATION, "Kafka", "ns", "my-cluster");
+        states.remove(RECONCILIATION, "Kafka", "ns", "my-cluster3");
+        assertThat(registry.getMeters().size(), is(1));
+
+        // The resource can be added again after removal
+        states.update(RECONCILIATION, "Kafka", "ns", "my-cluster", false, new RuntimeException("failed"));
+        assertThat(gauge(registry, "my-cluster", "failed").value(), is(0.0));
+    }
+}
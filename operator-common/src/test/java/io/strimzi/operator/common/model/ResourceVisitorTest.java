@@ -11,6 +11,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Member;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -52,4 +53,32 @@ public class ResourceVisitorTest {
             }
         });
     }
+
+    @Test
+    public void testRepeatedVisitsUseSameProperties() {
+        Kafka k = TestUtils.fromYaml("/example.yaml", Kafka.class, true);
+        List<String> firstVisit = visitedProperties(k);
+
+        assertThat(firstVisit.contains("spec.kafka.replicas"), is(true));
+        assertThat(firstVisit.contains("metadata.name"), is(true));
+        assertThat(visitedProperties(k), is(firstVisit));
+    }
+
+    private List<String> visitedProperties(Kafka k) {
+        List<String> properties = new ArrayList<>();
+        ResourceVisitor.visit(new Reconciliation("test", "kind", "namespace", "name"), k, new ResourceVisitor.Visitor() {
+            @Override
+            public <M extends AnnotatedElement & Member> void visitProperty(Reconciliation reconciliation, List<String> path, Object owner, M member, ResourceVisitor.Property<M> property, Object propertyValue) {
+                List<String> propertyPath = new ArrayList<>(path);
+                propertyPath.add(property.propertyName(member));
+                properties.add(String.join(".", propertyPath));
+            }
+
+            @Override
+            public void visitObject(Reconciliation reconciliation, List<String> path, Object object) {
+
+            }
+        });
+        return properties;
+    }
 }
@@ -7,13 +7,18 @@ package io.strimzi.operator.common.operator.resource;
 import io.fabric8.kubernetes.api.model.DeletionPropagation;
 import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.api.model.ListOptions;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.Watch;
 import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
 import io.fabric8.kubernetes.client.dsl.EditReplacePatchDeletable;
 import io.fabric8.kubernetes.client.dsl.MixedOperation;
 import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
 import io.fabric8.kubernetes.client.dsl.Resource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
@@ -23,7 +28,11 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -94,6 +103,65 @@ public abstract class AbstractResourceOperatorTest<C extends KubernetesClient, T
         testCreateWhenExistsWithChangeIsAPatch(context, true);
     }
 
+    @Test
+    public void testCacheWatchDeliversEventsAndIsClosedWhenDisabled(VertxTestContext context) {
+        T resource = resource();
+
+        KubernetesResourceList mockList = mock(KubernetesResourceList.class);
+        when(mockList.getItems()).thenReturn(List.of(resource));
+
+        Watch mockWatch = mock(Watch.class);
+        ArgumentCaptor<Watcher<T>> cacheWatcher = ArgumentCaptor.forClass(Watcher.class);
+        NonNamespaceOperation mockNameable = mock(NonNamespaceOperation.class);
+        when(mockNameable.list()).thenReturn(mockList);
+        when(mockNameable.watch(any(ListOptions.class), cacheWatcher.capture())).thenReturn(mockWatch);
+
+        MixedOperation mockCms = mock(MixedOperation.class);
+        when(mockCms.inNamespace(matches(resource.getMetadata().getNamespace()))).thenReturn(mockNameable);
+
+        C mockClient = mock(clientType());
+        mocker(mockClient, mockCms);
+
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.counter(any(), any(), any())).thenAnswer(i -> Counter.builder(i.getArgument(0)).register(new SimpleMeterRegistry()));
+
+        AbstractResourceOperator<C, T, L, R> op = createResourceOperations(vertx, mockClient);
+        String namespace = resource.getMetadata().getNamespace();
+        List<Watcher.Action> events = new ArrayList<>();
+
+        Checkpoint async = context.checkpoint();
+        op.enableCache(namespace, metrics).onComplete(context.succeeding(v -> context.verify(() -> {
+            assertThat(op.isCacheEnabled(namespace), is(true));
+
+            Watch watch = op.watchCache(namespace, Optional.empty(), new Watcher<T>() {
+                @Override
+                public void eventReceived(Action action, T event) {
+                    // The event is delivered only after the cache was updated with it
+                    assertThat(op.get(namespace, event.getMetadata().getName()) != null, is(action != Action.DELETED));
+                    events.add(action);
+                }
+
+                @Override
+                public void onClose(WatcherException cause) {
+                }
+            });
+            assertThat(events, is(List.of(Watcher.Action.ADDED)));
+
+            cacheWatcher.getValue().eventReceived(Watcher.Action.MODIFIED, modifiedResource());
+            cacheWatcher.getValue().eventReceived(Watcher.Action.DELETED, modifiedResource());
+            assertThat(events, is(List.of(Watcher.Action.ADDED, Watcher.Action.MODIFIED, Watcher.Action.DELETED)));
+
+            watch.close();
+            cacheWatcher.getValue().eventReceived(Watcher.Action.ADDED, resource);
+            assertThat(events.size(), is(3));
+
+            op.disableCache(namespace);
+            verify(mockWatch).close();
+            assertThat(op.isCacheEnabled(namespace), is(false));
+            async.flag();
+        })));
+    }
+
     public void testCreateWhenExistsWithChangeIsAPatch(VertxTestContext context, boolean cascade) {
         T resource = resource();
         Resource mockResource = mock(resourceType());
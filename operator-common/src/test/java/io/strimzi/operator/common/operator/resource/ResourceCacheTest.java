@@ -0,0 +1,248 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ResourceCacheTest {
+    private static ConfigMap resource(String namespace, String name, String resourceVersion, Map<String, String> labels) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                    .withLabels(labels)
+                .endMetadata()
+                .build();
+    }
+
+    private static MetricsProvider metrics(MeterRegistry registry) {
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.meterRegistry()).thenReturn(registry);
+        when(metrics.counter(any(), any(), any())).thenAnswer(i -> Counter.builder(i.getArgument(0)).tags(i.<Tags>getArgument(2)).register(registry));
+        return metrics;
+    }
+
+    @Test
+    public void testSyncAndGet() {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", metrics(new SimpleMeterRegistry()));
+
+        assertThat(cache.isSynced("ns"), is(false));
+
+        ConfigMap cm = resource("ns", "my-cm", "1", Map.of());
+        cache.sync("ns", List.of(cm, resource("ns", "my-cm2", "2", Map.of())));
+
+        assertThat(cache.isSynced("ns"), is(true));
+        assertThat(cache.isSynced("other-ns"), is(false));
+        assertThat(cache.get("ns", "my-cm"), is(cm));
+        assertThat(cache.get("ns", "my-cm"), is(sameInstance(cm)));
+        assertThat(cache.get("ns", "non-existent"), is(nullValue()));
+        assertThat(cache.get("other-ns", "my-cm"), is(nullValue()));
+        assertThat(cache.list("ns", r -> true).size(), is(2));
+    }
+
+    @Test
+    public void testAnyNamespace() {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", metrics(new SimpleMeterRegistry()));
+
+        cache.sync("*", List.of(resource("ns1", "my-cm", "1", Map.of("app", "a")), resource("ns2", "my-cm", "2", Map.of("app", "b"))));
+
+        assertThat(cache.isSynced("ns1"), is(true));
+        assertThat(cache.isSynced("ns2"), is(true));
+        assertThat(cache.list("*", r -> true).size(), is(2));
+        assertThat(cache.list("*", r -> "a".equals(r.getMetadata().getLabels().get("app"))).size(), is(1));
+        assertThat(cache.list("ns2", r -> true).size(), is(1));
+    }
+
+    @Test
+    public void testUpdateKeepsNewestVersion() {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", metrics(new SimpleMeterRegistry()));
+        cache.sync("ns", List.of(resource("ns", "my-cm", "5", Map.of())));
+
+        cache.update(resource("ns", "my-cm", "4", Map.of("old", "true")));
+        assertThat(cache.get("ns", "my-cm").getMetadata().getResourceVersion(), is("5"));
+
+        cache.update(resource("ns", "my-cm", "6", Map.of("new", "true")));
+        assertThat(cache.get("ns", "my-cm").getMetadata().getResourceVersion(), is("6"));
+
+        cache.remove("ns", "my-cm");
+        assertThat(cache.get("ns", "my-cm"), is(nullValue()));
+    }
+
+    @Test
+    public void testRemovedResourceIsNotRecreatedByOlderVersion() {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", metrics(new SimpleMeterRegistry()));
+        cache.sync("ns", List.of(resource("ns", "my-cm", "5", Map.of())));
+        Watcher<ConfigMap> watcher = cache.watcher("ns", e -> { });
+
+        // The result of a modification arrives only after the DELETED event
+        watcher.eventReceived(Watcher.Action.DELETED, resource("ns", "my-cm", "7", Map.of()));
+        cache.update(resource("ns", "my-cm", "6", Map.of()));
+        assertThat(cache.get("ns", "my-cm"), is(nullValue()));
+        cache.update(resource("ns", "my-cm", "7", Map.of()));
+        assertThat(cache.get("ns", "my-cm"), is(nullValue()));
+
+        // The resource is created again
+        cache.update(resource("ns", "my-cm", "8", Map.of()));
+        assertThat(cache.get("ns", "my-cm").getMetadata().getResourceVersion(), is("8"));
+
+        // Removal by the operator uses the version of the cached resource
+        cache.remove("ns", "my-cm");
+        cache.update(resource("ns", "my-cm", "8", Map.of()));
+        assertThat(cache.get("ns", "my-cm"), is(nullValue()));
+
+        // Re-sync forgets the removed resources
+        cache.sync("ns", List.of());
+        cache.update(resource("ns", "my-cm", "8", Map.of()));
+        assertThat(cache.get("ns", "my-cm").getMetadata().getResourceVersion(), is("8"));
+    }
+
+    @Test
+    public void testWatcher() {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", metrics(new SimpleMeterRegistry()));
+        cache.sync("ns", List.of());
+
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Watcher<ConfigMap> watcher = cache.watcher("ns", e -> closed.set(true));
+
+        watcher.eventReceived(Watcher.Action.ADDED, resource("ns", "my-cm", "1", Map.of()));
+        assertThat(cache.get("ns", "my-cm").getMetadata().getResourceVersion(), is("1"));
+
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource("ns", "my-cm", "2", Map.of()));
+        assertThat(cache.get("ns", "my-cm").getMetadata().getResourceVersion(), is("2"));
+
+        watcher.eventReceived(Watcher.Action.DELETED, resource("ns", "my-cm", "3", Map.of()));
+        assertThat(cache.get("ns", "my-cm"), is(nullValue()));
+
+        watcher.onClose(new WatcherException("Gone"));
+        assertThat(closed.get(), is(true));
+        assertThat(cache.isSynced("ns"), is(false));
+    }
+
+    @Test
+    public void testWatcherUnexpectedEventTriggersResync() {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", metrics(new SimpleMeterRegistry()));
+        cache.sync("ns", List.of());
+
+        AtomicBoolean closed = new AtomicBoolean(false);
+        Watcher<ConfigMap> watcher = cache.watcher("ns", e -> closed.set(e != null));
+
+        watcher.eventReceived(Watcher.Action.ERROR, resource("ns", "my-cm", "1", Map.of()));
+        assertThat(closed.get(), is(true));
+        assertThat(cache.isSynced("ns"), is(false));
+    }
+
+    @Test
+    public void testEventHandlers() {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", metrics(new SimpleMeterRegistry()));
+        cache.sync("ns", List.of(resource("ns", "my-cm", "1", Map.of())));
+
+        List<String> events = new ArrayList<>();
+        Watcher<ConfigMap> handler = new Watcher<>() {
+            @Override
+            public void eventReceived(Action action, ConfigMap resource) {
+                // The cache is always updated before the handler is called
+                ConfigMap cached = cache.get(resource.getMetadata().getNamespace(), resource.getMetadata().getName());
+                events.add(action + " " + resource.getMetadata().getName() + " " + (cached != null ? cached.getMetadata().getResourceVersion() : null));
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+            }
+        };
+
+        // Existing resources are replayed when the handler is registered
+        cache.addEventHandler("ns", handler);
+        assertThat(events, is(List.of("ADDED my-cm 1")));
+
+        Watcher<ConfigMap> watcher = cache.watcher("ns", e -> { });
+        watcher.eventReceived(Watcher.Action.MODIFIED, resource("ns", "my-cm", "2", Map.of()));
+        watcher.eventReceived(Watcher.Action.ADDED, resource("other-ns", "my-cm", "3", Map.of()));
+        watcher.eventReceived(Watcher.Action.ADDED, resource("ns", "my-cm2", "4", Map.of()));
+        assertThat(events, is(List.of("ADDED my-cm 1", "MODIFIED my-cm 2", "ADDED my-cm2 4")));
+
+        // Updates done by the operator itself are not passed to the handlers
+        cache.update(resource("ns", "my-cm", "5", Map.of()));
+        assertThat(events.size(), is(3));
+
+        // Re-sync after a failed watch passes all resources again and the deleted ones as DELETED
+        events.clear();
+        cache.invalidate("ns");
+        cache.sync("ns", List.of(resource("ns", "my-cm2", "6", Map.of())));
+        assertThat(events, is(List.of("DELETED my-cm null", "ADDED my-cm2 6")));
+
+        cache.removeEventHandler("ns", handler);
+        events.clear();
+        watcher.eventReceived(Watcher.Action.DELETED, resource("ns", "my-cm2", "7", Map.of()));
+        assertThat(events, is(List.of()));
+    }
+
+    @Test
+    public void testHitAndMissMetrics() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", metrics(registry));
+
+        assertThat(cache.use("ns"), is(false));
+        cache.sync("ns", List.of());
+        assertThat(cache.use("ns"), is(true));
+        assertThat(cache.use("ns"), is(true));
+
+        assertThat(registry.get("strimzi.resource.cache.hits").tag("kind", "ConfigMap").counter().count(), is(2.0));
+        assertThat(registry.get("strimzi.resource.cache.misses").tag("kind", "ConfigMap").counter().count(), is(1.0));
+    }
+
+    @Test
+    public void testListeners() {
+        ResourceCache<ConfigMap> cache = new ResourceCache<>("ConfigMap", metrics(new SimpleMeterRegistry()));
+        AtomicInteger notifications = new AtomicInteger(0);
+        Runnable listener = notifications::incrementAndGet;
+
+        cache.addListener("ns", "my-cm", listener);
+
+        cache.sync("ns", List.of());
+        assertThat(notifications.get(), is(1));
+
+        cache.update(resource("ns", "my-cm", "1", Map.of()));
+        assertThat(notifications.get(), is(2));
+
+        cache.update(resource("ns", "other-cm", "2", Map.of()));
+        cache.update(resource("other-ns", "my-cm", "3", Map.of()));
+        cache.invalidate("other-ns");
+        assertThat(notifications.get(), is(2));
+
+        cache.remove("ns", "my-cm");
+        assertThat(notifications.get(), is(3));
+
+        cache.invalidate("ns");
+        assertThat(notifications.get(), is(4));
+
+        cache.removeListener("ns", "my-cm", listener);
+        cache.sync("ns", List.of(resource("ns", "my-cm", "4", Map.of())));
+        assertThat(notifications.get(), is(4));
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.operator.resource;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ResourceCacheWaiterTest {
+    private static final Reconciliation RECONCILIATION = new Reconciliation("test", "ConfigMap", "ns", "my-cm");
+
+    private static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static ResourceCache<ConfigMap> cache() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MetricsProvider metrics = mock(MetricsProvider.class);
+        when(metrics.meterRegistry()).thenReturn(registry);
+        when(metrics.counter(any(), any(), any())).thenAnswer(i -> Counter.builder(i.getArgument(0)).tags(i.<Tags>getArgument(2)).register(registry));
+        return new ResourceCache<>("ConfigMap", metrics);
+    }
+
+    private static ConfigMap resource(String resourceVersion) {
+        return new ConfigMapBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName("my-cm")
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    public void testWaitCompletesOnCacheUpdate(VertxTestContext context) {
+        ResourceCache<ConfigMap> cache = cache();
+        cache.sync("ns", List.of());
+        AtomicInteger checks = new AtomicInteger(0);
+
+        Checkpoint async = context.checkpoint();
+        // The poll interval is longer than the timeout of the test, so only the cache update can complete the wait
+        new ResourceCacheWaiter<>(vertx, cache, RECONCILIATION, "ns", "my-cm", "ConfigMap my-cm", "created", 60_000, 120_000,
+            () -> {
+                checks.incrementAndGet();
+                return cache.get("ns", "my-cm") != null;
+            })
+            .start()
+            .onComplete(context.succeeding(i -> context.verify(() -> {
+                assertThat(cache.get("ns", "my-cm"), is(notNullValue()));
+                assertThat(checks.get(), is(2));
+                async.flag();
+            })));
+
+        vertx.setTimer(200, t -> cache.update(resource("1")));
+    }
+
+    @Test
+    public void testWaitPollsWhileCacheIsNotSynced(VertxTestContext context) {
+        ResourceCache<ConfigMap> cache = cache();
+        AtomicInteger checks = new AtomicInteger(0);
+
+        Checkpoint async = context.checkpoint();
+        new ResourceCacheWaiter<>(vertx, cache, RECONCILIATION, "ns", "my-cm", "ConfigMap my-cm", "ready", 10, 60_000,
+            () -> checks.incrementAndGet() == 3)
+            .start()
+            .onComplete(context.succeeding(i -> context.verify(() -> {
+                assertThat(checks.get(), is(3));
+                async.flag();
+            })));
+    }
+
+    @Test
+    public void testWaitTimesOut(VertxTestContext context) {
+        ResourceCache<ConfigMap> cache = cache();
+        cache.sync("ns", List.of());
+
+        Checkpoint async = context.checkpoint();
+        new ResourceCacheWaiter<>(vertx, cache, RECONCILIATION, "ns", "my-cm", "ConfigMap my-cm", "ready", 10, 100,
+            () -> false)
+            .start()
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TimeoutException.class));
+                async.flag();
+            })));
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.apache.kafka.common.config.TopicConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of the {@link Topic} and {@link TopicCommand} records stored by the
+ * {@link KafkaStreamsTopicStore}. The records start with a version byte which cannot start a JSON document, so the
+ * records written by the previous versions in JSON are still readable (see {@link #isBinary(byte[])}).
+ *
+ * Version 1 of the encoding uses:
+ * <ul>
+ *     <li>zig-zag varints for the numbers</li>
+ *     <li>varint length prefixed UTF-8 bytes for the strings</li>
+ *     <li>a varint dictionary index for the well-known config keys (0 followed by the string for the other keys)</li>
+ * </ul>
+ *
+ * The dictionary and the layout must never be changed. Any change requires a new version.
+ */
+final class BinaryTopicSerialization {
+    /**
+     * Version of the encoding. JSON records start with '{' or a whitespace.
+     */
+    static final byte VERSION_1 = 1;
+
+    /**
+     * Config keys encoded as their index + 1. New keys can only be appended.
+     */
+    private static final List<String> CONFIG_KEYS = List.of(
+            TopicConfig.CLEANUP_POLICY_CONFIG,
+            TopicConfig.COMPRESSION_TYPE_CONFIG,
+            TopicConfig.DELETE_RETENTION_MS_CONFIG,
+            TopicConfig.FILE_DELETE_DELAY_MS_CONFIG,
+            TopicConfig.FLUSH_MESSAGES_INTERVAL_CONFIG,
+            TopicConfig.FLUSH_MS_CONFIG,
+            TopicConfig.INDEX_INTERVAL_BYTES_CONFIG,
+            TopicConfig.MAX_COMPACTION_LAG_MS_CONFIG,
+            TopicConfig.MAX_MESSAGE_BYTES_CONFIG,
+            TopicConfig.MESSAGE_DOWNCONVERSION_ENABLE_CONFIG,
+            TopicConfig.MESSAGE_FORMAT_VERSION_CONFIG,
+            TopicConfig.MESSAGE_TIMESTAMP_DIFFERENCE_MAX_MS_CONFIG,
+            TopicConfig.MESSAGE_TIMESTAMP_TYPE_CONFIG,
+            TopicConfig.MIN_CLEANABLE_DIRTY_RATIO_CONFIG,
+            TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG,
+            TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG,
+            TopicConfig.PREALLOCATE_CONFIG,
+            TopicConfig.RETENTION_BYTES_CONFIG,
+            TopicConfig.RETENTION_MS_CONFIG,
+            TopicConfig.SEGMENT_BYTES_CONFIG,
+            TopicConfig.SEGMENT_INDEX_BYTES_CONFIG,
+            TopicConfig.SEGMENT_JITTER_MS_CONFIG,
+            TopicConfig.SEGMENT_MS_CONFIG,
+            TopicConfig.UNCLEAN_LEADER_ELECTION_ENABLE_CONFIG,
+            "follower.replication.throttled.replicas",
+            "leader.replication.throttled.replicas");
+
+    private static final Map<String, Integer> CONFIG_KEY_INDEXES = new HashMap<>(CONFIG_KEYS.size() * 2);
+
+    static {
+        for (int i = 0; i < CONFIG_KEYS.size(); i++) {
+            CONFIG_KEY_INDEXES.put(CONFIG_KEYS.get(i), i + 1);
+        }
+    }
+
+    private BinaryTopicSerialization() { }
+
+    /**
+     * @param data  Serialized record
+     *
+     * @return  True if the record uses the binary encoding. False if it is JSON.
+     */
+    static boolean isBinary(byte[] data) {
+        return data.length > 0 && data[0] == VERSION_1;
+    }
+
+    static byte[] toBytes(Topic topic) {
+        Writer writer = new Writer(64 + 32 * topic.getConfig().size());
+        writer.writeByte(VERSION_1);
+        writeTopic(writer, topic);
+        return writer.toByteArray();
+    }
+
+    static Topic topicFromBytes(byte[] data) {
+        Reader reader = new Reader(data);
+        reader.readVersion();
+        return readTopic(reader);
+    }
+
+    static byte[] toBytes(TopicCommand command) {
+        Topic topic = command.getTopic();
+        Writer writer = new Writer(64 + (topic != null ? 32 * topic.getConfig().size() : 0));
+        writer.writeByte(VERSION_1);
+        writer.writeString(command.getUuid());
+        writer.writeVarint(command.getType().getId());
+        writer.writeVarint(command.getVersion());
+
+        if (command.getType() == TopicCommand.Type.CREATE || command.getType() == TopicCommand.Type.UPDATE) {
+            writeTopic(writer, topic);
+        } else {
+            writer.writeString(command.getKey());
+        }
+
+        return writer.toByteArray();
+    }
+
+    static TopicCommand commandFromBytes(byte[] data) {
+        Reader reader = new Reader(data);
+        reader.readVersion();
+        String uuid = reader.readString();
+        TopicCommand.Type type = TopicCommand.Type.fromId(reader.readVarint());
+        int version = reader.readVarint();
+        Topic topic = null;
+        TopicName name = null;
+
+        if (type == TopicCommand.Type.CREATE || type == TopicCommand.Type.UPDATE) {
+            topic = readTopic(reader);
+        } else {
+            name = new TopicName(reader.readString());
+        }
+
+        return new TopicCommand(uuid, type, topic, name, version);
+    }
+
+    /**
+     * Writes the same fields as the JSON encoding in {@link TopicSerialization#toJson(Topic)}
+     */
+    private static void writeTopic(Writer writer, Topic topic) {
+        writer.writeString(topic.getTopicName().toString());
+        writer.writeString(topic.getOrAsKubeName().toString());
+        writer.writeVarint(topic.getNumPartitions());
+        writer.writeVarint(topic.getNumReplicas());
+
+        Map<String, String> config = topic.getConfig();
+        writer.writeVarint(config.size());
+
+        for (Map.Entry<String, String> entry : config.entrySet()) {
+            Integer index = CONFIG_KEY_INDEXES.get(entry.getKey());
+
+            if (index != null) {
+                writer.writeVarint(index);
+            } else {
+                writer.writeVarint(0);
+                writer.writeString(entry.getKey());
+            }
+
+            writer.writeString(entry.getValue());
+        }
+    }
+
+    private static Topic readTopic(Reader reader) {
+        Topic.Builder builder = new Topic.Builder()
+                .withTopicName(reader.readString())
+                .withMapName(reader.readString())
+                .withNumPartitions(reader.readVarint())
+                .withNumReplicas((short) reader.readVarint());
+
+        int configSize = reader.readVarint();
+
+        for (int i = 0; i < configSize; i++) {
+            int index = reader.readVarint();
+            String key;
+
+            if (index == 0) {
+                key = reader.readString();
+            } else if (index <= CONFIG_KEYS.size()) {
+                key = CONFIG_KEYS.get(index - 1);
+            } else {
+                throw new IllegalArgumentException("Unknown config key index " + index);
+            }
+
+            builder.withConfigEntry(key, reader.readString());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Growable buffer for writing the records
+     */
+    private static class Writer {
+        private byte[] buffer;
+        private int position = 0;
+
+        Writer(int capacity) {
+            this.buffer = new byte[capacity];
+        }
+
+        private void ensureCapacity(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarint(int value) {
+            // Zig-zag encoding keeps the small negative values (such as -1 for the default replicas) short
+            int zigZag = (value << 1) ^ (value >> 31);
+            ensureCapacity(5);
+
+            while ((zigZag & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((zigZag & 0x7F) | 0x80);
+                zigZag >>>= 7;
+            }
+
+            buffer[position++] = (byte) zigZag;
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    /**
+     * Reader of the records
+     */
+    private static class Reader {
+        private final byte[] buffer;
+        private int position = 0;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        void readVersion() {
+            byte version = readByte();
+
+            if (version != VERSION_1) {
+                throw new IllegalArgumentException("Unsupported record version " + version);
+            }
+        }
+
+        private byte readByte() {
+            if (position >= buffer.length) {
+                throw new IllegalArgumentException("Record is truncated");
+            }
+
+            return buffer[position++];
+        }
+
+        int readVarint() {
+            int zigZag = 0;
+
+            for (int shift = 0; shift < 35; shift += 7) {
+                byte b = readByte();
+                zigZag |= (b & 0x7F) << shift;
+
+                if ((b & 0x80) == 0) {
+                    return (zigZag >>> 1) ^ -(zigZag & 1);
+                }
+            }
+
+            throw new IllegalArgumentException("Varint is too long");
+        }
+
+        String readString() {
+            int length = readVarint();
+
+            if (length < 0 || position + length > buffer.length) {
+                throw new IllegalArgumentException("Record is truncated");
+            }
+
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
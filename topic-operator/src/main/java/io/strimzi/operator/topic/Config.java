@@ -109,6 +109,8 @@ public class Config {
     public static final String TC_REASSIGN_THROTTLE = "STRIMZI_REASSIGN_THROTTLE";
     public static final String TC_REASSIGN_VERIFY_INTERVAL_MS = "STRIMZI_REASSIGN_VERIFY_INTERVAL_MS";
     public static final String TC_TOPIC_METADATA_MAX_ATTEMPTS = "STRIMZI_TOPIC_METADATA_MAX_ATTEMPTS";
+    public static final String TC_TOPIC_METADATA_BATCH_SIZE = "STRIMZI_TOPIC_METADATA_BATCH_SIZE";
+    public static final String TC_TOPIC_CHANGES_BATCH_WINDOW_MS = "STRIMZI_TOPIC_CHANGES_BATCH_WINDOW_MS";
     public static final String TC_TOPICS_PATH = "STRIMZI_TOPICS_PATH";
 
     public static final String TC_TLS_ENABLED = "STRIMZI_TLS_ENABLED";
@@ -123,6 +125,7 @@ public class Config {
     public static final String TC_APPLICATION_ID = "STRIMZI_APPLICATION_ID";
     public static final String TC_APPLICATION_SERVER = "STRIMZI_APPLICATION_SERVER";
     public static final String TC_STALE_RESULT_TIMEOUT_MS = "STRIMZI_STALE_RESULT_TIMEOUT_MS";
+    public static final String TC_STORE_STATE_DIR = "STRIMZI_STORE_STATE_DIR";
 
     public static final String TC_USE_ZOOKEEPER_TOPIC_STORE = "STRIMZI_USE_ZOOKEEPER_TOPIC_STORE";
 
@@ -164,6 +167,12 @@ public class Config {
     /** The maximum number of retries for getting topic metadata from the Kafka cluster */
     public static final Value<Integer> TOPIC_METADATA_MAX_ATTEMPTS = new Value<>(TC_TOPIC_METADATA_MAX_ATTEMPTS, POSITIVE_INTEGER, "6");
 
+    /** The maximum number of topics whose metadata is fetched from the Kafka cluster in a single request during periodic reconciliation */
+    public static final Value<Integer> TOPIC_METADATA_BATCH_SIZE = new Value<>(TC_TOPIC_METADATA_BATCH_SIZE, POSITIVE_INTEGER, "1000");
+
+    /** The time for which the topic changes notified by ZooKeeper are collected before they are reconciled together */
+    public static final Value<Long> TOPIC_CHANGES_BATCH_WINDOW_MS = new Value<>(TC_TOPIC_CHANGES_BATCH_WINDOW_MS, DURATION, "100");
+
     /** The path to the Zookeeper node that stores the topic state in ZooKeeper. */
     public static final Value<String> TOPICS_PATH = new Value<>(TC_TOPICS_PATH, STRING, "/strimzi/topics");
 
@@ -192,6 +201,12 @@ public class Config {
     public static final Value<String> APPLICATION_SERVER = new Value<>(TC_APPLICATION_SERVER, STRING, "localhost:9000");
     /** The stale timeout for the Kafka Streams based TopicStore */
     public static final Value<Long> STALE_RESULT_TIMEOUT_MS = new Value<>(TC_STALE_RESULT_TIMEOUT_MS, DURATION, "5000");
+    /**
+     * The local state directory for the Kafka Streams based TopicStore. When set, the store is persisted in this
+     * directory and only the changes after its last checkpoint are restored from the store topic on startup. When empty,
+     * the store is kept in memory and fully restored on every startup.
+     */
+    public static final Value<String> STORE_STATE_DIR = new Value<>(TC_STORE_STATE_DIR, STRING, "");
 
     /** Do we use old ZooKeeper based TopicStore */
     public static final Value<Boolean> USE_ZOOKEEPER_TOPIC_STORE = new Value<>(TC_USE_ZOOKEEPER_TOPIC_STORE, BOOLEAN, "false");
@@ -209,6 +224,8 @@ public class Config {
         addConfigValue(configValues, REASSIGN_THROTTLE);
         addConfigValue(configValues, REASSIGN_VERIFY_INTERVAL_MS);
         addConfigValue(configValues, TOPIC_METADATA_MAX_ATTEMPTS);
+        addConfigValue(configValues, TOPIC_METADATA_BATCH_SIZE);
+        addConfigValue(configValues, TOPIC_CHANGES_BATCH_WINDOW_MS);
         addConfigValue(configValues, TOPICS_PATH);
         addConfigValue(configValues, TLS_ENABLED);
         addConfigValue(configValues, TLS_TRUSTSTORE_LOCATION);
@@ -221,6 +238,7 @@ public class Config {
         addConfigValue(configValues, APPLICATION_ID);
         addConfigValue(configValues, APPLICATION_SERVER);
         addConfigValue(configValues, STALE_RESULT_TIMEOUT_MS);
+        addConfigValue(configValues, STORE_STATE_DIR);
         addConfigValue(configValues, USE_ZOOKEEPER_TOPIC_STORE);
     }
 
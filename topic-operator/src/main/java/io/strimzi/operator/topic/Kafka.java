@@ -7,6 +7,8 @@ package io.strimzi.operator.topic;
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -88,6 +90,21 @@ public interface Kafka {
      */
     Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName);
 
+    /**
+     * Asynchronously fetch the metadata of the given topics in Kafka,
+     * completing the returned Future with the requested metadata.
+     * The metadata is fetched in bulk, so that the number of requests sent to Kafka
+     * does not grow with the number of topics.
+     * The topics which do not exist are not present in the resulting map.
+     * If the operation fails the returned Future will be failed with the
+     * KafkaException (not an ExecutionException).
+     *
+     * @param reconciliation The reconciliation.
+     * @param topicNames The names of the topics to get the metadata of.
+     * @return A future which is completed with the requested metadata.
+     */
+    Future<Map<TopicName, TopicMetadata>> topicMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames);
+
     /**
      * Asynchronously list the names of the topics available in Kafka,
      * completing the returned Future with the topic names.
@@ -4,7 +4,11 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
@@ -18,6 +22,8 @@ import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.Config;
 import org.apache.kafka.clients.admin.CreateTopicsOptions;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
 import org.apache.kafka.clients.admin.ListTopicsOptions;
 import org.apache.kafka.clients.admin.NewPartitions;
 import org.apache.kafka.clients.admin.NewTopic;
@@ -25,6 +31,7 @@ import org.apache.kafka.clients.admin.TopicDescription;
 import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.config.ConfigResource;
 import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 
 import static java.util.Collections.singleton;
 
@@ -38,13 +45,23 @@ public class KafkaImpl implements Kafka {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaImpl.class);
 
+    /** The default maximum number of topics whose metadata is fetched in a single request */
+    public static final int DEFAULT_TOPIC_METADATA_BATCH_SIZE = 1000;
+
     protected final Admin adminClient;
 
     protected final Vertx vertx;
 
+    private final int topicMetadataBatchSize;
+
     public KafkaImpl(Admin adminClient, Vertx vertx) {
+        this(adminClient, vertx, DEFAULT_TOPIC_METADATA_BATCH_SIZE);
+    }
+
+    public KafkaImpl(Admin adminClient, Vertx vertx, int topicMetadataBatchSize) {
         this.adminClient = adminClient;
         this.vertx = vertx;
+        this.topicMetadataBatchSize = topicMetadataBatchSize;
     }
 
     /**
@@ -121,6 +138,96 @@ public class KafkaImpl implements Kafka {
         });
     }
 
+    /**
+     * Completes the returned Future on the Vertx event loop
+     * with the metadata of the given topics obtained from the Kafka AdminClient API.
+     * The topics are described in batches of at most {@code topicMetadataBatchSize} topics,
+     * each batch using a single describeTopics and a single describeConfigs request.
+     * The topics which do not exist are not present in the resulting map.
+     */
+    @Override
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames) {
+        LOGGER.debugCr(reconciliation, "Getting metadata for {} topics", topicNames.size());
+        List<Future> batches = new ArrayList<>();
+        List<TopicName> batch = new ArrayList<>(Math.min(topicMetadataBatchSize, topicNames.size()));
+
+        for (TopicName topicName : topicNames) {
+            batch.add(topicName);
+
+            if (batch.size() >= topicMetadataBatchSize) {
+                batches.add(topicMetadataBatch(reconciliation, batch));
+                batch = new ArrayList<>(topicMetadataBatchSize);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            batches.add(topicMetadataBatch(reconciliation, batch));
+        }
+
+        return CompositeFuture.all(batches)
+                .map(ignored -> {
+                    Map<TopicName, TopicMetadata> result = new HashMap<>(topicNames.size());
+                    for (Future batchFuture : batches) {
+                        result.putAll((Map<TopicName, TopicMetadata>) batchFuture.result());
+                    }
+                    LOGGER.debugCr(reconciliation, "Got metadata for {} topics in {} batches", result.size(), batches.size());
+                    return result;
+                });
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    private Future<Map<TopicName, TopicMetadata>> topicMetadataBatch(Reconciliation reconciliation, List<TopicName> topicNames) {
+        try {
+            List<String> names = new ArrayList<>(topicNames.size());
+            List<ConfigResource> resources = new ArrayList<>(topicNames.size());
+            for (TopicName topicName : topicNames) {
+                names.add(topicName.toString());
+                resources.add(new ConfigResource(ConfigResource.Type.TOPIC, topicName.toString()));
+            }
+
+            DescribeTopicsResult descriptions = adminClient.describeTopics(names);
+            DescribeConfigsResult configs = adminClient.describeConfigs(resources);
+
+            List<Future> futures = new ArrayList<>(2 * topicNames.size());
+            for (int i = 0; i < topicNames.size(); i++) {
+                futures.add(ignoreUnknownTopic(mapFuture(descriptions.values().get(names.get(i)))));
+                futures.add(ignoreUnknownTopic(mapFuture(configs.values().get(resources.get(i)))));
+            }
+
+            return CompositeFuture.all(futures)
+                    .map(compositeFuture -> {
+                        Map<TopicName, TopicMetadata> result = new HashMap<>(topicNames.size());
+                        for (int i = 0; i < topicNames.size(); i++) {
+                            TopicDescription description = compositeFuture.resultAt(2 * i);
+                            Config config = compositeFuture.resultAt(2 * i + 1);
+
+                            if (description != null && config != null) {
+                                result.put(topicNames.get(i), new TopicMetadata(description, config));
+                            } else {
+                                LOGGER.debugCr(reconciliation, "Topic {} does not exist", topicNames.get(i));
+                            }
+                        }
+                        return result;
+                    });
+        } catch (Exception e) {
+            return Future.failedFuture(e);
+        }
+    }
+
+    private static <T> Future<T> ignoreUnknownTopic(Future<T> future) {
+        return future.recover(e -> {
+            if (e instanceof ExecutionException) {
+                e = e.getCause();
+            }
+            if (e instanceof UnknownTopicOrPartitionException) {
+                return Future.succeededFuture(null);
+            } else {
+                return Future.failedFuture(e);
+            }
+        });
+    }
+
     @Override
     public Future<Set<String>> listTopics() {
         try {
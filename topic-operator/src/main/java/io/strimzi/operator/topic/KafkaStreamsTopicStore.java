@@ -5,14 +5,19 @@
 package io.strimzi.operator.topic;
 
 import io.apicurio.registry.utils.kafka.ProducerActions;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.LogManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * TopicStore based on Kafka Streams and
@@ -95,6 +100,45 @@ public class KafkaStreamsTopicStore implements TopicStore {
         );
     }
 
+    /**
+     * Handles the commands in bulk. The results of all commands are registered first and then all the commands are
+     * sent without waiting for each other, so the producer can send them in batches.
+     */
+    @SuppressWarnings({"rawtypes"})
+    private CompositeFuture handleTopicCommands(Collection<Topic> topics, Function<Topic, TopicCommand> toCommand) {
+        LOGGER.debug("Handling {} topic commands", topics.size());
+        List<TopicCommand> cmds = new ArrayList<>(topics.size());
+        List<Future> results = new ArrayList<>(topics.size());
+
+        for (Topic topic : topics) {
+            TopicCommand cmd = toCommand.apply(topic);
+            cmds.add(cmd);
+            results.add(Future.fromCompletionStage(resultService.apply(cmd.getKey(), cmd.getUuid()))
+                    .compose(index -> index != null ? Future.failedFuture(toThrowable(index)) : Future.succeededFuture()));
+        }
+
+        for (TopicCommand cmd : cmds) {
+            producer.apply(new ProducerRecord<>(storeTopic, cmd.getKey(), cmd))
+                    .whenComplete((r, t) -> {
+                        if (t != null) {
+                            LOGGER.error("Error sending topic command", t);
+                        }
+                    });
+        }
+
+        return CompositeFuture.join(results);
+    }
+
+    @Override
+    public CompositeFuture createAll(Collection<Topic> topics) {
+        return handleTopicCommands(topics, TopicCommand::create);
+    }
+
+    @Override
+    public CompositeFuture updateAll(Collection<Topic> topics) {
+        return handleTopicCommands(topics, TopicCommand::update);
+    }
+
     @Override
     public Future<Void> create(Topic topic) {
         TopicCommand cmd = TopicCommand.create(topic);
@@ -9,6 +9,7 @@ import io.apicurio.registry.utils.kafka.ProducerActions;
 import io.apicurio.registry.utils.streams.diservice.AsyncBiFunctionService;
 import io.apicurio.registry.utils.streams.ext.ForeachActionDispatcher;
 import io.apicurio.registry.utils.streams.ext.LoggingStateRestoreListener;
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.common.KafkaFuture;
@@ -39,10 +40,22 @@ public class KafkaStreamsTopicStoreService {
     private static final Logger LOGGER = LoggerFactory.getLogger(KafkaStreamsTopicStoreService.class);
 
     private final List<AutoCloseable> closeables = new ArrayList<>();
+    private final MetricsProvider metrics;
 
     /* test */ KafkaStreams streams;
     /* test */ TopicStore store;
 
+    public KafkaStreamsTopicStoreService() {
+        this(null);
+    }
+
+    /**
+     * @param metrics   Metrics provider or null if the metrics of the topic store should not be collected
+     */
+    public KafkaStreamsTopicStoreService(MetricsProvider metrics) {
+        this.metrics = metrics;
+    }
+
     public CompletionStage<TopicStore> start(Config config, Properties kafkaProperties) {
         String storeTopic = config.get(Config.STORE_TOPIC);
         String storeName = config.get(Config.STORE_NAME);
@@ -97,7 +110,7 @@ public class KafkaStreamsTopicStoreService {
         LOGGER.info("Creating Kafka Streams, store name: {}", storeName);
         long timeoutMillis = config.get(Config.STALE_RESULT_TIMEOUT_MS);
         ForeachActionDispatcher<String, Integer> dispatcher = new ForeachActionDispatcher<>();
-        WaitForResultService serviceImpl = new WaitForResultService(timeoutMillis, dispatcher);
+        WaitForResultService serviceImpl = new WaitForResultService(timeoutMillis, dispatcher, metrics);
         closeables.add(serviceImpl);
 
         AtomicBoolean done = new AtomicBoolean(false); // no need for dup complete
@@ -120,7 +133,15 @@ public class KafkaStreamsTopicStoreService {
             streamsProperties.put(StreamsConfig.REPLICATION_FACTOR_CONFIG, "-1");
         }
 
-        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher).get();
+        String stateDir = config.get(Config.STORE_STATE_DIR);
+        boolean persistent = stateDir != null && !stateDir.isEmpty();
+        if (persistent) {
+            // the store is checkpointed in this directory and only the newer changes are restored on startup
+            LOGGER.info("Using persistent store in state directory: {}", stateDir);
+            streamsProperties.put(StreamsConfig.STATE_DIR_CONFIG, stateDir);
+        }
+
+        Topology topology = new TopicStoreTopologyProvider(storeTopic, storeName, streamsProperties, dispatcher, persistent).get();
 
         streams = new KafkaStreams(topology, streamsProperties);
         streams.setStateListener(listener);
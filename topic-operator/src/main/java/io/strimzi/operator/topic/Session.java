@@ -52,6 +52,7 @@ public class Session extends AbstractVerticle {
     /*test*/ ZkTopicsWatcher topicsWatcher;
     /*test*/ TopicConfigsWatcher topicConfigsWatcher;
     /*test*/ ZkTopicWatcher topicWatcher;
+    /*test*/ TopicChangeCoalescer topicChangeCoalescer;
     /*test*/ PrometheusMeterRegistry metricsRegistry;
     K8sTopicWatcher watcher;
     /** The id of the periodic reconciliation timer. This is null during a periodic reconciliation. */
@@ -89,6 +90,7 @@ public class Session extends AbstractVerticle {
             topicWatch.close();
             LOGGER.debug("Stopping zk watches");
             topicsWatcher.stop();
+            topicChangeCoalescer.stop();
 
             Promise<Void> promise = Promise.promise();
             Handler<Long> longHandler = new Handler<>() {
@@ -163,7 +165,7 @@ public class Session extends AbstractVerticle {
 
         this.adminClient = AdminClient.create(kafkaClientProps);
         LOGGER.debug("Using AdminClient {}", adminClient);
-        this.kafka = new KafkaImpl(adminClient, vertx);
+        this.kafka = new KafkaImpl(adminClient, vertx, config.get(Config.TOPIC_METADATA_BATCH_SIZE));
         LOGGER.debug("Using Kafka {}", kafka);
         Labels labels = config.get(Config.LABELS);
 
@@ -194,9 +196,9 @@ public class Session extends AbstractVerticle {
                     boolean exists = zk.getPathExists(topicsPath);
                     CompletionStage<KafkaStreamsTopicStoreService> cs;
                     if (exists) {
-                        cs = Zk2KafkaStreams.upgrade(zk, config, kafkaClientProps, false);
+                        cs = Zk2KafkaStreams.upgrade(zk, config, kafkaClientProps, false, new MicrometerMetricsProvider());
                     } else {
-                        KafkaStreamsTopicStoreService ksc = new KafkaStreamsTopicStoreService();
+                        KafkaStreamsTopicStoreService ksc = new KafkaStreamsTopicStoreService(new MicrometerMetricsProvider());
                         cs = ksc.start(config, kafkaClientProps).thenCompose(s -> CompletableFuture.completedFuture(ksc));
                     }
                     topicStore = ConcurrentUtil.result(
@@ -220,11 +222,12 @@ public class Session extends AbstractVerticle {
                 this.topicOperator = new TopicOperator(vertx, kafka, k8s, topicStore, labels, namespace, config, new MicrometerMetricsProvider());
                 LOGGER.debug("Using Operator {}", topicOperator);
 
-                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator);
+                this.topicChangeCoalescer = new TopicChangeCoalescer(topicOperator, vertx, config.get(Config.TOPIC_CHANGES_BATCH_WINDOW_MS));
+                this.topicConfigsWatcher = new TopicConfigsWatcher(topicOperator, topicChangeCoalescer);
                 LOGGER.debug("Using TopicConfigsWatcher {}", topicConfigsWatcher);
                 this.topicWatcher = new ZkTopicWatcher(topicOperator);
                 LOGGER.debug("Using TopicWatcher {}", topicWatcher);
-                this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher);
+                this.topicsWatcher = new ZkTopicsWatcher(topicOperator, topicConfigsWatcher, topicWatcher, topicChangeCoalescer);
                 LOGGER.debug("Using TopicsWatcher {}", topicsWatcher);
                 topicsWatcher.start(zk);
 
@@ -0,0 +1,190 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.Vertx;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the topic changes notified by the ZooKeeper watchers over a short window and passes them to the
+ * {@link TopicOperator} together. The notifications are deduplicated per topic:
+ *
+ * <ul>
+ *     <li>a deletion replaces any earlier notification of the topic</li>
+ *     <li>a creation replaces any earlier notification of the topic (the topic was deleted and created again)</li>
+ *     <li>a config change is dropped when the creation or deletion of the topic is already pending, because their
+ *     reconciliation reads the current config of the topic anyway</li>
+ * </ul>
+ *
+ * The creations and config changes of each window are passed to
+ * {@link TopicOperator#onTopicsChanged(Map, Map)} so that their metadata is fetched from Kafka in bulk. The
+ * deletions are passed to {@link TopicOperator#onTopicDeleted(LogContext, TopicName)} one by one.
+ *
+ * With a zero window the notifications are passed to the operator immediately.
+ *
+ * When the coalescer is stopped, the pending notifications are dropped. They are handled by the full reconciliation
+ * of the next session.
+ */
+class TopicChangeCoalescer {
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicChangeCoalescer.class);
+
+    private final TopicOperator topicOperator;
+    private final Vertx vertx;
+    private final long windowMs;
+
+    private Map<TopicName, PendingChange> pending = new LinkedHashMap<>();
+    private long timerId = -1;
+    private boolean stopped = false;
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator Operator instance to notify
+     * @param vertx         Vert.x instance used for the window timer
+     * @param windowMs      Time in milliseconds for which the notifications are collected
+     */
+    TopicChangeCoalescer(TopicOperator topicOperator, Vertx vertx, long windowMs) {
+        this.topicOperator = topicOperator;
+        this.vertx = vertx;
+        this.windowMs = windowMs;
+    }
+
+    /**
+     * Constructor of a coalescer which passes the notifications to the operator immediately
+     *
+     * @param topicOperator Operator instance to notify
+     */
+    TopicChangeCoalescer(TopicOperator topicOperator) {
+        this(topicOperator, null, 0);
+    }
+
+    void onTopicCreated(LogContext logContext, TopicName topicName) {
+        add(topicName, new PendingChange(ChangeType.CREATED, logContext));
+    }
+
+    void onTopicDeleted(LogContext logContext, TopicName topicName) {
+        add(topicName, new PendingChange(ChangeType.DELETED, logContext));
+    }
+
+    void onTopicConfigChanged(LogContext logContext, TopicName topicName) {
+        add(topicName, new PendingChange(ChangeType.CONFIG_CHANGED, logContext));
+    }
+
+    private void add(TopicName topicName, PendingChange change) {
+        synchronized (this) {
+            if (stopped) {
+                LOGGER.debugOp("Ignoring change of topic {} after the coalescer was stopped", topicName);
+                return;
+            }
+
+            pending.merge(topicName, change, (previous, next) ->
+                    next.type == ChangeType.CONFIG_CHANGED && previous.type != ChangeType.CONFIG_CHANGED ? previous : next);
+
+            if (windowMs > 0) {
+                if (timerId == -1) {
+                    timerId = vertx.setTimer(windowMs, this::onTimer);
+                }
+                return;
+            }
+        }
+
+        flush();
+    }
+
+    private void onTimer(long firedTimerId) {
+        synchronized (this) {
+            if (timerId != firedTimerId) {
+                return;
+            }
+
+            timerId = -1;
+        }
+
+        flush();
+    }
+
+    /**
+     * Stops the coalescer: cancels the window timer and drops the pending notifications.
+     */
+    void stop() {
+        synchronized (this) {
+            stopped = true;
+
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+
+            if (!pending.isEmpty()) {
+                LOGGER.debugOp("Dropping pending changes of {} topics", pending.size());
+                pending = new LinkedHashMap<>();
+            }
+        }
+    }
+
+    /**
+     * Passes the pending notifications to the operator
+     */
+    private void flush() {
+        Map<TopicName, PendingChange> changes;
+
+        synchronized (this) {
+            changes = pending;
+            pending = new LinkedHashMap<>();
+        }
+
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        LOGGER.debugOp("Passing changes of {} topics to the operator", changes.size());
+
+        Map<TopicName, LogContext> created = new LinkedHashMap<>();
+        Map<TopicName, LogContext> configChanged = new LinkedHashMap<>();
+
+        changes.forEach((topicName, change) -> {
+            switch (change.type) {
+                case CREATED:
+                    created.put(topicName, change.logContext);
+                    break;
+                case CONFIG_CHANGED:
+                    configChanged.put(topicName, change.logContext);
+                    break;
+                case DELETED:
+                    topicOperator.onTopicDeleted(change.logContext, topicName).onComplete(ar -> {
+                        if (ar.succeeded()) {
+                            LOGGER.debugCr(change.logContext.toReconciliation(), "Success responding to deletion of topic {}", topicName);
+                        } else {
+                            LOGGER.warnCr(change.logContext.toReconciliation(), "Error responding to deletion of topic {}", topicName, ar.cause());
+                        }
+                    });
+                    break;
+            }
+        });
+
+        if (!created.isEmpty() || !configChanged.isEmpty()) {
+            topicOperator.onTopicsChanged(created, configChanged);
+        }
+    }
+
+    private enum ChangeType {
+        CREATED,
+        DELETED,
+        CONFIG_CHANGED
+    }
+
+    private static class PendingChange {
+        private final ChangeType type;
+        private final LogContext logContext;
+
+        PendingChange(ChangeType type, LogContext logContext) {
+            this.type = type;
+            this.logContext = logContext;
+        }
+    }
+}
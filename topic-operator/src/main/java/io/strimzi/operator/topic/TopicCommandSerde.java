@@ -11,7 +11,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 /**
- * TopicCommand Kafka Serde
+ * TopicCommand Kafka Serde. The commands are written in the binary encoding of {@link BinaryTopicSerialization}. The
+ * commands written in JSON by the previous versions are still readable.
  */
 public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
@@ -23,6 +24,10 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
     @Override
     public byte[] serialize(String topic, TopicCommand data) {
+        return BinaryTopicSerialization.toBytes(data);
+    }
+
+    /*test*/ static byte[] toJson(TopicCommand data) {
         return TopicSerialization.toBytes((mapper, root) -> {
             root.put(UUID, data.getUuid());
             TopicCommand.Type type = data.getType();
@@ -39,6 +44,10 @@ public class TopicCommandSerde extends SelfSerde<TopicCommand> {
 
     @Override
     public TopicCommand deserialize(String t, byte[] data) {
+        if (BinaryTopicSerialization.isBinary(data)) {
+            return BinaryTopicSerialization.commandFromBytes(data);
+        }
+
         return TopicSerialization.fromJson(data, (mapper, bytes) -> {
             try {
                 JsonNode root = mapper.readTree(bytes);
@@ -6,21 +6,25 @@ package io.strimzi.operator.topic;
 
 /**
  * ZooKeeper watcher for child znodes of {@code /configs/topics},
- * calling {@link TopicOperator#onTopicConfigChanged(LogContext, TopicName)}
- * for changed children.
+ * notifying the {@link TopicChangeCoalescer} of changed children.
  */
 class TopicConfigsWatcher extends ZkWatcher {
 
+    private final TopicChangeCoalescer coalescer;
+
     TopicConfigsWatcher(TopicOperator topicOperator) {
+        this(topicOperator, new TopicChangeCoalescer(topicOperator));
+    }
+
+    TopicConfigsWatcher(TopicOperator topicOperator, TopicChangeCoalescer coalescer) {
         super(topicOperator, CONFIGS_ZNODE);
+        this.coalescer = coalescer;
     }
 
     @Override
     protected void notifyOperator(String child) {
         LogContext logContext = LogContext.zkWatch(CONFIGS_ZNODE, "=" + child, topicOperator.getNamespace(), child);
         logger.infoCr(logContext.toReconciliation(), "Topic config change");
-        topicOperator.onTopicConfigChanged(logContext, new TopicName(child)).onComplete(ar2 -> {
-            logger.infoCr(logContext.toReconciliation(), "Reconciliation result due to topic config change on topic {}: {}", child, ar2);
-        });
+        coalescer.onTopicConfigChanged(logContext, new TopicName(child));
     }
 }
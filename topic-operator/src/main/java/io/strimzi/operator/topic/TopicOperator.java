@@ -12,9 +12,9 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
-import io.micrometer.core.instrument.Meter;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.Condition;
 import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
 import io.strimzi.operator.cluster.model.StatusDiff;
 import io.strimzi.operator.common.Annotations;
@@ -22,6 +22,7 @@ import io.strimzi.operator.common.BackOff;
 import io.strimzi.operator.common.MaxAttemptsExceededException;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.ResourceStateMetrics;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.vertx.core.AsyncResult;
@@ -42,7 +43,6 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -52,6 +52,7 @@ import java.util.stream.Collectors;
 
 import static java.util.Collections.disjoint;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:ClassFanOutComplexity"})
@@ -67,8 +68,12 @@ class TopicOperator {
     private final Labels labels;
     private final String namespace;
     private final TopicStore topicStore;
+    // Creates and updates in the topic store are written in bulk
+    private final TopicStoreBatch topicStoreBatch;
     private final Config config;
     private final ConcurrentHashMap<TopicName, Integer> inflight = new ConcurrentHashMap<>();
+    // KafkaTopics and topic metadata fetched in bulk by the running periodic reconciliations
+    private final Set<ReconciliationSnapshot> reconciliationSnapshots = ConcurrentHashMap.newKeySet();
 
     protected final MetricsProvider metrics;
     private Counter periodicReconciliationsCounter;
@@ -79,6 +84,7 @@ class TopicOperator {
     private AtomicInteger topicCounter;
     protected AtomicInteger pausedTopicCounter;
     protected Timer reconciliationsTimer;
+    private ResourceStateMetrics resourceStateMetrics;
 
     enum EventType {
         INFO("Info"),
@@ -391,6 +397,7 @@ class TopicOperator {
         this.vertx = vertx;
         this.labels = labels;
         this.topicStore = topicStore;
+        this.topicStoreBatch = new TopicStoreBatch(vertx, topicStore);
         this.namespace = namespace;
         this.config = config;
         this.metrics = metrics;
@@ -433,6 +440,8 @@ class TopicOperator {
             lockedReconciliationsCounter = metrics.counter(METRICS_PREFIX + "reconciliations.locked",
                     "Number of reconciliations skipped because another reconciliation for the same topic was still running",
                     metricTags);
+
+            resourceStateMetrics = new ResourceStateMetrics(metrics);
         }
     }
 
@@ -486,31 +495,11 @@ class TopicOperator {
                 action.execute().onComplete(actionResult -> {
                     LOGGER.debugCr(logContext.toReconciliation(), "Executing handler for action {} on topic {}", action, lockName);
                     action.result = actionResult;
-                    String keytag = namespace + ":" + "KafkaTopic" + "/" + key.asKubeName().toString();
-                    Optional<Meter> metric = metrics.meterRegistry().getMeters()
-                            .stream()
-                            .filter(meter -> meter.getId().getName().equals(METRICS_PREFIX + "resource.state") &&
-                                    meter.getId().getTags().contains(Tag.of("kind", "KafkaTopic")) &&
-                                    meter.getId().getTags().contains(Tag.of("name",  action.topic == null ? key.asKubeName().toString() : action.topic.getMetadata().getName())) &&
-                                    meter.getId().getTags().contains(Tag.of("resource-namespace", namespace))
-                            ).findFirst();
-                    if (metric.isPresent()) {
-                        // remove metric so it can be re-added with new tags
-                        metrics.meterRegistry().remove(metric.get().getId());
-                        LOGGER.debugCr(logContext.toReconciliation(), "Removed metric {}.resource.state{{}}", METRICS_PREFIX, keytag);
-                    }
-
                     if (action.topic != null) {
-                        boolean succeeded = actionResult.succeeded();
-                        Tags metricTags;
-                        metricTags = Tags.of(
-                                Tag.of("kind", action.topic.getKind()),
-                                Tag.of("name", action.topic.getMetadata().getName()),
-                                Tag.of("resource-namespace", namespace),
-                                Tag.of("reason", succeeded ? "none" : actionResult.cause().getMessage() == null ? "unknown error" : actionResult.cause().getMessage()));
-
-                        metrics.gauge(METRICS_PREFIX + "resource.state", "Current state of the resource: 1 ready, 0 fail", metricTags).set(actionResult.succeeded() ? 1 : 0);
-                        LOGGER.debugCr(logContext.toReconciliation(), "Updated metric " + METRICS_PREFIX + "resource.state{} = {}", metricTags, succeeded ? 1 : 0);
+                        resourceStateMetrics.update(logContext.toReconciliation(), action.topic.getKind(), namespace, action.topic.getMetadata().getName(),
+                                actionResult.succeeded(), actionResult.cause());
+                    } else {
+                        resourceStateMetrics.remove(logContext.toReconciliation(), "KafkaTopic", namespace, key.asKubeName().toString());
                     }
                     // Update status with lock held so that event is ignored via statusUpdateGeneration
                     action.updateStatus(logContext).onComplete(statusResult -> {
@@ -526,6 +515,8 @@ class TopicOperator {
                         } catch (Throwable t) {
                             result.fail(t);
                         } finally {
+                            // The topic might have changed, so the state fetched in bulk should not be used for it anymore
+                            reconciliationSnapshots.forEach(snapshot -> snapshot.invalidate(key));
                             lockResult.result().release();
                             LOGGER.debugCr(logContext.toReconciliation(), "Lock released");
                             inflight.compute(key, decrement);
@@ -862,11 +853,15 @@ class TopicOperator {
      * Called when ZK watch notifies of change to topic's config
      */
     Future<Void> onTopicConfigChanged(LogContext logContext, TopicName topicName) {
+        return onTopicConfigChanged(logContext, topicName, null);
+    }
+
+    private Future<Void> onTopicConfigChanged(LogContext logContext, TopicName topicName, ReconciliationSnapshot snapshot) {
         return executeWithTopicLockHeld(logContext, topicName,
                 new Reconciliation(logContext, "onTopicConfigChanged", true) {
                     @Override
                     public Future<Void> execute() {
-                        return kafka.topicMetadata(logContext.toReconciliation(), topicName)
+                        return topicMetadata(logContext, topicName, snapshot)
                                 .compose(metadata -> {
                                     Topic topic = TopicSerialization.fromTopicMetadata(metadata);
                                     return reconcileOnTopicChange(logContext, topicName, topic, this);
@@ -947,12 +942,22 @@ class TopicOperator {
 
     /** Called when a topic znode is created in ZK */
     Future<Void> onTopicCreated(LogContext logContext, TopicName topicName) {
+        return onTopicCreated(logContext, topicName, null);
+    }
+
+    private Future<Void> onTopicCreated(LogContext logContext, TopicName topicName, ReconciliationSnapshot snapshot) {
         // XXX currently runs on the ZK thread, requiring a synchronized inFlight
         // is it better to put this check in the topic deleted event?
         Reconciliation action = new Reconciliation(logContext, "onTopicCreated", true) {
             @Override
             public Future<Void> execute() {
                 Reconciliation self = this;
+                TopicMetadata bulkMetadata = snapshot != null ? snapshot.topicMetadata(topicName) : null;
+                if (bulkMetadata != null) {
+                    // The topic exists and its metadata was fetched together with the other topics of the batch
+                    LOGGER.debugCr(logContext.toReconciliation(), "Using metadata of topic {} fetched in bulk", topicName);
+                    return reconcileOnTopicChange(logContext, topicName, TopicSerialization.fromTopicMetadata(bulkMetadata), self);
+                }
                 Promise<Void> promise = Promise.promise();
                 TopicMetadataHandler handler = new TopicMetadataHandler(vertx, kafka, topicName, topicMetadataBackOff()) {
 
@@ -991,6 +996,63 @@ class TopicOperator {
         return executeWithTopicLockHeld(logContext, topicName, action);
     }
 
+    /**
+     * Called with the topic creations and topic config changes notified by ZooKeeper and coalesced by the
+     * {@link TopicChangeCoalescer}. The metadata of all the topics is fetched from Kafka in bulk and each topic is then
+     * reconciled separately. The topics whose metadata is not available in the bulk result (for example because Kafka
+     * did not finish creating them yet) fetch it themselves, as if they were notified alone.
+     *
+     * @param created       Created topics and the log contexts of their notifications
+     * @param configChanged Topics with changed config and the log contexts of their notifications
+     *
+     * @return  Future which completes when all the topics were reconciled
+     */
+    Future<Void> onTopicsChanged(Map<TopicName, LogContext> created, Map<TopicName, LogContext> configChanged) {
+        Set<TopicName> topicNames = new HashSet<>(created.keySet());
+        topicNames.addAll(configChanged.keySet());
+
+        if (topicNames.size() == 1) {
+            // Nothing to share with other topics
+            return created.isEmpty()
+                    ? logResult(configChanged, "config change", this::onTopicConfigChanged)
+                    : logResult(created, "creation", this::onTopicCreated);
+        }
+
+        // The snapshot is registered before the metadata is fetched, so that it gets invalidated by any action
+        // completed on the topics in the meantime
+        ReconciliationSnapshot snapshot = new ReconciliationSnapshot();
+        reconciliationSnapshots.add(snapshot);
+
+        LogContext logContext = LogContext.zkWatch("/brokers/topics", "batch", namespace, "*");
+        return kafka.topicMetadata(logContext.toReconciliation(), topicNames)
+                .recover(error -> {
+                    LOGGER.warnOp("Error getting metadata of {} changed topics, it will be fetched for each topic separately",
+                            topicNames.size(), error);
+                    return Future.succeededFuture(emptyMap());
+                })
+                .compose(metadata -> {
+                    snapshot.setMetadata(metadata);
+                    return CompositeFuture.join(
+                            logResult(created, "creation", (lc, topicName) -> onTopicCreated(lc, topicName, snapshot)),
+                            logResult(configChanged, "config change", (lc, topicName) -> onTopicConfigChanged(lc, topicName, snapshot)));
+                })
+                .<Void>mapEmpty()
+                .onComplete(ignored -> reconciliationSnapshots.remove(snapshot));
+    }
+
+    private Future<Void> logResult(Map<TopicName, LogContext> topics, String change,
+                                   BiFunction<LogContext, TopicName, Future<Void>> action) {
+        List<Future<Void>> futures = new ArrayList<>(topics.size());
+        topics.forEach((topicName, logContext) -> futures.add(action.apply(logContext, topicName).onComplete(ar -> {
+            if (ar.succeeded()) {
+                LOGGER.debugCr(logContext.toReconciliation(), "Success responding to {} of topic {}", change, topicName);
+            } else {
+                LOGGER.warnCr(logContext.toReconciliation(), "Error responding to {} of topic {}", change, topicName, ar.cause());
+            }
+        })));
+        return join(futures).mapEmpty();
+    }
+
     abstract class Reconciliation {
         private final LogContext logContext;
         private final String name;
@@ -1179,7 +1241,7 @@ class TopicOperator {
 
         @Override
         public void handle(Void v) throws OperatorException {
-            topicStore.update(topic).onComplete(ar -> {
+            topicStoreBatch.update(topic).onComplete(ar -> {
                 if (ar.failed()) {
                     enqueue(logContext, new Event(logContext, involvedObject, ar.cause().toString(), EventType.WARNING, eventResult -> { }));
                 }
@@ -1216,7 +1278,7 @@ class TopicOperator {
         @Override
         public void handle(Void v) throws OperatorException {
             LOGGER.debugCr(logContext.toReconciliation(), "Executing {}", this);
-            topicStore.create(topic).onComplete(ar -> {
+            topicStoreBatch.create(topic).onComplete(ar -> {
                 LOGGER.debugCr(logContext.toReconciliation(), "Completing {}", this);
                 if (ar.failed()) {
                     LOGGER.debugCr(logContext.toReconciliation(), "{} failed", this);
@@ -1310,21 +1372,80 @@ class TopicOperator {
         }
     }
 
+    /**
+     * The KafkaTopics and the metadata of the Kafka topics fetched in bulk at the start of the periodic reconciliation,
+     * so that they do not have to be fetched for each topic separately. The state of a topic is used only as long as
+     * no other action on the topic completed after the snapshot was requested, otherwise it might be outdated and has
+     * to be fetched again.
+     */
+    static class ReconciliationSnapshot {
+        private final Set<TopicName> invalidated = ConcurrentHashMap.newKeySet();
+        private volatile List<KafkaTopic> kafkaTopicList = emptyList();
+        private volatile Map<ResourceName, KafkaTopic> kafkaTopics = emptyMap();
+        private volatile Map<TopicName, TopicMetadata> metadata = emptyMap();
+
+        void setKafkaTopics(List<KafkaTopic> kafkaTopicList) {
+            Map<ResourceName, KafkaTopic> kafkaTopics = new HashMap<>(kafkaTopicList.size());
+            for (KafkaTopic kafkaTopic : kafkaTopicList) {
+                kafkaTopics.put(new ResourceName(kafkaTopic), kafkaTopic);
+            }
+
+            this.kafkaTopicList = kafkaTopicList;
+            this.kafkaTopics = kafkaTopics;
+        }
+
+        void setMetadata(Map<TopicName, TopicMetadata> metadata) {
+            this.metadata = metadata;
+        }
+
+        void invalidate(TopicName topicName) {
+            invalidated.add(topicName);
+        }
+
+        List<KafkaTopic> kafkaTopicList() {
+            return kafkaTopicList;
+        }
+
+        /**
+         * @param topicName The topic which is being reconciled
+         * @param resourceName The name of the KafkaTopic
+         *
+         * @return The KafkaTopic or null when it is not in the snapshot or not valid anymore
+         */
+        KafkaTopic kafkaTopic(TopicName topicName, ResourceName resourceName) {
+            return invalidated.contains(topicName) ? null : kafkaTopics.get(resourceName);
+        }
+
+        /**
+         * @return The metadata of the topic or null when it is not in the snapshot or not valid anymore
+         */
+        TopicMetadata topicMetadata(TopicName topicName) {
+            return invalidated.contains(topicName) ? null : metadata.get(topicName);
+        }
+    }
+
     Future<?> reconcileAllTopics(String reconciliationType) {
         LOGGER.infoOp("Starting {} reconciliation", reconciliationType);
+        ReconciliationSnapshot snapshot = new ReconciliationSnapshot();
+        reconciliationSnapshots.add(snapshot);
+
         return kafka.listTopics().recover(ex -> Future.failedFuture(
                 new OperatorException("Error listing existing topics during " + reconciliationType + " reconciliation", ex)
-        )).compose(topicNamesFromKafka ->
-                // Reconcile the topic found in Kafka
-                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()))
-        ).compose(reconcileState -> {
+        )).compose(topicNamesFromKafka -> {
+            // All KafkaTopics are listed only once and the list is used for the whole reconciliation
             Future<List<KafkaTopic>> ktFut = k8s.listResources();
             return ktFut.recover(ex -> Future.failedFuture(
                     new OperatorException("Error listing existing KafkaTopics during " + reconciliationType + " reconciliation", ex)
             )).map(ktList -> {
-                reconcileState.setKafkaTopics(ktList);
-                return reconcileState;
+                snapshot.setKafkaTopics(ktList);
+                return topicNamesFromKafka;
             });
+        }).compose(topicNamesFromKafka ->
+                // Reconcile the topic found in Kafka
+                reconcileFromKafka(reconciliationType, topicNamesFromKafka.stream().map(TopicName::new).collect(Collectors.toList()), snapshot)
+        ).map(reconcileState -> {
+            reconcileState.setKafkaTopics(snapshot.kafkaTopicList());
+            return reconcileState;
         }).compose(reconcileState -> {
             List<Future> futs = new ArrayList<>();
             pausedTopicCounter.set(0);
@@ -1349,7 +1470,7 @@ class TopicOperator {
                     successfulReconciliationsCounter.increment();
                 } else if (reconcileState.undetermined.contains(topicName)) {
                     // The topic didn't exist in topicStore, but now we know which KT it corresponds to
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName(), snapshot).compose(r -> {
                         // if success then remove from undetermined add to success
                         reconcileState.undetermined.remove(topicName);
                         reconcileState.succeeded.add(topicName);
@@ -1358,7 +1479,7 @@ class TopicOperator {
                 } else {
                     // Topic exists in kube, but not in Kafka
                     LOGGER.debugCr(logContext.toReconciliation(), "Topic {} exists in Kubernetes, but not Kafka", topicName, logTopic(kt));
-                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName()).compose(r -> {
+                    futs.add(reconcileWithKubeTopic(logContext, kt, reconciliationType, new ResourceName(kt), topic.getTopicName(), snapshot).compose(r -> {
                         // if success then add to success
                         reconcileState.succeeded.add(topicName);
                         return Future.succeededFuture(Boolean.TRUE);
@@ -1377,20 +1498,20 @@ class TopicOperator {
                         @Override
                         public Future<Void> execute() {
                             observedTopicFuture(null);
-                            return getKafkaAndReconcile(this, logContext, tn, null, null);
+                            return getKafkaAndReconcile(this, logContext, tn, null, null, null);
                         }
                     }));
                 }
                 return CompositeFuture.join(futs2);
             });
-        });
+        }).onComplete(ignored -> reconciliationSnapshots.remove(snapshot));
     }
 
 
     /**
      * Reconcile all the topics in {@code foundFromKafka}, returning a ReconciliationState.
      */
-    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka) {
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka, ReconciliationSnapshot snapshot) {
         Set<TopicName> succeeded = new HashSet<>();
         Set<TopicName> undetermined = new HashSet<>();
         Map<TopicName, Throwable> failed = new HashMap<>();
@@ -1399,46 +1520,122 @@ class TopicOperator {
 
         final ReconcileState state = new ReconcileState(succeeded, undetermined, failed);
         if (topicsFromKafka.size() > 0) {
-            List<Future<Void>> futures = new ArrayList<>();
-            for (TopicName topicName : topicsFromKafka) {
-                LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName, namespace, topicName.asKubeName().toString());
-                futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-from-kafka", false) {
-                    @Override
-                    public Future<Void> execute() {
-                        return getFromTopicStore(topicName).recover(error -> {
-                            failed.put(topicName,
-                                    new OperatorException("Error getting topic " + topicName + " from topic store during "
-                                            + reconciliationType + " reconciliation", error));
-                            return Future.succeededFuture();
-                        }).compose(topic -> {
-                            if (topic == null) {
-                                LOGGER.debugCr(logContext.toReconciliation(), "No private topic for topic {} in Kafka -> undetermined", topicName);
-                                undetermined.add(topicName);
-                                return Future.succeededFuture();
-                            } else {
-                                LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
-                                return reconcileWithPrivateTopic(logContext, topicName, topic, this)
-                                        .<Void>map(ignored -> {
-                                            LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
-                                            succeeded.add(topicName);
-                                            return null;
-                                        }).recover(error -> {
-                                            LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile error -> failed", topicName);
-                                            failed.put(topicName, error);
-                                            return Future.failedFuture(error);
-                                        });
-                            }
-                        });
-
-                    }
-                }));
-            }
-            return join(futures).map(state);
+            return kafka.topicMetadata(LogContext.periodic(reconciliationType + "kafka", namespace, "*").toReconciliation(), topicsFromKafka)
+                    .recover(error -> {
+                        LOGGER.warnOp("Error getting metadata of {} topics during {} reconciliation, it will be fetched for each topic separately",
+                                topicsFromKafka.size(), reconciliationType, error);
+                        return Future.succeededFuture(emptyMap());
+                    })
+                    .compose(metadata -> {
+                        snapshot.setMetadata(metadata);
+                        return reconcileFromKafka(reconciliationType, topicsFromKafka, snapshot, state);
+                    });
         } else {
             return Future.succeededFuture(state);
         }
+    }
 
+    private Future<ReconcileState> reconcileFromKafka(String reconciliationType, List<TopicName> topicsFromKafka,
+                                                      ReconciliationSnapshot snapshot, ReconcileState state) {
+        Set<TopicName> succeeded = state.succeeded;
+        Set<TopicName> undetermined = state.undetermined;
+        Map<TopicName, Throwable> failed = state.failed;
+
+        List<Future<Void>> futures = new ArrayList<>();
+        for (TopicName topicName : topicsFromKafka) {
+            LogContext logContext = LogContext.periodic(reconciliationType + "kafka " + topicName, namespace, topicName.asKubeName().toString());
+            futures.add(executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-from-kafka", false) {
+                @Override
+                public Future<Void> execute() {
+                    return getFromTopicStore(topicName).recover(error -> {
+                        failed.put(topicName,
+                                new OperatorException("Error getting topic " + topicName + " from topic store during "
+                                        + reconciliationType + " reconciliation", error));
+                        return Future.succeededFuture();
+                    }).compose(topic -> {
+                        if (topic == null) {
+                            LOGGER.debugCr(logContext.toReconciliation(), "No private topic for topic {} in Kafka -> undetermined", topicName);
+                            undetermined.add(topicName);
+                            return Future.succeededFuture();
+                        } else if (isUnchanged(topicName, topic, snapshot)) {
+                            LOGGER.debugCr(logContext.toReconciliation(), "Topic {} is unchanged in Kafka, Kubernetes and the topic store -> succeeded", topicName);
+                            // The KafkaTopic is still observed, so that its resource state metric is kept
+                            observedTopicFuture(snapshot.kafkaTopic(topicName, topic.getResourceName()));
+                            succeeded.add(topicName);
+                            return Future.succeededFuture();
+                        } else {
+                            LOGGER.debugCr(logContext.toReconciliation(), "Have private topic for topic {} in Kafka", topicName);
+                            return reconcileWithPrivateTopic(logContext, topicName, topic, this, snapshot)
+                                    .<Void>map(ignored -> {
+                                        LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile success -> succeeded", topicName);
+                                        succeeded.add(topicName);
+                                        return null;
+                                    }).recover(error -> {
+                                        LOGGER.debugCr(logContext.toReconciliation(), "{} reconcile error -> failed", topicName);
+                                        failed.put(topicName, error);
+                                        return Future.failedFuture(error);
+                                    });
+                        }
+                    });
 
+                }
+            }));
+        }
+        return join(futures).map(state);
+    }
+
+    /**
+     * Checks, using only the reconciliation snapshot, whether the topic is the same in Kafka, in its KafkaTopic and in
+     * the topic store and whether the KafkaTopic status already reflects a successful reconciliation of its current
+     * generation. Reconciling such topics would not change anything, so the full reconciliation can skip them. This
+     * keeps the initial reconciliation after a restart cheap when most of the topics did not change in the meantime.
+     *
+     * @param topicName     Name of the topic
+     * @param privateTopic  Topic from the topic store
+     * @param snapshot      Reconciliation snapshot with the KafkaTopics and the topic metadata
+     *
+     * @return  True if the topic does not need to be reconciled. False otherwise.
+     */
+    private boolean isUnchanged(TopicName topicName, Topic privateTopic, ReconciliationSnapshot snapshot) {
+        KafkaTopic kafkaTopicResource = snapshot.kafkaTopic(topicName, privateTopic.getResourceName());
+        TopicMetadata kafkaTopicMeta = snapshot.topicMetadata(topicName);
+
+        if (kafkaTopicResource == null
+                || kafkaTopicMeta == null
+                || Annotations.isReconciliationPausedWithAnnotation(kafkaTopicResource)
+                || !isStatusUpToDate(topicName, kafkaTopicResource)) {
+            return false;
+        }
+
+        try {
+            Topic k8sTopic = TopicSerialization.fromTopicResource(kafkaTopicResource);
+            Topic kafkaTopic = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
+
+            return topicName.equals(k8sTopic.getTopicName())
+                    && privateTopic.getResourceName().equals(k8sTopic.getResourceName())
+                    && TopicDiff.diff(privateTopic, kafkaTopic).isEmpty()
+                    && TopicDiff.diff(privateTopic, k8sTopic).isEmpty();
+        } catch (RuntimeException e) {
+            // Invalid resources are handled by the regular reconciliation
+            return false;
+        }
+    }
+
+    private static boolean isStatusUpToDate(TopicName topicName, KafkaTopic kafkaTopicResource) {
+        KafkaTopicStatus status = kafkaTopicResource.getStatus();
+        Long generation = kafkaTopicResource.getMetadata().getGeneration();
+
+        if (status == null
+                || generation == null
+                || status.getObservedGeneration() != generation
+                || !topicName.toString().equals(status.getTopicName())
+                || status.getConditions() == null
+                || status.getConditions().size() != 1) {
+            return false;
+        }
+
+        Condition condition = status.getConditions().get(0);
+        return "Ready".equals(condition.getType()) && "True".equals(condition.getStatus());
     }
 
     @SuppressWarnings("unchecked")
@@ -1452,8 +1649,9 @@ class TopicOperator {
      */
     private Future<Void> reconcileWithPrivateTopic(LogContext logContext, TopicName topicName,
                                                    Topic privateTopic,
-                                                   Reconciliation reconciliation) {
-        return k8s.getFromName(privateTopic.getResourceName())
+                                                   Reconciliation reconciliation,
+                                                   ReconciliationSnapshot snapshot) {
+        return getFromName(topicName, privateTopic.getResourceName(), snapshot)
             .recover(error -> {
                 LOGGER.errorCr(logContext.toReconciliation(), "Error getting KafkaTopic {} for topic {}",
                         topicName.asKubeName(), topicName, error);
@@ -1461,12 +1659,12 @@ class TopicOperator {
             })
             .compose(kafkaTopicResource -> {
                 reconciliation.observedTopicFuture(kafkaTopicResource);
-                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource);
+                return getKafkaAndReconcile(reconciliation, logContext, topicName, privateTopic, kafkaTopicResource, snapshot);
             });
     }
 
     private Future<Void> getKafkaAndReconcile(Reconciliation reconciliation, LogContext logContext, TopicName topicName,
-                                              Topic privateTopic, KafkaTopic kafkaTopicResource) {
+                                              Topic privateTopic, KafkaTopic kafkaTopicResource, ReconciliationSnapshot snapshot) {
         logContext.withKubeTopic(kafkaTopicResource);
         Promise<Void> topicPromise = Promise.promise();
         try {
@@ -1479,7 +1677,7 @@ class TopicOperator {
                                 EventType.WARNING, eventResult -> { }));
                     }
                 })
-                .compose(i -> kafka.topicMetadata(logContext.toReconciliation(), topicName))
+                .compose(i -> topicMetadata(logContext, topicName, snapshot))
                 .compose(kafkaTopicMeta -> {
                     Topic topicFromKafka = TopicSerialization.fromTopicMetadata(kafkaTopicMeta);
                     return reconcile(reconciliation, logContext, kafkaTopicResource, k8sTopic, topicFromKafka, privateTopic);
@@ -1506,26 +1704,53 @@ class TopicOperator {
         return topicPromise.future();
     }
 
+    /**
+     * Gets the topic metadata from the snapshot fetched in bulk when it is still valid, otherwise from Kafka.
+     */
+    private Future<TopicMetadata> topicMetadata(LogContext logContext, TopicName topicName, ReconciliationSnapshot snapshot) {
+        TopicMetadata metadata = snapshot != null ? snapshot.topicMetadata(topicName) : null;
+        if (metadata != null) {
+            LOGGER.debugCr(logContext.toReconciliation(), "Using metadata of topic {} fetched in bulk", topicName);
+            return Future.succeededFuture(metadata);
+        } else {
+            return kafka.topicMetadata(logContext.toReconciliation(), topicName);
+        }
+    }
+
     Future<Topic> getFromKafka(io.strimzi.operator.common.Reconciliation reconciliation, TopicName topicName) {
         return kafka.topicMetadata(reconciliation, topicName).map(TopicSerialization::fromTopicMetadata);
     }
 
+    /**
+     * Gets the KafkaTopic from the snapshot listed in bulk when it is still valid, otherwise from Kubernetes.
+     * KafkaTopics missing in the snapshot are always looked up, because they might have been created after it was taken.
+     */
+    private Future<KafkaTopic> getFromName(TopicName topicName, ResourceName resourceName, ReconciliationSnapshot snapshot) {
+        KafkaTopic kafkaTopic = snapshot != null ? snapshot.kafkaTopic(topicName, resourceName) : null;
+        if (kafkaTopic != null) {
+            return Future.succeededFuture(kafkaTopic);
+        } else {
+            return k8s.getFromName(resourceName);
+        }
+    }
+
     Future<Topic> getFromTopicStore(TopicName topicName) {
         return topicStore.read(topicName);
     }
 
     private Future<Void> reconcileWithKubeTopic(LogContext logContext, HasMetadata involvedObject,
-                                                String reconciliationType, ResourceName kubeName, TopicName topicName) {
+                                                String reconciliationType, ResourceName kubeName, TopicName topicName,
+                                                ReconciliationSnapshot snapshot) {
         return executeWithTopicLockHeld(logContext, topicName, new Reconciliation(logContext, "reconcile-with-kube", true) {
             @Override
             public Future<Void> execute() {
                 Reconciliation self = this;
                 return CompositeFuture.all(
-                        k8s.getFromName(kubeName).map(kt -> {
+                        getFromName(topicName, kubeName, snapshot).map(kt -> {
                             observedTopicFuture(kt);
                             return kt;
                         }),
-                        getFromKafka(logContext.toReconciliation(), topicName),
+                        topicMetadata(logContext, topicName, snapshot).map(TopicSerialization::fromTopicMetadata),
                         getFromTopicStore(topicName))
                     .compose(compositeResult -> {
                         KafkaTopic ktr = compositeResult.resultAt(0);
@@ -7,16 +7,21 @@ package io.strimzi.operator.topic;
 import io.apicurio.registry.utils.kafka.SelfSerde;
 
 /**
- * Topic Kafka Serde
+ * Topic Kafka Serde. The topics are written in the binary encoding of {@link BinaryTopicSerialization}. The topics
+ * written in JSON by the previous versions are still readable.
  */
 public class TopicSerde extends SelfSerde<Topic> {
     @Override
     public byte[] serialize(String topic, Topic data) {
-        return TopicSerialization.toJson(data);
+        return BinaryTopicSerialization.toBytes(data);
     }
 
     @Override
     public Topic deserialize(String topic, byte[] data) {
-        return TopicSerialization.fromJson(data);
+        if (BinaryTopicSerialization.isBinary(data)) {
+            return BinaryTopicSerialization.topicFromBytes(data);
+        } else {
+            return TopicSerialization.fromJson(data);
+        }
     }
 }
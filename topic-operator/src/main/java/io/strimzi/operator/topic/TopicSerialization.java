@@ -45,6 +45,11 @@ class TopicSerialization {
     public static final String JSON_KEY_REPLICAS = "replicas";
     public static final String JSON_KEY_CONFIG = "config";
 
+    /**
+     * The mapper is thread-safe once configured, so it is shared by all calls
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper(new JsonFactory().configure(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION, false));
+
     @SuppressWarnings("unchecked")
     private static Map<String, String> topicConfigFromTopicConfig(KafkaTopic kafkaTopic) {
         if (kafkaTopic.getSpec().getConfig() != null) {
@@ -343,9 +348,7 @@ class TopicSerialization {
     }
 
     private static ObjectMapper objectMapper() {
-        JsonFactory jf = new JsonFactory();
-        jf.configure(JsonParser.Feature.INCLUDE_SOURCE_IN_LOCATION, false);
-        return new ObjectMapper(jf);
+        return MAPPER;
     }
 
 }
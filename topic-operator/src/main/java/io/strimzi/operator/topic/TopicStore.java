@@ -4,8 +4,14 @@
  */
 package io.strimzi.operator.topic;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * Represents a persistent data store where the operator can store its copy of the
  * topic state that won't be modified by either K8S or Kafka.
@@ -62,6 +68,34 @@ interface TopicStore {
      */
     Future<Void> update(Topic topic);
 
+    /**
+     * Asynchronously persist the given topics in the store
+     * completing the returned future when all of them are done.
+     * The future fails with the first failure if any topic could not be created
+     * (for example with an {@link EntityExistsException}), but only after all the topics were handled.
+     * The i-th result of the returned future is the result of the creation of the i-th topic.
+     *
+     * @param topics The topics.
+     * @return A future which completes when the given topics have been created.
+     */
+    default CompositeFuture createAll(Collection<Topic> topics) {
+        return joinAll(topics, this::create);
+    }
+
+    /**
+     * Asynchronously update the given topics in the store
+     * completing the returned future when all of them are done.
+     * The future fails with the first failure if any topic could not be updated
+     * (for example with a {@link NoSuchEntityExistsException}), but only after all the topics were handled.
+     * The i-th result of the returned future is the result of the update of the i-th topic.
+     *
+     * @param topics The topics.
+     * @return A future which completes when the given topics have been updated.
+     */
+    default CompositeFuture updateAll(Collection<Topic> topics) {
+        return joinAll(topics, this::update);
+    }
+
     /**
      * Asynchronously delete the given topic from the store
      * completing the returned future when done.
@@ -72,5 +106,11 @@ interface TopicStore {
      * @return A future which completes when the given topic has been deleted.
      */
     Future<Void> delete(TopicName topic);
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static CompositeFuture joinAll(Collection<Topic> topics, Function<Topic, Future<Void>> fn) {
+        List<Future> futures = topics.stream().map(fn).collect(Collectors.toList());
+        return CompositeFuture.join(futures);
+    }
 }
 
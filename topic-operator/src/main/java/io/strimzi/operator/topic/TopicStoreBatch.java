@@ -0,0 +1,155 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Collects the topics which the reconciliations of different topics create or update in the {@link TopicStore} and
+ * writes them using {@link TopicStore#createAll(java.util.Collection)} and
+ * {@link TopicStore#updateAll(java.util.Collection)}. The batch is written when it reaches the maximal size or when
+ * the maximal delay since the first topic in the batch passes. During the full reconciliation on startup and when
+ * the topic changes coalesced over a window are reconciled, this turns thousands of store commands waiting for their
+ * results one by one into a few bulk writes.
+ *
+ * Each reconciliation gets the result of its own topic, so a failure to write one topic does not fail the
+ * reconciliation of the other topics in the same batch.
+ */
+class TopicStoreBatch {
+    private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicStoreBatch.class);
+
+    /**
+     * Maximal number of topics written in a single batch
+     */
+    /*test*/ static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Maximal time for which the topics wait for other topics before the batch is written
+     */
+    /*test*/ static final long MAX_BATCH_DELAY_MS = 50;
+
+    private final Vertx vertx;
+    private final TopicStore topicStore;
+
+    private List<Topic> creates = new ArrayList<>();
+    private List<Promise<Void>> createPromises = new ArrayList<>();
+    private List<Topic> updates = new ArrayList<>();
+    private List<Promise<Void>> updatePromises = new ArrayList<>();
+    private long timerId = -1;
+
+    /**
+     * Constructs the batch
+     *
+     * @param vertx         Vertx instance used for the batch timer
+     * @param topicStore    Topic store to which the topics are written
+     */
+    TopicStoreBatch(Vertx vertx, TopicStore topicStore) {
+        this.vertx = vertx;
+        this.topicStore = topicStore;
+    }
+
+    /**
+     * Adds the topic to the batch of topics created in the store.
+     *
+     * @param topic The topic.
+     *
+     * @return  A future which completes when the topic has been created or fails with the error of its creation
+     */
+    Future<Void> create(Topic topic) {
+        return submit(topic, creates, createPromises);
+    }
+
+    /**
+     * Adds the topic to the batch of topics updated in the store.
+     *
+     * @param topic The topic.
+     *
+     * @return  A future which completes when the topic has been updated or fails with the error of its update
+     */
+    Future<Void> update(Topic topic) {
+        return submit(topic, updates, updatePromises);
+    }
+
+    private synchronized Future<Void> submit(Topic topic, List<Topic> topics, List<Promise<Void>> promises) {
+        Promise<Void> promise = Promise.promise();
+
+        topics.add(topic);
+        promises.add(promise);
+
+        if (creates.size() + updates.size() >= MAX_BATCH_SIZE) {
+            flush();
+        } else if (timerId == -1) {
+            timerId = vertx.setTimer(MAX_BATCH_DELAY_MS, this::onTimer);
+        }
+
+        return promise.future();
+    }
+
+    private synchronized void onTimer(long firedTimerId) {
+        if (timerId == firedTimerId) {
+            timerId = -1;
+            flush();
+        }
+    }
+
+    /**
+     * Writes the collected topics to the store. Has to be called with the lock held.
+     */
+    private void flush() {
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+
+        List<Topic> batchCreates = creates;
+        List<Promise<Void>> batchCreatePromises = createPromises;
+        List<Topic> batchUpdates = updates;
+        List<Promise<Void>> batchUpdatePromises = updatePromises;
+
+        creates = new ArrayList<>();
+        createPromises = new ArrayList<>();
+        updates = new ArrayList<>();
+        updatePromises = new ArrayList<>();
+
+        LOGGER.debugOp("Writing {} created and {} updated topics to the topic store", batchCreates.size(), batchUpdates.size());
+
+        write(batchCreates, batchCreatePromises, topicStore::createAll);
+        write(batchUpdates, batchUpdatePromises, topicStore::updateAll);
+    }
+
+    private static void write(List<Topic> topics, List<Promise<Void>> promises, Function<List<Topic>, CompositeFuture> writer) {
+        if (topics.isEmpty()) {
+            return;
+        }
+
+        CompositeFuture results;
+
+        try {
+            results = writer.apply(topics);
+        } catch (Exception e) {
+            LOGGER.warnOp("Failed to write {} topics to the topic store", topics.size(), e);
+            promises.forEach(promise -> promise.fail(e));
+            return;
+        }
+
+        results.onComplete(ignored -> {
+            for (int i = 0; i < promises.size(); i++) {
+                if (results.succeeded(i)) {
+                    promises.get(i).complete();
+                } else {
+                    promises.get(i).fail(results.cause(i));
+                }
+            }
+        });
+    }
+}
@@ -30,17 +30,38 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
     private final String topicStoreName;
     private final Properties kafkaProperties;
     private final ForeachAction<? super String, ? super Integer> dispatcher;
+    private final boolean persistent;
 
     public TopicStoreTopologyProvider(
             String storeTopic,
             String topicStoreName,
             Properties kafkaProperties,
             ForeachAction<? super String, ? super Integer> dispatcher
+    ) {
+        this(storeTopic, topicStoreName, kafkaProperties, dispatcher, false);
+    }
+
+    /**
+     * @param storeTopic        Topic with the topic commands
+     * @param topicStoreName    Name of the key-value store
+     * @param kafkaProperties   Kafka Streams properties
+     * @param dispatcher        Dispatcher of the command results
+     * @param persistent        If true, the store is persisted in the Kafka Streams state directory. Kafka Streams
+     *                          checkpoints the changelog offsets of persistent stores, so after a restart only the
+     *                          changes after the checkpoint are restored. If false, the store is kept in memory.
+     */
+    public TopicStoreTopologyProvider(
+            String storeTopic,
+            String topicStoreName,
+            Properties kafkaProperties,
+            ForeachAction<? super String, ? super Integer> dispatcher,
+            boolean persistent
     ) {
         this.storeTopic = storeTopic;
         this.topicStoreName = topicStoreName;
         this.kafkaProperties = kafkaProperties;
         this.dispatcher = dispatcher;
+        this.persistent = persistent;
     }
 
     @Override
@@ -64,7 +85,7 @@ public class TopicStoreTopologyProvider implements Supplier<Topology> {
         StoreBuilder<KeyValueStore<String /* topic */, Topic>> topicStoreBuilder =
                 Stores
                         .keyValueStoreBuilder(
-                                Stores.inMemoryKeyValueStore(topicStoreName),
+                                persistent ? Stores.persistentKeyValueStore(topicStoreName) : Stores.inMemoryKeyValueStore(topicStoreName),
                                 Serdes.String(), new TopicSerde()
                         )
                         .withCachingEnabled()
@@ -6,17 +6,22 @@ package io.strimzi.operator.topic;
 
 import io.apicurio.registry.utils.streams.diservice.AsyncBiFunctionService;
 import io.apicurio.registry.utils.streams.ext.ForeachActionDispatcher;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
 import org.apache.kafka.common.serialization.Serde;
 import org.apache.kafka.common.serialization.Serdes;
 
-import java.util.Iterator;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * We first register CompletableFuture,
@@ -27,27 +32,52 @@ public class WaitForResultService implements AsyncBiFunctionService.WithSerdes<S
 
     private final long timeoutMillis;
     private final Map<String, ResultCF> waitingResults = new ConcurrentHashMap<>();
+    // All results use the same timeout, so the order in which they are registered is the order of their deadlines
+    private final Queue<ResultCF> deadlines = new ConcurrentLinkedQueue<>();
     private final ScheduledExecutorService executorService;
 
+    private final AtomicInteger inFlightGauge;
+    private final Timer waitTimer;
+
     public WaitForResultService(long timeoutMillis, ForeachActionDispatcher<String, Integer> dispatcher) {
+        this(timeoutMillis, dispatcher, null);
+    }
+
+    public WaitForResultService(long timeoutMillis, ForeachActionDispatcher<String, Integer> dispatcher, MetricsProvider metrics) {
         this.timeoutMillis = timeoutMillis;
+
+        if (metrics != null) {
+            inFlightGauge = metrics.gauge(TopicOperator.METRICS_PREFIX + "topic.store.commands.in.flight",
+                    "Number of topic store commands waiting for their result",
+                    Tags.empty());
+            waitTimer = metrics.timer(TopicOperator.METRICS_PREFIX + "topic.store.commands.duration",
+                    "The time the topic store commands wait for their result",
+                    Tags.empty());
+        } else {
+            inFlightGauge = null;
+            waitTimer = null;
+        }
+
         dispatcher.register(this::topicUpdated);
         executorService = new ScheduledThreadPoolExecutor(1);
-        executorService.scheduleAtFixedRate(this::checkStaleResults, timeoutMillis / 2, timeoutMillis / 2, TimeUnit.MILLISECONDS);
+        // Checking the stale results looks only at the expired results, so it can run more often than the timeout
+        long period = Math.max(timeoutMillis / 10, 1);
+        executorService.scheduleAtFixedRate(this::checkStaleResults, period, period, TimeUnit.MILLISECONDS);
     }
 
     /**
      * Complete (with exception / error) any ResultCF that is older than timeout.
      * This way we don't block / hang the response in KafkaStreamsTopicStore for too long.
+     * The results are checked in the order of their deadlines and the check stops at the first one which did not expire.
      */
     private void checkStaleResults() {
         long now = System.currentTimeMillis();
-        Iterator<Map.Entry<String, ResultCF>> iterator = waitingResults.entrySet().iterator();
-        while (iterator.hasNext()) {
-            ResultCF rcf = iterator.next().getValue();
-            if (now - rcf.ts > timeoutMillis) {
-                rcf.complete(KafkaStreamsTopicStore.toIndex(TopicStore.InvalidStateException.class));
-                iterator.remove();
+        ResultCF rcf;
+        while ((rcf = deadlines.peek()) != null
+                && (rcf.isDone() || now - rcf.ts > timeoutMillis)) {
+            deadlines.poll();
+            if (waitingResults.remove(rcf.uuid, rcf)) {
+                complete(rcf, KafkaStreamsTopicStore.toIndex(TopicStore.InvalidStateException.class), now);
             }
         }
     }
@@ -56,12 +86,20 @@ public class WaitForResultService implements AsyncBiFunctionService.WithSerdes<S
      * Notification (from transformer)
      */
     private void topicUpdated(String uuid, Integer i) {
-        CompletableFuture<Integer> cf = waitingResults.remove(uuid);
+        ResultCF cf = waitingResults.remove(uuid);
         if (cf != null) {
-            cf.complete(i);
+            complete(cf, i, System.currentTimeMillis());
         }
     }
 
+    private void complete(ResultCF cf, Integer i, long now) {
+        if (inFlightGauge != null) {
+            inFlightGauge.decrementAndGet();
+            waitTimer.record(now - cf.ts, TimeUnit.MILLISECONDS);
+        }
+        cf.complete(i);
+    }
+
     @Override
     public void close() {
         executorService.shutdown();
@@ -84,15 +122,25 @@ public class WaitForResultService implements AsyncBiFunctionService.WithSerdes<S
 
     @Override
     public CompletionStage<Integer> apply(String name, String uuid) {
-        ResultCF cf = new ResultCF();
+        ResultCF cf = new ResultCF(uuid);
+        if (inFlightGauge != null) {
+            inFlightGauge.incrementAndGet();
+        }
         waitingResults.put(uuid, cf);
+        deadlines.add(cf);
         return cf;
     }
 
+    /*test*/ int waiting() {
+        return waitingResults.size();
+    }
+
     private static class ResultCF extends CompletableFuture<Integer> {
+        private final String uuid;
         private final long ts;
 
-        private ResultCF() {
+        private ResultCF(String uuid) {
+            this.uuid = uuid;
             this.ts = System.currentTimeMillis();
         }
     }
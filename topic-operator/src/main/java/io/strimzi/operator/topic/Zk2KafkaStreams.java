@@ -4,18 +4,20 @@
  */
 package io.strimzi.operator.topic;
 
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.topic.zk.Zk;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Migration tool to move ZkTopicStore to KafkaStreamsTopicStore.
@@ -28,33 +30,46 @@ public class Zk2KafkaStreams {
             Config config,
             Properties kafkaProperties,
             boolean doStop
+    ) {
+        return upgrade(zk, config, kafkaProperties, doStop, null);
+    }
+
+    public static CompletionStage<KafkaStreamsTopicStoreService> upgrade(
+            Zk zk,
+            Config config,
+            Properties kafkaProperties,
+            boolean doStop,
+            MetricsProvider metrics
     ) {
         String topicsPath = config.get(Config.TOPICS_PATH);
 
         LOGGER.info("Upgrading topic store [{}]: {}", doStop, topicsPath);
 
         TopicStore zkTopicStore = new TempZkTopicStore(zk, topicsPath);
-        KafkaStreamsTopicStoreService service = new KafkaStreamsTopicStoreService();
+        KafkaStreamsTopicStoreService service = new KafkaStreamsTopicStoreService(metrics);
         return service.start(config, kafkaProperties)
                 .thenCompose(ksTopicStore -> {
                     LOGGER.info("Starting upgrade ...");
-                    @SuppressWarnings("rawtypes")
-                    List<Future> results = new ArrayList<>();
                     List<String> list = zk.getChildren(topicsPath);
                     LOGGER.info("Topics to upgrade: {}", list);
-                    list.forEach(topicName -> {
-                        TopicName tn = new TopicName(topicName);
-                        Future<Topic> ft = zkTopicStore.read(tn);
-                        results.add(
+                    List<TopicName> names = list.stream().map(TopicName::new).collect(Collectors.toList());
+                    Future<Void> cf = all(names, zkTopicStore::read)
+                            .compose(zkTopics -> all(names, ksTopicStore::read).compose(ksTopics -> {
                                 // check if the topic already exists in the new KSTS
                                 // only create if it doesn't, and do not update it with an old value
-                                ft.compose(t -> ksTopicStore.read(tn).map(et -> new AbstractMap.SimpleImmutableEntry<>(t, et)))
-                                        .compose(e -> e.getValue() == null ? ksTopicStore.create(e.getKey()) : Future.succeededFuture())
-                                        .compose(v -> zkTopicStore.delete(tn))
-                        );
-                    });
+                                List<Topic> topics = new ArrayList<>();
+                                for (int i = 0; i < names.size(); i++) {
+                                    Topic topic = zkTopics.resultAt(i);
+                                    if (topic != null && ksTopics.resultAt(i) == null) {
+                                        topics.add(topic);
+                                    }
+                                }
+                                LOGGER.info("Creating {} topics in the new topic store", topics.size());
+                                return ksTopicStore.createAll(topics);
+                            }))
+                            .compose(v -> all(names, zkTopicStore::delete))
+                            .mapEmpty();
                     CompletableFuture<Void> result = new CompletableFuture<>();
-                    CompositeFuture cf = CompositeFuture.all(results);
                     cf.onComplete(ar -> {
                         if (ar.failed()) {
                             result.completeExceptionally(ar.cause());
@@ -77,4 +92,13 @@ public class Zk2KafkaStreams {
                 })
                 .thenApply(v -> service);
     }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <T> CompositeFuture all(List<TopicName> names, Function<TopicName, Future<T>> fn) {
+        List<Future> futures = new ArrayList<>(names.size());
+        for (TopicName name : names) {
+            futures.add(fn.apply(name));
+        }
+        return CompositeFuture.all(futures);
+    }
 }
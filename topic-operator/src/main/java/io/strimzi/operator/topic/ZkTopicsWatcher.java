@@ -16,8 +16,7 @@ import java.util.Set;
 
 /**
  * ZooKeeper watcher for child znodes of {@code /brokers/topics},
- * calling {@link TopicOperator#onTopicCreated(LogContext, TopicName)} for new children and
- * {@link TopicOperator#onTopicDeleted(LogContext, TopicName)} for deleted children.
+ * notifying the {@link TopicChangeCoalescer} of new and deleted children.
  */
 class ZkTopicsWatcher {
 
@@ -28,6 +27,7 @@ class ZkTopicsWatcher {
     private final TopicOperator topicOperator;
     private final TopicConfigsWatcher tcw;
     private final ZkTopicWatcher tw;
+    private final TopicChangeCoalescer coalescer;
 
     private List<String> children;
 
@@ -41,9 +41,22 @@ class ZkTopicsWatcher {
      * @param tw    watcher for the topics partitions changes
      */
     ZkTopicsWatcher(TopicOperator topicOperator, TopicConfigsWatcher tcw, ZkTopicWatcher tw) {
+        this(topicOperator, tcw, tw, new TopicChangeCoalescer(topicOperator));
+    }
+
+    /**
+     * Constructor
+     *
+     * @param topicOperator    Operator instance
+     * @param tcw   watcher for the topics config changes
+     * @param tw    watcher for the topics partitions changes
+     * @param coalescer coalescer of the topic creations and deletions
+     */
+    ZkTopicsWatcher(TopicOperator topicOperator, TopicConfigsWatcher tcw, ZkTopicWatcher tw, TopicChangeCoalescer coalescer) {
         this.topicOperator = topicOperator;
         this.tcw = tcw;
         this.tw = tw;
+        this.coalescer = coalescer;
     }
 
     void stop() {
@@ -129,13 +142,7 @@ class ZkTopicsWatcher {
                     tcw.removeChild(topicName);
                     tw.removeChild(topicName);
                     LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":-" + topicName, topicOperator.getNamespace(), topicName);
-                    topicOperator.onTopicDeleted(logContext, new TopicName(topicName)).onComplete(ar -> {
-                        if (ar.succeeded()) {
-                            LOGGER.debugCr(logContext.toReconciliation(), "Success responding to deletion of topic {}", topicName);
-                        } else {
-                            LOGGER.warnCr(logContext.toReconciliation(), "Error responding to deletion of topic {}", topicName, ar.cause());
-                        }
-                    });
+                    coalescer.onTopicDeleted(logContext, new TopicName(topicName));
                 }
             }
 
@@ -145,13 +152,7 @@ class ZkTopicsWatcher {
                     tcw.addChild(topicName);
                     tw.addChild(topicName);
                     LogContext logContext = LogContext.zkWatch(TOPICS_ZNODE, watchCount + ":+" + topicName, topicOperator.getNamespace(), topicName);
-                    topicOperator.onTopicCreated(logContext, new TopicName(topicName)).onComplete(ar -> {
-                        if (ar.succeeded()) {
-                            LOGGER.debugCr(logContext.toReconciliation(), "Success responding to creation of topic {}", topicName);
-                        } else {
-                            LOGGER.warnCr(logContext.toReconciliation(), "Error responding to creation of topic {}", topicName, ar.cause());
-                        }
-                    });
+                    coalescer.onTopicCreated(logContext, new TopicName(topicName));
                 }
             }
         }
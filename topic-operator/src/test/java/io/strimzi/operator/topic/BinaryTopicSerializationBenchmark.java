@@ -0,0 +1,77 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.apache.kafka.common.config.TopicConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary encoding of the topics stored by the {@link KafkaStreamsTopicStore} with the JSON encoding
+ * used before. The benchmarks are not run as part of the build. Run them with:
+ *
+ * <pre>
+ *     mvn test-compile exec:exec -pl topic-operator -Dexec.classpathScope=test -Dexec.executable=java \
+ *         -Dexec.args="-cp %classpath org.openjdk.jmh.Main BinaryTopicSerializationBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryTopicSerializationBenchmark {
+    private Topic topic;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        topic = new Topic.Builder()
+                .withTopicName("my-topic")
+                .withNumPartitions(12)
+                .withNumReplicas((short) 3)
+                .withConfigEntry(TopicConfig.CLEANUP_POLICY_CONFIG, "compact")
+                .withConfigEntry(TopicConfig.RETENTION_MS_CONFIG, "604800000")
+                .withConfigEntry(TopicConfig.SEGMENT_BYTES_CONFIG, "1073741824")
+                .withConfigEntry(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, "2")
+                .withConfigEntry(TopicConfig.COMPRESSION_TYPE_CONFIG, "lz4")
+                .build();
+
+        binary = BinaryTopicSerialization.toBytes(topic);
+        json = TopicSerialization.toJson(topic);
+    }
+
+    @Benchmark
+    public byte[] binaryToBytes() {
+        return BinaryTopicSerialization.toBytes(topic);
+    }
+
+    @Benchmark
+    public Topic binaryFromBytes() {
+        return BinaryTopicSerialization.topicFromBytes(binary);
+    }
+
+    @Benchmark
+    public byte[] jsonToBytes() {
+        return TopicSerialization.toJson(topic);
+    }
+
+    @Benchmark
+    public Topic jsonFromBytes() {
+        return TopicSerialization.fromJson(json);
+    }
+}
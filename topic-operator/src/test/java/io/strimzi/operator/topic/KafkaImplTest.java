@@ -4,8 +4,12 @@
  */
 package io.strimzi.operator.topic;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import io.strimzi.operator.common.Reconciliation;
 import io.vertx.core.Vertx;
@@ -33,12 +37,18 @@ import org.mockito.ArgumentMatcher;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonMap;
 import static java.util.stream.Collectors.toMap;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -99,7 +109,7 @@ public class KafkaImplTest {
                 }
                 return kafkaFuture;
             })));
-        when(admin.describeConfigs(result.keySet())).thenReturn(describeConfigsResult);
+        when(admin.describeConfigs(argThat(sameElements(result.keySet())))).thenReturn(describeConfigsResult);
     }
 
     private void mockCreateTopicsValidateOnly(Admin admin, NewTopic topic, Exception result) {
@@ -117,6 +127,10 @@ public class KafkaImplTest {
                 argThat(isValidateOnly()))).thenReturn(createTopicsResult);
     }
 
+    private static <T> ArgumentMatcher<Collection<T>> sameElements(Set<T> expected) {
+        return actual -> actual != null && actual.size() == expected.size() && expected.containsAll(actual);
+    }
+
     private ArgumentMatcher<CreateTopicsOptions> isValidateOnly() {
         return CreateTopicsOptions::shouldValidateOnly;
     }
@@ -146,7 +160,7 @@ public class KafkaImplTest {
                     entry -> entry.getValue().left()))
             ));
         }
-        when(admin.describeTopics(result.keySet())).thenReturn(describeTopicsResult);
+        when(admin.describeTopics(argThat(sameElements(result.keySet())))).thenReturn(describeTopicsResult);
     }
 
     private void mockDeleteTopics(Admin admin, Map<String, Either<Void, Exception>> result) {
@@ -246,6 +260,51 @@ public class KafkaImplTest {
         })));
     }
 
+    @Test
+    public void testBatchedTopicMetadata(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+
+        Map<String, Either<TopicDescription, Exception>> firstBatchDescriptions = new LinkedHashMap<>();
+        firstBatchDescriptions.put("a", Either.ofLeft(mock(TopicDescription.class)));
+        firstBatchDescriptions.put("b", Either.ofRight(new UnknownTopicOrPartitionException()));
+        mockDescribeTopics(admin, firstBatchDescriptions);
+        mockDescribeTopics(admin, singletonMap("c", Either.ofLeft(mock(TopicDescription.class))));
+
+        Map<ConfigResource, Either<Config, Exception>> firstBatchConfigs = new LinkedHashMap<>();
+        firstBatchConfigs.put(new ConfigResource(ConfigResource.Type.TOPIC, "a"), Either.ofLeft(mock(Config.class)));
+        firstBatchConfigs.put(new ConfigResource(ConfigResource.Type.TOPIC, "b"), Either.ofRight(new UnknownTopicOrPartitionException()));
+        mockDescribeConfigs(admin, firstBatchConfigs);
+        mockDescribeConfigs(admin, singletonMap(new ConfigResource(ConfigResource.Type.TOPIC, "c"), Either.ofLeft(mock(Config.class))));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx, 2);
+        impl.topicMetadata(Reconciliation.DUMMY_RECONCILIATION, List.of(new TopicName("a"), new TopicName("b"), new TopicName("c")))
+                .onComplete(testContext.succeeding(metadata -> testContext.verify(() -> {
+                    assertThat(metadata.keySet(), is(Set.of(new TopicName("a"), new TopicName("c"))));
+                    assertNotNull(metadata.get(new TopicName("a")).getDescription());
+                    assertNotNull(metadata.get(new TopicName("c")).getConfig());
+
+                    // Two batches, no existence checks
+                    verify(admin, times(2)).describeTopics(any(Collection.class));
+                    verify(admin, times(2)).describeConfigs(any(Collection.class));
+                    verify(admin, never()).createTopics(any(), any());
+                    testContext.completeNow();
+                })));
+    }
+
+    @Test
+    public void testBatchedTopicMetadataDescribeTimeout(VertxTestContext testContext) {
+        Admin admin = mock(Admin.class);
+        mockDescribeTopics(admin, singletonMap("test", Either.ofLeft(mock(TopicDescription.class))));
+        mockDescribeConfigs(admin, singletonMap(new ConfigResource(ConfigResource.Type.TOPIC, "test"),
+                Either.ofRight(new TimeoutException())));
+
+        KafkaImpl impl = new KafkaImpl(admin, vertx);
+        impl.topicMetadata(Reconciliation.DUMMY_RECONCILIATION, List.of(new TopicName("test"))).onComplete(testContext.failing(error -> testContext.verify(() -> {
+            assertTrue(error instanceof TimeoutException);
+            testContext.completeNow();
+        })));
+    }
+
     @Test
     public void testDelete(VertxTestContext testContext) {
         Admin admin = mock(Admin.class);
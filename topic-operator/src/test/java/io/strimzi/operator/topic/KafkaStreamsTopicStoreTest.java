@@ -12,12 +12,24 @@ import org.apache.kafka.streams.integration.utils.EmbeddedKafkaCluster;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 
 public class KafkaStreamsTopicStoreTest extends TopicStoreTestBase {
     private static final Map<String, String> MANDATORY_CONFIG;
@@ -84,4 +96,40 @@ public class KafkaStreamsTopicStoreTest extends TopicStoreTestBase {
         }
     }
 
+    @Test
+    public void testPersistentStoreSurvivesRestart(@TempDir Path stateDir) throws Exception {
+        Map<String, String> config = new HashMap<>();
+        config.put(Config.STORE_STATE_DIR.key, stateDir.toString());
+        config.put(Config.APPLICATION_ID.key, "__strimzi-topic-operator-persistent-store-test");
+        config.put(Config.STORE_TOPIC.key, "__strimzi_persistent_store_topic");
+
+        Topic topic = new Topic.Builder("persistent_store_topic", 2, (short) 1, Collections.singletonMap("foo", "bar")).build();
+
+        KafkaStreamsTopicStoreService first = service(config);
+        try {
+            first.store.create(topic).toCompletionStage().toCompletableFuture().get();
+        } finally {
+            first.stop();
+        }
+
+        // The store is kept in RocksDB in the state directory and its changelog offsets are checkpointed on close
+        String storeName = Config.STORE_NAME.defaultValue;
+        assertThat(find(stateDir, path -> path.endsWith(Path.of("rocksdb", storeName))).isEmpty(), is(false));
+        assertThat(find(stateDir, path -> path.endsWith(".checkpoint")).isEmpty(), is(false));
+
+        KafkaStreamsTopicStoreService second = service(config);
+        try {
+            Topic restored = second.store.read(topic.getTopicName()).toCompletionStage().toCompletableFuture().get();
+            assertThat(restored.getNumPartitions(), is(2));
+            assertThat(restored.getConfig(), is(topic.getConfig()));
+        } finally {
+            second.stop();
+        }
+    }
+
+    private static List<Path> find(Path dir, Predicate<Path> filter) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            return paths.filter(filter).collect(Collectors.toList());
+        }
+    }
 }
@@ -32,6 +32,7 @@ public class MockK8s implements K8s {
 
     private Map<ResourceName, AsyncResult<KafkaTopic>> byName = new HashMap<>();
     private List<Event> events = new ArrayList<>();
+    private int getFromNameCalls = 0;
     private Function<ResourceName, AsyncResult<Void>> createResponse = n -> Future.failedFuture("Unexpected. ");
     private Function<ResourceName, AsyncResult<Void>> modifyResponse = n -> Future.failedFuture("Unexpected. ");
     private Function<ResourceName, AsyncResult<Void>> deleteResponse = n -> Future.failedFuture("Unexpected. ");
@@ -167,8 +168,13 @@ public class MockK8s implements K8s {
         this.listResponse = response;
     }
 
+    public int getFromNameCalls() {
+        return getFromNameCalls;
+    }
+
     @Override
     public Future<KafkaTopic> getFromName(ResourceName resourceName) {
+        getFromNameCalls++;
         Promise<KafkaTopic> handler = Promise.promise();
         AsyncResult<KafkaTopic> resourceFuture = byName.get(resourceName);
         handler.handle(resourceFuture != null ? resourceFuture : Future.succeededFuture());
@@ -5,11 +5,14 @@
 package io.strimzi.operator.topic;
 
 import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.junit5.VertxTestContext;
 import org.apache.kafka.clients.admin.NewTopic;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +37,7 @@ public class MockKafka implements Kafka {
 
     private Future<Set<String>> topicsListResponse = Future.succeededFuture(Collections.emptySet());
     private int topicMetadataResposeCall = 0;
+    private int topicMetadataCalls = 0;
     private List<Function<TopicName, Future<TopicMetadata>>> topicMetadataRespose = singletonList(
         t -> failedFuture("Unexpected. Your test probably need to configure the MockKafka with a topicMetadataResponse."));
     private Function<TopicName, Future<Boolean>> topicExistsResult =
@@ -204,11 +208,34 @@ public class MockKafka implements Kafka {
         return event;
     }
 
+    public int topicMetadataCalls() {
+        return topicMetadataCalls;
+    }
+
     @Override
     public Future<TopicMetadata> topicMetadata(Reconciliation reconciliation, TopicName topicName) {
+        topicMetadataCalls++;
         return getTopicNameFutureFunction().apply(topicName);
     }
 
+    @Override
+    @SuppressWarnings({"rawtypes"})
+    public Future<Map<TopicName, TopicMetadata>> topicMetadata(Reconciliation reconciliation, Collection<TopicName> topicNames) {
+        Map<TopicName, Future<TopicMetadata>> futures = new HashMap<>();
+        for (TopicName topicName : topicNames) {
+            futures.put(topicName, getTopicNameFutureFunction().apply(topicName));
+        }
+        return CompositeFuture.all(new ArrayList<Future>(futures.values())).map(ignored -> {
+            Map<TopicName, TopicMetadata> result = new HashMap<>();
+            futures.forEach((topicName, future) -> {
+                if (future.result() != null) {
+                    result.put(topicName, future.result());
+                }
+            });
+            return result;
+        });
+    }
+
     Function<TopicName, Future<TopicMetadata>> getTopicNameFutureFunction() {
         return topicMetadataRespose.get(min(topicMetadataResposeCall++, topicMetadataRespose.size() - 1));
     }
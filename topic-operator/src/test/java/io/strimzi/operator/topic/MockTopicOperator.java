@@ -10,6 +10,7 @@ import io.vertx.core.Future;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 class MockTopicOperator extends TopicOperator {
 
@@ -100,6 +101,13 @@ class MockTopicOperator extends TopicOperator {
         return topicCreatedResult;
     }
 
+    @Override
+    Future<Void> onTopicsChanged(Map<TopicName, LogContext> created, Map<TopicName, LogContext> configChanged) {
+        created.forEach((topicName, logContext) -> onTopicCreated(logContext, topicName));
+        configChanged.forEach((topicName, logContext) -> onTopicConfigChanged(logContext, topicName));
+        return Future.succeededFuture();
+    }
+
     @Override
     public Future<Void> onTopicDeleted(LogContext logContext, TopicName topicName) {
         mockOperatorEvents.add(new MockOperatorEvent(MockOperatorEvent.Type.DELETE, topicName));
@@ -4,10 +4,14 @@
  */
 package io.strimzi.operator.topic;
 
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.junit5.VertxTestContext;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
@@ -21,6 +25,8 @@ public class MockTopicStore implements TopicStore {
     private Function<TopicName, Future<Void>> deleteTopicResponse = t -> Future.failedFuture("Unexpected. Your test's MockTopicStore probably needs a deleteTopicResponse configured.");
     private Function<TopicName, Future<Void>> updateTopicResponse = t -> Future.failedFuture("Unexpected. Your test's MockTopicStore probably needs a updateTopicResponse configured.");
     private Function<TopicName, Future<Topic>> getTopicResponse = t -> null;
+    private final List<Integer> createAllCalls = new ArrayList<>();
+    private final List<Integer> updateAllCalls = new ArrayList<>();
 
     @Override
     public Future<Topic> read(TopicName name) {
@@ -55,6 +61,32 @@ public class MockTopicStore implements TopicStore {
         }
     }
 
+    @Override
+    public synchronized CompositeFuture createAll(Collection<Topic> topics) {
+        createAllCalls.add(topics.size());
+        return TopicStore.super.createAll(topics);
+    }
+
+    @Override
+    public synchronized CompositeFuture updateAll(Collection<Topic> topics) {
+        updateAllCalls.add(topics.size());
+        return TopicStore.super.updateAll(topics);
+    }
+
+    /**
+     * @return The number of topics passed to each call of {@link #createAll(Collection)}
+     */
+    public synchronized List<Integer> createAllCalls() {
+        return new ArrayList<>(createAllCalls);
+    }
+
+    /**
+     * @return The number of topics passed to each call of {@link #updateAll(Collection)}
+     */
+    public synchronized List<Integer> updateAllCalls() {
+        return new ArrayList<>(updateAllCalls);
+    }
+
     @Override
     public Future<Void> delete(TopicName topicName) {
         Future<Void> response = deleteTopicResponse.apply(topicName);
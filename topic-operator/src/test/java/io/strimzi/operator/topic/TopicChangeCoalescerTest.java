@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.strimzi.operator.topic.MockTopicOperator.MockOperatorEvent;
+import io.strimzi.operator.topic.MockTopicOperator.MockOperatorEvent.Type;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class TopicChangeCoalescerTest {
+
+    private MockTopicOperator operator;
+
+    @BeforeEach
+    public void setup() {
+        operator = new MockTopicOperator();
+        operator.topicCreatedResult = Future.succeededFuture();
+        operator.topicDeletedResult = Future.succeededFuture();
+        operator.topicModifiedResult = Future.succeededFuture();
+    }
+
+    private static LogContext logContext(String topicName) {
+        return LogContext.zkWatch("///", topicName, "default-namespace", topicName);
+    }
+
+    @Test
+    public void testChangesAreDeduplicatedPerTopic(Vertx vertx, VertxTestContext context) {
+        TopicChangeCoalescer coalescer = new TopicChangeCoalescer(operator, vertx, 50);
+
+        // Created and then changed -> the creation reads the current config
+        coalescer.onTopicCreated(logContext("foo"), new TopicName("foo"));
+        coalescer.onTopicConfigChanged(logContext("foo"), new TopicName("foo"));
+        // Created and then deleted -> deleted
+        coalescer.onTopicCreated(logContext("bar"), new TopicName("bar"));
+        coalescer.onTopicDeleted(logContext("bar"), new TopicName("bar"));
+        // Changed twice -> changed once
+        coalescer.onTopicConfigChanged(logContext("baz"), new TopicName("baz"));
+        coalescer.onTopicConfigChanged(logContext("baz"), new TopicName("baz"));
+
+        assertThat(operator.getMockOperatorEvents().isEmpty(), is(true));
+
+        vertx.setTimer(500, timerId -> context.verify(() -> {
+            assertThat(operator.getMockOperatorEvents(), is(asList(
+                    new MockOperatorEvent(Type.DELETE, new TopicName("bar")),
+                    new MockOperatorEvent(Type.CREATE, new TopicName("foo")),
+                    new MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("baz")))));
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testStopDropsPendingChanges(Vertx vertx, VertxTestContext context) {
+        TopicChangeCoalescer coalescer = new TopicChangeCoalescer(operator, vertx, 50);
+
+        coalescer.onTopicCreated(logContext("foo"), new TopicName("foo"));
+        coalescer.onTopicDeleted(logContext("bar"), new TopicName("bar"));
+        coalescer.stop();
+        // Changes notified by the watchers while they are being stopped are ignored
+        coalescer.onTopicConfigChanged(logContext("baz"), new TopicName("baz"));
+
+        vertx.setTimer(500, timerId -> context.verify(() -> {
+            assertThat(operator.getMockOperatorEvents().isEmpty(), is(true));
+            context.completeNow();
+        }));
+    }
+
+    @Test
+    public void testZeroWindowPassesChangesImmediately() {
+        TopicChangeCoalescer coalescer = new TopicChangeCoalescer(operator);
+
+        coalescer.onTopicCreated(logContext("foo"), new TopicName("foo"));
+        coalescer.onTopicConfigChanged(logContext("foo"), new TopicName("foo"));
+
+        assertThat(operator.getMockOperatorEvents(), is(asList(
+                new MockOperatorEvent(Type.CREATE, new TopicName("foo")),
+                new MockOperatorEvent(Type.MODIFY_CONFIG, new TopicName("foo")))));
+    }
+}
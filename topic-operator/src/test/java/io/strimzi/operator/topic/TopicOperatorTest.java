@@ -38,9 +38,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -357,6 +359,41 @@ public class TopicOperatorTest {
         });
     }
 
+    @Test
+    public void testOnTopicsChanged(VertxTestContext context) {
+        TopicName otherTopicName = new TopicName("my-other-topic");
+        ResourceName otherResourceName = otherTopicName.asKubeName();
+        TopicMetadata topicMetadata = Utils.getTopicMetadata(topicName.toString(),
+                new org.apache.kafka.clients.admin.Config(Collections.emptyList()));
+        TopicMetadata otherTopicMetadata = Utils.getTopicMetadata(otherTopicName.toString(),
+                new org.apache.kafka.clients.admin.Config(Collections.emptyList()));
+
+        mockTopicStore.setCreateTopicResponse(topicName, null);
+        mockTopicStore.setCreateTopicResponse(otherTopicName, null);
+        mockKafka.setTopicMetadataResponse(topicName, topicMetadata, null);
+        mockKafka.setTopicMetadataResponse(otherTopicName, otherTopicMetadata, null);
+        mockK8s.setCreateResponse(resourceName, null);
+        mockK8s.setCreateResponse(otherResourceName, null);
+
+        Map<TopicName, LogContext> created = new HashMap<>();
+        created.put(topicName, LogContext.zkWatch("///", topicName.toString(), topicOperator.getNamespace(), topicName.toString()));
+        created.put(otherTopicName, LogContext.zkWatch("///", otherTopicName.toString(), topicOperator.getNamespace(), otherTopicName.toString()));
+
+        Checkpoint async = context.checkpoint();
+        topicOperator.onTopicsChanged(created, Collections.emptyMap()).onComplete(ar -> {
+            assertSucceeded(context, ar);
+            mockK8s.assertExists(context, resourceName);
+            mockK8s.assertExists(context, otherResourceName);
+            mockTopicStore.assertContains(context, TopicSerialization.fromTopicMetadata(topicMetadata));
+            mockTopicStore.assertContains(context, TopicSerialization.fromTopicMetadata(otherTopicMetadata));
+            // The metadata was fetched in bulk and proves that the topics exist
+            context.verify(() -> assertThat(mockKafka.topicMetadataCalls(), is(0)));
+            // The topics created in the same window are created in the topic store together
+            context.verify(() -> assertThat(mockTopicStore.createAllCalls(), is(List.of(2))));
+            async.flag();
+        });
+    }
+
     /**
      * 1. operator is notified that a topic is created
      * 2. operator initially failed querying kafka to get topic metadata
@@ -1239,6 +1276,103 @@ public class TopicOperatorTest {
         }));
     }
 
+    @Test
+    public void testReconcileAllTopics_usesBulkSnapshot(VertxTestContext context) {
+        Topic topic = new Topic.Builder(topicName.toString(), 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        KafkaTopic resource = TopicSerialization.toTopicResource(topic, labels);
+
+        mockKafka.setCreateTopicResponse(topicName.toString(), null)
+                .createTopic(Reconciliation.DUMMY_RECONCILIATION, topic);
+        mockKafka.setTopicsList(singleton(topicName.toString()));
+        mockKafka.setTopicMetadataResponse(topicName, Utils.getTopicMetadata(topic), null);
+        mockTopicStore.setCreateTopicResponse(topicName, null)
+                .create(topic);
+        mockK8s.setCreateResponse(resourceName, null)
+                .createResource(resource);
+
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(v -> context.verify(() -> {
+            // The KafkaTopic and the topic metadata come from the snapshot taken for the whole reconciliation
+            assertThat(mockK8s.getFromNameCalls(), is(0));
+            assertThat(mockKafka.topicMetadataCalls(), is(0));
+
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.failed").tag("kind", "KafkaTopic").counter().count(), is(0.0));
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testReconcileAllTopics_writesTopicStoreInBulk(VertxTestContext context) {
+        Set<String> topicNames = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            TopicName name = new TopicName("my-topic-" + i);
+            Topic topic = new Topic.Builder(name.toString(), 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+            topicNames.add(name.toString());
+
+            mockKafka.setCreateTopicResponse(name.toString(), null)
+                    .createTopic(Reconciliation.DUMMY_RECONCILIATION, topic);
+            mockKafka.setTopicMetadataResponse(name, Utils.getTopicMetadata(topic), null);
+            mockTopicStore.setCreateTopicResponse(name, null);
+            mockK8s.setCreateResponse(name.asKubeName(), null);
+        }
+        mockKafka.setTopicsList(topicNames);
+
+        topicOperator.reconcileAllTopics("initial").onComplete(context.succeeding(v -> context.verify(() -> {
+            // The topics created in Kafka while the operator was down are created in the topic store together
+            assertThat(mockTopicStore.createAllCalls(), is(List.of(3)));
+            for (String name : topicNames) {
+                mockTopicStore.assertExists(context, new TopicName(name));
+            }
+            context.completeNow();
+        })));
+    }
+
+    @Test
+    public void testReconcileAllTopics_skipsUnchangedTopics(VertxTestContext context) {
+        Topic topic = new Topic.Builder(topicName.toString(), 10, (short) 2, map("cleanup.policy", "bar"), metadata).build();
+        KafkaTopic resource = new KafkaTopicBuilder(TopicSerialization.toTopicResource(topic, labels))
+                .editMetadata()
+                    .withGeneration(2L)
+                .endMetadata()
+                .withNewStatus()
+                    .withObservedGeneration(2L)
+                    .withTopicName(topicName.toString())
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+
+        mockKafka.setCreateTopicResponse(topicName.toString(), null)
+                .createTopic(Reconciliation.DUMMY_RECONCILIATION, topic);
+        mockKafka.setTopicsList(singleton(topicName.toString()));
+        mockKafka.setTopicMetadataResponse(topicName, Utils.getTopicMetadata(topic), null);
+        mockTopicStore.setCreateTopicResponse(topicName, null)
+                .create(topic);
+        mockK8s.setCreateResponse(resourceName, null)
+                .createResource(resource);
+
+        topicOperator.reconcileAllTopics("periodic").onComplete(context.succeeding(v -> context.verify(() -> {
+            // The topic is the same everywhere and its status is up to date, so it is not reconciled again
+            assertThat(mockK8s.getFromNameCalls(), is(0));
+            assertThat(mockK8s.getStatuses().isEmpty(), is(true));
+            mockTopicStore.assertContains(context, topic);
+
+            MeterRegistry registry = metrics.meterRegistry();
+            // The resource state of the skipped topic is kept
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "resource.state")
+                    .tag("kind", "KafkaTopic")
+                    .tag("name", topicName.toString())
+                    .tag("resource-namespace", "default-namespace")
+                    .gauge().value(), is(1.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.successful").tag("kind", "KafkaTopic").counter().count(), is(1.0));
+            assertThat(registry.get(TopicOperator.METRICS_PREFIX + "reconciliations.failed").tag("kind", "KafkaTopic").counter().count(), is(0.0));
+            context.completeNow();
+        })));
+    }
+
     @Test
     public void testReconcileMetrics(VertxTestContext context) throws InterruptedException {
         mockKafka.setTopicsListResponse(Future.succeededFuture(emptySet()));
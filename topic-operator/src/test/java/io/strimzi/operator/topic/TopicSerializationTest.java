@@ -63,6 +63,48 @@ public class TopicSerializationTest {
         Assertions.assertEquals(TopicCommand.CURRENT_VERSION, data.getVersion());
     }
 
+    @Test
+    public void testTopicCommandSerdeReadsJson() {
+        TopicCommandSerde serde = new TopicCommandSerde();
+        Topic topic = new Topic.Builder()
+                .withTopicName("foobar")
+                .withNumPartitions(2)
+                .withNumReplicas((short) 1)
+                .withConfigEntry("cleanup.policy", "compact")
+                .build();
+
+        TopicCommand data = serde.deserialize("dummy", TopicCommandSerde.toJson(TopicCommand.update(topic)));
+        Assertions.assertEquals(TopicCommand.Type.UPDATE, data.getType());
+        Assertions.assertEquals(topic, data.getTopic());
+
+        data = serde.deserialize("dummy", TopicCommandSerde.toJson(TopicCommand.delete(new TopicName("deleteme"))));
+        Assertions.assertEquals(TopicCommand.Type.DELETE, data.getType());
+        Assertions.assertEquals(new TopicName("deleteme"), data.getName());
+    }
+
+    @Test
+    public void testTopicSerde() {
+        TopicSerde serde = new TopicSerde();
+        Map<String, String> config = new HashMap<>();
+        config.put("cleanup.policy", "compact");
+        config.put("retention.ms", "3600000");
+        config.put("my.custom.config", "zażółć");
+        Topic topic = new Topic.Builder()
+                .withTopicName("foobar")
+                .withNumPartitions(12)
+                .withConfig(config)
+                .build();
+
+        byte[] bytes = serde.serialize("dummy", topic);
+        assertThat(BinaryTopicSerialization.isBinary(bytes), is(true));
+        assertThat(serde.deserialize("dummy", bytes), is(topic));
+        assertThat(serde.deserialize("dummy", bytes).getOrAsKubeName(), is(topic.getOrAsKubeName()));
+        assertThat(bytes.length < TopicSerialization.toJson(topic).length, is(true));
+
+        // Topics written in JSON by the previous versions
+        assertThat(serde.deserialize("dummy", TopicSerialization.toJson(topic)), is(topic));
+    }
+
     @Test
     public void testResourceSerializationRoundTrip() {
 
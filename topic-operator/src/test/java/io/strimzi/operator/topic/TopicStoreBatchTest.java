@@ -0,0 +1,113 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class TopicStoreBatchTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Topic topic(String name) {
+        return new Topic.Builder(name, 1, (short) 1, Collections.emptyMap()).build();
+    }
+
+    @Test
+    public void testWritesOfDifferentTopicsAreBatched(VertxTestContext context) {
+        MockTopicStore store = new MockTopicStore();
+        store.setCreateTopicResponse(new TopicName("foo"), null)
+                .setCreateTopicResponse(new TopicName("bar"), null)
+                .setCreateTopicResponse(new TopicName("baz"), null)
+                .create(topic("baz"));
+        TopicStoreBatch batch = new TopicStoreBatch(vertx, store);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(
+                    batch.create(topic("foo")),
+                    batch.create(topic("bar")),
+                    batch.update(topic("baz")))
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(store.createAllCalls(), is(List.of(2)));
+                    assertThat(store.updateAllCalls(), is(List.of(1)));
+                    store.assertExists(context, new TopicName("foo"));
+                    store.assertExists(context, new TopicName("bar"));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailedWriteFailsOnlyItsTopic(VertxTestContext context) {
+        MockTopicStore store = new MockTopicStore();
+        store.setCreateTopicResponse(new TopicName("foo"), null)
+                .setCreateTopicResponse(new TopicName("bar"), null)
+                .create(topic("bar"));
+        TopicStoreBatch batch = new TopicStoreBatch(vertx, store);
+
+        Future<Void> foo = batch.create(topic("foo"));
+        Future<Void> bar = batch.create(topic("bar"));
+        Future<Void> baz = batch.update(topic("baz"));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(foo, bar, baz)
+                .onComplete(context.failing(i -> context.verify(() -> {
+                    assertThat(foo.succeeded(), is(true));
+                    assertThat(bar.cause(), instanceOf(TopicStore.EntityExistsException.class));
+                    assertThat(baz.cause(), instanceOf(TopicStore.NoSuchEntityExistsException.class));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailureToWriteTheBatchFailsAllTopics(VertxTestContext context) {
+        MockTopicStore store = new MockTopicStore() {
+            @Override
+            public synchronized CompositeFuture createAll(Collection<Topic> topics) {
+                throw new RuntimeException("Producer closed");
+            }
+        };
+        TopicStoreBatch batch = new TopicStoreBatch(vertx, store);
+
+        Future<Void> foo = batch.create(topic("foo"));
+        Future<Void> bar = batch.create(topic("bar"));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(foo, bar)
+                .onComplete(context.failing(i -> context.verify(() -> {
+                    assertThat(foo.cause().getMessage(), is("Producer closed"));
+                    assertThat(bar.cause().getMessage(), is("Producer closed"));
+
+                    async.flag();
+                })));
+    }
+}
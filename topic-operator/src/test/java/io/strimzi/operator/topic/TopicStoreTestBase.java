@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -98,4 +99,34 @@ public abstract class TopicStoreTestBase {
             })));
     }
 
+    @Test
+    public void testCreateAllAndUpdateAll(VertxTestContext context) {
+        Assumptions.assumeTrue(canRunTest());
+
+        Checkpoint async = context.checkpoint();
+
+        String prefix = "my_topic_" + ThreadLocalRandom.current().nextInt(Integer.MAX_VALUE);
+        Topic topic1 = new Topic.Builder(prefix + "_1", 2, (short) 3, Collections.singletonMap("foo", "bar")).build();
+        Topic topic2 = new Topic.Builder(prefix + "_2", 3, (short) 3, Collections.emptyMap()).build();
+        Topic updatedTopic2 = new Topic.Builder(topic2).withNumPartitions(4).build();
+
+        store.createAll(List.of(topic1, topic2))
+            .compose(v -> store.read(topic2.getTopicName()))
+            .onComplete(context.succeeding(readTopic -> context.verify(() ->
+                    assertThat(readTopic.getNumPartitions(), is(3)))))
+
+            // try to create one of them again: assert an error
+            .compose(v -> store.createAll(List.of(topic1)))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                assertThat(e, instanceOf(TopicStore.EntityExistsException.class));
+
+                store.updateAll(List.of(updatedTopic2))
+                    .compose(v -> store.read(topic2.getTopicName()))
+                    .onComplete(context.succeeding(readTopic -> context.verify(() ->
+                            assertThat(readTopic.getNumPartitions(), is(4)))))
+                    .compose(v -> store.delete(topic1.getTopicName()))
+                    .compose(v -> store.delete(topic2.getTopicName()))
+                    .onComplete(context.succeeding(v -> async.flag()));
+            })));
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import io.apicurio.registry.utils.streams.ext.ForeachActionDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class WaitForResultServiceTest {
+
+    @Test
+    public void testResultIsCompletedByDispatcher() throws Exception {
+        ForeachActionDispatcher<String, Integer> dispatcher = new ForeachActionDispatcher<>();
+        MeterRegistry registry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MetricsProvider() {
+            @Override
+            public MeterRegistry meterRegistry() {
+                return registry;
+            }
+
+            @Override
+            public Counter counter(String name, String description, Tags tags) {
+                return Counter.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public Timer timer(String name, String description, Tags tags) {
+                return Timer.builder(name).tags(tags).register(registry);
+            }
+
+            @Override
+            public AtomicInteger gauge(String name, String description, Tags tags) {
+                return registry.gauge(name, tags, new AtomicInteger(0));
+            }
+        };
+        WaitForResultService service = new WaitForResultService(60_000, dispatcher, metrics);
+
+        try {
+            CompletableFuture<Integer> first = service.apply("topic-1", "uuid-1").toCompletableFuture();
+            CompletableFuture<Integer> second = service.apply("topic-2", "uuid-2").toCompletableFuture();
+            assertThat(registry.get("strimzi.topic.store.commands.in.flight").gauge().value(), is(2.0));
+
+            dispatcher.apply("topic-2", 1);
+            dispatcher.apply("uuid-2", 1);
+            assertThat(second.get(1, TimeUnit.SECONDS), is(1));
+            assertThat(first.isDone(), is(false));
+            assertThat(service.waiting(), is(1));
+            assertThat(registry.get("strimzi.topic.store.commands.in.flight").gauge().value(), is(1.0));
+            assertThat(registry.get("strimzi.topic.store.commands.duration").timer().count(), is(1L));
+        } finally {
+            service.close();
+        }
+    }
+
+    @Test
+    public void testStaleResultsExpire() throws Exception {
+        ForeachActionDispatcher<String, Integer> dispatcher = new ForeachActionDispatcher<>();
+        WaitForResultService service = new WaitForResultService(100, dispatcher);
+
+        try {
+            CompletableFuture<Integer> result = service.apply("topic", "uuid").toCompletableFuture();
+
+            assertThat(result.get(5, TimeUnit.SECONDS), is(KafkaStreamsTopicStore.toIndex(TopicStore.InvalidStateException.class)));
+            assertThat(service.waiting(), is(0));
+
+            // Late results are ignored
+            dispatcher.apply("uuid", null);
+        } finally {
+            service.close();
+        }
+    }
+}
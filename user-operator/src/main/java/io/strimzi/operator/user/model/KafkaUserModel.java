@@ -22,6 +22,7 @@ import io.strimzi.certs.CertManager;
 import io.strimzi.certs.OpenSslCertManager;
 import io.strimzi.operator.cluster.model.ClientsCa;
 import io.strimzi.operator.cluster.model.InvalidResourceException;
+import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.Util;
@@ -47,6 +48,11 @@ public class KafkaUserModel {
     public static final String KEY_PASSWORD = "password";
     public static final String KEY_SASL_JAAS_CONFIG = "sasl.jaas.config";
 
+    /**
+     * Annotation on the user Secret with the fingerprint of the SCRAM-SHA-512 credentials last applied in Kafka
+     */
+    public static final String ANNO_STRIMZI_IO_SCRAM_SHA_512_FINGERPRINT = Annotations.STRIMZI_DOMAIN + "scram-sha-512-fingerprint";
+
     protected final String namespace;
     protected final String name;
     protected final Labels labels;
@@ -55,6 +61,7 @@ public class KafkaUserModel {
     protected String caCert;
     protected CertAndKey userCertAndKey;
     protected String scramSha512Password;
+    protected String scramSha512Fingerprint;
     protected Set<SimpleAclRule> simpleAclRules = null;
 
     public static final String KAFKA_USER_OPERATOR_NAME = "strimzi-user-operator";
@@ -183,7 +190,12 @@ public class KafkaUserModel {
             Map<String, String> data = new HashMap<>(2);
             data.put(KafkaUserModel.KEY_PASSWORD, Base64.getEncoder().encodeToString(this.scramSha512Password.getBytes(StandardCharsets.US_ASCII)));
             data.put(KafkaUserModel.KEY_SASL_JAAS_CONFIG, Base64.getEncoder().encodeToString(getSaslJsonConfig().getBytes(StandardCharsets.US_ASCII)));
-            return createSecret(data);
+
+            if (scramSha512Fingerprint != null) {
+                return createSecret(data, Map.of(ANNO_STRIMZI_IO_SCRAM_SHA_512_FINGERPRINT, scramSha512Fingerprint));
+            } else {
+                return createSecret(data);
+            }
         } else {
             return null;
         }
@@ -291,6 +303,11 @@ public class KafkaUserModel {
      * @param desiredPasswordSecret The Secret with the desired password specified by the user
      */
     public void maybeGeneratePassword(Reconciliation reconciliation, PasswordGenerator generator, Secret userSecret, Secret desiredPasswordSecret) {
+        if (userSecret != null) {
+            // The fingerprint of the credentials applied in Kafka is kept until the credentials are changed
+            this.scramSha512Fingerprint = Annotations.stringAnnotation(userSecret, ANNO_STRIMZI_IO_SCRAM_SHA_512_FINGERPRINT, null);
+        }
+
         if (isUserWithDesiredPassword())  {
             // User requested custom secret
             if (desiredPasswordSecret == null)  {
@@ -340,12 +357,23 @@ public class KafkaUserModel {
      * @return The secret.
      */
     protected Secret createSecret(Map<String, String> data) {
+        return createSecret(data, null);
+    }
+
+    /**
+     * Creates secret with the data and with additional annotations
+     *
+     * @param data Map with the Secret content
+     * @param annotations Annotations set by the operator in addition to the annotations from the template
+     * @return The secret.
+     */
+    protected Secret createSecret(Map<String, String> data, Map<String, String> annotations) {
         return new SecretBuilder()
                 .withNewMetadata()
                     .withName(getSecretName())
                     .withNamespace(namespace)
                     .withLabels(Util.mergeLabelsOrAnnotations(labels.toMap(), templateSecretLabels))
-                    .withAnnotations(Util.mergeLabelsOrAnnotations(null, templateSecretAnnotations))
+                    .withAnnotations(Util.mergeLabelsOrAnnotations(annotations, templateSecretAnnotations))
                     .withOwnerReferences(createOwnerReference())
                 .endMetadata()
                 .withType("Opaque")
@@ -605,6 +633,23 @@ public class KafkaUserModel {
         return scramSha512Password;
     }
 
+    /**
+     * @return  Returns the fingerprint of the SCRAM-SHA-512 credentials applied in Kafka or null if it is not known
+     */
+    public String getScramSha512Fingerprint() {
+        return scramSha512Fingerprint;
+    }
+
+    /**
+     * Sets the fingerprint of the SCRAM-SHA-512 credentials applied in Kafka. It is stored as an annotation on the
+     * user Secret.
+     *
+     * @param scramSha512Fingerprint    Fingerprint of the SCRAM-SHA-512 credentials
+     */
+    public void setScramSha512Fingerprint(String scramSha512Fingerprint) {
+        this.scramSha512Fingerprint = scramSha512Fingerprint;
+    }
+
     /**
      * Returns true if the user is configured without authentication section and is not using any authentication.
      * Such user might be used for example for things such as OAUTH authentication where the users are not managed by
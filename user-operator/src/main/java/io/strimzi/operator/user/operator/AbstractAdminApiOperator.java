@@ -41,9 +41,16 @@ public abstract class AbstractAdminApiOperator<T, S extends Collection<String>>
     public abstract Future<ReconcileResult<T>> reconcile(Reconciliation reconciliation, String username, T desired);
 
     /**
-     * Returns set with all usernames which have some value set right now
+     * Returns set with all usernames which have some value set right now. The state of the users is kept in a
+     * snapshot and used by the following reconciliations of these users instead of getting it from Kafka again.
      *
      * @return The set with all usernames which have some value set right now
      */
     public abstract Future<S> getAllUsers();
+
+    /**
+     * Clears the snapshot of the state of all users taken by {@link #getAllUsers()}. This should be called at the end
+     * of the periodic reconciliation.
+     */
+    public abstract void clearSnapshot();
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.Util;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import org.apache.kafka.common.KafkaFuture;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Collects the alterations (such as ACL bindings to create or quotas to change) requested by the reconciliations of
+ * different users and sends them to Kafka in a single Admin API request. The batch is sent when it reaches the maximal
+ * size or when the maximal delay since the first alteration in the batch passes. During the periodic reconciliation,
+ * this turns thousands of small Admin API requests into a few large ones.
+ *
+ * Each reconciliation gets its own result based on the results of its alterations, so a failure of the alteration of
+ * one user does not fail the reconciliation of the other users in the same batch.
+ *
+ * @param <E>   Type of the alteration
+ * @param <K>   Type of the key under which the Admin API returns the result of the alteration
+ */
+class AdminApiBatch<E, K> {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AdminApiBatch.class.getName());
+
+    /**
+     * Maximal number of alterations sent in a single Admin API request
+     */
+    /*test*/ static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * Maximal time for which the alterations wait for other alterations before the batch is sent
+     */
+    /*test*/ static final long MAX_BATCH_DELAY_MS = 100;
+
+    private final Vertx vertx;
+    private final String operation;
+    private final Function<E, K> key;
+    private final Function<List<E>, Map<K, ? extends KafkaFuture<?>>> sender;
+
+    private List<E> alterations = new ArrayList<>();
+    private List<Request<K>> requests = new ArrayList<>();
+    private Set<K> keys = new HashSet<>();
+    private long timerId = -1;
+
+    /**
+     * Constructs the batch
+     *
+     * @param vertx         Vertx instance
+     * @param operation     Name of the Admin API operation (used for logging)
+     * @param key           Function returning the key of the result of the alteration
+     * @param sender        Function sending the alterations to Kafka and returning the results for their keys
+     */
+    AdminApiBatch(Vertx vertx, String operation, Function<E, K> key, Function<List<E>, Map<K, ? extends KafkaFuture<?>>> sender) {
+        this.vertx = vertx;
+        this.operation = operation;
+        this.key = key;
+        this.sender = sender;
+    }
+
+    /**
+     * Adds the alterations to the batch.
+     *
+     * @param reconciliation    The reconciliation
+     * @param newAlterations    Alterations which should be sent to Kafka
+     *
+     * @return  Future which completes when all the alterations are applied or fails when any of them fails
+     */
+    Future<Void> submit(Reconciliation reconciliation, Collection<E> newAlterations) {
+        if (newAlterations.isEmpty()) {
+            return Future.succeededFuture();
+        }
+
+        Promise<Void> promise = Promise.promise();
+        List<K> newKeys = new ArrayList<>(newAlterations.size());
+
+        for (E alteration : newAlterations) {
+            newKeys.add(key.apply(alteration));
+        }
+
+        synchronized (this) {
+            if (newKeys.stream().anyMatch(keys::contains)) {
+                // The results are returned per key, so the same key cannot be altered twice in the same batch
+                flush();
+            }
+
+            alterations.addAll(newAlterations);
+            keys.addAll(newKeys);
+            requests.add(new Request<>(reconciliation, newKeys, promise));
+
+            if (alterations.size() >= MAX_BATCH_SIZE) {
+                flush();
+            } else if (timerId == -1) {
+                timerId = vertx.setTimer(MAX_BATCH_DELAY_MS, this::onTimer);
+            }
+        }
+
+        return promise.future();
+    }
+
+    private synchronized void onTimer(long firedTimerId) {
+        if (timerId == firedTimerId) {
+            timerId = -1;
+            flush();
+        }
+    }
+
+    /**
+     * Sends the collected alterations to Kafka and completes the requests with their results. Has to be called with
+     * the lock held.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void flush() {
+        if (timerId != -1) {
+            vertx.cancelTimer(timerId);
+            timerId = -1;
+        }
+
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        List<E> batch = alterations;
+        List<Request<K>> batchRequests = requests;
+
+        alterations = new ArrayList<>();
+        requests = new ArrayList<>();
+        keys = new HashSet<>();
+
+        LOGGER.debugOp("Sending {} request with {} alterations from {} reconciliations", operation, batch.size(), batchRequests.size());
+
+        Map<K, ? extends KafkaFuture<?>> results;
+
+        try {
+            results = sender.apply(batch);
+        } catch (Exception e) {
+            LOGGER.warnOp("Failed to send {} request", operation, e);
+            batchRequests.forEach(request -> request.promise.fail(e));
+            return;
+        }
+
+        for (Request<K> request : batchRequests) {
+            List<Future> futures = new ArrayList<>(request.keys.size());
+
+            for (K requestKey : request.keys) {
+                KafkaFuture<?> result = results.get(requestKey);
+
+                if (result != null) {
+                    futures.add(Util.kafkaFutureToVertxFuture(request.reconciliation, vertx, (KafkaFuture) result));
+                } else {
+                    // Should not happen, but it should fail only the reconciliation of this user and not the whole batch
+                    LOGGER.warnCr(request.reconciliation, "The {} request returned no result for {}", operation, requestKey);
+                    futures.add(Future.failedFuture(new IllegalStateException("The " + operation + " request returned no result for " + requestKey)));
+                }
+            }
+
+            CompositeFuture.all(futures)
+                    .<Void>mapEmpty()
+                    .onComplete(request.promise);
+        }
+    }
+
+    /**
+     * Alterations submitted by a single reconciliation
+     */
+    private static class Request<K> {
+        private final Reconciliation reconciliation;
+        private final List<K> keys;
+        private final Promise<Void> promise;
+
+        Request(Reconciliation reconciliation, List<K> keys, Promise<Void> promise) {
+            this.reconciliation = reconciliation;
+            this.keys = keys;
+            this.promise = promise;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.vertx.core.Future;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * State of all users in Kafka (such as their ACLs or quotas) as returned by a single bulk Admin API request at the
+ * beginning of the periodic reconciliation. The reconciliations of the individual users use it instead of asking
+ * Kafka for the state of each user separately.
+ *
+ * The state of each user is used at most once. Once it was used, or when the user was changed by the operator after
+ * the bulk request was sent, the state of the user might be outdated and is requested from Kafka again. The snapshot
+ * is cleared at the end of the periodic reconciliation.
+ *
+ * @param <V>   Type of the state of the user
+ */
+class AdminApiSnapshot<V> {
+    private Map<String, V> values;
+    private final Set<String> used = new HashSet<>();
+
+    /**
+     * Marks the beginning of the bulk request. Users changed from now on will not use the snapshot.
+     */
+    synchronized void start() {
+        values = null;
+        used.clear();
+    }
+
+    /**
+     * Sets the result of the bulk request
+     *
+     * @param values    Map with the state of the users which have some state in Kafka
+     */
+    synchronized void complete(Map<String, V> values) {
+        this.values = values;
+    }
+
+    /**
+     * Clears the snapshot
+     */
+    synchronized void clear() {
+        values = null;
+        used.clear();
+    }
+
+    /**
+     * Marks the user as changed so that its state in the snapshot is not used anymore
+     *
+     * @param username  Name of the user
+     */
+    synchronized void changed(String username) {
+        used.add(username);
+    }
+
+    /**
+     * Gets the state of the user from the snapshot or, when the snapshot does not exist or cannot be used for this
+     * user, from Kafka.
+     *
+     * @param username  Name of the user
+     * @param fetch     Supplier getting the state of the user from Kafka
+     *
+     * @return  Future with the state of the user or with null if the user has no state
+     */
+    Future<V> getOrFetch(String username, Supplier<Future<V>> fetch) {
+        synchronized (this) {
+            if (values != null && used.add(username)) {
+                return Future.succeededFuture(values.get(username));
+            }
+        }
+
+        return fetch.get();
+    }
+}
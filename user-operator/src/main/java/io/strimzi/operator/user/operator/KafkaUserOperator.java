@@ -26,8 +26,10 @@ import io.strimzi.operator.common.operator.resource.StatusUtils;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
+import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 
@@ -94,6 +96,26 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
                 });
     }
 
+    /**
+     * Reconciles all users. The ACLs, quotas and SCRAM-SHA credentials of all users are read from Kafka in bulk by
+     * {@link #allResourceNames(String)} and the reconciliations of the individual users use this snapshot instead of
+     * reading them separately. The snapshot is cleared once all users are reconciled.
+     *
+     * @param trigger   The cause of this reconciliation (for logging)
+     * @param namespace The namespace to reconcile
+     * @param handler   Handler called on completion
+     */
+    @Override
+    public void reconcileAll(String trigger, String namespace, Handler<AsyncResult<Void>> handler) {
+        super.reconcileAll(trigger, namespace, result -> {
+            aclOperations.clearSnapshot();
+            quotasOperator.clearSnapshot();
+            scramCredentialsOperator.clearSnapshot();
+
+            handler.handle(result);
+        });
+    }
+
     List<NamespaceAndName> toResourceRef(String namespace, Collection<String> names) {
         return names.stream()
                 .map(name -> new NamespaceAndName(namespace, name))
@@ -250,14 +272,24 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         }
 
         // Reconcile the user SCRAM-SHA-512 credentials
-        Future<ReconcileResult<String>> scramCredentialsFuture = scramCredentialsOperator.reconcile(reconciliation, user.getName(), user.getScramSha512Password());
+        Future<ReconcileResult<String>> scramCredentialsFuture = scramCredentialsOperator.reconcile(reconciliation, user.getName(), user.getScramSha512Password(), user.getScramSha512Fingerprint());
 
         // Quotas need to reconciled for both regular and TLS username. It will be (possibly) set for one user and deleted for the other
         Future<ReconcileResult<KafkaUserQuotas>> tlsQuotasFuture = quotasOperator.reconcile(reconciliation, KafkaUserModel.getTlsUserName(reconciliation.name()), tlsQuotas);
         Future<ReconcileResult<KafkaUserQuotas>> quotasFuture = quotasOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(reconciliation.name()), scramOrNoneQuotas);
 
         // Reconcile the user secret generated by the user operator with the credentials
-        Future<ReconcileResult<Secret>> userSecretFuture = reconcileUserSecret(reconciliation, user, userStatus);
+        Future<ReconcileResult<Secret>> userSecretFuture;
+
+        if (user.isScramUser()) {
+            // The fingerprint in the secret has to describe the credentials applied in Kafka. So the secret is
+            // reconciled after the credentials and the fingerprint is updated only when they were applied.
+            userSecretFuture = scramCredentialsFuture
+                    .onSuccess(ignore -> user.setScramSha512Fingerprint(scramCredentialsOperator.fingerprint(user.getScramSha512Password())))
+                    .transform(ignore -> reconcileUserSecret(reconciliation, user, userStatus));
+        } else {
+            userSecretFuture = reconcileUserSecret(reconciliation, user, userStatus);
+        }
 
         // ACLs need to reconciled for both regular and TLS username. It will be (possibly) set for one user and deleted for the other
         Future<ReconcileResult<Set<SimpleAclRule>>> aclsTlsUserFuture;
@@ -307,7 +339,7 @@ public class KafkaUserOperator extends AbstractOperator<KafkaUser, KafkaUserSpec
         return CompositeFuture.join(secretOperations.reconcile(reconciliation, namespace, KafkaUserModel.getSecretName(config.getSecretPrefix(), user), null),
                 config.isAclsAdminApiSupported() ? aclOperations.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null) : Future.succeededFuture(ReconcileResult.noop(null)),
                 config.isAclsAdminApiSupported() ? aclOperations.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null) : Future.succeededFuture(ReconcileResult.noop(null)),
-                scramCredentialsOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null)
+                scramCredentialsOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null, null)
                         .compose(ignore -> quotasOperator.reconcile(reconciliation, KafkaUserModel.getTlsUserName(user), null))
                         .compose(ignore -> quotasOperator.reconcile(reconciliation, KafkaUserModel.getScramUserName(user), null)))
             .map(Boolean.TRUE);
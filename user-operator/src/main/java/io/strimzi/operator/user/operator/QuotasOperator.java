@@ -19,6 +19,7 @@ import org.apache.kafka.common.quota.ClientQuotaFilterComponent;
 import org.apache.kafka.common.quota.ClientQuotaEntity;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,9 @@ import java.util.Set;
 public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Set<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(QuotasOperator.class.getName());
 
+    private final AdminApiSnapshot<KafkaUserQuotas> snapshot = new AdminApiSnapshot<>();
+    private final AdminApiBatch<ClientQuotaAlteration, ClientQuotaEntity> alterBatch;
+
     /**
      * Constructor
      *
@@ -38,6 +42,9 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
      */
     public QuotasOperator(Vertx vertx, Admin adminClient) {
         super(vertx, adminClient);
+
+        this.alterBatch = new AdminApiBatch<>(vertx, "alterClientQuotas", ClientQuotaAlteration::entity,
+            alterations -> adminClient.alterClientQuotas(alterations).values());
     }
 
     /**
@@ -51,7 +58,7 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
      */
     @Override
     public Future<ReconcileResult<KafkaUserQuotas>> reconcile(Reconciliation reconciliation, String username, KafkaUserQuotas desired) {
-        return getAsync(reconciliation, username)
+        return snapshot.getOrFetch(username, () -> getAsync(reconciliation, username))
                 .compose(current -> {
                     if (desired == null) {
                         if (current == null)    {
@@ -111,7 +118,8 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
 
         ClientQuotaEntity cqe = new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
         ClientQuotaAlteration cqa = new ClientQuotaAlteration(cqe, alterations);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.alterClientQuotas(Collections.singleton(cqa)).all())
+        snapshot.changed(username);
+        return alterBatch.submit(reconciliation, Collections.singleton(cqa))
                 .map(ReconcileResult.patched(desired));
     }
 
@@ -147,17 +155,33 @@ public class QuotasOperator extends AbstractAdminApiOperator<KafkaUserQuotas, Se
     public Future<Set<String>> getAllUsers() {
         LOGGER.debugOp("Searching for Users with any quotas");
 
+        snapshot.start();
         return Util.kafkaFutureToVertxFuture(vertx, adminClient.describeClientQuotas(ClientQuotaFilter.all()).entities())
                 .compose(quotas -> {
                     Set<String> users = new HashSet<>(quotas.size());
+                    Map<String, KafkaUserQuotas> userQuotas = new HashMap<>(quotas.size());
+
+                    for (Map.Entry<ClientQuotaEntity, Map<String, Double>> quota : quotas.entrySet()) {
+                        Map<String, String> entries = quota.getKey().entries();
+
+                        if (entries.containsKey(ClientQuotaEntity.USER)) {
+                            users.add(entries.get(ClientQuotaEntity.USER));
 
-                    for (ClientQuotaEntity entity : quotas.keySet()) {
-                        if (entity.entries().containsKey(ClientQuotaEntity.USER)) {
-                            users.add(entity.entries().get(ClientQuotaEntity.USER));
+                            if (entries.size() == 1) {
+                                // Only the quotas of the user itself (not combined with client ID) are managed by the operator
+                                userQuotas.put(entries.get(ClientQuotaEntity.USER), QuotaUtils.fromClientQuota(quota.getValue()));
+                            }
                         }
                     }
 
+                    snapshot.complete(userQuotas);
                     return Future.succeededFuture(users);
-                });
+                })
+                .onFailure(error -> snapshot.clear());
+    }
+
+    @Override
+    public void clearSnapshot() {
+        snapshot.clear();
     }
 }
@@ -12,18 +12,25 @@ import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
-import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
 import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
 import org.apache.kafka.clients.admin.ScramCredentialInfo;
 import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
 import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
 
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, List<String>> {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ScramCredentialsOperator.class.getName());
@@ -33,6 +40,9 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
     // This salt uses the same algorithm as Kafka
     private final static byte[] SALT =  (new BigInteger(130, new SecureRandom())).toString(36).getBytes(StandardCharsets.UTF_8);
 
+    private final AdminApiSnapshot<List<ScramCredentialInfo>> snapshot = new AdminApiSnapshot<>();
+    private final AdminApiBatch<UserScramCredentialAlteration, String> alterBatch;
+
     /**
      * Constructor
      *
@@ -41,43 +51,159 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
      */
     public ScramCredentialsOperator(Vertx vertx, Admin adminClient) {
         super(vertx, adminClient);
+
+        this.alterBatch = new AdminApiBatch<>(vertx, "alterUserScramCredentials", UserScramCredentialAlteration::user,
+            alterations -> adminClient.alterUserScramCredentials(alterations).values());
     }
 
     @Override
     public Future<ReconcileResult<String>> reconcile(Reconciliation reconciliation, String username, String desired) {
-        if (desired != null)    {
-            UserScramCredentialUpsertion upsertion = new UserScramCredentialUpsertion(username, new ScramCredentialInfo(SCRAM_MECHANISM, ITERATIONS), desired.getBytes(StandardCharsets.UTF_8), SALT);
-            LOGGER.debugCr(reconciliation, "Upserting SCRAM credentials for user {}", username);
-            AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(List.of(upsertion));
+        return reconcile(reconciliation, username, desired, null);
+    }
 
-            return Util.kafkaFutureToVertxFuture(reconciliation, vertx, result.all()).map(ReconcileResult.patched(desired));
+    /**
+     * Reconciles the SCRAM-SHA-512 credentials of the user. When the fingerprint of the credentials applied in Kafka
+     * matches the desired password and Kafka has the SCRAM-SHA-512 credentials with the expected number of iterations,
+     * the credentials are not changed.
+     *
+     * @param reconciliation    The reconciliation
+     * @param username          Name of the user
+     * @param desired           The desired password or null if the credentials should be deleted
+     * @param fingerprint       Fingerprint of the credentials applied in Kafka or null if it is not known
+     *
+     * @return the Future with reconcile result
+     */
+    public Future<ReconcileResult<String>> reconcile(Reconciliation reconciliation, String username, String desired, String fingerprint) {
+        if (desired != null)    {
+            if (fingerprint != null && fingerprint.equals(fingerprint(desired))) {
+                return snapshot.getOrFetch(username, () -> getAsync(reconciliation, username))
+                        .compose(current -> {
+                            if (hasDesiredCredentials(current)) {
+                                LOGGER.debugCr(reconciliation, "SCRAM credentials for user {} did not change -> NoOp", username);
+                                return Future.succeededFuture(ReconcileResult.noop(desired));
+                            } else {
+                                return internalUpsert(reconciliation, username, desired);
+                            }
+                        });
+            } else {
+                return internalUpsert(reconciliation, username, desired);
+            }
         } else {
-            Promise<ReconcileResult<String>> deletePromise = Promise.promise();
-
-            UserScramCredentialDeletion deletion = new UserScramCredentialDeletion(username, SCRAM_MECHANISM);
-            LOGGER.debugCr(reconciliation, "Deleting SCRAM credentials for user {}", username);
-            AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(List.of(deletion));
-
-            result.all().whenComplete((ignore, error) -> {
-                vertx.runOnContext(ignore2 -> {
-                    if (error != null) {
-                        if (error instanceof ResourceNotFoundException) {
-                            // Resource was not found => return success
-                            LOGGER.debugCr(reconciliation, "Previously deleted SCRAM credentials for user {}", username);
-                            deletePromise.complete(ReconcileResult.noop(null));
+            return snapshot.getOrFetch(username, () -> Future.succeededFuture(List.of()))
+                    .compose(current -> {
+                        if (current == null) {
+                            // The user had no SCRAM credentials when the snapshot was taken => nothing to delete
+                            LOGGER.debugCr(reconciliation, "No SCRAM credentials for user {}", username);
+                            return Future.succeededFuture(ReconcileResult.noop(null));
                         } else {
-                            LOGGER.warnCr(reconciliation, "Failed to delete SCRAM credentials for user {}", username);
-                            deletePromise.fail(error);
+                            return internalDelete(reconciliation, username);
                         }
+                    });
+        }
+    }
+
+    /**
+     * Calculates the fingerprint of the SCRAM-SHA-512 credentials with given password. The fingerprint covers also
+     * the mechanism, the number of iterations and the salt used by this operator. It changes when any of them changes.
+     *
+     * @param password  The password
+     *
+     * @return  The fingerprint of the credentials
+     */
+    public String fingerprint(String password) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update((SCRAM_MECHANISM.mechanismName() + ":" + ITERATIONS + ":").getBytes(StandardCharsets.UTF_8));
+            sha256.update(SALT);
+            sha256.update((":" + password).getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Failed to create SHA-256 MessageDigest instance", e);
+        }
+    }
+
+    /**
+     * Checks whether Kafka has the SCRAM-SHA-512 credentials as they would be set by this operator
+     *
+     * @param current   The current credentials of the user or null if the user has no credentials
+     *
+     * @return  True if the SCRAM-SHA-512 credentials with the expected number of iterations exist. False otherwise.
+     */
+    private boolean hasDesiredCredentials(List<ScramCredentialInfo> current) {
+        return current != null
+                && current.stream().anyMatch(info -> SCRAM_MECHANISM.equals(info.mechanism()) && info.iterations() == ITERATIONS);
+    }
+
+    /**
+     * Sets the SCRAM credentials of the user
+     *
+     * @param reconciliation The reconciliation
+     * @param username Name of the user
+     * @param desired The desired password
+     *
+     * @return the Future with reconcile result
+     */
+    private Future<ReconcileResult<String>> internalUpsert(Reconciliation reconciliation, String username, String desired) {
+        UserScramCredentialUpsertion upsertion = new UserScramCredentialUpsertion(username, new ScramCredentialInfo(SCRAM_MECHANISM, ITERATIONS), desired.getBytes(StandardCharsets.UTF_8), SALT);
+        LOGGER.debugCr(reconciliation, "Upserting SCRAM credentials for user {}", username);
+        snapshot.changed(username);
+
+        return alterBatch.submit(reconciliation, List.of(upsertion)).map(ReconcileResult.patched(desired));
+    }
+
+    /**
+     * Retrieves the SCRAM credentials of the user
+     *
+     * @param reconciliation The reconciliation
+     * @param username Name of the user
+     *
+     * @return the Future with the credentials of the user or with null if the user has no credentials
+     */
+    private Future<List<ScramCredentialInfo>> getAsync(Reconciliation reconciliation, String username) {
+        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.describeUserScramCredentials(List.of(username)).description(username))
+                .map(UserScramCredentialsDescription::credentialInfos)
+                .recover(error -> {
+                    if (error instanceof ResourceNotFoundException) {
+                        return Future.succeededFuture(null);
                     } else {
-                        LOGGER.debugCr(reconciliation, "Deleted SCRAM credentials for user {}", username);
-                        deletePromise.complete(ReconcileResult.deleted());
+                        return Future.failedFuture(error);
                     }
                 });
-            });
+    }
 
-            return deletePromise.future();
-        }
+    /**
+     * Deletes the SCRAM credentials of the user
+     *
+     * @param reconciliation The reconciliation
+     * @param username Name of the user
+     *
+     * @return the Future with reconcile result
+     */
+    private Future<ReconcileResult<String>> internalDelete(Reconciliation reconciliation, String username) {
+        Promise<ReconcileResult<String>> deletePromise = Promise.promise();
+
+        UserScramCredentialDeletion deletion = new UserScramCredentialDeletion(username, SCRAM_MECHANISM);
+        LOGGER.debugCr(reconciliation, "Deleting SCRAM credentials for user {}", username);
+        snapshot.changed(username);
+
+        alterBatch.submit(reconciliation, List.of(deletion)).onComplete(result -> {
+            if (result.failed()) {
+                if (result.cause() instanceof ResourceNotFoundException) {
+                    // Resource was not found => return success
+                    LOGGER.debugCr(reconciliation, "Previously deleted SCRAM credentials for user {}", username);
+                    deletePromise.complete(ReconcileResult.noop(null));
+                } else {
+                    LOGGER.warnCr(reconciliation, "Failed to delete SCRAM credentials for user {}", username);
+                    deletePromise.fail(result.cause());
+                }
+            } else {
+                LOGGER.debugCr(reconciliation, "Deleted SCRAM credentials for user {}", username);
+                deletePromise.complete(ReconcileResult.deleted());
+            }
+        });
+
+        return deletePromise.future();
     }
 
     /**
@@ -87,7 +213,24 @@ public class ScramCredentialsOperator extends AbstractAdminApiOperator<String, L
     public Future<List<String>> getAllUsers() {
         LOGGER.debugOp("Listing all users with SCRAM credentials");
 
+        snapshot.start();
         DescribeUserScramCredentialsResult creds = adminClient.describeUserScramCredentials();
-        return Util.kafkaFutureToVertxFuture(vertx, creds.users());
+        return Util.kafkaFutureToVertxFuture(vertx, creds.all())
+                .compose(descriptions -> {
+                    Map<String, List<ScramCredentialInfo>> credentials = new HashMap<>(descriptions.size());
+
+                    for (UserScramCredentialsDescription description : descriptions.values()) {
+                        credentials.put(description.name(), description.credentialInfos());
+                    }
+
+                    snapshot.complete(credentials);
+                    return Future.succeededFuture((List<String>) new ArrayList<>(descriptions.keySet()));
+                })
+                .onFailure(error -> snapshot.clear());
+    }
+
+    @Override
+    public void clearSnapshot() {
+        snapshot.clear();
     }
 }
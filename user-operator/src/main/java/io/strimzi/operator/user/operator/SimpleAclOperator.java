@@ -14,7 +14,9 @@ import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.clients.admin.DescribeAclsResult;
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -27,9 +29,12 @@ import org.apache.kafka.common.utils.SecurityUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * SimpleAclOperator is responsible for managing the authorization rules in Apache Kafka / Apache Zookeeper.
@@ -39,6 +44,10 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
 
     private static final List<String> IGNORED_USERS = Arrays.asList("*", "ANONYMOUS");
 
+    private final AdminApiSnapshot<Set<SimpleAclRule>> snapshot = new AdminApiSnapshot<>();
+    private final AdminApiBatch<AclBinding, AclBinding> createBatch;
+    private final AdminApiBatch<AclBindingFilter, AclBindingFilter> deleteBatch;
+
     /**
      * Constructor
      *
@@ -47,6 +56,11 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     public SimpleAclOperator(Vertx vertx, Admin adminClient) {
         super(vertx, adminClient);
+
+        this.createBatch = new AdminApiBatch<>(vertx, "createAcls", Function.identity(),
+            aclBindings -> adminClient.createAcls(aclBindings).values());
+        this.deleteBatch = new AdminApiBatch<>(vertx, "deleteAcls", Function.identity(),
+            aclBindingFilters -> deleteAcls(aclBindingFilters));
     }
 
     /**
@@ -60,8 +74,10 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     @Override
     public Future<ReconcileResult<Set<SimpleAclRule>>> reconcile(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
-        return getAsync(reconciliation, username)
-                .compose(current -> {
+        return snapshot.getOrFetch(username, () -> getAsync(reconciliation, username))
+                .compose(snapshotted -> {
+                    Set<SimpleAclRule> current = snapshotted != null ? snapshotted : Set.of();
+
                     if (desired == null || desired.isEmpty()) {
                         if (current.size() == 0)    {
                             LOGGER.debugCr(reconciliation, "No expected Acl rules and no existing Acl rules -> NoOp");
@@ -93,7 +109,8 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     protected Future<ReconcileResult<Set<SimpleAclRule>>> internalCreate(Reconciliation reconciliation, String username, Set<SimpleAclRule> desired) {
         Collection<AclBinding> aclBindings = getAclBindings(username, desired);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.createAcls(aclBindings).all())
+        snapshot.changed(username);
+        return createBatch.submit(reconciliation, aclBindings)
                 .map(ReconcileResult.created(desired));
     }
 
@@ -173,10 +190,35 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
      */
     private Future<ReconcileResult<Set<SimpleAclRule>>> internalDelete(Reconciliation reconciliation, String username, Set<SimpleAclRule> current) {
         Collection<AclBindingFilter> aclBindingFilters = getAclBindingFilters(username, current);
-        return Util.kafkaFutureToVertxFuture(reconciliation, vertx, adminClient.deleteAcls(aclBindingFilters).all())
+        snapshot.changed(username);
+        return deleteBatch.submit(reconciliation, aclBindingFilters)
                 .map(ReconcileResult.deleted());
     }
 
+    /**
+     * Deletes the ACLs matching the filters. The deletion of the ACLs matching a filter fails when the deletion of
+     * any of them fails.
+     *
+     * @param aclBindingFilters Filters matching the ACLs which should be deleted
+     *
+     * @return  Map with the result of the deletion for each filter
+     */
+    private Map<AclBindingFilter, KafkaFuture<Void>> deleteAcls(Collection<AclBindingFilter> aclBindingFilters) {
+        Map<AclBindingFilter, KafkaFuture<Void>> results = new HashMap<>(aclBindingFilters.size());
+
+        adminClient.deleteAcls(aclBindingFilters).values().forEach((filter, future) -> results.put(filter, future.thenApply(filterResults -> {
+            for (DeleteAclsResult.FilterResult filterResult : filterResults.values()) {
+                if (filterResult.exception() != null) {
+                    throw filterResult.exception();
+                }
+            }
+
+            return null;
+        })));
+
+        return results;
+    }
+
     /**
      * Returns Set of ACLs applying to single user.
      *
@@ -213,16 +255,21 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
     public Future<Set<String>> getAllUsers() {
         LOGGER.debugOp("Searching for Users with any ACL rules");
 
+        snapshot.start();
         DescribeAclsResult result = adminClient.describeAcls(AclBindingFilter.ANY);
         return Util.kafkaFutureToVertxFuture(vertx, result.values())
                 .compose(aclBindings -> {
                     Set<String> users = new HashSet<>();
                     Set<String> ignored = new HashSet<>(IGNORED_USERS.size());
+                    Map<String, Set<SimpleAclRule>> rules = new HashMap<>();
 
                     for (AclBinding aclBinding : aclBindings) {
                         KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
 
                         if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
+                            // The snapshot uses the username in the same format as the reconciliation
+                            rules.computeIfAbsent(principal.getName(), name -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+
                             // Username in ACL might keep different format (for example based on user's subject) and need to be decoded
                             String username = KafkaUserModel.decodeUsername(principal.getName());
 
@@ -242,7 +289,14 @@ public class SimpleAclOperator extends AbstractAdminApiOperator<Set<SimpleAclRul
                         }
                     }
 
+                    snapshot.complete(rules);
                     return Future.succeededFuture(users);
-                });
+                })
+                .onFailure(error -> snapshot.clear());
+    }
+
+    @Override
+    public void clearSnapshot() {
+        snapshot.clear();
     }
 }
@@ -405,6 +405,26 @@ public class KafkaUserModelTest {
         checkOwnerReference(model.createOwnerReference(), generated);
     }
 
+    @Test
+    public void testGenerateSecretKeepsScramShaFingerprint()    {
+        Secret scramShaSecret = ResourceUtils.createUserSecretScramSha();
+        scramShaSecret.getMetadata().setAnnotations(Map.of(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_SHA_512_FINGERPRINT, "old-fingerprint"));
+
+        KafkaUserModel model = KafkaUserModel.fromCrd(scramShaUser, UserOperatorConfig.DEFAULT_SECRET_PREFIX, UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED);
+        model.maybeGeneratePassword(Reconciliation.DUMMY_RECONCILIATION, passwordGenerator, scramShaSecret, null);
+        assertThat(model.getScramSha512Fingerprint(), is("old-fingerprint"));
+        assertThat(model.generateSecret().getMetadata().getAnnotations(), hasEntry(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_SHA_512_FINGERPRINT, "old-fingerprint"));
+
+        model.setScramSha512Fingerprint("new-fingerprint");
+        assertThat(model.generateSecret().getMetadata().getAnnotations(), hasEntry(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_SHA_512_FINGERPRINT, "new-fingerprint"));
+
+        // New users have no fingerprint until their credentials are applied
+        KafkaUserModel newModel = KafkaUserModel.fromCrd(scramShaUser, UserOperatorConfig.DEFAULT_SECRET_PREFIX, UserOperatorConfig.DEFAULT_STRIMZI_ACLS_ADMIN_API_SUPPORTED);
+        newModel.maybeGeneratePassword(Reconciliation.DUMMY_RECONCILIATION, passwordGenerator, null, null);
+        assertThat(newModel.getScramSha512Fingerprint(), is(nullValue()));
+        assertThat(newModel.generateSecret().getMetadata().getAnnotations().containsKey(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_SHA_512_FINGERPRINT), is(false));
+    }
+
     @Test
     public void testGenerateSecretUseDesiredPasswordWhenSpecified()    {
         KafkaUser user = new KafkaUserBuilder(scramShaUser)
@@ -0,0 +1,142 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.InvalidRequestException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ExtendWith(VertxExtension.class)
+public class AdminApiBatchTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static Reconciliation reconciliation(String username) {
+        return new Reconciliation("test", "KafkaUser", "namespace", username);
+    }
+
+    @Test
+    public void testAlterationsFromDifferentReconciliationsAreBatched(VertxTestContext context) {
+        List<List<String>> sent = new CopyOnWriteArrayList<>();
+        AdminApiBatch<String, String> batch = new AdminApiBatch<>(vertx, "test", Function.identity(), alterations -> {
+            sent.add(new ArrayList<>(alterations));
+
+            Map<String, KafkaFuture<Void>> results = new HashMap<>();
+            alterations.forEach(alteration -> results.put(alteration, KafkaFuture.completedFuture(null)));
+            return results;
+        });
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(
+                    batch.submit(reconciliation("foo"), List.of("foo")),
+                    batch.submit(reconciliation("bar"), List.of("bar")))
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(sent.size(), is(1));
+                    assertThat(Set.copyOf(sent.get(0)), is(Set.of("foo", "bar")));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailedAlterationFailsOnlyItsReconciliation(VertxTestContext context) {
+        AdminApiBatch<String, String> batch = new AdminApiBatch<>(vertx, "test", Function.identity(), alterations -> {
+            KafkaFutureImpl<Void> failed = new KafkaFutureImpl<>();
+            failed.completeExceptionally(new InvalidRequestException("Invalid alteration"));
+
+            // No result is returned for the baz alteration
+            Map<String, KafkaFuture<Void>> results = new HashMap<>();
+            results.put("foo", KafkaFuture.completedFuture(null));
+            results.put("bar", failed);
+            return results;
+        });
+
+        Future<Void> foo = batch.submit(reconciliation("foo"), List.of("foo"));
+        Future<Void> bar = batch.submit(reconciliation("bar"), List.of("bar"));
+        Future<Void> baz = batch.submit(reconciliation("baz"), List.of("baz"));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(foo, bar, baz)
+                .onComplete(context.failing(i -> context.verify(() -> {
+                    assertThat(foo.succeeded(), is(true));
+                    assertThat(bar.failed(), is(true));
+                    assertThat(bar.cause(), instanceOf(InvalidRequestException.class));
+                    assertThat(baz.failed(), is(true));
+                    assertThat(baz.cause(), instanceOf(IllegalStateException.class));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailureToSendTheRequestFailsAllReconciliations(VertxTestContext context) {
+        AdminApiBatch<String, String> batch = new AdminApiBatch<>(vertx, "test", Function.identity(), alterations -> {
+            throw new RuntimeException("Admin client closed");
+        });
+
+        Future<Void> foo = batch.submit(reconciliation("foo"), List.of("foo"));
+        Future<Void> bar = batch.submit(reconciliation("bar"), List.of("bar"));
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(foo, bar)
+                .onComplete(context.failing(i -> context.verify(() -> {
+                    assertThat(foo.cause().getMessage(), is("Admin client closed"));
+                    assertThat(bar.cause().getMessage(), is("Admin client closed"));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testSameKeyIsNotAlteredTwiceInOneBatch(VertxTestContext context) {
+        List<List<String>> sent = new CopyOnWriteArrayList<>();
+        AdminApiBatch<String, String> batch = new AdminApiBatch<>(vertx, "test", Function.identity(), alterations -> {
+            sent.add(new ArrayList<>(alterations));
+            return Map.of(alterations.get(0), KafkaFuture.completedFuture(null));
+        });
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.all(
+                    batch.submit(reconciliation("foo"), List.of("foo")),
+                    batch.submit(reconciliation("foo"), List.of("foo")))
+                .onComplete(context.succeeding(i -> context.verify(() -> {
+                    assertThat(sent, is(List.of(List.of("foo"), List.of("foo"))));
+
+                    async.flag();
+                })));
+    }
+}
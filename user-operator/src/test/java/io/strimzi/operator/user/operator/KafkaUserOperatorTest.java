@@ -51,6 +51,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -97,7 +98,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
         when(aclOps.reconcile(any(), aclNameCaptor.capture(), aclRulesCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
 
         KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
@@ -171,7 +172,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Secret> secretCaptor = ArgumentCaptor.forClass(Secret.class);
         when(mockSecretOps.reconcile(any(), secretNamespaceCaptor.capture(), secretNameCaptor.capture(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
 
         KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig(Map.of(), false));
@@ -247,7 +248,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Secret> secretCaptor = ArgumentCaptor.forClass(Secret.class);
         when(mockSecretOps.reconcile(any(), secretNamespaceCaptor.capture(), secretNameCaptor.capture(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
@@ -327,7 +328,7 @@ public class KafkaUserOperatorTest {
         when(mockSecretOps.reconcile(any(), secretNamespaceCaptor.capture(), secretNameCaptor.capture(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
         when(mockSecretOps.getAsync(anyString(), eq(ResourceUtils.NAME))).thenReturn(Future.succeededFuture(null));
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
@@ -394,7 +395,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
         when(aclOps.reconcile(any(), aclNameCaptor.capture(), aclRulesCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
         when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture());
 
@@ -454,7 +455,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<String> secretNameCaptor = ArgumentCaptor.forClass(String.class);
         when(mockSecretOps.reconcile(any(), secretNamespaceCaptor.capture(), secretNameCaptor.capture(), isNull())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         when(aclOps.reconcile(any(), aclNameCaptor.capture(), isNull())).thenReturn(Future.succeededFuture());
@@ -506,7 +507,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
         when(aclOps.reconcile(any(), aclNameCaptor.capture(), aclRulesCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
 
         when(mockSecretOps.getAsync(anyString(), eq(clientsCa.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCa));
         when(mockSecretOps.getAsync(anyString(), eq(clientsCaKey.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCaKey));
@@ -586,7 +587,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<Secret> secretCaptor = ArgumentCaptor.forClass(Secret.class);
         when(mockSecretOps.reconcile(any(), secretNamespaceCaptor.capture(), secretNameCaptor.capture(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
@@ -668,7 +669,7 @@ public class KafkaUserOperatorTest {
         ArgumentCaptor<String> secretNameCaptor = ArgumentCaptor.forClass(String.class);
         when(mockSecretOps.reconcile(any(), secretNamespaceCaptor.capture(), secretNameCaptor.capture(), isNull())).thenReturn(Future.succeededFuture());
 
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         when(aclOps.reconcile(any(), aclNameCaptor.capture(), isNull())).thenReturn(Future.succeededFuture());
@@ -773,6 +774,11 @@ public class KafkaUserOperatorTest {
             assertThat(createdOrUpdated, is(new HashSet(asList("new-tls-user", "existing-tls-user",
                     "new-scram-sha-user", "existing-scram-sha-user"))));
             assertThat(deleted, is(new HashSet(asList("quota-user", "second-deleted-user", "deleted-scram-sha-user"))));
+
+            // The snapshots taken when listing all users are cleared at the end of the periodic reconciliation
+            verify(aclOps).clearSnapshot();
+            verify(quotasOps).clearSnapshot();
+            verify(scramOps).clearSnapshot();
             async.flag();
         }));
     }
@@ -875,7 +881,7 @@ public class KafkaUserOperatorTest {
 
         ArgumentCaptor<String> scramUserCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> scramPasswordCaptor = ArgumentCaptor.forClass(String.class);
-        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture(), any())).thenReturn(Future.succeededFuture());
 
         when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(null));
 
@@ -933,6 +939,47 @@ public class KafkaUserOperatorTest {
             })));
     }
 
+    @Test
+    public void testReconcileScramShaUserStoresFingerprintOnlyWhenCredentialsApplied(VertxTestContext context)    {
+        CrdOperator mockCrdOps = mock(CrdOperator.class);
+        SecretOperator mockSecretOps = mock(SecretOperator.class);
+        SimpleAclOperator aclOps = mock(SimpleAclOperator.class);
+        ScramCredentialsOperator scramOps = mock(ScramCredentialsOperator.class);
+        QuotasOperator quotasOps = mock(QuotasOperator.class);
+
+        KafkaUserOperator op = new KafkaUserOperator(vertx, mockCertManager, mockCrdOps, mockSecretOps, scramOps, quotasOps, aclOps, ResourceUtils.createUserOperatorConfig());
+        KafkaUser user = ResourceUtils.createKafkaUserScramSha();
+        Secret userSecret = ResourceUtils.createUserSecretScramSha();
+        userSecret.getMetadata().setAnnotations(Map.of(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_SHA_512_FINGERPRINT, "old-fingerprint"));
+
+        ArgumentCaptor<Secret> secretCaptor = ArgumentCaptor.forClass(Secret.class);
+        when(mockSecretOps.reconcile(any(), anyString(), anyString(), secretCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(userSecret));
+
+        when(aclOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.fingerprint(any())).thenReturn("new-fingerprint");
+        when(scramOps.reconcile(any(), any(), any(), eq("old-fingerprint")))
+                .thenReturn(Future.failedFuture(new RuntimeException("Failed to upsert")))
+                .thenReturn(Future.succeededFuture());
+
+        when(mockCrdOps.get(eq(user.getMetadata().getNamespace()), eq(user.getMetadata().getName()))).thenReturn(user);
+        when(mockCrdOps.getAsync(anyString(), anyString())).thenReturn(Future.succeededFuture(user));
+        when(mockCrdOps.updateStatusAsync(any(), any(KafkaUser.class))).thenReturn(Future.succeededFuture());
+
+        Checkpoint async = context.checkpoint();
+        op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME))
+            .onComplete(context.failing(e -> context.verify(() -> {
+                // The credentials were not applied => the secret keeps the old fingerprint
+                assertThat(secretCaptor.getValue().getMetadata().getAnnotations(), hasEntry(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_SHA_512_FINGERPRINT, "old-fingerprint"));
+            })))
+            .recover(e -> op.reconcile(new Reconciliation("test-trigger", KafkaUser.RESOURCE_KIND, ResourceUtils.NAMESPACE, ResourceUtils.NAME)))
+            .onComplete(context.succeeding(v -> context.verify(() -> {
+                assertThat(secretCaptor.getValue().getMetadata().getAnnotations(), hasEntry(KafkaUserModel.ANNO_STRIMZI_IO_SCRAM_SHA_512_FINGERPRINT, "new-fingerprint"));
+                async.flag();
+            })));
+    }
+
     @Test
     public void testReconcileNewScramShaUserWithProvidedPassword(VertxTestContext context)    {
         String desiredPassword = "12345678";
@@ -976,7 +1023,7 @@ public class KafkaUserOperatorTest {
 
         ArgumentCaptor<String> scramUserCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> scramPasswordCaptor = ArgumentCaptor.forClass(String.class);
-        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture(), any())).thenReturn(Future.succeededFuture());
 
         when(mockSecretOps.getAsync(anyString(), eq(user.getMetadata().getName()))).thenReturn(Future.succeededFuture(null));
         when(mockSecretOps.getAsync(anyString(), eq(desiredPasswordSecret.getMetadata().getName()))).thenReturn(Future.succeededFuture(desiredPasswordSecret));
@@ -1055,7 +1102,7 @@ public class KafkaUserOperatorTest {
 
         ArgumentCaptor<String> scramUserCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> scramPasswordCaptor = ArgumentCaptor.forClass(String.class);
-        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<Set<SimpleAclRule>> aclRulesCaptor = ArgumentCaptor.forClass(Set.class);
@@ -1135,7 +1182,7 @@ public class KafkaUserOperatorTest {
 
         ArgumentCaptor<String> scramUserCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> scramPasswordCaptor = ArgumentCaptor.forClass(String.class);
-        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture(), any())).thenReturn(Future.succeededFuture());
 
         ArgumentCaptor<String> aclNameCaptor = ArgumentCaptor.forClass(String.class);
         when(aclOps.reconcile(any(), aclNameCaptor.capture(), isNull())).thenReturn(Future.succeededFuture());
@@ -1200,7 +1247,7 @@ public class KafkaUserOperatorTest {
 
         ArgumentCaptor<String> scramUserCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<String> scramPasswordCaptor = ArgumentCaptor.forClass(String.class);
-        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), scramUserCaptor.capture(), scramPasswordCaptor.capture(), any())).thenReturn(Future.succeededFuture());
 
         when(mockSecretOps.getAsync(anyString(), eq(clientsCa.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCa));
         when(mockSecretOps.getAsync(anyString(), eq(clientsCaKey.getMetadata().getName()))).thenReturn(Future.succeededFuture(clientsCaKey));
@@ -1282,7 +1329,7 @@ public class KafkaUserOperatorTest {
 
         when(mockSecretOps.reconcile(any(), anyString(), anyString(), any(Secret.class))).thenReturn(Future.failedFuture(failureMsg));
         when(aclOps.reconcile(any(), anyString(), any())).thenReturn(Future.succeededFuture());
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
         ArgumentCaptor<KafkaUser> userCaptor = ArgumentCaptor.forClass(KafkaUser.class);
         when(mockCrdOps.updateStatusAsync(any(), userCaptor.capture())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
@@ -1320,7 +1367,7 @@ public class KafkaUserOperatorTest {
 
         when(mockSecretOps.reconcile(any(), anyString(), anyString(), any(Secret.class))).thenReturn(Future.succeededFuture());
         when(aclOps.reconcile(any(), anyString(), any())).thenReturn(Future.succeededFuture());
-        when(scramOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
+        when(scramOps.reconcile(any(), any(), any(), any())).thenReturn(Future.succeededFuture());
         ArgumentCaptor<KafkaUser> userCaptor = ArgumentCaptor.forClass(KafkaUser.class);
         when(mockCrdOps.updateStatusAsync(any(), userCaptor.capture())).thenReturn(Future.succeededFuture());
         when(quotasOps.reconcile(any(), any(), any())).thenReturn(Future.succeededFuture());
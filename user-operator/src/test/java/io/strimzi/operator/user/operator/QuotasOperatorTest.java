@@ -0,0 +1,176 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.api.kafka.model.KafkaUserQuotas;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterClientQuotasResult;
+import org.apache.kafka.clients.admin.DescribeClientQuotasResult;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.quota.ClientQuotaAlteration;
+import org.apache.kafka.common.quota.ClientQuotaEntity;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class QuotasOperatorTest {
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    private static KafkaUserQuotas quotas(int producerByteRate) {
+        KafkaUserQuotas quotas = new KafkaUserQuotas();
+        quotas.setProducerByteRate(producerByteRate);
+        return quotas;
+    }
+
+    private static ClientQuotaEntity entity(String username) {
+        return new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, username));
+    }
+
+    @Test
+    public void testReconcileUsesSnapshotFromGetAllUsers(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        QuotasOperator quotasOp = new QuotasOperator(vertx, mockAdminClient);
+
+        ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor = ArgumentCaptor.forClass(Collection.class);
+        mockDescribeClientQuotas(mockAdminClient, Map.of(
+                entity("foo"), Map.of("producer_byte_rate", 1024.0),
+                entity("bar"), Map.of("producer_byte_rate", 1024.0)));
+        mockAlterClientQuotas(mockAdminClient, alterationsCaptor);
+
+        Checkpoint async = context.checkpoint();
+        quotasOp.getAllUsers()
+                // The quotas of the first user are already as desired and the quotas of the second user differ
+                .compose(users -> quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024)))
+                .compose(rr -> {
+                    context.verify(() -> assertThat(rr, instanceOf(ReconcileResult.Noop.class)));
+                    return quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "bar", quotas(2048));
+                })
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr, instanceOf(ReconcileResult.Patched.class));
+                    verify(mockAdminClient, times(1)).describeClientQuotas(any());
+
+                    Collection<ClientQuotaAlteration> alterations = alterationsCaptor.getValue();
+                    assertThat(alterations.size(), is(1));
+                    assertThat(alterations.iterator().next().entity(), is(entity("bar")));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testSnapshotIsUsedOnlyOncePerUser(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        QuotasOperator quotasOp = new QuotasOperator(vertx, mockAdminClient);
+
+        mockDescribeClientQuotas(mockAdminClient, Map.of(entity("foo"), Map.of("producer_byte_rate", 1024.0)));
+
+        Checkpoint async = context.checkpoint();
+        quotasOp.getAllUsers()
+                .compose(users -> quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024)))
+                // The second reconciliation of the same user might see an outdated snapshot and asks Kafka again
+                .compose(rr -> quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(2)).describeClientQuotas(any());
+                    verify(mockAdminClient, never()).alterClientQuotas(any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testSnapshotIsNotUsedAfterClear(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        QuotasOperator quotasOp = new QuotasOperator(vertx, mockAdminClient);
+
+        mockDescribeClientQuotas(mockAdminClient, Map.of(entity("foo"), Map.of("producer_byte_rate", 1024.0)));
+
+        Checkpoint async = context.checkpoint();
+        quotasOp.getAllUsers()
+                .compose(users -> {
+                    quotasOp.clearSnapshot();
+                    return quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024));
+                })
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(2)).describeClientQuotas(any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileOfDifferentUsersIsBatched(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        QuotasOperator quotasOp = new QuotasOperator(vertx, mockAdminClient);
+
+        ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor = ArgumentCaptor.forClass(Collection.class);
+        mockDescribeClientQuotas(mockAdminClient, Map.of(entity("baz"), Map.of("producer_byte_rate", 1024.0)));
+        mockAlterClientQuotas(mockAdminClient, alterationsCaptor);
+
+        Checkpoint async = context.checkpoint();
+        quotasOp.getAllUsers()
+                .compose(users -> CompositeFuture.join(
+                        quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", quotas(1024)),
+                        quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "bar", quotas(1024)),
+                        quotasOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "baz", null)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr.resultAt(2), is(ReconcileResult.deleted()));
+                    verify(mockAdminClient, times(1)).describeClientQuotas(any());
+                    verify(mockAdminClient, times(1)).alterClientQuotas(any());
+
+                    Set<ClientQuotaEntity> entities = alterationsCaptor.getValue().stream().map(ClientQuotaAlteration::entity).collect(Collectors.toSet());
+                    assertThat(entities, is(Set.of(entity("foo"), entity("bar"), entity("baz"))));
+
+                    async.flag();
+                })));
+    }
+
+    private void mockDescribeClientQuotas(Admin mockAdminClient, Map<ClientQuotaEntity, Map<String, Double>> quotas) {
+        when(mockAdminClient.describeClientQuotas(any())).thenReturn(new DescribeClientQuotasResult(KafkaFuture.completedFuture(quotas)));
+    }
+
+    private void mockAlterClientQuotas(Admin mockAdminClient, ArgumentCaptor<Collection<ClientQuotaAlteration>> alterationsCaptor) {
+        when(mockAdminClient.alterClientQuotas(alterationsCaptor.capture())).thenAnswer(invocation -> {
+            Collection<ClientQuotaAlteration> alterations = invocation.getArgument(0);
+            return new AlterClientQuotasResult(alterations.stream()
+                    .collect(Collectors.toMap(ClientQuotaAlteration::entity, alteration -> KafkaFuture.completedFuture(null), (a, b) -> a)));
+        });
+    }
+}
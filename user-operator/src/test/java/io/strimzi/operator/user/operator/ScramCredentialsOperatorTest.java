@@ -0,0 +1,275 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+import io.vertx.junit5.Checkpoint;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.ScramCredentialInfo;
+import org.apache.kafka.clients.admin.ScramMechanism;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.clients.admin.UserScramCredentialsDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnacceptableCredentialException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(VertxExtension.class)
+public class ScramCredentialsOperatorTest {
+    private static final String USERNAME = "my-user";
+    private static final String PASSWORD = "my-password";
+
+    protected static Vertx vertx;
+
+    @BeforeAll
+    public static void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterAll
+    public static void after() {
+        vertx.close();
+    }
+
+    @Test
+    public void testFingerprint() {
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mock(AdminClient.class));
+
+        assertThat(scramOp.fingerprint(PASSWORD), is(scramOp.fingerprint(PASSWORD)));
+        assertThat(scramOp.fingerprint(PASSWORD), is(not(scramOp.fingerprint("other-password"))));
+    }
+
+    @Test
+    public void testReconcileWithoutFingerprintUpserts(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient);
+
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+        mockAlterUserScramCredentials(mockAdminClient, alterationsCaptor);
+
+        Checkpoint async = context.checkpoint();
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, PASSWORD, null)
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, never()).describeUserScramCredentials(any());
+                    assertThat(alterationsCaptor.getValue().size(), is(1));
+                    assertThat(alterationsCaptor.getValue().get(0), instanceOf(UserScramCredentialUpsertion.class));
+                    assertThat(alterationsCaptor.getValue().get(0).user(), is(USERNAME));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileWithChangedPasswordUpserts(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient);
+
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+        mockAlterUserScramCredentials(mockAdminClient, alterationsCaptor);
+
+        Checkpoint async = context.checkpoint();
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, PASSWORD, scramOp.fingerprint("old-password"))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, never()).describeUserScramCredentials(any());
+                    verify(mockAdminClient, times(1)).alterUserScramCredentials(any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileWithUnchangedPasswordIsNoop(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient);
+
+        mockDescribeUserScramCredentials(mockAdminClient, List.of(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096)));
+
+        Checkpoint async = context.checkpoint();
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, PASSWORD, scramOp.fingerprint(PASSWORD))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).describeUserScramCredentials(any());
+                    verify(mockAdminClient, never()).alterUserScramCredentials(any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileWithUnchangedPasswordAndDifferentIterationsUpserts(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient);
+
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+        mockDescribeUserScramCredentials(mockAdminClient, List.of(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 8192)));
+        mockAlterUserScramCredentials(mockAdminClient, alterationsCaptor);
+
+        Checkpoint async = context.checkpoint();
+        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, PASSWORD, scramOp.fingerprint(PASSWORD))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).alterUserScramCredentials(any());
+                    assertThat(alterationsCaptor.getValue().get(0), instanceOf(UserScramCredentialUpsertion.class));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileWithUnchangedPasswordUsesSnapshot(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient);
+
+        DescribeUserScramCredentialsResult result = mock(DescribeUserScramCredentialsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(Map.of(USERNAME,
+                new UserScramCredentialsDescription(USERNAME, List.of(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096))))));
+        when(mockAdminClient.describeUserScramCredentials()).thenReturn(result);
+
+        Checkpoint async = context.checkpoint();
+        scramOp.getAllUsers()
+                .compose(users -> scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, PASSWORD, scramOp.fingerprint(PASSWORD)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).describeUserScramCredentials();
+                    verify(mockAdminClient, never()).describeUserScramCredentials(any());
+                    verify(mockAdminClient, never()).alterUserScramCredentials(any());
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testDeleteUsesSnapshotFromGetAllUsers(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient);
+
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+        mockDescribeAllUserScramCredentials(mockAdminClient);
+        mockAlterUserScramCredentials(mockAdminClient, alterationsCaptor);
+
+        Checkpoint async = context.checkpoint();
+        scramOp.getAllUsers()
+                // The first user has SCRAM credentials in the snapshot, the second does not
+                .compose(users -> scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, null, null))
+                .compose(rr -> {
+                    context.verify(() -> assertThat(rr, is(ReconcileResult.deleted())));
+                    return scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "other-user", null, null);
+                })
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    assertThat(rr, instanceOf(ReconcileResult.Noop.class));
+                    verify(mockAdminClient, never()).describeUserScramCredentials(any());
+                    verify(mockAdminClient, times(1)).alterUserScramCredentials(any());
+                    assertThat(alterationsCaptor.getValue().size(), is(1));
+                    assertThat(alterationsCaptor.getValue().get(0), instanceOf(UserScramCredentialDeletion.class));
+                    assertThat(alterationsCaptor.getValue().get(0).user(), is(USERNAME));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileOfDifferentUsersIsBatched(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient);
+
+        ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor = ArgumentCaptor.forClass(List.class);
+        mockDescribeAllUserScramCredentials(mockAdminClient);
+        mockAlterUserScramCredentials(mockAdminClient, alterationsCaptor);
+
+        Checkpoint async = context.checkpoint();
+        scramOp.getAllUsers()
+                .compose(users -> CompositeFuture.join(
+                        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", PASSWORD, null),
+                        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "bar", PASSWORD, null),
+                        scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, USERNAME, null, null)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).alterUserScramCredentials(any());
+
+                    Set<String> users = alterationsCaptor.getValue().stream().map(UserScramCredentialAlteration::user).collect(Collectors.toSet());
+                    assertThat(users, is(Set.of("foo", "bar", USERNAME)));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testFailedAlterationFailsOnlyItsUser(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(vertx, mockAdminClient);
+
+        when(mockAdminClient.alterUserScramCredentials(any())).thenAnswer(invocation -> {
+            KafkaFutureImpl<Void> failed = new KafkaFutureImpl<>();
+            failed.completeExceptionally(new UnacceptableCredentialException("Password too short"));
+
+            return new AlterUserScramCredentialsResult(Map.of(
+                    "foo", KafkaFuture.completedFuture(null),
+                    "bar", failed));
+        });
+
+        Future<ReconcileResult<String>> foo = scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "foo", PASSWORD, null);
+        Future<ReconcileResult<String>> bar = scramOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "bar", PASSWORD, null);
+
+        Checkpoint async = context.checkpoint();
+        CompositeFuture.join(foo, bar)
+                .onComplete(context.failing(i -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).alterUserScramCredentials(any());
+                    assertThat(foo.succeeded(), is(true));
+                    assertThat(bar.cause(), instanceOf(UnacceptableCredentialException.class));
+
+                    async.flag();
+                })));
+    }
+
+    private void mockDescribeAllUserScramCredentials(Admin mockAdminClient) {
+        DescribeUserScramCredentialsResult result = mock(DescribeUserScramCredentialsResult.class);
+        when(result.all()).thenReturn(KafkaFuture.completedFuture(Map.of(USERNAME,
+                new UserScramCredentialsDescription(USERNAME, List.of(new ScramCredentialInfo(ScramMechanism.SCRAM_SHA_512, 4096))))));
+        when(mockAdminClient.describeUserScramCredentials()).thenReturn(result);
+    }
+
+    private void mockDescribeUserScramCredentials(Admin mockAdminClient, List<ScramCredentialInfo> credentials) {
+        DescribeUserScramCredentialsResult result = mock(DescribeUserScramCredentialsResult.class);
+        when(result.description(USERNAME)).thenReturn(KafkaFuture.completedFuture(new UserScramCredentialsDescription(USERNAME, credentials)));
+        when(mockAdminClient.describeUserScramCredentials(any())).thenReturn(result);
+    }
+
+    private void mockAlterUserScramCredentials(Admin mockAdminClient, ArgumentCaptor<List<UserScramCredentialAlteration>> alterationsCaptor) {
+        when(mockAdminClient.alterUserScramCredentials(alterationsCaptor.capture())).thenAnswer(invocation -> {
+            List<UserScramCredentialAlteration> alterations = invocation.getArgument(0);
+            Map<String, KafkaFuture<Void>> futures = alterations.stream()
+                    .collect(Collectors.toMap(UserScramCredentialAlteration::user, alteration -> KafkaFuture.completedFuture(null)));
+
+            return new AlterUserScramCredentialsResult(futures);
+        });
+    }
+}
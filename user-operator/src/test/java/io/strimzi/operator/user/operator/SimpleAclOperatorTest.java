@@ -11,6 +11,7 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResource;
 import io.strimzi.operator.user.model.acl.SimpleAclRuleResourceType;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Vertx;
 import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
@@ -41,6 +42,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static java.util.Arrays.asList;
@@ -53,6 +55,8 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
@@ -233,6 +237,72 @@ public class SimpleAclOperatorTest {
                 })));
     }
 
+    @Test
+    public void testReconcileUsesSnapshotFromGetAllUsers(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        ResourcePattern resource = new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL);
+        KafkaPrincipal foo = new KafkaPrincipal(KafkaPrincipal.USER_TYPE, "CN=foo");
+        AclBinding readAclBinding = new AclBinding(resource, new AccessControlEntry(foo.toString(), "*",
+                org.apache.kafka.common.acl.AclOperation.READ, AclPermissionType.ALLOW));
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, null, Collections.singleton(readAclBinding));
+            mockCreateAcls(mockAdminClient, aclBindingsCaptor);
+        });
+
+        Checkpoint async = context.checkpoint();
+        aclOp.getAllUsers()
+                // The ACLs of the first user are already as desired and the second user has no ACLs yet
+                .compose(users -> aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=foo", Set.of(readRule)))
+                .compose(rr -> aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=bar", Set.of(readRule)))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+
+                    Collection<AclBinding> capturedAclBindings = aclBindingsCaptor.getValue();
+                    assertThat(capturedAclBindings, hasSize(1));
+                    assertThat(capturedAclBindings.iterator().next().entry().principal(), is("User:CN=bar"));
+
+                    async.flag();
+                })));
+    }
+
+    @Test
+    public void testReconcileOfDifferentUsersIsBatched(VertxTestContext context) {
+        Admin mockAdminClient = mock(AdminClient.class);
+        SimpleAclOperator aclOp = new SimpleAclOperator(vertx, mockAdminClient);
+
+        SimpleAclRuleResource ruleResource = new SimpleAclRuleResource("my-topic", SimpleAclRuleResourceType.TOPIC, AclResourcePatternType.LITERAL);
+        SimpleAclRule readRule = new SimpleAclRule(AclRuleType.ALLOW, ruleResource, "*", AclOperation.READ);
+
+        ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor = ArgumentCaptor.forClass(Collection.class);
+        assertDoesNotThrow(() -> {
+            mockDescribeAcls(mockAdminClient, null, emptyList());
+            mockCreateAcls(mockAdminClient, aclBindingsCaptor);
+        });
+
+        Checkpoint async = context.checkpoint();
+        aclOp.getAllUsers()
+                .compose(users -> CompositeFuture.join(
+                        aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=foo", Set.of(readRule)),
+                        aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "CN=bar", Set.of(readRule)),
+                        aclOp.reconcile(Reconciliation.DUMMY_RECONCILIATION, "baz", Set.of(readRule))))
+                .onComplete(context.succeeding(rr -> context.verify(() -> {
+                    verify(mockAdminClient, times(1)).describeAcls(any());
+                    verify(mockAdminClient, times(1)).createAcls(any());
+
+                    Set<String> principals = aclBindingsCaptor.getValue().stream().map(binding -> binding.entry().principal()).collect(Collectors.toSet());
+                    assertThat(principals, is(Set.of("User:CN=foo", "User:CN=bar", "User:baz")));
+
+                    async.flag();
+                })));
+    }
+
     private void mockDescribeAcls(Admin mockAdminClient, AclBindingFilter aclBindingFilter, Collection<AclBinding> aclBindings) {
         DescribeAclsResult result = mock(DescribeAclsResult.class);
         KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
@@ -246,26 +316,22 @@ public class SimpleAclOperatorTest {
     }
 
     private void mockCreateAcls(Admin mockAdminClient, ArgumentCaptor<Collection<AclBinding>> aclBindingsCaptor) {
-        CreateAclsResult result = mock(CreateAclsResult.class);
-        KafkaFuture<Void> future = mock(KafkaFuture.class);
-        when(future.whenComplete(any())).thenAnswer(invocation -> {
-            KafkaFuture.BiConsumer consumer = invocation.getArgument(0);
-            consumer.accept(null, null);
-            return null;
+        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBinding> aclBindings = invocation.getArgument(0);
+            CreateAclsResult result = mock(CreateAclsResult.class);
+            when(result.values()).thenReturn(aclBindings.stream().collect(Collectors.toMap(Function.identity(), binding -> KafkaFuture.completedFuture(null))));
+            return result;
         });
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.createAcls(aclBindingsCaptor.capture())).thenReturn(result);
     }
 
     private void mockDeleteAcls(Admin mockAdminClient, Collection<AclBinding> aclBindings, ArgumentCaptor<Collection<AclBindingFilter>> aclBindingFiltersCaptor) {
-        DeleteAclsResult result = mock(DeleteAclsResult.class);
-        KafkaFuture<Collection<AclBinding>> future = mock(KafkaFuture.class);
-        when(future.whenComplete(any())).thenAnswer(invocation -> {
-            KafkaFuture.BiConsumer consumer = invocation.getArgument(0);
-            consumer.accept(aclBindings, null);
-            return null;
+        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenAnswer(invocation -> {
+            Collection<AclBindingFilter> aclBindingFilters = invocation.getArgument(0);
+            DeleteAclsResult.FilterResults filterResults = mock(DeleteAclsResult.FilterResults.class);
+            when(filterResults.values()).thenReturn(emptyList());
+            DeleteAclsResult result = mock(DeleteAclsResult.class);
+            when(result.values()).thenReturn(aclBindingFilters.stream().collect(Collectors.toMap(Function.identity(), filter -> KafkaFuture.completedFuture(filterResults))));
+            return result;
         });
-        when(result.all()).thenReturn(future);
-        when(mockAdminClient.deleteAcls(aclBindingFiltersCaptor.capture())).thenReturn(result);
     }
 }